@@ -0,0 +1,61 @@
+// 플랫폼 스레드 모드와 가상 스레드 모드의 처리량을 비교하는 k6 부하 테스트
+//
+// 애플리케이션을 VIRTUAL_THREADS_ENABLED=false / true 로 각각 실행한 뒤 같은 조건으로 두 번 측정한다.
+//   k6 run -e BASE_URL=http://localhost:8080 -e MODE=platform scripts/load-test/virtual-threads.js
+//   k6 run -e BASE_URL=http://localhost:8080 -e MODE=virtual scripts/load-test/virtual-threads.js
+// 결과 요약은 build/reports/load-test/virtual-threads-{MODE}.json 에 남는다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE = __ENV.MODE || 'platform';
+const PROJECT_IDS = (__ENV.PROJECT_IDS || '1,2,3,4,5').split(',');
+const USER_IDS = (__ENV.USER_IDS || '1,2,3').split(',');
+
+export const options = {
+    scenarios: {
+        concurrent_connections: {
+            executor: 'constant-vus',
+            vus: Number(__ENV.VUS || 2000),
+            duration: __ENV.DURATION || '2m',
+            gracefulStop: '30s',
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        http_req_duration: ['p(95)<1000'],
+    },
+    summaryTrendStats: ['avg', 'med', 'p(90)', 'p(95)', 'p(99)', 'max'],
+};
+
+function pick(values) {
+    return values[Math.floor(Math.random() * values.length)];
+}
+
+// 게시글 목록/상세, 회원 프로필, 기술 스택 검색을 섞어 DB, Redis, 메모리 캐시를 모두 거치게 한다.
+export default function () {
+    const responses = http.batch([
+        ['GET', `${BASE_URL}/projects`],
+        ['GET', `${BASE_URL}/projects/${pick(PROJECT_IDS)}`],
+        ['GET', `${BASE_URL}/users/${pick(USER_IDS)}`],
+        ['GET', `${BASE_URL}/skills?keyword=ja`],
+    ]);
+
+    responses.forEach((response) => check(response, { 'status is 200': (r) => r.status === 200 }));
+}
+
+export function handleSummary(data) {
+    const metrics = data.metrics;
+    const summary = {
+        mode: MODE,
+        vus: options.scenarios.concurrent_connections.vus,
+        requestsPerSecond: metrics.http_reqs.values.rate,
+        failedRate: metrics.http_req_failed.values.rate,
+        duration: metrics.http_req_duration.values,
+    };
+
+    return {
+        stdout: JSON.stringify(summary, null, 2) + '\n',
+        [`build/reports/load-test/virtual-threads-${MODE}.json`]: JSON.stringify(data, null, 2),
+    };
+}
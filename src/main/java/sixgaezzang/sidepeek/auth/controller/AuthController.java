@@ -1,6 +1,7 @@
 package sixgaezzang.sidepeek.auth.controller;
 
 import jakarta.validation.Valid;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -34,11 +35,10 @@ public class AuthController implements AuthControllerDoc {
 
     @Override
     @PostMapping("/login/{provider}")
-    public ResponseEntity<LoginResponse> socialLogin(@PathVariable String provider,
+    public CompletableFuture<ResponseEntity<LoginResponse>> socialLogin(@PathVariable String provider,
         @RequestParam String code) {
-        LoginResponse response = authService.socialLogin(provider, code);
-
-        return ResponseEntity.ok(response);
+        return authService.socialLogin(provider, code)
+            .thenApply(ResponseEntity::ok);
     }
 
     @Override
@@ -14,4 +14,6 @@ public class AuthErrorMessage {
     public static final String PASSWORD_NOT_MATCH = "비밀번호가 일치하지 않습니다.";
     public static final String OAUTH_USER_TYPE_IS_INVALID = "유효하지 않은 OAuth 사용자 타입입니다.";
     public static final String OAUTH_CREDENTIALS_IS_INVALID = "유효하지 않은 사용자의 인증 정보입니다.";
+    public static final String OAUTH_PROVIDER_ERROR = "소셜 로그인 제공자가 오류를 응답했습니다. 잠시 후 다시 시도해주세요.";
+    public static final String OAUTH_PROVIDER_UNAVAILABLE = "소셜 로그인 제공자에 연결할 수 없습니다. 잠시 후 다시 시도해주세요.";
 }
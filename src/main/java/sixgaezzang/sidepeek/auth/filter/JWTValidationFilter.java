@@ -14,7 +14,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import sixgaezzang.sidepeek.auth.jwt.JWTManager;
+import sixgaezzang.sidepeek.auth.jwt.VerifiedTokenCache;
 import sixgaezzang.sidepeek.common.exception.TokenValidationFailException;
 
 @Component
@@ -24,7 +24,7 @@ public class JWTValidationFilter extends OncePerRequestFilter {
     public static final String JWT_HEADER = "Authorization";
     public static final String JWT_PREFIX = "Bearer ";
 
-    private final JWTManager jwtManager;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -34,7 +34,7 @@ public class JWTValidationFilter extends OncePerRequestFilter {
 
         if (null != jwt) {
             try {
-                Long userId = jwtManager.getUserId(jwt);
+                Long userId = verifiedTokenCache.verify(jwt).userId();
                 Authentication auth = new UsernamePasswordAuthenticationToken(userId, null);
 
                 SecurityContextHolder.getContext().setAuthentication(auth);
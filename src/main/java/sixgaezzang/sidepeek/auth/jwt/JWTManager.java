@@ -5,11 +5,15 @@ import static sixgaezzang.sidepeek.auth.exception.message.AuthErrorMessage.TOKEN
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Date;
+import java.util.Objects;
+import java.util.UUID;
 import javax.crypto.SecretKey;
 import org.springframework.stereotype.Component;
 import sixgaezzang.sidepeek.common.exception.TokenValidationFailException;
@@ -21,54 +25,84 @@ public class JWTManager {
     private static final int MINUTE_PER_DAY = 24 * 60;
     private static final long MILLISECONDS_PER_MINUTE = 60 * 1000L;
     public static final String USER_ID_CLAIM = "user_id";
+    public static final String FAMILY_ID_CLAIM = "family_id";
 
     private final String issuer;
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;    // 불변 객체이므로 요청마다 만들지 않고 공유
     private final long expiredAfter;
     private final long refreshExpiredAfter;
 
     public JWTManager(JWTProperties jwtProperties) {
         issuer = jwtProperties.issuer();
         secretKey = Keys.hmacShaKeyFor(jwtProperties.secretKey().getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parserBuilder()
+            .setSigningKey(secretKey)
+            .build();
         expiredAfter = jwtProperties.expiredAfter() * MILLISECONDS_PER_MINUTE;
         refreshExpiredAfter =
             jwtProperties.refreshExpiredAfter() * MINUTE_PER_DAY * MILLISECONDS_PER_MINUTE;
     }
 
     public String generateAccessToken(long userId) {
-        return generateToken(userId, expiredAfter);
+        return generateToken(userId, expiredAfter, null);
     }
 
     public String generateRefreshToken(long userId) {
-        return generateToken(userId, refreshExpiredAfter);
+        return generateRefreshToken(userId, UUID.randomUUID().toString());
     }
 
-    public Long getUserId(String token) {
-        return parseClaims(token).get(USER_ID_CLAIM, Long.class);
+    /**
+     * 리프레시 토큰을 발급하는 메서드. 같은 family에서 재발급된 토큰도 서로 구분되도록 토큰마다 고유한 ID(jti)를 넣는다.
+     *
+     * @param userId   사용자 식별자
+     * @param familyId 로그인 한 번으로 시작되어 재발급 동안 유지되는 토큰 family 식별자
+     * @return 리프레시 토큰
+     */
+    public String generateRefreshToken(long userId, String familyId) {
+        return generateToken(userId, refreshExpiredAfter, familyId);
     }
 
-    public Long getExpiredAt(String token) {
-        return parseClaims(token).getExpiration().getTime();
+    public long getRefreshExpiredAfter() {
+        return refreshExpiredAfter;
     }
 
-    private String generateToken(long userId, long expiredAfter) {
+    /**
+     * 토큰의 서명과 만료 시간을 한 번에 검증하고 필요한 값을 꺼내는 메서드
+     *
+     * @param token JWT
+     * @return 검증된 토큰의 값
+     */
+    public VerifiedToken parse(String token) {
+        Claims claims = parseClaims(token);
+
+        return new VerifiedToken(claims.get(USER_ID_CLAIM, Long.class), claims.get(FAMILY_ID_CLAIM, String.class),
+            claims.getExpiration().getTime());
+    }
+
+    private String generateToken(long userId, long expiredAfter, String familyId) {
         Instant now = Instant.now();
         Instant expiredAt = now.plusMillis(expiredAfter);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
             .setIssuer(issuer)
             .setIssuedAt(Date.from(now))
             .setExpiration(Date.from(expiredAt))
-            .claim(USER_ID_CLAIM, userId)
+            .claim(USER_ID_CLAIM, userId);
+
+        if (Objects.nonNull(familyId)) {
+            builder.setId(UUID.randomUUID().toString())
+                .claim(FAMILY_ID_CLAIM, familyId);
+        }
+
+        return builder
             .signWith(secretKey)
             .compact();
     }
 
     private Claims parseClaims(String token) {
         try {
-            return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
+            return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
         } catch (ExpiredJwtException e) {
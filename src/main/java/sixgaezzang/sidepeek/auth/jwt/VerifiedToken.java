@@ -0,0 +1,16 @@
+package sixgaezzang.sidepeek.auth.jwt;
+
+/**
+ * 서명과 만료 시간 검증을 마친 토큰의 값
+ *
+ * @param userId    사용자 식별자
+ * @param familyId  리프레시 토큰의 family 식별자(액세스 토큰은 {@code null})
+ * @param expiredAt 만료 시각(epoch milliseconds)
+ */
+public record VerifiedToken(
+    Long userId,
+    String familyId,
+    long expiredAt
+) {
+
+}
@@ -0,0 +1,71 @@
+package sixgaezzang.sidepeek.auth.jwt;
+
+import static sixgaezzang.sidepeek.auth.util.AuthConstant.VERIFIED_TOKEN_CACHE_MAX_SIZE;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증을 마친 액세스 토큰을 만료 시각까지 메모리에 보관하여, 같은 토큰이 반복해서 들어올 때 서명(HMAC) 검증을 생략하는 캐시.
+ * <p>
+ * 토큰 문자열 전체(헤더, 페이로드, 서명)를 키로 사용하므로 서명이 같은 다른 페이로드는 캐시에 적중하지 않고, 각 항목은 토큰의
+ * 만료 시각에 함께 만료되므로 만료된 토큰은 항상 다시 검증되어 만료 예외가 발생한다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JWTManager jwtManager;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public VerifiedTokenCache(JWTManager jwtManager) {
+        this.jwtManager = jwtManager;
+        this.verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(VERIFIED_TOKEN_CACHE_MAX_SIZE)
+            .expireAfter(new TokenExpiry())
+            .build();
+    }
+
+    /**
+     * 캐시된 검증 결과를 반환하고, 없으면 토큰을 검증하여 캐싱하는 메서드
+     *
+     * @param token 액세스 토큰
+     * @return 검증된 토큰의 값
+     */
+    public VerifiedToken verify(String token) {
+        VerifiedToken cached = verifiedTokens.getIfPresent(token);
+        if (Objects.nonNull(cached)) {
+            return cached;
+        }
+
+        VerifiedToken verified = jwtManager.parse(token);    // 유효하지 않은 토큰은 예외가 발생하여 캐싱되지 않음
+        verifiedTokens.put(token, verified);
+        return verified;
+    }
+
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String token, VerifiedToken verified, long currentTime) {
+            long remainingMillis = Math.max(verified.expiredAt() - System.currentTimeMillis(), 0L);
+            return TimeUnit.MILLISECONDS.toNanos(remainingMillis);
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, VerifiedToken verified, long currentTime,
+            long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String token, VerifiedToken verified, long currentTime,
+            long currentDuration) {
+            return currentDuration;
+        }
+
+    }
+
+}
@@ -1,8 +1,15 @@
 package sixgaezzang.sidepeek.auth.oauth.service.strategy;
 
+import java.util.concurrent.CompletableFuture;
 import sixgaezzang.sidepeek.auth.oauth.OAuth2User;
 
 public interface OAuth2Manager {
 
-    public OAuth2User getOauth2User(String code);
+    /**
+     * 인가 코드로 OAuth 사용자 정보를 조회하는 메서드. 제공자 응답을 기다리는 동안 호출한 스레드를 점유하지 않는다.
+     *
+     * @param code 인가 코드
+     * @return OAuth 사용자 정보
+     */
+    public CompletableFuture<OAuth2User> getOauth2UserAsync(String code);
 }
@@ -3,18 +3,22 @@ package sixgaezzang.sidepeek.auth.oauth.service.strategy;
 import java.util.HashMap;
 import java.util.Map;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
 import sixgaezzang.sidepeek.auth.domain.ProviderType;
 import sixgaezzang.sidepeek.auth.oauth.service.strategy.github.GithubOAuth2Manager;
 import sixgaezzang.sidepeek.config.properties.GithubOAuth2Properties;
+import sixgaezzang.sidepeek.config.properties.OAuth2ClientProperties;
 
 @Component
 public class OAuth2ManagerFactory {
 
     private final Map<ProviderType, OAuth2Manager> mappers;
 
-    public OAuth2ManagerFactory(GithubOAuth2Properties githubOAuth2Properties) {
+    public OAuth2ManagerFactory(GithubOAuth2Properties githubOAuth2Properties,
+        OAuth2ClientProperties oauth2ClientProperties, WebClient oauth2WebClient) {
         mappers = new HashMap<>();
-        mappers.put(ProviderType.GITHUB, new GithubOAuth2Manager(githubOAuth2Properties));
+        mappers.put(ProviderType.GITHUB,
+            new GithubOAuth2Manager(githubOAuth2Properties, oauth2ClientProperties, oauth2WebClient));
     }
 
     public OAuth2Manager getManager(ProviderType providerType) {
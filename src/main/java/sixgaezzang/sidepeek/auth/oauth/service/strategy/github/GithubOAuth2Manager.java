@@ -5,40 +5,69 @@ import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static sixgaezzang.sidepeek.auth.domain.ProviderType.GITHUB;
 import static sixgaezzang.sidepeek.auth.exception.message.AuthErrorMessage.OAUTH_CREDENTIALS_IS_INVALID;
+import static sixgaezzang.sidepeek.auth.exception.message.AuthErrorMessage.OAUTH_PROVIDER_ERROR;
+import static sixgaezzang.sidepeek.auth.exception.message.AuthErrorMessage.OAUTH_PROVIDER_UNAVAILABLE;
 
+import java.net.ConnectException;
 import java.util.Map;
-import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+import org.springframework.core.NestedExceptionUtils;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 import sixgaezzang.sidepeek.auth.domain.AuthProvider;
 import sixgaezzang.sidepeek.auth.oauth.OAuth2User;
 import sixgaezzang.sidepeek.auth.oauth.service.strategy.OAuth2Manager;
+import sixgaezzang.sidepeek.common.exception.OAuth2ProviderException;
 import sixgaezzang.sidepeek.config.properties.GithubOAuth2Properties;
+import sixgaezzang.sidepeek.config.properties.OAuth2ClientProperties;
 import sixgaezzang.sidepeek.users.domain.User;
 
 public class GithubOAuth2Manager implements OAuth2Manager {
 
-    private static final String GITHUB_OAUTH_ACCESS_TOKEN_URL = "https://github.com/login/oauth/access_token";
-    private static final String GITHUB_USER_INFO_URL = "https://api.github.com/user";
     private static final String CLIENT_ID = "client_id";
     private static final String CLIENT_SECRET = "client_secret";
     private static final String CODE = "code";
     private static final String ACCESS_TOKEN = "access_token";
     private static final String TOKEN_PREFIX = "Bearer ";
     private final GithubUserInfoMapper mapper;
+    private final WebClient webClient;
     private final String clientId;
     private final String clientSecret;
+    private final String accessTokenUrl;
+    private final String userInfoUrl;
+    private final Retry accessTokenRetry;
+    private final Retry userInfoRetry;
 
-    public GithubOAuth2Manager(GithubOAuth2Properties properties) {
+    public GithubOAuth2Manager(GithubOAuth2Properties properties, OAuth2ClientProperties clientProperties,
+        WebClient webClient) {
         this.mapper = new GithubUserInfoMapper();
+        this.webClient = webClient;
         this.clientId = properties.clientId();
         this.clientSecret = properties.clientSecret();
+        this.accessTokenUrl = properties.accessTokenUrl();
+        this.userInfoUrl = properties.userInfoUrl();
+        this.accessTokenRetry = createRetry(clientProperties, GithubOAuth2Manager::isConnectFailure);
+        this.userInfoRetry = createRetry(clientProperties, GithubOAuth2Manager::isRetryable);
     }
 
     @Override
-    public OAuth2User getOauth2User(String code) {
-        Map<String, Object> userInfo = getUserInfo(code);
+    public CompletableFuture<OAuth2User> getOauth2UserAsync(String code) {
+        return fetchOauth2User(code).toFuture();
+    }
+
+    private Mono<OAuth2User> fetchOauth2User(String code) {
+        return fetchUserInfo(code)
+            .map(this::toOauth2User);
+    }
+
+    private OAuth2User toOauth2User(Map<String, Object> userInfo) {
         User user = mapper.mapToUser(userInfo);
         AuthProvider authProvider = AuthProvider.builder()
             .providerId(mapper.getProviderId(userInfo))
@@ -51,44 +80,78 @@ public class GithubOAuth2Manager implements OAuth2Manager {
             .build();
     }
 
-    public Map<String, Object> getUserInfo(String code) {
-        String accessToken = getAccessToken(code);
-
-        WebClient webClient = WebClient.builder()
-            .baseUrl(GITHUB_USER_INFO_URL)
-            .build();
-
-        return webClient.get()
-            .header(AUTHORIZATION, TOKEN_PREFIX + accessToken)
-            .retrieve()
-            .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {
-            })
-            .doOnError(error -> {
-                throw new AuthenticationServiceException(OAUTH_CREDENTIALS_IS_INVALID);
-            }).block();
+    private Mono<Map<String, Object>> fetchUserInfo(String code) {
+        return fetchAccessToken(code)
+            .flatMap(accessToken -> webClient.get()
+                .uri(userInfoUrl)
+                .header(AUTHORIZATION, TOKEN_PREFIX + accessToken)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {
+                })
+                .retryWhen(userInfoRetry)
+            )
+            .onErrorMap(error -> !(error instanceof AuthenticationServiceException),
+                GithubOAuth2Manager::mapError);
     }
 
-    private String getAccessToken(String code) {
-        WebClient webClient = WebClient.builder()
-            .baseUrl(GITHUB_OAUTH_ACCESS_TOKEN_URL)
-            .defaultHeader(ACCEPT, APPLICATION_JSON_VALUE)
-            .build();
-
-        Map<String, String> result = webClient.post()
-            .uri(uriBuilder -> uriBuilder
+    private Mono<String> fetchAccessToken(String code) {
+        return webClient.post()
+            .uri(accessTokenUrl, uriBuilder -> uriBuilder
                 .queryParam(CLIENT_ID, clientId)
                 .queryParam(CLIENT_SECRET, clientSecret)
                 .queryParam(CODE, code)
                 .build()
             )
+            .header(ACCEPT, APPLICATION_JSON_VALUE)
             .retrieve()
             .bodyToMono(
                 new ParameterizedTypeReference<Map<String, String>>() {
                 }
             )
-            .block();
+            .retryWhen(accessTokenRetry)    // 인가 코드는 한 번만 쓸 수 있으므로 전송되지 않은 요청만 재시도
+            .mapNotNull(result -> result.get(ACCESS_TOKEN))    // 잘못된 인가 코드도 200 응답에 error 필드로 내려옴
+            .switchIfEmpty(Mono.error(() -> new AuthenticationServiceException(OAUTH_CREDENTIALS_IS_INVALID)));
+    }
+
+    private static Retry createRetry(OAuth2ClientProperties clientProperties, Predicate<Throwable> filter) {
+        return Retry.backoff(clientProperties.maxRetries(), clientProperties.retryBackoff())
+            .filter(filter)
+            .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    /**
+     * 4xx 응답은 인가 코드나 토큰이 유효하지 않은 경우이므로 401로, 전송 실패는 503으로, 5xx 등 제공자의 나머지 오류는 502로 응답하도록
+     * 변환한다.
+     */
+    private static Throwable mapError(Throwable error) {
+        if (error instanceof WebClientResponseException responseException
+            && responseException.getStatusCode().is4xxClientError()) {
+            return new AuthenticationServiceException(OAUTH_CREDENTIALS_IS_INVALID, error);
+        }
+
+        if (error instanceof WebClientRequestException) {
+            return new OAuth2ProviderException(HttpStatus.SERVICE_UNAVAILABLE, OAUTH_PROVIDER_UNAVAILABLE, error);
+        }
+
+        return new OAuth2ProviderException(HttpStatus.BAD_GATEWAY, OAUTH_PROVIDER_ERROR, error);
+    }
+
+    /**
+     * 연결 실패와 5xx 응답만 재시도한다. 4xx는 인가 코드나 토큰 문제이므로 다시 보내도 결과가 같다.
+     */
+    private static boolean isRetryable(Throwable error) {
+        if (error instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError();
+        }
+
+        return error instanceof WebClientRequestException;
+    }
 
-        return Objects.requireNonNull(result)
-            .get(ACCESS_TOKEN);
+    /**
+     * 연결을 맺지 못한 경우만 재시도한다. 요청이 전송된 뒤의 실패는 GitHub가 인가 코드를 이미 사용했을 수 있으므로 재시도하지 않는다.
+     */
+    private static boolean isConnectFailure(Throwable error) {
+        return error instanceof WebClientRequestException
+            && NestedExceptionUtils.getMostSpecificCause(error) instanceof ConnectException;
     }
 }
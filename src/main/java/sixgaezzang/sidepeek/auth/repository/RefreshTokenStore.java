@@ -0,0 +1,155 @@
+package sixgaezzang.sidepeek.auth.repository;
+
+import static sixgaezzang.sidepeek.auth.util.AuthConstant.LEGACY_REFRESH_TOKEN_KEY;
+import static sixgaezzang.sidepeek.auth.util.AuthConstant.PREVIOUS_REFRESH_TOKEN_KEY_SUFFIX;
+import static sixgaezzang.sidepeek.auth.util.AuthConstant.REFRESH_TOKEN_KEY_PREFIX;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 리프레시 토큰을 token family 단위로 Redis에 보관하는 저장소.
+ * <p>
+ * family마다 {@code refresh-token:{familyId}} 키 하나에 가장 최근에 발급된 토큰만 저장한다. 저장은 {@code SET key value PX ttl}
+ * 한 번으로 끝나고, 재발급은 Lua 스크립트로 비교와 교체를 원자적으로 처리하므로 보조 인덱스나 만료 이벤트 없이 키 하나만 남는다.
+ * 교체 직후 짧은 유예 기간 동안은 직전 토큰도 보관하여, 여러 탭이 같은 토큰으로 동시에 재발급하더라도 family를 폐기하지 않는다.
+ */
+@Slf4j
+@Repository
+public class RefreshTokenStore {
+
+    /**
+     * 저장된 토큰이 제시된 토큰과 같으면 새 토큰으로 교체하고, 유예 기간 안에 직전 토큰이 제시되면 이미 교체된 토큰을 그대로 반환한다.
+     * 그 외의 토큰은 이미 사용된 토큰이 재사용된 것이므로 family를 폐기한다.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ROTATE_SCRIPT = RedisScript.of("""
+        local current = redis.call('GET', KEYS[1])
+        if not current then
+            return {'NOT_FOUND'}
+        end
+        if current == ARGV[1] then
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            redis.call('SET', KEYS[2], ARGV[1], 'PX', ARGV[4])
+            return {'ROTATED', ARGV[2]}
+        end
+        if redis.call('GET', KEYS[2]) == ARGV[1] then
+            return {'ROTATED', current}
+        end
+        redis.call('DEL', KEYS[1], KEYS[2])
+        return {'REUSED'}
+        """, List.class);
+
+    private static final int LEGACY_SCAN_COUNT = 1_000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public RefreshTokenStore(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public void save(String familyId, String refreshToken, Duration ttl) {
+        redisTemplate.opsForValue().set(getKey(familyId), refreshToken, ttl);
+    }
+
+    /**
+     * family에 저장된 토큰을 비교한 뒤 새 토큰으로 교체하는 메서드
+     *
+     * @param familyId        토큰 family 식별자
+     * @param refreshToken    클라이언트가 제시한 토큰
+     * @param newRefreshToken 새로 발급한 토큰
+     * @param ttl             새 토큰의 유효 기간
+     * @param gracePeriod     교체된 직전 토큰을 다시 받아들이는 기간
+     * @return 교체 결과, 유예 기간 안에 직전 토큰이 제시되었다면 먼저 교체된 토큰을 담음
+     */
+    public RotateResult rotate(String familyId, String refreshToken, String newRefreshToken, Duration ttl,
+        Duration gracePeriod) {
+        List<?> result = redisTemplate.execute(ROTATE_SCRIPT,
+            List.of(getKey(familyId), getKey(familyId) + PREVIOUS_REFRESH_TOKEN_KEY_SUFFIX),
+            refreshToken, newRefreshToken, String.valueOf(ttl.toMillis()), String.valueOf(gracePeriod.toMillis()));
+
+        return RotateResult.from(result);
+    }
+
+    public void delete(String familyId) {
+        redisTemplate.delete(List.of(getKey(familyId), getKey(familyId) + PREVIOUS_REFRESH_TOKEN_KEY_SUFFIX));
+    }
+
+    public boolean exists(String familyId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(getKey(familyId)));
+    }
+
+    /**
+     * 이전 {@code @RedisHash("refreshToken")} 저장소가 남긴 회원별 Hash와 phantom 키, 식별자 Set을 삭제하는 메서드.
+     * <p>
+     * 이전 토큰에는 family가 없어 재발급할 수 없으므로, 이 저장소로 바뀐 뒤 처음 배포하면 모든 회원이 한 번 로그아웃된다. 삭제할 키가
+     * 없으면 아무것도 하지 않으므로 매 기동 시 실행해도 된다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void deleteLegacyTokens() {
+        ScanOptions options = ScanOptions.scanOptions()
+            .match(LEGACY_REFRESH_TOKEN_KEY + ":*")
+            .count(LEGACY_SCAN_COUNT)
+            .build();
+
+        List<String> legacyKeys = redisTemplate.execute((RedisCallback<List<String>>) connection -> {
+            List<String> keys = new ArrayList<>();
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                cursor.forEachRemaining(key -> keys.add(new String(key, StandardCharsets.UTF_8)));
+            }
+            return keys;
+        });
+        legacyKeys.add(LEGACY_REFRESH_TOKEN_KEY);
+
+        Long deleted = redisTemplate.unlink(legacyKeys);
+        if (Objects.nonNull(deleted) && deleted > 0) {
+            log.info("이전 리프레시 토큰 저장소의 키를 삭제했습니다. count={}", deleted);
+        }
+    }
+
+    private String getKey(String familyId) {
+        return REFRESH_TOKEN_KEY_PREFIX + familyId;
+    }
+
+    /**
+     * 교체 결과
+     *
+     * @param status       교체 상태
+     * @param refreshToken 교체되었다면 family의 최신 토큰
+     */
+    public record RotateResult(
+        Status status,
+        String refreshToken
+    ) {
+
+        private static RotateResult from(List<?> result) {
+            if (Objects.isNull(result) || result.isEmpty()) {
+                return new RotateResult(Status.NOT_FOUND, null);
+            }
+
+            Status status = Status.valueOf(result.get(0).toString());
+            String refreshToken = result.size() > 1 ? result.get(1).toString() : null;
+            return new RotateResult(status, refreshToken);
+        }
+
+    }
+
+    public enum Status {
+        ROTATED,
+        NOT_FOUND,     // 만료되었거나 폐기된 family
+        REUSED         // 이미 교체된 토큰이 다시 제시되어 family를 폐기함
+    }
+
+}
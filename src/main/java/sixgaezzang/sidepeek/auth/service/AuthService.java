@@ -1,32 +1,36 @@
 package sixgaezzang.sidepeek.auth.service;
 
 import static sixgaezzang.sidepeek.auth.exception.message.AuthErrorMessage.PASSWORD_NOT_MATCH;
-import static sixgaezzang.sidepeek.auth.exception.message.AuthErrorMessage.TOKEN_IS_INVALID;
 import static sixgaezzang.sidepeek.users.exception.message.UserErrorMessage.USER_NOT_EXISTING;
 
 import jakarta.persistence.EntityNotFoundException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import sixgaezzang.sidepeek.auth.domain.AuthProvider;
 import sixgaezzang.sidepeek.auth.domain.ProviderType;
-import sixgaezzang.sidepeek.auth.domain.RefreshToken;
 import sixgaezzang.sidepeek.auth.dto.request.LoginRequest;
 import sixgaezzang.sidepeek.auth.dto.request.ReissueTokenRequest;
 import sixgaezzang.sidepeek.auth.dto.response.LoginResponse;
 import sixgaezzang.sidepeek.auth.jwt.JWTManager;
+import sixgaezzang.sidepeek.auth.jwt.VerifiedToken;
 import sixgaezzang.sidepeek.auth.oauth.OAuth2User;
 import sixgaezzang.sidepeek.auth.oauth.service.strategy.OAuth2Manager;
 import sixgaezzang.sidepeek.auth.oauth.service.strategy.OAuth2ManagerFactory;
 import sixgaezzang.sidepeek.auth.repository.AuthProviderRepository;
 import sixgaezzang.sidepeek.common.annotation.Login;
-import sixgaezzang.sidepeek.common.exception.TokenValidationFailException;
 import sixgaezzang.sidepeek.users.domain.User;
 import sixgaezzang.sidepeek.users.dto.response.UserSummary;
 import sixgaezzang.sidepeek.users.repository.UserRepository;
+import sixgaezzang.sidepeek.users.service.UserService;
+import sixgaezzang.sidepeek.users.util.component.PrincipalCache;
+import sixgaezzang.sidepeek.users.util.component.PrincipalCache.Principal;
 
 @Service
 @Transactional(readOnly = true)
@@ -39,6 +43,10 @@ public class AuthService {
     private final RefreshTokenService refreshTokenService;
     private final PasswordEncoder passwordEncoder;
     private final JWTManager jwtManager;
+    private final UserService userService;
+    private final PrincipalCache principalCache;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor applicationTaskExecutor;    // 빈 이름으로 주입
 
     public LoginResponse login(LoginRequest request) {
         User user = getUserById(userRepository.findByEmail(request.email()));
@@ -51,30 +59,38 @@ public class AuthService {
     }
 
     public UserSummary loadUser(@Login Long loginId) {
-        User user = getUserById(userRepository.findById(loginId));
-        boolean isSocialLogin = authProviderRepository.existsByUser(user);
-
-        return UserSummary.fromWithIsSocialLogin(user, isSocialLogin);
+        return userService.getPrincipal(loginId).toUserSummary();
     }
 
     public LoginResponse reissue(ReissueTokenRequest request) {
         String refreshToken = request.refreshToken();
-        Long userId = jwtManager.getUserId(refreshToken);
-        RefreshToken redisRefreshToken = refreshTokenService.getById(userId);
-
-        validateRefreshToken(redisRefreshToken.refreshToken(), refreshToken);
+        VerifiedToken verifiedToken = jwtManager.parse(refreshToken);
 
-        User user = getUserById(userRepository.findById(userId));
+        // 탈퇴한 회원의 토큰으로 family를 교체하지 않도록 회원을 먼저 확인
+        User user = getUserById(userRepository.findById(verifiedToken.userId()));
+        String newRefreshToken = refreshTokenService.rotate(verifiedToken, refreshToken);
 
-        return createTokens(user);
+        return createTokens(user, newRefreshToken);
     }
 
-    @Transactional
-    public LoginResponse socialLogin(String provider, String code) {
+    /**
+     * 소셜 로그인 메서드. 제공자 응답을 기다리는 동안에는 요청 스레드를 반환하고, 응답이 오면 애플리케이션 작업 스레드에서 회원을
+     * 조회/생성한다.
+     *
+     * @param provider 소셜 로그인 타입
+     * @param code     인가 코드
+     * @return 로그인 결과
+     */
+    public CompletableFuture<LoginResponse> socialLogin(String provider, String code) {
         ProviderType providerType = ProviderType.valueOf(provider.toUpperCase());
         OAuth2Manager manager = oauth2ManagerFactory.getManager(providerType);
-        OAuth2User oauth2User = manager.getOauth2User(code);
 
+        return manager.getOauth2UserAsync(code)
+            .thenApplyAsync(oauth2User -> transactionTemplate.execute(status -> socialLogin(oauth2User)),
+                applicationTaskExecutor);
+    }
+
+    private LoginResponse socialLogin(OAuth2User oauth2User) {
         AuthProvider authProvider = getAuthProvider(oauth2User);
         User user = authProvider.getUser();
 
@@ -83,11 +99,14 @@ public class AuthService {
 
     @Transactional
     public LoginResponse createTokens(User user) {
+        return createTokens(user, refreshTokenService.issue(user.getId()));
+    }
+
+    private LoginResponse createTokens(User user, String refreshToken) {
         String accessToken = jwtManager.generateAccessToken(user.getId());
-        String refreshToken = jwtManager.generateRefreshToken(user.getId());
-        refreshTokenService.save(refreshToken);
 
         boolean isSocialLogin = authProviderRepository.existsByUser(user);
+        principalCache.put(Principal.of(user, isSocialLogin));    // 이후 요청은 회원 행 대신 캐시로 확인
 
         return LoginResponse.builder()
             .accessToken(accessToken)
@@ -101,12 +120,6 @@ public class AuthService {
             .orElseThrow(() -> new EntityNotFoundException(USER_NOT_EXISTING));
     }
 
-    private void validateRefreshToken(String redisRefreshToken, String refreshToken) {
-        if (!redisRefreshToken.equals(refreshToken)) {
-            throw new TokenValidationFailException(TOKEN_IS_INVALID);
-        }
-    }
-
     private AuthProvider getAuthProvider(OAuth2User oauth2User) {
         AuthProvider authProvider = oauth2User.getAuthProvider();
         return authProviderRepository.findByProviderTypeAndProviderId(
@@ -1,31 +1,73 @@
 package sixgaezzang.sidepeek.auth.service;
 
 import static sixgaezzang.sidepeek.auth.exception.message.AuthErrorMessage.TOKEN_IS_INVALID;
+import static sixgaezzang.sidepeek.auth.util.AuthConstant.REFRESH_TOKEN_REUSE_GRACE_PERIOD;
 
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import sixgaezzang.sidepeek.auth.domain.RefreshToken;
 import sixgaezzang.sidepeek.auth.jwt.JWTManager;
-import sixgaezzang.sidepeek.auth.repository.RefreshTokenRepository;
+import sixgaezzang.sidepeek.auth.jwt.VerifiedToken;
+import sixgaezzang.sidepeek.auth.repository.RefreshTokenStore;
+import sixgaezzang.sidepeek.auth.repository.RefreshTokenStore.RotateResult;
+import sixgaezzang.sidepeek.auth.repository.RefreshTokenStore.Status;
 import sixgaezzang.sidepeek.common.exception.TokenValidationFailException;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RefreshTokenService {
 
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final JWTManager jwtManager;
 
-    public RefreshToken save(String token) {
-        Long userId = jwtManager.getUserId(token);
-        Long expirationAt = jwtManager.getExpiredAt(token);
-        RefreshToken refreshToken = RefreshToken.from(userId, token, expirationAt);
+    /**
+     * 새 token family를 시작하는 리프레시 토큰을 발급하고 저장하는 메서드
+     *
+     * @param userId 사용자 식별자
+     * @return 리프레시 토큰
+     */
+    public String issue(Long userId) {
+        String familyId = UUID.randomUUID().toString();
+        String refreshToken = jwtManager.generateRefreshToken(userId, familyId);
 
-        return refreshTokenRepository.save(refreshToken);
+        refreshTokenStore.save(familyId, refreshToken, getTtl());
+        return refreshToken;
     }
 
-    public RefreshToken getById(Long userId) {
-        return refreshTokenRepository.findById(userId)
-            .orElseThrow(() -> new TokenValidationFailException(TOKEN_IS_INVALID));
+    /**
+     * 제시된 리프레시 토큰을 같은 family의 새 토큰으로 교체하는 메서드. 이미 교체된 토큰이 다시 제시되면 탈취된 것으로 보고
+     * family 전체를 폐기한다. 단, 교체 직후 유예 기간 안에 직전 토큰이 제시되면 동시에 요청한 다른 탭으로 보고 먼저 교체된 토큰을 반환한다.
+     *
+     * @param verifiedToken 서명과 만료 시간 검증을 마친 토큰의 값
+     * @param refreshToken  제시된 리프레시 토큰
+     * @return 새 리프레시 토큰
+     */
+    public String rotate(VerifiedToken verifiedToken, String refreshToken) {
+        String familyId = verifiedToken.familyId();
+        if (Objects.isNull(familyId)) {    // 액세스 토큰 등 family가 없는 토큰
+            throw new TokenValidationFailException(TOKEN_IS_INVALID);
+        }
+
+        String newRefreshToken = jwtManager.generateRefreshToken(verifiedToken.userId(), familyId);
+        RotateResult result = refreshTokenStore.rotate(familyId, refreshToken, newRefreshToken, getTtl(),
+            REFRESH_TOKEN_REUSE_GRACE_PERIOD);
+
+        if (result.status() == Status.REUSED) {
+            log.warn("재사용된 리프레시 토큰이 감지되어 토큰 family를 폐기했습니다. userId={}, familyId={}",
+                verifiedToken.userId(), familyId);
+        }
+        if (result.status() != Status.ROTATED) {
+            throw new TokenValidationFailException(TOKEN_IS_INVALID);
+        }
+
+        return result.refreshToken();
+    }
+
+    private Duration getTtl() {
+        return Duration.ofMillis(jwtManager.getRefreshExpiredAfter());
     }
 }
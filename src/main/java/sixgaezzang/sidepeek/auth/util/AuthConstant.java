@@ -1,8 +1,15 @@
 package sixgaezzang.sidepeek.auth.util;
 
+import java.time.Duration;
+
 public class AuthConstant {
 
     public static final int MAX_PROVIDER_TYPE_LENGTH = 50;
     public static final int MAX_PROVIDER_ID_LENGTH = 100;
+    public static final int VERIFIED_TOKEN_CACHE_MAX_SIZE = 10_000;
+    public static final String REFRESH_TOKEN_KEY_PREFIX = "refresh-token:";
+    public static final String PREVIOUS_REFRESH_TOKEN_KEY_SUFFIX = ":previous";
+    public static final Duration REFRESH_TOKEN_REUSE_GRACE_PERIOD = Duration.ofSeconds(10);
+    public static final String LEGACY_REFRESH_TOKEN_KEY = "refreshToken";    // 이전 @RedisHash 저장소의 키
 
 }
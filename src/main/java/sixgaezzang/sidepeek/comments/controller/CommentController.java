@@ -5,6 +5,8 @@ import java.net.URI;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -12,8 +14,10 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import sixgaezzang.sidepeek.comments.dto.request.FindCommentRequest;
 import sixgaezzang.sidepeek.comments.dto.request.SaveCommentRequest;
 import sixgaezzang.sidepeek.comments.dto.request.UpdateCommentRequest;
+import sixgaezzang.sidepeek.comments.dto.response.CommentCursorPaginationResponse;
 import sixgaezzang.sidepeek.comments.service.CommentService;
 import sixgaezzang.sidepeek.common.annotation.Login;
 import sixgaezzang.sidepeek.common.doc.CommentControllerDoc;
@@ -41,6 +45,17 @@ public class CommentController implements CommentControllerDoc {
             .build();
     }
 
+    @Override
+    @GetMapping
+    public ResponseEntity<CommentCursorPaginationResponse> getByProject(
+        @Login Long loginId,
+        @Valid @ModelAttribute FindCommentRequest request
+    ) {
+        CommentCursorPaginationResponse responses = commentService.findByProject(loginId, request);
+
+        return ResponseEntity.ok().body(responses);
+    }
+
     @Override
     @PutMapping("/{id}")
     public ResponseEntity<Void> update(
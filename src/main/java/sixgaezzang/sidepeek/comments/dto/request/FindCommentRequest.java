@@ -0,0 +1,44 @@
+package sixgaezzang.sidepeek.comments.dto.request;
+
+import static sixgaezzang.sidepeek.comments.exception.message.CommentErrorMessage.PROJECT_ID_IS_NULL;
+import static sixgaezzang.sidepeek.comments.util.CommentConstant.DEFAULT_PAGE_SIZE;
+import static sixgaezzang.sidepeek.comments.util.CommentConstant.MAX_PAGE_SIZE;
+import static sixgaezzang.sidepeek.common.doc.description.CommentDescription.COMMENT_PAGE_SIZE_DESCRIPTION;
+import static sixgaezzang.sidepeek.common.doc.description.CommentDescription.FIND_COMMENT_PROJECT_ID_DESCRIPTION;
+import static sixgaezzang.sidepeek.common.doc.description.CommentDescription.LAST_COMMENT_ID_DESCRIPTION;
+import static sixgaezzang.sidepeek.common.util.CommonConstant.MIN_ID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+
+@Schema(description = "댓글 조회 시 페이지네이션 정보")
+@Builder
+public record FindCommentRequest(
+    @Schema(description = FIND_COMMENT_PROJECT_ID_DESCRIPTION, example = "1")
+    @NotNull(message = PROJECT_ID_IS_NULL)
+    @Min(value = MIN_ID, message = "프로젝트 id는 " + MIN_ID + "보다 작을 수 없습니다.")
+    Long projectId,
+
+    // Cursor Based Pagination
+    @Schema(description = LAST_COMMENT_ID_DESCRIPTION)
+    @Nullable
+    Long lastCommentId,
+
+    @Schema(description = COMMENT_PAGE_SIZE_DESCRIPTION)
+    @Nullable
+    @Min(value = 1, message = "페이지 크기는 1보다 작을 수 없습니다.")
+    @Max(value = MAX_PAGE_SIZE, message = "페이지 크기는 " + MAX_PAGE_SIZE + "보다 클 수 없습니다.")
+    Integer pageSize
+) {
+
+    public FindCommentRequest(Long projectId, Long lastCommentId, Integer pageSize) {
+        this.projectId = projectId;
+        this.lastCommentId = lastCommentId;
+        this.pageSize = (pageSize != null) ? pageSize : DEFAULT_PAGE_SIZE;
+    }
+
+}
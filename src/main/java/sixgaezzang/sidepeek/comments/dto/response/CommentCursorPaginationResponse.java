@@ -0,0 +1,45 @@
+package sixgaezzang.sidepeek.comments.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.Builder;
+
+@Schema(description = "댓글 커서 기반 페이지네이션 결과 응답")
+@Builder
+public record CommentCursorPaginationResponse(
+
+    @Schema(description = "대댓글을 포함한 댓글 목록, 없으면 빈 배열 반환")
+    List<CommentResponse> content,
+
+    @Schema(description = "대댓글을 제외한 전체 댓글 개수", example = "12")
+    long totalElements,
+
+    @Schema(description = "대댓글을 포함한 전체 댓글 개수", example = "20")
+    long totalCommentCount,
+
+    @Schema(description = "현재 페이지의 댓글 개수(대댓글 제외)")
+    int numberOfElements,
+
+    @Schema(description = "다음 페이지 존재 여부")
+    boolean hasNext,
+
+    @Schema(description = "다음 페이지 조회 시 lastCommentId로 전달할 현재 페이지 마지막 댓글 식별자, 다음 페이지가 없으면 null",
+        nullable = true, example = "15")
+    Long nextCursor
+) {
+
+    public static CommentCursorPaginationResponse of(List<CommentResponse> comments, long totalElements,
+        long totalCommentCount, boolean hasNext) {
+        Long nextCursor = hasNext ? comments.get(comments.size() - 1).id() : null;
+
+        return CommentCursorPaginationResponse.builder()
+            .content(comments)
+            .totalElements(totalElements)
+            .totalCommentCount(totalCommentCount)
+            .numberOfElements(comments.size())
+            .hasNext(hasNext)
+            .nextCursor(nextCursor)
+            .build();
+    }
+
+}
@@ -3,13 +3,17 @@ package sixgaezzang.sidepeek.comments.dto.response;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import lombok.Builder;
 import sixgaezzang.sidepeek.comments.domain.Comment;
 import sixgaezzang.sidepeek.users.dto.response.UserSummary;
 
 @Schema(description = "댓글 정보")
-@Builder
+@Builder(toBuilder = true)
 public record CommentResponse(
     @Schema(description = "댓글 식별자", example = "1")
     Long id,
@@ -50,4 +54,32 @@ public record CommentResponse(
             .build();
     }
 
+    /**
+     * 댓글과 대댓글이 섞인 목록을 상위 댓글 식별자 기준으로 한 번 순회하여 댓글 목록으로 변환하는 메서드
+     *
+     * @param comments 식별자 오름차순으로 정렬된 댓글/대댓글 목록
+     * @param loginId  로그인 사용자 식별자(로그인하지 않았다면 null)
+     * @return 대댓글이 포함된 댓글 목록
+     */
+    public static List<CommentResponse> listOf(List<Comment> comments, Long loginId) {
+        Map<Long, Comment> parents = new LinkedHashMap<>();
+        Map<Long, List<ReplyResponse>> repliesByParentId = new LinkedHashMap<>();
+
+        for (Comment comment : comments) {
+            boolean isOwner = Objects.equals(comment.getOwnerId(), loginId);
+            if (Objects.isNull(comment.getParent())) {
+                parents.put(comment.getId(), comment);
+                repliesByParentId.putIfAbsent(comment.getId(), new ArrayList<>());
+                continue;
+            }
+            repliesByParentId.computeIfAbsent(comment.getParent().getId(), id -> new ArrayList<>())
+                .add(ReplyResponse.from(comment, isOwner));
+        }
+
+        return parents.values().stream()
+            .map(parent -> CommentResponse.from(parent, Objects.equals(parent.getOwnerId(), loginId),
+                repliesByParentId.get(parent.getId())))
+            .toList();
+    }
+
 }
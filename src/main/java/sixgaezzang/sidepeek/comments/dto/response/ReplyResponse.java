@@ -9,7 +9,7 @@ import sixgaezzang.sidepeek.users.domain.User;
 import sixgaezzang.sidepeek.users.dto.response.UserSummary;
 
 @Schema(description = "대댓글 응답 정보")
-@Builder
+@Builder(toBuilder = true)
 public record ReplyResponse(
     @Schema(description = "댓글 식별자", example = "3")
     Long id,
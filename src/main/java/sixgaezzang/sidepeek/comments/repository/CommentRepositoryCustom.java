@@ -1,15 +1,31 @@
 package sixgaezzang.sidepeek.comments.repository;
 
 import java.util.List;
+import java.util.Optional;
 import sixgaezzang.sidepeek.comments.domain.Comment;
-import sixgaezzang.sidepeek.projects.domain.Project;
 
 public interface CommentRepositoryCustom {
 
-    List<Comment> findAll(Project project);
+    List<Comment> findAllWithRepliesByProjectId(Long projectId);
 
-    List<Comment> findAllReplies(Comment parent);
+    List<Long> findParentIdsByProjectId(Long projectId, Long lastCommentId, int size);
 
-    long countRepliesByParent(Comment parent);
+    long countParentsByProjectId(Long projectId);
+
+    List<Comment> findAllWithRepliesByParentIds(List<Long> parentIds);
+
+    Optional<DeleteTarget> findDeleteTargetById(Long commentId);
+
+    long deleteWithRepliesById(Long commentId);
+
+    /**
+     * 댓글 삭제에 필요한 값만 담은 조회 결과
+     *
+     * @param ownerId   작성자 식별자
+     * @param projectId 프로젝트 식별자
+     */
+    record DeleteTarget(Long ownerId, Long projectId) {
+
+    }
 
 }
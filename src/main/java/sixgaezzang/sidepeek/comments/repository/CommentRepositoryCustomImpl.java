@@ -1,46 +1,128 @@
 package sixgaezzang.sidepeek.comments.repository;
 
 import static sixgaezzang.sidepeek.comments.domain.QComment.comment;
+import static sixgaezzang.sidepeek.users.domain.QUser.user;
 
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import org.springframework.stereotype.Repository;
 import sixgaezzang.sidepeek.comments.domain.Comment;
-import sixgaezzang.sidepeek.projects.domain.Project;
 
 @Repository
 public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
 
+    private final EntityManager em;
     private final JPAQueryFactory queryFactory;
 
     public CommentRepositoryCustomImpl(EntityManager em) {
+        this.em = em;
         this.queryFactory = new JPAQueryFactory(em);
     }
 
     @Override
-    public List<Comment> findAll(Project project) {
+    public List<Comment> findAllWithRepliesByProjectId(Long projectId) {
         return queryFactory
             .selectFrom(comment)
-            .where(comment.project.eq(project)
-                .and(comment.parent.id.isNull()))
+            .join(comment.user, user).fetchJoin()
+            .where(comment.project.id.eq(projectId))
+            .orderBy(comment.id.asc())
             .fetch();
     }
 
     @Override
-    public List<Comment> findAllReplies(Comment parent) {
+    public List<Long> findParentIdsByProjectId(Long projectId, Long lastCommentId, int size) {
         return queryFactory
-            .selectFrom(comment)
-            .where(comment.parent.eq(parent))
+            .select(comment.id)
+            .from(comment)
+            .where(comment.project.id.eq(projectId),
+                comment.parent.id.isNull(),
+                Objects.isNull(lastCommentId) ? null : comment.id.gt(lastCommentId))
+            .orderBy(comment.id.asc())
+            .limit(size)
             .fetch();
     }
 
     @Override
-    public long countRepliesByParent(Comment parent) {
-        return queryFactory
+    public long countParentsByProjectId(Long projectId) {
+        Long count = queryFactory
             .select(comment.count())
             .from(comment)
-            .where(comment.parent.eq(parent))
+            .where(comment.project.id.eq(projectId),
+                comment.parent.id.isNull())
+            .fetchOne();
+        return Objects.requireNonNullElse(count, 0L);
+    }
+
+    @Override
+    public List<Comment> findAllWithRepliesByParentIds(List<Long> parentIds) {
+        if (parentIds.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory
+            .selectFrom(comment)
+            .join(comment.user, user).fetchJoin()
+            .where(comment.id.in(parentIds)
+                .or(comment.parent.id.in(parentIds)))
+            .orderBy(comment.id.asc())
+            .fetch();
+    }
+
+    @Override
+    public Optional<DeleteTarget> findDeleteTargetById(Long commentId) {
+        return Optional.ofNullable(queryFactory
+            .select(Projections.constructor(DeleteTarget.class, comment.user.id, comment.project.id))
+            .from(comment)
+            .where(comment.id.eq(commentId))
+            .fetchOne());
+    }
+
+    /**
+     * 댓글과 대댓글을 삭제하고 삭제된 댓글 수를 반환하는 메서드.
+     * <p>
+     * 대댓글을 추가하는 트랜잭션은 외래 키를 확인하며 상위 댓글 행에 공유 잠금을 잡으므로, 먼저 상위 댓글 행을 잠가 삭제하는 동안 새
+     * 대댓글이 추가되지 않게 한다. 잠그지 않으면 대댓글을 삭제한 뒤 추가된 대댓글이 DB의 ON DELETE CASCADE로 함께 지워져 삭제 건수에서
+     * 빠진다.
+     */
+    @Override
+    public long deleteWithRepliesById(Long commentId) {
+        em.flush();
+
+        Long lockedId = queryFactory
+            .select(comment.id)
+            .from(comment)
+            .where(comment.id.eq(commentId))
+            .setLockMode(LockModeType.PESSIMISTIC_WRITE)
             .fetchOne();
+        if (Objects.isNull(lockedId)) {
+            return 0L;
+        }
+
+        List<Long> deletedIds = new ArrayList<>(queryFactory
+            .select(comment.id)
+            .from(comment)
+            .where(comment.parent.id.eq(commentId))
+            .fetch());
+        deletedIds.add(commentId);
+
+        // DB의 ON DELETE CASCADE로 지워진 행은 삭제 건수에 포함되지 않으므로 대댓글을 먼저 삭제
+        long deletedCount = queryFactory
+            .delete(comment)
+            .where(comment.parent.id.eq(commentId))
+            .execute();
+        deletedCount += queryFactory
+            .delete(comment)
+            .where(comment.id.eq(commentId))
+            .execute();
+
+        // 삭제된 댓글만 영속성 컨텍스트에서 분리
+        deletedIds.forEach(deletedId -> em.detach(em.getReference(Comment.class, deletedId)));
+        return deletedCount;
     }
 }
@@ -13,15 +13,20 @@ import jakarta.persistence.EntityNotFoundException;
 import java.util.List;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import sixgaezzang.sidepeek.comments.domain.Comment;
+import sixgaezzang.sidepeek.comments.dto.request.FindCommentRequest;
 import sixgaezzang.sidepeek.comments.dto.request.SaveCommentRequest;
 import sixgaezzang.sidepeek.comments.dto.request.UpdateCommentRequest;
+import sixgaezzang.sidepeek.comments.dto.response.CommentCursorPaginationResponse;
 import sixgaezzang.sidepeek.comments.dto.response.CommentResponse;
-import sixgaezzang.sidepeek.comments.dto.response.ReplyResponse;
 import sixgaezzang.sidepeek.comments.repository.CommentRepository;
+import sixgaezzang.sidepeek.comments.repository.CommentRepositoryCustom.DeleteTarget;
 import sixgaezzang.sidepeek.projects.domain.Project;
+import sixgaezzang.sidepeek.projects.domain.event.ProjectChangedEvent;
+import sixgaezzang.sidepeek.projects.repository.project.ProjectCounterRepository;
 import sixgaezzang.sidepeek.projects.repository.project.ProjectRepository;
 import sixgaezzang.sidepeek.users.domain.User;
 import sixgaezzang.sidepeek.users.service.UserService;
@@ -33,7 +38,9 @@ public class CommentService {
 
     private final CommentRepository commentRepository;
     private final ProjectRepository projectRepository;
+    private final ProjectCounterRepository projectCounterRepository;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Long save(Long loginId, SaveCommentRequest request) {
@@ -58,7 +65,8 @@ public class CommentService {
         Comment comment = request.toEntity(project, parent, owner);
         commentRepository.save(comment);
 
-        project.increaseCommentCount();    // 댓글 수 증가
+        projectCounterRepository.increaseCommentCount(project.getId(), 1L);    // 댓글 수 증가
+        eventPublisher.publishEvent(new ProjectChangedEvent(project.getId()));
 
         return comment.getProject().getId();
     }
@@ -69,15 +77,29 @@ public class CommentService {
     }
 
     public List<CommentResponse> findAll(Long loginId, Project project) {
-        List<Comment> comments = commentRepository.findAll(project);
-
-        return comments.stream()
-            .map(comment -> {
-                boolean isOwner = isSameOwner(comment, loginId);
-                List<ReplyResponse> replies = mapReplies(comment, loginId);
-                return CommentResponse.from(comment, isOwner, replies);
-            })
-            .toList();
+        List<Comment> comments = commentRepository.findAllWithRepliesByProjectId(project.getId());
+
+        return CommentResponse.listOf(comments, loginId);
+    }
+
+    public CommentCursorPaginationResponse findByProject(Long loginId, FindCommentRequest request) {
+        Project project = projectRepository.findById(request.projectId())
+            .orElseThrow(() -> new EntityNotFoundException(PROJECT_NOT_EXISTING));
+
+        // 다음 페이지 존재 여부를 확인하기 위해 한 개 더 조회
+        List<Long> parentIds = commentRepository.findParentIdsByProjectId(project.getId(),
+            request.lastCommentId(), request.pageSize() + 1);
+        boolean hasNext = parentIds.size() > request.pageSize();
+        if (hasNext) {
+            parentIds = parentIds.subList(0, request.pageSize());
+        }
+
+        List<CommentResponse> comments = CommentResponse.listOf(
+            commentRepository.findAllWithRepliesByParentIds(parentIds), loginId);
+
+        long totalElements = commentRepository.countParentsByProjectId(project.getId());
+
+        return CommentCursorPaginationResponse.of(comments, totalElements, project.getCommentCount(), hasNext);
     }
 
     @Transactional
@@ -89,6 +111,7 @@ public class CommentService {
 
         validateLoginIdEqualsOwnerId(loginId, comment.getOwnerId());
         comment.update(request);
+        eventPublisher.publishEvent(new ProjectChangedEvent(comment.getProject().getId()));
     }
 
     @Transactional
@@ -96,35 +119,14 @@ public class CommentService {
         validateLoginId(loginId);
         validateCommentId(commentId);
 
-        Comment comment = getById(commentId, COMMENT_NOT_EXISTING);
-
-        validateLoginIdEqualsOwnerId(loginId, comment.getOwnerId());
-
-        decreaseAllCommentCount(comment);    // 댓글 수 감소
-
-        commentRepository.delete(comment);
-    }
-
-    private boolean isSameOwner(Comment comment, Long userId) {
-        return comment.getOwnerId().equals(userId);
-    }
-
-    private List<ReplyResponse> mapReplies(Comment comment, Long userId) {
-        List<Comment> replies = commentRepository.findAllReplies(comment);
-
-        return replies.stream()
-            .map(reply -> {
-                boolean isOwner = isSameOwner(reply, userId);
-                return ReplyResponse.from(reply, isOwner);
-            })
-            .toList();
-    }
+        DeleteTarget target = commentRepository.findDeleteTargetById(commentId)
+            .orElseThrow(() -> new EntityNotFoundException(COMMENT_NOT_EXISTING));
 
-    private void decreaseAllCommentCount(Comment comment) { // 댓글 삭제 시 대댓글도 삭제하기 위한 메서드
-        Project project = comment.getProject();
+        validateLoginIdEqualsOwnerId(loginId, target.ownerId());
 
-        long replyCount = commentRepository.countRepliesByParent(comment);  // 대댓글 수 가져오기
-        project.decreaseCommentCount(replyCount + 1); // 대댓글 수 + 댓글 수(1) 감소
+        long deletedCount = commentRepository.deleteWithRepliesById(commentId);    // 대댓글 + 댓글 삭제
+        projectCounterRepository.decreaseCommentCount(target.projectId(), deletedCount);    // 삭제된 수만큼 댓글 수 감소
+        eventPublisher.publishEvent(new ProjectChangedEvent(target.projectId()));
     }
 
 }
@@ -7,5 +7,7 @@ import lombok.NoArgsConstructor;
 public final class CommentConstant {
 
     public static final int MAX_CONTENT_LENGTH = 100;
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
 
 }
@@ -0,0 +1,148 @@
+package sixgaezzang.sidepeek.common.counter;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * 식별자별 카운터 증감분(delta)을 Redis Hash에 모아두었다가 한 번에 반영하기 위한 버퍼.
+ * <p>
+ * 반영 시에는 누적 Hash를 배치 키로 원자적으로 옮긴 뒤(배치 목록 Sorted Set에 등록) DB에 반영하고, 반영이 끝난 배치만
+ * 삭제한다. 반영 도중 노드가 종료되어 남은 배치는 {@link #recover}로 다시 반영할 수 있다.
+ */
+public class RedisCounterBuffer {
+
+    private static final RedisScript<Long> DETACH_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('EXISTS', KEYS[1]) == 0 then
+            return 0
+        end
+        redis.call('RENAME', KEYS[1], KEYS[2])
+        redis.call('ZADD', KEYS[3], ARGV[1], KEYS[2])
+        return 1
+        """, Long.class);
+
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+        local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+        if score and tonumber(score) <= tonumber(ARGV[2]) then
+            redis.call('ZADD', KEYS[1], ARGV[3], ARGV[1])
+            return 1
+        end
+        return 0
+        """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String deltaKey;
+    private final String batchKeyPrefix;
+    private final String batchIndexKey;
+
+    public RedisCounterBuffer(RedisTemplate<String, String> redisTemplate, String name) {
+        this.redisTemplate = redisTemplate;
+        this.deltaKey = name + ":delta";
+        this.batchKeyPrefix = name + ":batch:";
+        this.batchIndexKey = name + ":batches";
+    }
+
+    public void increase(Long id, long delta) {
+        redisTemplate.opsForHash().increment(deltaKey, id.toString(), delta);
+    }
+
+    /**
+     * 아직 반영되지 않은 누적 증감분을 조회하는 메서드
+     *
+     * @param id 카운터 식별자
+     * @return 반영 대기 중인 증감분, 없으면 0
+     */
+    public long getPendingDelta(Long id) {
+        Object delta = redisTemplate.opsForHash().get(deltaKey, id.toString());
+        return delta == null ? 0L : Long.parseLong(delta.toString());
+    }
+
+    /**
+     * 반영 대기 중인 증감분이 있는 식별자를 조회하는 메서드. 누적 중인 증감분과 분리되었지만 아직 반영되지 않은 배치를 모두 포함한다.
+     *
+     * @return 반영 대기 중인 식별자 목록
+     */
+    public Set<Long> findPendingIds() {
+        Set<Long> pendingIds = new HashSet<>();
+        addKeys(deltaKey, pendingIds);
+
+        Set<String> batchKeys = redisTemplate.opsForZSet().range(batchIndexKey, 0, -1);
+        if (batchKeys != null) {
+            batchKeys.forEach(batchKey -> addKeys(batchKey, pendingIds));
+        }
+        return pendingIds;
+    }
+
+    private void addKeys(String hashKey, Set<Long> ids) {
+        redisTemplate.opsForHash().keys(hashKey).forEach(id -> ids.add(Long.valueOf(id.toString())));
+    }
+
+    /**
+     * 누적된 증감분을 배치로 분리하여 {@code applier}로 반영하는 메서드.
+     * {@code applier}가 예외를 던지면 배치는 남아있으며 {@link #recover}의 대상이 된다.
+     *
+     * @param applier 식별자별 증감분을 반영하는 함수
+     */
+    public void flush(Consumer<Map<Long, Long>> applier) {
+        String batchKey = batchKeyPrefix + UUID.randomUUID();
+        Long detached = redisTemplate.execute(DETACH_SCRIPT,
+            List.of(deltaKey, batchKey, batchIndexKey), String.valueOf(System.currentTimeMillis()));
+
+        if (detached != null && detached == 1L) {
+            apply(batchKey, applier);
+        }
+    }
+
+    /**
+     * 분리된 지 {@code staleAfter} 이상 지났지만 삭제되지 않은 배치를 다시 반영하는 메서드.
+     * 여러 노드가 동시에 복구하더라도 배치 하나는 한 노드만 선점한다.
+     *
+     * @param staleAfter 반영 중단으로 판단하는 경과 시간
+     * @param applier    식별자별 증감분을 반영하는 함수
+     */
+    public void recover(Duration staleAfter, Consumer<Map<Long, Long>> applier) {
+        long now = System.currentTimeMillis();
+        long staleBefore = now - staleAfter.toMillis();
+
+        Set<String> staleBatchKeys = redisTemplate.opsForZSet()
+            .rangeByScore(batchIndexKey, 0, staleBefore);
+        if (staleBatchKeys == null) {
+            return;
+        }
+
+        for (String batchKey : staleBatchKeys) {
+            Long claimed = redisTemplate.execute(CLAIM_SCRIPT, List.of(batchIndexKey), batchKey,
+                String.valueOf(staleBefore), String.valueOf(now));
+
+            if (claimed != null && claimed == 1L) {
+                apply(batchKey, applier);
+            }
+        }
+    }
+
+    private void apply(String batchKey, Consumer<Map<Long, Long>> applier) {
+        Map<Long, Long> deltas = new HashMap<>();
+        redisTemplate.opsForHash().entries(batchKey).forEach((id, delta) -> {
+            long value = Long.parseLong(delta.toString());
+            if (value != 0L) {
+                deltas.put(Long.valueOf(id.toString()), value);
+            }
+        });
+
+        if (!deltas.isEmpty()) {
+            applier.accept(deltas);
+        }
+
+        redisTemplate.opsForZSet().remove(batchIndexKey, batchKey);
+        redisTemplate.delete(batchKey);
+    }
+
+}
@@ -19,6 +19,7 @@ import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.http.ResponseEntity;
 import sixgaezzang.sidepeek.auth.dto.request.LoginRequest;
 import sixgaezzang.sidepeek.auth.dto.request.ReissueTokenRequest;
@@ -56,7 +57,7 @@ public interface AuthControllerDoc {
     })
     @Parameter(name = "provider", description = "소셜 로그인 타입(github, kako, google)", in = ParameterIn.PATH)
     @Parameter(name = "code", description = "인가 코드", in = ParameterIn.QUERY)
-    ResponseEntity<LoginResponse> socialLogin(String provider, String code);
+    CompletableFuture<ResponseEntity<LoginResponse>> socialLogin(String provider, String code);
 
     @Operation(summary = "Access Token 검증", description = "Access Token을 통해 현재 로그인 된 사용자의 정보 요청")
     @ApiResponses({
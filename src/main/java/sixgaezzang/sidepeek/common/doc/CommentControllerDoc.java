@@ -7,6 +7,7 @@ import static sixgaezzang.sidepeek.common.doc.description.ResponseCodeDescriptio
 import static sixgaezzang.sidepeek.common.doc.description.ResponseCodeDescription.FORBIDDEN_DESCRIPTION;
 import static sixgaezzang.sidepeek.common.doc.description.ResponseCodeDescription.NOT_FOUND_DESCRIPTION;
 import static sixgaezzang.sidepeek.common.doc.description.ResponseCodeDescription.NO_CONTENT_DESCRIPTION;
+import static sixgaezzang.sidepeek.common.doc.description.ResponseCodeDescription.OK_DESCRIPTION;
 import static sixgaezzang.sidepeek.common.doc.description.ResponseCodeDescription.UNAUTHORIZED_DESCRIPTION;
 import static sixgaezzang.sidepeek.common.doc.response.error.ErrorResponseDoc.BAD_REQUEST_RESPONSE1;
 import static sixgaezzang.sidepeek.common.doc.response.error.ErrorResponseDoc.BAD_REQUEST_RESPONSE2;
@@ -22,9 +23,13 @@ import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import sixgaezzang.sidepeek.comments.dto.request.FindCommentRequest;
 import sixgaezzang.sidepeek.comments.dto.request.SaveCommentRequest;
 import sixgaezzang.sidepeek.comments.dto.request.UpdateCommentRequest;
+import sixgaezzang.sidepeek.comments.dto.response.CommentCursorPaginationResponse;
 
 @Tag(name = "Comment", description = "댓글 API")
 public interface CommentControllerDoc {
@@ -42,6 +47,16 @@ public interface CommentControllerDoc {
     })
     ResponseEntity<Void> save(@Parameter(hidden = true) Long loginId, SaveCommentRequest request);
 
+    @Operation(summary = "프로젝트 댓글 목록 조회", description = "대댓글을 포함한 댓글 목록을 조회(커서 기반 페이지네이션), 로그인 선택")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = OK_DESCRIPTION,
+            useReturnTypeSchema = true),
+        @ApiResponse(responseCode = "404", description = NOT_FOUND_DESCRIPTION,
+            content = @Content(examples = @ExampleObject(value = NOT_FOUND_RESPONSE)))
+    })
+    ResponseEntity<CommentCursorPaginationResponse> getByProject(@Parameter(hidden = true) Long loginId,
+        @Valid @ModelAttribute FindCommentRequest request);
+
     @Operation(summary = "댓글 수정", description = "로그인 필수")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = NO_CONTENT_DESCRIPTION),
@@ -10,16 +10,21 @@ import static sixgaezzang.sidepeek.common.doc.response.error.ErrorResponseDoc.BA
 import static sixgaezzang.sidepeek.common.doc.response.error.ErrorResponseDoc.BAD_REQUEST_RESPONSE2;
 import static sixgaezzang.sidepeek.common.doc.response.error.ErrorResponseDoc.INTERNAL_SERVER_ERROR_RESPONSE;
 import static sixgaezzang.sidepeek.common.doc.response.error.ErrorResponseDoc.UNAUTHORIZED_RESPONSE;
+import static sixgaezzang.sidepeek.media.util.MediaConstant.FILE_PART_NAME;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.SchemaProperty;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.multipart.MultipartFile;
 import sixgaezzang.sidepeek.media.dto.response.MediaUploadResponse;
 
 @Tag(name = "Media", description = "미디어(파일 업로드) API")
@@ -40,7 +45,10 @@ public interface MediaControllerDoc {
         @ApiResponse(responseCode = "500", description = INTERNAL_SERVER_ERROR_DESCRIPTION,
             content = @Content(examples = @ExampleObject(value = INTERNAL_SERVER_ERROR_RESPONSE)))
     })
+    @RequestBody(content = @Content(mediaType = MediaType.MULTIPART_FORM_DATA_VALUE,
+        schemaProperties = @SchemaProperty(name = FILE_PART_NAME,
+            schema = @Schema(type = "string", format = "binary", description = "이미지 혹은 영상 파일"))))
     ResponseEntity<MediaUploadResponse> uploadFile(@Parameter(hidden = true) Long loginId,
-        MultipartFile file);
+        @Parameter(hidden = true) HttpServletRequest request);
 
 }
@@ -9,6 +9,8 @@ import static sixgaezzang.sidepeek.common.doc.description.ResponseCodeDescriptio
 import static sixgaezzang.sidepeek.common.doc.description.ResponseCodeDescription.NO_CONTENT_DESCRIPTION;
 import static sixgaezzang.sidepeek.common.doc.description.ResponseCodeDescription.OK_DESCRIPTION;
 import static sixgaezzang.sidepeek.common.doc.description.ResponseCodeDescription.UNAUTHORIZED_DESCRIPTION;
+import static sixgaezzang.sidepeek.common.doc.description.UserDescription.PROJECTS_CURSOR_PAGE_SIZE_DESCRIPTION;
+import static sixgaezzang.sidepeek.common.doc.description.UserDescription.PROJECTS_LAST_PROJECT_ID_DESCRIPTION;
 import static sixgaezzang.sidepeek.common.doc.description.UserDescription.PROJECTS_PAGE_NUMBER_DESCRIPTION;
 import static sixgaezzang.sidepeek.common.doc.description.UserDescription.PROJECTS_PAGE_SIZE_DESCRIPTION;
 import static sixgaezzang.sidepeek.common.doc.description.UserDescription.PROJECTS_TYPE_DESCRIPTION;
@@ -36,6 +38,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import sixgaezzang.sidepeek.common.dto.response.Page;
 import sixgaezzang.sidepeek.projects.domain.UserProjectSearchType;
+import sixgaezzang.sidepeek.projects.dto.request.FindUserProjectRequest;
+import sixgaezzang.sidepeek.projects.dto.response.CursorPaginationResponse;
 import sixgaezzang.sidepeek.projects.dto.response.ProjectListResponse;
 import sixgaezzang.sidepeek.users.dto.request.CheckEmailRequest;
 import sixgaezzang.sidepeek.users.dto.request.CheckNicknameRequest;
@@ -177,4 +181,29 @@ public interface UserControllerDoc {
     ResponseEntity<Page<ProjectListResponse>> getProjects(
         @Parameter(hidden = true) Long loginId,
         Long id, UserProjectSearchType type, @Parameter(hidden = true) Pageable pageable);
+
+    @Operation(summary = "회원 프로젝트 더보기 조회", description = "회원과 관련된 프로젝트 목록 조회(커서 기반 페이지네이션), 로그인 선택")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = OK_DESCRIPTION),
+        @ApiResponse(responseCode = "400", description = BAD_REQUEST_DESCRIPTION,
+            content = @Content(examples = {
+                @ExampleObject(name = "Example1: One Field Error", description = BAD_REQUEST_DESCRIPTION1,
+                    value = BAD_REQUEST_RESPONSE1),
+                @ExampleObject(name = "Example2: Multiple Field Error", description = BAD_REQUEST_DESCRIPTION2,
+                    value = BAD_REQUEST_RESPONSE2)})),
+        @ApiResponse(responseCode = "401", description = UNAUTHORIZED_DESCRIPTION,
+            content = @Content(examples = @ExampleObject(value = UNAUTHORIZED_RESPONSE))),
+        @ApiResponse(responseCode = "404", description = NOT_FOUND_DESCRIPTION,
+            content = @Content(examples = @ExampleObject(value = NOT_FOUND_RESPONSE)))
+    })
+    @Parameters({
+        @Parameter(name = "id", description = "조회할 회원 식별자", example = "1", in = ParameterIn.PATH),
+        @Parameter(name = "type", description = PROJECTS_TYPE_DESCRIPTION, in = ParameterIn.QUERY),
+        @Parameter(name = "lastProjectId", description = PROJECTS_LAST_PROJECT_ID_DESCRIPTION,
+            in = ParameterIn.QUERY),
+        @Parameter(name = "pageSize", description = PROJECTS_CURSOR_PAGE_SIZE_DESCRIPTION, in = ParameterIn.QUERY)
+    })
+    ResponseEntity<CursorPaginationResponse<ProjectListResponse>> getProjectsByCursor(
+        @Parameter(hidden = true) Long loginId,
+        Long id, @Parameter(hidden = true) @Valid FindUserProjectRequest request);
 }
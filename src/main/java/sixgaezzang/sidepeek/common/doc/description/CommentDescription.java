@@ -13,4 +13,9 @@ public final class CommentDescription {
     public static final String COMMENT_PARENT_ID_DESCRIPTION = "부모 댓글 식별자(대댓글인 경우 필수)";
     public static final String IS_ANONYMOUS_DESCRIPTION = "익명 댓글 여부";
     public static final String COMMENT_CONTENT_DESCRIPTION = "댓글 내용, " + MAX_CONTENT_LENGTH + "자 이하";
+
+    // FindCommentRequest
+    public static final String FIND_COMMENT_PROJECT_ID_DESCRIPTION = "댓글을 조회할 프로젝트 식별자";
+    public static final String LAST_COMMENT_ID_DESCRIPTION = "더보기 이전 마지막으로 보여진 댓글 식별자(첫 페이지면 null)";
+    public static final String COMMENT_PAGE_SIZE_DESCRIPTION = "한 페이지내 보여질 댓글의 개수(대댓글 제외)";
 }
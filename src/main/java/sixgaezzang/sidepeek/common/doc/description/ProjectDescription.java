@@ -7,6 +7,7 @@ import static sixgaezzang.sidepeek.projects.util.ProjectConstant.MAX_OVERVIEW_IM
 import static sixgaezzang.sidepeek.projects.util.ProjectConstant.MAX_OVERVIEW_LENGTH;
 import static sixgaezzang.sidepeek.projects.util.ProjectConstant.MAX_PROJECT_NAME_LENGTH;
 import static sixgaezzang.sidepeek.projects.util.ProjectConstant.MAX_ROLE_LENGTH;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.MAX_SEARCH_RESULT_COUNT;
 import static sixgaezzang.sidepeek.users.util.UserConstant.MAX_NICKNAME_LENGTH;
 
 import lombok.AccessLevel;
@@ -19,10 +20,15 @@ public final class ProjectDescription {
     public static final String IS_RELEASED_DESCRIPTION = "출시 서비스만 보기(기본 - false)";
     public static final String SORT_DESCRIPTION = "정렬 조건 [ createdAt(default), view, like ]";
     public static final String PAGE_SIZE_DESCRIPTION = "한 페이지내 보여질 데이터의 개수";
-    public static final String LAST_ORDER_COUNT_DESCRIPTION = "더보기 이전 마지막으로 보여진 좋아요수/조회수(첫 페이지면 null)";
-    public static final String LAST_PROJECT_ID_DESCRIPTION = "더보기 이전 마지막으로 보여진 프로젝트 식별자(첫 페이지면 null)";
+    public static final String CURSOR_DESCRIPTION = "이전 응답의 nextCursor 값(첫 페이지면 null)";
+    public static final String LAST_ORDER_COUNT_DESCRIPTION =
+        "(deprecated, cursor 사용) 더보기 이전 마지막으로 보여진 좋아요수/조회수(첫 페이지면 null)";
+    public static final String LAST_PROJECT_ID_DESCRIPTION =
+        "(deprecated, cursor 사용) 더보기 이전 마지막으로 보여진 프로젝트 식별자(첫 페이지면 null)";
     public static final String SKILL_DESCRIPTION = "조회할 기술 스택 목록(없으면 null)";
-    public static final String SEARCH_DESCRIPTION = "검색어 [ 프로젝트 제목, 멤버 ](없으면 null)";
+    public static final String SEARCH_DESCRIPTION = "검색어 [ 프로젝트 제목, 멤버 ](없으면 null), "
+        + "관련도 상위 " + MAX_SEARCH_RESULT_COUNT + "개 프로젝트 안에서 정렬 조건 순으로 조회";
+    public static final String SKIP_COUNT_DESCRIPTION = "첫 페이지가 아니면 전체 개수 조회 생략(기본 - false)";
 
     // SaveProjectRequest, UpdateProjectRequest
     public static final String NAME_DESCRIPTION = "제목, " + MAX_PROJECT_NAME_LENGTH + "자 이하";
@@ -15,6 +15,8 @@ public final class UserDescription {
     public static final String PROJECTS_PAGE_SIZE_DESCRIPTION = "한 페이지의 크기 (기본값: 12)";
     public static final String PROJECTS_TYPE_DESCRIPTION =
         "프로젝트 조회 타입 [ JOINED(모두 가능), LIKED(본인만 가능), COMMENTED(본인만 가능) ]";
+    public static final String PROJECTS_LAST_PROJECT_ID_DESCRIPTION = "더보기 이전 마지막으로 보여진 프로젝트 식별자(첫 페이지면 null)";
+    public static final String PROJECTS_CURSOR_PAGE_SIZE_DESCRIPTION = "한 페이지의 크기 (기본값: 24)";
 
     // CheckEmailRequest, SignUpRequest, UpdatePasswordRequest
     public static final String EMAIL_DESCRIPTION = "이메일, 이메일 형식 검사";
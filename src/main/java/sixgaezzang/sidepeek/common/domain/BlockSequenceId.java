@@ -0,0 +1,28 @@
+package sixgaezzang.sidepeek.common.domain;
+
+import static sixgaezzang.sidepeek.common.util.CommonConstant.JDBC_BATCH_SIZE;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * 식별자를 {@link BlockSequenceIdGenerator}로 블록 단위 할당하도록 지정하는 애너테이션.
+ * <p>
+ * 블록 번호와 블록 크기로 식별자 범위를 계산하므로, 이미 할당된 블록과 겹치지 않도록 {@link #blockSize()}는 줄이지 않는다.
+ */
+@IdGeneratorType(BlockSequenceIdGenerator.class)
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface BlockSequenceId {
+
+    /**
+     * 블록 번호를 발급하는 AUTO_INCREMENT 테이블
+     */
+    String sequenceTable();
+
+    int blockSize() default JDBC_BATCH_SIZE;
+
+}
@@ -0,0 +1,59 @@
+package sixgaezzang.sidepeek.common.domain;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * 식별자를 블록 단위로 미리 할당받아 INSERT를 JDBC 배치로 묶을 수 있게 하는 생성기.
+ * <p>
+ * 블록 번호는 시퀀스 테이블에 행을 추가하여 받은 AUTO_INCREMENT 값이고, 블록 번호 n은 {@code [n * blockSize, (n + 1) *
+ * blockSize)} 범위의 식별자를 뜻한다. AUTO_INCREMENT 값은 트랜잭션이 롤백되어도 되돌아가지 않고 잠금도 문장이 끝나면 풀리므로,
+ * 테이블 전략과 달리 현재 트랜잭션의 커넥션으로 할당받아도 노드 간에 블록이 겹치거나 다른 트랜잭션을 기다리지 않는다. 별도 트랜잭션을 위한
+ * 두 번째 커넥션을 잡지 않으므로, 커넥션 풀이 모두 사용 중일 때 블록을 할당받으려는 요청끼리 서로를 기다리며 멈추지 않는다.
+ */
+public class BlockSequenceIdGenerator implements IdentifierGenerator {
+
+    private final String insertSql;
+    private final int blockSize;
+    private long nextId;
+    private long blockEnd;    // 현재 블록의 마지막 식별자 다음 값
+
+    public BlockSequenceIdGenerator(BlockSequenceId config) {
+        this.insertSql = "INSERT INTO " + config.sequenceTable() + " () VALUES ()";
+        this.blockSize = config.blockSize();
+    }
+
+    @Override
+    public synchronized Object generate(SharedSessionContractImplementor session, Object object) {
+        if (nextId == blockEnd) {
+            nextId = nextBlock(session) * blockSize;
+            blockEnd = nextId + blockSize;
+        }
+        return nextId++;
+    }
+
+    private long nextBlock(SharedSessionContractImplementor session) {
+        JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+        PreparedStatement statement = jdbcCoordinator.getStatementPreparer()
+            .prepareStatement(insertSql, Statement.RETURN_GENERATED_KEYS);
+        try {
+            jdbcCoordinator.getResultSetReturn().executeUpdate(statement, insertSql);
+            try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                generatedKeys.next();
+                return generatedKeys.getLong(1);
+            }
+        } catch (SQLException e) {
+            throw session.getJdbcServices().getSqlExceptionHelper()
+                .convert(e, "식별자 블록을 할당하지 못했습니다.", insertSql);
+        } finally {
+            jdbcCoordinator.getLogicalConnection().getResourceRegistry().release(statement);
+            jdbcCoordinator.afterStatementExecution();
+        }
+    }
+
+}
@@ -13,6 +13,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -135,6 +136,27 @@ public class GlobalExceptionHandler {
             .body(errorResponse);
     }
 
+    @ExceptionHandler(AuthenticationServiceException.class)
+    public ResponseEntity<ErrorResponse> handleAuthenticationServiceException(
+        AuthenticationServiceException e) {
+        ErrorResponse errorResponse = ErrorResponse.of(HttpStatus.UNAUTHORIZED, e.getMessage());
+        log.warn(e.getMessage(), e.fillInStackTrace());
+        Sentry.captureException(e);
+
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+            .body(errorResponse);
+    }
+
+    @ExceptionHandler(OAuth2ProviderException.class)
+    public ResponseEntity<ErrorResponse> handleOAuth2ProviderException(OAuth2ProviderException e) {
+        ErrorResponse errorResponse = ErrorResponse.of(e.getStatus(), e.getMessage());
+        log.error(e.getMessage(), e.fillInStackTrace());
+        Sentry.captureException(e);
+
+        return ResponseEntity.status(e.getStatus())
+            .body(errorResponse);
+    }
+
     @ExceptionHandler(TokenValidationFailException.class)
     public ResponseEntity<ErrorResponse> handleTokenValidationFailException(
         TokenValidationFailException e) {
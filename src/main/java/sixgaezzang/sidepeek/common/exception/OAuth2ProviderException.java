@@ -0,0 +1,20 @@
+package sixgaezzang.sidepeek.common.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 소셜 로그인 제공자의 장애(연결 실패, 5xx 응답)로 인증 정보를 확인하지 못한 경우의 예외.
+ * 사용자의 인증 정보 문제가 아니므로 401 대신 {@link #status}로 응답한다.
+ */
+@Getter
+public class OAuth2ProviderException extends RuntimeException {
+
+    private final HttpStatus status;
+
+    public OAuth2ProviderException(HttpStatus status, String message, Throwable cause) {
+        super(message, cause);
+        this.status = status;
+    }
+
+}
@@ -0,0 +1,158 @@
+package sixgaezzang.sidepeek.common.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 부모 엔티티에 속한 자식 엔티티 목록을 요청 목록과 비교하여, 달라진 부분만 반영하는 동기화 도구.
+ * <p>
+ * 요청과 같은 행은 그대로 두고, 달라진 행은 남는 기존 행을 수정(dirty checking)하여 재사용한다. 그래도 남는 기존 행은 식별자 목록으로
+ * 한 번에 삭제하고, 부족한 행만 추가(JDBC 배치)한다. 따라서 반영 비용은 자식 목록의 크기가 아니라 변경의 크기에 비례한다.
+ *
+ * @param <E> 자식 엔티티 타입
+ * @param <R> 요청 타입
+ */
+public class ChildCollectionSynchronizer<E, R> {
+
+    private final JpaRepository<E, Long> repository;
+    private final Function<E, Long> idGetter;
+    private final BiPredicate<E, R> matcher;
+    private final Function<R, E> creator;
+    private final BiConsumer<E, R> updater;
+
+    /**
+     * @param repository 자식 엔티티 저장소
+     * @param idGetter   자식 엔티티 식별자 조회 함수
+     * @param matcher    기존 행이 요청과 같은지 확인하는 함수
+     * @param creator    요청으로 새 자식 엔티티를 만드는 함수
+     * @param updater    기존 행을 요청 내용으로 수정하는 함수
+     */
+    public ChildCollectionSynchronizer(JpaRepository<E, Long> repository, Function<E, Long> idGetter,
+        BiPredicate<E, R> matcher, Function<R, E> creator, BiConsumer<E, R> updater) {
+        this.repository = repository;
+        this.idGetter = idGetter;
+        this.matcher = matcher;
+        this.creator = creator;
+        this.updater = updater;
+    }
+
+    /**
+     * 순서와 관계없이 요청과 같은 기존 행을 찾아 재사용하는 메서드
+     *
+     * @param existing 현재 저장된 자식 엔티티 목록
+     * @param requests 요청 목록
+     * @return 요청 순서대로 정렬된 반영 후 자식 엔티티 목록
+     */
+    public List<E> synchronize(List<E> existing, List<R> requests) {
+        List<E> unmatched = new ArrayList<>(existing);
+        List<E> synchronizedEntities = new ArrayList<>(requests.size());
+        List<Integer> changedIndexes = new ArrayList<>();
+
+        for (R request : requests) {
+            E matched = removeFirstMatch(unmatched, request);
+            if (matched == null) {
+                changedIndexes.add(synchronizedEntities.size());
+            }
+            synchronizedEntities.add(matched);
+        }
+
+        List<E> created = new ArrayList<>();
+        Iterator<E> reusable = unmatched.iterator();
+        for (int index : changedIndexes) {
+            synchronizedEntities.set(index, reuseOrCreate(reusable, requests.get(index), created));
+        }
+
+        apply(reusable, created);
+        return synchronizedEntities;
+    }
+
+    /**
+     * 식별자 순서를 요청 순서로 유지해야 할 때, 같은 위치의 기존 행끼리 비교하여 재사용하는 메서드.
+     * <p>
+     * 식별자를 블록 단위로 할당받으면 새 행의 식별자가 다른 노드가 먼저 추가한 기존 행보다 작을 수 있으므로, 추가한 뒤에는 식별자
+     * 순서대로 요청 내용을 다시 배정한다.
+     *
+     * @param existing 현재 저장된 자식 엔티티 목록
+     * @param requests 요청 목록
+     * @return 요청 순서대로 정렬된 반영 후 자식 엔티티 목록
+     */
+    public List<E> synchronizeInOrder(List<E> existing, List<R> requests) {
+        List<E> sorted = new ArrayList<>(existing);
+        sorted.sort(Comparator.comparing(idGetter));
+
+        List<E> synchronizedEntities = new ArrayList<>(requests.size());
+        List<E> created = new ArrayList<>();
+        Iterator<E> reusable = sorted.iterator();
+        for (R request : requests) {
+            if (!reusable.hasNext()) {
+                synchronizedEntities.add(reuseOrCreate(reusable, request, created));
+                continue;
+            }
+
+            E entity = reusable.next();
+            if (!matcher.test(entity, request)) {
+                updater.accept(entity, request);
+            }
+            synchronizedEntities.add(entity);
+        }
+
+        apply(reusable, created);
+        return created.isEmpty() ? synchronizedEntities : alignToIdOrder(synchronizedEntities, requests);
+    }
+
+    private List<E> alignToIdOrder(List<E> entities, List<R> requests) {
+        List<E> sorted = new ArrayList<>(entities);
+        sorted.sort(Comparator.comparing(idGetter));
+
+        for (int index = 0; index < sorted.size(); index++) {
+            E entity = sorted.get(index);
+            if (!matcher.test(entity, requests.get(index))) {
+                updater.accept(entity, requests.get(index));
+            }
+        }
+        return sorted;
+    }
+
+    private E removeFirstMatch(List<E> candidates, R request) {
+        Iterator<E> iterator = candidates.iterator();
+        while (iterator.hasNext()) {
+            E candidate = iterator.next();
+            if (matcher.test(candidate, request)) {
+                iterator.remove();
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private E reuseOrCreate(Iterator<E> reusable, R request, List<E> created) {
+        if (reusable.hasNext()) {
+            E entity = reusable.next();
+            updater.accept(entity, request);
+            return entity;
+        }
+
+        E entity = creator.apply(request);
+        created.add(entity);
+        return entity;
+    }
+
+    private void apply(Iterator<E> remaining, List<E> created) {
+        List<Long> deletedIds = new ArrayList<>();
+        remaining.forEachRemaining(entity -> deletedIds.add(idGetter.apply(entity)));
+
+        if (!deletedIds.isEmpty()) {
+            repository.deleteAllByIdInBatch(deletedIds);
+        }
+        if (!created.isEmpty()) {
+            repository.saveAll(created);
+        }
+    }
+
+}
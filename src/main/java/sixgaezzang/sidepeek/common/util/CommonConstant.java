@@ -13,6 +13,9 @@ public final class CommonConstant {
     // Github
     public static final String GITHUB_URL = "https://github.com";
 
+    // JDBC Batch
+    public static final int JDBC_BATCH_SIZE = 50;
+
     // TechStack
     public static final int MAX_TECH_STACK_COUNT = 30;
     public static final int MAX_CATEGORY_LENGTH = 50;
@@ -0,0 +1,35 @@
+package sixgaezzang.sidepeek.common.util;
+
+import java.sql.SQLException;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataIntegrityUtils {
+
+    private static final String INTEGRITY_CONSTRAINT_VIOLATION_SQL_STATE = "23000";
+    private static final int MYSQL_DUPLICATE_ENTRY_ERROR_CODE = 1062;
+
+    /**
+     * 무결성 제약 위반이 주어진 유니크 제약의 중복 위반인지 확인하는 메서드. 외래 키, NOT NULL 등 다른 제약 위반이면 false를 반환한다.
+     *
+     * @param e              무결성 제약 위반 예외
+     * @param constraintName 유니크 제약 이름
+     * @return 유니크 제약 중복 위반 여부
+     */
+    public static boolean isUniqueViolation(DataIntegrityViolationException e, String constraintName) {
+        for (Throwable cause = e; Objects.nonNull(cause); cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException) {
+                // MySQL 메시지 형식: Duplicate entry '...' for key 'table.constraint'
+                return INTEGRITY_CONSTRAINT_VIOLATION_SQL_STATE.equals(sqlException.getSQLState())
+                    && sqlException.getErrorCode() == MYSQL_DUPLICATE_ENTRY_ERROR_CODE
+                    && Objects.nonNull(sqlException.getMessage())
+                    && sqlException.getMessage().contains(constraintName);
+            }
+        }
+        return false;
+    }
+
+}
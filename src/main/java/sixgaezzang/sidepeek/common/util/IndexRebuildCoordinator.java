@@ -0,0 +1,101 @@
+package sixgaezzang.sidepeek.common.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 메모리 색인의 읽기/쓰기 잠금과 전체 재색인을 조율하는 클래스.
+ * <p>
+ * 재색인 중 원본을 읽은 뒤 반영된 변경은 읽은 결과에 빠져 있을 수 있으므로, 재색인 중의 변경을 기록해 두었다가 새 색인으로 교체한
+ * 직후에 다시 적용한다. 재색인이 실패해도 기록은 비워지므로 이후의 변경이 계속 쌓이지 않는다.
+ *
+ * @param <ID> 색인 대상 식별자 타입
+ * @param <V>  식별자별로 색인하는 값 타입
+ */
+public class IndexRebuildCoordinator<ID, V> {
+
+    private final BiConsumer<ID, V> writer;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock rebuildLock = new ReentrantLock();
+    private Map<ID, V> changesDuringRebuild;    // 재색인 중이 아니면 null
+
+    /**
+     * @param writer 잠금을 잡은 상태에서 식별자의 색인을 교체하는 함수
+     */
+    public IndexRebuildCoordinator(BiConsumer<ID, V> writer) {
+        this.writer = writer;
+    }
+
+    public <T> T read(Supplier<T> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 식별자의 색인을 교체하는 메서드. 재색인 중이면 새 색인에 다시 적용하도록 기록한다.
+     *
+     * @param id    식별자
+     * @param value 색인할 값
+     */
+    public void write(ID id, V value) {
+        lock.writeLock().lock();
+        try {
+            writer.accept(id, value);
+            if (Objects.nonNull(changesDuringRebuild)) {
+                changesDuringRebuild.put(id, value);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 색인을 다시 만드는 메서드. 동시에 하나의 재색인만 실행한다.
+     *
+     * @param loader   원본을 읽어 새 색인을 만드는 함수. 잠금 없이 실행된다.
+     * @param replacer 잠금을 잡은 상태에서 기존 색인을 새 색인으로 교체하는 함수
+     */
+    public <T> void rebuild(Supplier<T> loader, Consumer<T> replacer) {
+        rebuildLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = new HashMap<>();    // 원본을 읽기 전부터 반영되는 변경을 기록
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            T rebuilt = loader.get();
+
+            lock.writeLock().lock();
+            try {
+                replacer.accept(rebuilt);
+                // 읽은 결과보다 늦게 반영되었을 수 있는 변경을 다시 적용합니다.
+                changesDuringRebuild.forEach(writer);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            rebuildLock.unlock();
+        }
+    }
+
+}
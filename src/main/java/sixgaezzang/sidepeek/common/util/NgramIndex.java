@@ -0,0 +1,180 @@
+package sixgaezzang.sidepeek.common.util;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 문자열을 n-gram 단위로 색인하여 부분 문자열(대소문자 무시) 검색을 지원하는 메모리 역색인.
+ * <p>
+ * 검색어의 모든 n-gram을 포함하는 후보를 역색인으로 추린 뒤 실제 포함 여부를 확인하므로 {@code LIKE '%keyword%'}와 같은 결과를
+ * 반환한다. 검색어가 n보다 짧으면 전체 문서를 확인한다. 결과는 일치한 문자열 수와 접두어 일치 여부로 점수를 매겨 정렬한다.
+ * <p>
+ * 재색인 중 문서를 읽은 뒤 반영된 변경은 {@link IndexRebuildCoordinator}가 기록해 두었다가 새 색인에 다시 적용한다.
+ *
+ * @param <ID> 문서 식별자 타입
+ */
+public class NgramIndex<ID extends Comparable<ID>> {
+
+    private final int gramSize;
+    private final Map<String, Set<ID>> postings = new HashMap<>();
+    private final Map<ID, List<String>> documents = new HashMap<>();
+    private final IndexRebuildCoordinator<ID, List<String>> coordinator =
+        new IndexRebuildCoordinator<>(this::replaceWithoutLock);    // 삭제는 빈 목록
+
+    public NgramIndex(int gramSize) {
+        this.gramSize = gramSize;
+    }
+
+    public static String normalize(String text) {
+        return Objects.isNull(text) ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 문서를 색인하는 메서드. 이미 색인된 문서라면 기존 색인을 대체한다.
+     *
+     * @param id    문서 식별자
+     * @param texts 검색 대상 문자열 목록
+     */
+    public void put(ID id, Collection<String> texts) {
+        List<String> normalizedTexts = texts.stream()
+            .map(NgramIndex::normalize)
+            .filter(text -> !text.isEmpty())
+            .distinct()
+            .toList();
+
+        coordinator.write(id, normalizedTexts);
+    }
+
+    public void remove(ID id) {
+        coordinator.write(id, List.of());
+    }
+
+    /**
+     * 전체 색인을 다시 만드는 메서드. 문서를 읽는 동안 반영된 변경은 새 색인에 다시 적용한다.
+     *
+     * @param loader 문서 식별자별 검색 대상 문자열 목록을 읽는 함수
+     */
+    public void rebuild(Supplier<? extends Map<ID, ? extends Collection<String>>> loader) {
+        coordinator.rebuild(() -> {
+            NgramIndex<ID> rebuilt = new NgramIndex<>(gramSize);
+            loader.get().forEach(rebuilt::put);
+            return rebuilt;
+        }, rebuilt -> {
+            postings.clear();
+            postings.putAll(rebuilt.postings);
+            documents.clear();
+            documents.putAll(rebuilt.documents);
+        });
+    }
+
+    /**
+     * 검색어를 포함하는 문서 식별자를 점수 순으로 반환하는 메서드
+     *
+     * @param query 검색어
+     * @param limit 최대 반환 개수
+     * @return 점수 내림차순, 식별자 내림차순으로 정렬된 문서 식별자 목록
+     */
+    public List<ID> search(String query, int limit) {
+        String keyword = normalize(query);
+        if (keyword.isEmpty()) {
+            return List.of();
+        }
+
+        return coordinator.read(() -> {
+            Map<ID, Integer> scores = new HashMap<>();
+            for (ID id : findCandidates(keyword)) {
+                int score = score(documents.get(id), keyword);
+                if (score > 0) {
+                    scores.put(id, score);
+                }
+            }
+
+            return scores.entrySet().stream()
+                .sorted(Map.Entry.<ID, Integer>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+        });
+    }
+
+    private Collection<ID> findCandidates(String keyword) {
+        if (keyword.length() < gramSize) {
+            return documents.keySet();
+        }
+
+        Set<ID> candidates = null;
+        for (String gram : toGrams(keyword)) {
+            Set<ID> posting = postings.getOrDefault(gram, Set.of());
+            if (Objects.isNull(candidates)) {
+                candidates = new HashSet<>(posting);
+            } else {
+                candidates.retainAll(posting);
+            }
+            if (candidates.isEmpty()) {
+                break;
+            }
+        }
+        return candidates;
+    }
+
+    private int score(List<String> texts, String keyword) {
+        int score = 0;
+        for (String text : texts) {
+            if (text.startsWith(keyword)) {
+                score += 2;
+            } else if (text.contains(keyword)) {
+                score += 1;
+            }
+        }
+        return score;
+    }
+
+    private void replaceWithoutLock(ID id, List<String> normalizedTexts) {
+        removeWithoutLock(id);
+        if (normalizedTexts.isEmpty()) {
+            return;
+        }
+
+        documents.put(id, normalizedTexts);
+        normalizedTexts.stream()
+            .flatMap(text -> toGrams(text).stream())
+            .forEach(gram -> postings.computeIfAbsent(gram, key -> new HashSet<>()).add(id));
+    }
+
+    private void removeWithoutLock(ID id) {
+        List<String> texts = documents.remove(id);
+        if (Objects.isNull(texts)) {
+            return;
+        }
+
+        texts.stream()
+            .flatMap(text -> toGrams(text).stream())
+            .forEach(gram -> {
+                Set<ID> posting = postings.get(gram);
+                if (Objects.nonNull(posting)) {
+                    posting.remove(id);
+                    if (posting.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            });
+    }
+
+    private Set<String> toGrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + gramSize <= text.length(); i++) {
+            grams.add(text.substring(i, i + gramSize));
+        }
+        return grams;
+    }
+
+}
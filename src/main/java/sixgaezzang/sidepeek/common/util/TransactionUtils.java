@@ -0,0 +1,48 @@
+package sixgaezzang.sidepeek.common.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TransactionUtils {
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에, 트랜잭션 밖에서 호출되면 즉시 작업을 실행하는 메서드.
+     * 트랜잭션이 롤백되면 작업은 실행되지 않는다.
+     *
+     * @param task 실행할 작업
+     */
+    public static void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+            return;
+        }
+        task.run();
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋/롤백과 관계없이 트랜잭션이 끝난 뒤에, 트랜잭션 밖에서 호출되면 즉시 작업을 실행하는 메서드.
+     *
+     * @param task 실행할 작업
+     */
+    public static void runAfterCompletion(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    task.run();
+                }
+            });
+            return;
+        }
+        task.run();
+    }
+
+}
@@ -0,0 +1,84 @@
+package sixgaezzang.sidepeek.common.util.component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드마다 메모리에 따로 가진 색인의 변경을 Redis Pub/Sub으로 다른 노드에 전달하는 컴포넌트.
+ * <p>
+ * 변경한 노드는 이미 자신의 색인에 반영했으므로, 자신이 보낸 메시지는 무시한다. 메시지가 유실되어도 주기적인 재색인에서 DB 기준으로
+ * 맞춰진다.
+ */
+@Slf4j
+@Component
+public class IndexChangeBroadcaster {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public IndexChangeBroadcaster(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper,
+        RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.listenerContainer = listenerContainer;
+    }
+
+    /**
+     * 다른 노드가 보낸 색인 변경을 받도록 구독하는 메서드
+     *
+     * @param channel 채널
+     * @param handler 식별자와 색인할 값 목록(삭제는 빈 목록)을 받아 색인에 반영하는 함수
+     */
+    public void subscribe(String channel, BiConsumer<Long, List<String>> handler) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            IndexChange change;
+            try {
+                change = objectMapper.readValue(message.getBody(), IndexChange.class);
+            } catch (IOException e) {
+                log.warn("색인 변경 메시지를 읽을 수 없습니다. channel={}", channel, e);
+                return;
+            }
+
+            if (!nodeId.equals(change.nodeId())) {
+                handler.accept(change.id(), change.values());
+            }
+        }, new ChannelTopic(channel));
+    }
+
+    /**
+     * 색인 변경을 다른 노드에 전달하는 메서드
+     *
+     * @param channel 채널
+     * @param id      식별자
+     * @param values  색인한 값 목록. 삭제는 빈 목록
+     */
+    public void publish(String channel, Long id, Collection<String> values) {
+        try {
+            redisTemplate.convertAndSend(channel,
+                objectMapper.writeValueAsString(new IndexChange(nodeId, id, List.copyOf(values))));
+        } catch (JsonProcessingException e) {
+            log.warn("색인 변경 메시지를 만들 수 없습니다. channel={}, id={}", channel, id, e);
+        }
+    }
+
+    private record IndexChange(
+        String nodeId,
+        Long id,
+        List<String> values
+    ) {
+
+    }
+
+}
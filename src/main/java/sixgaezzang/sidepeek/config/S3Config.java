@@ -1,11 +1,15 @@
 package sixgaezzang.sidepeek.config;
 
+import java.net.URI;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import sixgaezzang.sidepeek.config.properties.S3Properties;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.regions.Region;
-import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
 
 @Configuration
 @RequiredArgsConstructor
@@ -14,10 +18,20 @@ public class S3Config {
     private final S3Properties s3Properties;
 
     @Bean
-    public S3Client s3Client() {
-        return S3Client.builder()
+    public S3AsyncClient s3AsyncClient() {
+        S3AsyncClientBuilder builder = S3AsyncClient.builder()
             .region(Region.of(s3Properties.region()))
-            .build();
+            .overrideConfiguration(ClientOverrideConfiguration.builder()
+                .apiCallTimeout(s3Properties.apiCallTimeout())
+                .apiCallAttemptTimeout(s3Properties.apiCallAttemptTimeout())
+                .build());
+
+        if (Objects.nonNull(s3Properties.endpoint())) {
+            builder.endpointOverride(URI.create(s3Properties.endpoint()))
+                .forcePathStyle(true);
+        }
+
+        return builder.build();
     }
 
 }
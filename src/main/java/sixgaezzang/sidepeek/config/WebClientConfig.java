@@ -0,0 +1,45 @@
+package sixgaezzang.sidepeek.config;
+
+import io.netty.channel.ChannelOption;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import sixgaezzang.sidepeek.config.properties.OAuth2ClientProperties;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebClientConfig {
+
+    private static final String OAUTH2_CONNECTION_POOL_NAME = "oauth2";
+
+    private final OAuth2ClientProperties oauth2ClientProperties;
+
+    /**
+     * OAuth 제공자 호출에 공유하는 WebClient. 커넥션 풀과 keep-alive로 로그인마다 TCP/TLS 연결을 새로 맺지 않고, TLS 구간에서는
+     * HTTP/2로 협상하여 한 연결로 여러 요청을 보낸다.
+     */
+    @Bean
+    public WebClient oauth2WebClient() {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder(OAUTH2_CONNECTION_POOL_NAME)
+            .maxConnections(oauth2ClientProperties.maxConnections())
+            .maxIdleTime(oauth2ClientProperties.maxIdleTime())
+            .evictInBackground(oauth2ClientProperties.maxIdleTime())
+            .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+            .protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+            .keepAlive(true)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) oauth2ClientProperties.connectTimeout().toMillis())
+            .responseTimeout(oauth2ClientProperties.responseTimeout());
+
+        return WebClient.builder()
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .build();
+    }
+
+}
@@ -1,7 +1,10 @@
 package sixgaezzang.sidepeek.config;
 
 import java.util.List;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.multipart.MultipartResolver;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import sixgaezzang.sidepeek.common.resolver.IpArgumentResolver;
@@ -16,4 +19,14 @@ public class WebConfig implements WebMvcConfigurer {
         resolvers.add(new IpArgumentResolver());
     }
 
+    /**
+     * 파일 업로드 요청의 본문을 {@code MultipartStreamReader}가 직접 읽을 수 있도록, 파트에 처음 접근할 때까지 파싱을 미룬다.
+     */
+    @Bean
+    public MultipartResolver multipartResolver() {
+        StandardServletMultipartResolver multipartResolver = new StandardServletMultipartResolver();
+        multipartResolver.setResolveLazily(true);
+        return multipartResolver;
+    }
+
 }
@@ -1,11 +1,14 @@
 package sixgaezzang.sidepeek.config.properties;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 @ConfigurationProperties(prefix = "oauth2.github")
 public record GithubOAuth2Properties(
     String clientId,
-    String clientSecret
+    String clientSecret,
+    @DefaultValue("https://github.com/login/oauth/access_token") String accessTokenUrl,
+    @DefaultValue("https://api.github.com/user") String userInfoUrl
 ) {
 
 }
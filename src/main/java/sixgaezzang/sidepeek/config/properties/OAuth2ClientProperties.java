@@ -0,0 +1,17 @@
+package sixgaezzang.sidepeek.config.properties;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "oauth2.client")
+public record OAuth2ClientProperties(
+    @DefaultValue("50") int maxConnections,
+    @DefaultValue("30s") Duration maxIdleTime,
+    @DefaultValue("3s") Duration connectTimeout,
+    @DefaultValue("5s") Duration responseTimeout,
+    @DefaultValue("2") int maxRetries,
+    @DefaultValue("200ms") Duration retryBackoff
+) {
+
+}
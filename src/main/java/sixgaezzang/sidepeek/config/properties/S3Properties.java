@@ -1,12 +1,17 @@
 package sixgaezzang.sidepeek.config.properties;
 
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 @ConfigurationProperties(prefix = "aws.s3")
 public record S3Properties(
     String region,
     String baseBucket,
     String keyPrefix,
-    String basePath
+    String basePath,
+    String endpoint,    // MinIO, LocalStack 등 S3 호환 저장소를 사용할 때만 지정
+    @DefaultValue("30s") Duration apiCallTimeout,    // 재시도를 포함한 API 호출 하나의 최대 시간
+    @DefaultValue("10s") Duration apiCallAttemptTimeout
 ) {
 }
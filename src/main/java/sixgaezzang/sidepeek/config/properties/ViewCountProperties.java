@@ -0,0 +1,15 @@
+package sixgaezzang.sidepeek.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "project.view-count")
+public record ViewCountProperties(
+    @DefaultValue("KEY") DedupMode dedupMode
+) {
+
+    public enum DedupMode {
+        KEY, HYPER_LOG_LOG
+    }
+
+}
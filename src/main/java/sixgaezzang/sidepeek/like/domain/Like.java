@@ -1,5 +1,6 @@
 package sixgaezzang.sidepeek.like.domain;
 
+import static sixgaezzang.sidepeek.like.util.LikeConstant.LIKE_USER_PROJECT_UNIQUE_CONSTRAINT;
 import static sixgaezzang.sidepeek.projects.util.validation.ProjectValidator.validateProject;
 import static sixgaezzang.sidepeek.users.util.validation.UserValidator.validateUser;
 
@@ -11,6 +12,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -20,7 +22,8 @@ import sixgaezzang.sidepeek.projects.domain.Project;
 import sixgaezzang.sidepeek.users.domain.User;
 
 @Entity
-@Table(name = "likes")
+@Table(name = "likes", uniqueConstraints = @UniqueConstraint(
+    name = LIKE_USER_PROJECT_UNIQUE_CONSTRAINT, columnNames = {"user_id", "project_id"}))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class Like extends BaseTimeEntity {
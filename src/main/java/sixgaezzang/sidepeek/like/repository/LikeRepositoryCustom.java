@@ -1,5 +1,6 @@
 package sixgaezzang.sidepeek.like.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import sixgaezzang.sidepeek.projects.domain.Project;
@@ -7,8 +8,8 @@ import sixgaezzang.sidepeek.users.domain.User;
 
 public interface LikeRepositoryCustom {
 
-    List<Long> findAllProjectIdsByUser(Long userId);
-
     Optional<Long> findIdByUserAndProject(User user, Project project);
 
+    List<Long> findProjectIdsLastLikedBetween(LocalDateTime from, LocalDateTime to);
+
 }
@@ -5,6 +5,7 @@ import static sixgaezzang.sidepeek.like.domain.QLike.like;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.stereotype.Repository;
@@ -20,15 +21,6 @@ public class LikeRepositoryCustomImpl implements LikeRepositoryCustom {
         this.queryFactory = new JPAQueryFactory(em);
     }
 
-    @Override
-    public List<Long> findAllProjectIdsByUser(Long userId) {
-        return queryFactory
-            .select(like.project.id)
-            .from(like)
-            .where(like.user.id.eq(userId))
-            .fetch();
-    }
-
     @Override
     public Optional<Long> findIdByUserAndProject(User user,
         Project project) {
@@ -41,4 +33,19 @@ public class LikeRepositoryCustomImpl implements LikeRepositoryCustom {
             .fetchFirst()
         );
     }
+
+    /**
+     * 마지막 좋아요가 {@code [from, to)} 사이에 생성된 프로젝트의 식별자를 조회하는 메서드
+     */
+    @Override
+    public List<Long> findProjectIdsLastLikedBetween(LocalDateTime from, LocalDateTime to) {
+        return queryFactory
+            .select(like.project.id)
+            .from(like)
+            .where(like.createdAt.goe(from))
+            .groupBy(like.project.id)
+            .having(like.createdAt.max().lt(to))
+            .fetch();
+    }
+
 }
@@ -0,0 +1,135 @@
+package sixgaezzang.sidepeek.like.service;
+
+import static sixgaezzang.sidepeek.like.util.LikeConstant.LIKE_COUNT_BATCH_STALE_AFTER;
+import static sixgaezzang.sidepeek.like.util.LikeConstant.LIKE_COUNT_BUFFER_NAME;
+import static sixgaezzang.sidepeek.like.util.LikeConstant.LIKE_COUNT_FLUSH_DELAY_SECONDS;
+import static sixgaezzang.sidepeek.like.util.LikeConstant.LIKE_COUNT_RECOUNT_ALL_DONE_KEY;
+import static sixgaezzang.sidepeek.like.util.LikeConstant.LIKE_COUNT_RECOUNT_DELAY_SECONDS;
+import static sixgaezzang.sidepeek.like.util.LikeConstant.LIKE_COUNT_RECOUNT_QUIET_PERIOD;
+import static sixgaezzang.sidepeek.like.util.LikeConstant.LIKE_COUNT_RECOUNT_WINDOW;
+import static sixgaezzang.sidepeek.like.util.LikeConstant.LIKE_COUNT_RECOVER_DELAY_SECONDS;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import sixgaezzang.sidepeek.common.counter.RedisCounterBuffer;
+import sixgaezzang.sidepeek.common.util.component.DateTimeProvider;
+import sixgaezzang.sidepeek.like.repository.LikeRepository;
+import sixgaezzang.sidepeek.projects.repository.project.ProjectCounterRepository;
+
+/**
+ * 좋아요 수 증감분을 Redis에 누적하고 주기적으로 {@code project.like_count}에 반영하는 서비스.
+ * <p>
+ * 좋아요 생성/삭제 트랜잭션이 프로젝트 행을 잠그지 않도록 하기 위해 사용하며, 정렬은 반영된 {@code like_count} 컬럼을 기준으로 한다.
+ * 증감분은 좋아요가 커밋된 뒤에 누적하므로 그 사이 Redis 장애나 노드 종료로 유실될 수 있어, 최근 좋아요가 있었던 프로젝트는 주기적으로
+ * {@code likes} 테이블 기준으로 다시 계산한다.
+ */
+@Service
+public class LikeCountService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ProjectCounterRepository projectCounterRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final LikeRepository likeRepository;
+    private final DateTimeProvider dateTimeProvider;
+    private final RedisCounterBuffer likeCountBuffer;
+
+    public LikeCountService(RedisTemplate<String, String> redisTemplate,
+        ProjectCounterRepository projectCounterRepository, TransactionTemplate transactionTemplate,
+        LikeRepository likeRepository, DateTimeProvider dateTimeProvider) {
+        this.redisTemplate = redisTemplate;
+        this.projectCounterRepository = projectCounterRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.likeRepository = likeRepository;
+        this.dateTimeProvider = dateTimeProvider;
+        this.likeCountBuffer = new RedisCounterBuffer(redisTemplate, LIKE_COUNT_BUFFER_NAME);
+    }
+
+    public void increase(Long projectId) {
+        likeCountBuffer.increase(projectId, 1L);
+    }
+
+    public void decrease(Long projectId) {
+        likeCountBuffer.increase(projectId, -1L);
+    }
+
+    public long getPendingCount(Long projectId) {
+        return likeCountBuffer.getPendingDelta(projectId);
+    }
+
+    @Scheduled(fixedDelay = LIKE_COUNT_FLUSH_DELAY_SECONDS, timeUnit = TimeUnit.SECONDS)
+    public void flush() {
+        likeCountBuffer.flush(this::apply);
+    }
+
+    @Scheduled(fixedDelay = LIKE_COUNT_RECOVER_DELAY_SECONDS, timeUnit = TimeUnit.SECONDS)
+    public void recover() {
+        likeCountBuffer.recover(LIKE_COUNT_BATCH_STALE_AFTER, this::apply);
+    }
+
+    /**
+     * 최근 {@link sixgaezzang.sidepeek.like.util.LikeConstant#LIKE_COUNT_RECOUNT_WINDOW} 동안 좋아요가 있었던 프로젝트의 좋아요 수를
+     * 다시 계산하는 메서드.
+     * <p>
+     * 막 좋아요가 생성되었거나 반영 대기 중인 증감분이 있는 프로젝트는 다시 계산한 값에 증감분이 한 번 더 더해지므로 제외한다. 커밋과
+     * 증감분 누적 사이에 다시 계산되어 어긋나더라도 대상 기간 동안 반복해서 다시 계산되므로 맞춰진다. 좋아요 취소의 차감분이 유실된
+     * 프로젝트는 다음 좋아요 이후에 맞춰진다.
+     */
+    @Scheduled(fixedDelay = LIKE_COUNT_RECOUNT_DELAY_SECONDS, initialDelay = LIKE_COUNT_RECOUNT_DELAY_SECONDS,
+        timeUnit = TimeUnit.SECONDS)
+    public void recountRecentlyLiked() {
+        LocalDateTime now = dateTimeProvider.getCurrentDateTime();
+        List<Long> projectIds = likeRepository.findProjectIdsLastLikedBetween(
+            now.minus(LIKE_COUNT_RECOUNT_WINDOW), now.minus(LIKE_COUNT_RECOUNT_QUIET_PERIOD));
+
+        Set<Long> pendingIds = likeCountBuffer.findPendingIds();
+        List<Long> recountIds = projectIds.stream()
+            .filter(projectId -> !pendingIds.contains(projectId))
+            .toList();
+
+        if (!recountIds.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status ->
+                projectCounterRepository.recountLikeCounts(recountIds));
+        }
+    }
+
+    /**
+     * V8에서 중복 좋아요를 삭제한 만큼 줄지 않은 좋아요 수를 남은 좋아요 행 수로 한 번만 다시 계산하는 메서드.
+     * <p>
+     * 다시 계산한 값에 버퍼의 증감분이 한 번 더 더해지지 않도록 누적된 증감분을 먼저 반영하고, 그 사이 새로 누적되었거나 다른 노드가
+     * 반영 중인 증감분이 있는 프로젝트는 제외한다. 제외된 프로젝트는 최근 좋아요가 있었으므로 {@link #recountRecentlyLiked}에서
+     * 맞춰진다. 완료 표시 키를 먼저 선점한 노드만 실행하며, 실패하면 다음 기동 시 다시 실행하도록 키를 삭제한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recountAllOnce() {
+        Boolean claimed = redisTemplate.opsForValue()
+            .setIfAbsent(LIKE_COUNT_RECOUNT_ALL_DONE_KEY, dateTimeProvider.getCurrentDateTime().toString());
+        if (!Boolean.TRUE.equals(claimed)) {
+            return;
+        }
+
+        try {
+            flush();
+            Set<Long> pendingIds = likeCountBuffer.findPendingIds();
+            transactionTemplate.executeWithoutResult(status ->
+                projectCounterRepository.recountAllLikeCounts(pendingIds));
+        } catch (RuntimeException e) {
+            redisTemplate.delete(LIKE_COUNT_RECOUNT_ALL_DONE_KEY);
+            throw e;
+        }
+    }
+
+    private void apply(Map<Long, Long> likeCountDeltas) {
+        transactionTemplate.executeWithoutResult(status ->
+            projectCounterRepository.increaseLikeCounts(likeCountDeltas));
+    }
+
+}
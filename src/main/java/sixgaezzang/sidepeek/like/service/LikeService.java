@@ -1,14 +1,18 @@
 package sixgaezzang.sidepeek.like.service;
 
+import static sixgaezzang.sidepeek.common.util.DataIntegrityUtils.isUniqueViolation;
+import static sixgaezzang.sidepeek.common.util.TransactionUtils.runAfterCommit;
 import static sixgaezzang.sidepeek.common.util.validation.ValidationUtils.validateLoginId;
 import static sixgaezzang.sidepeek.like.exception.message.LikeErrorMessage.LIKE_IS_DUPLICATED;
 import static sixgaezzang.sidepeek.like.exception.message.LikeErrorMessage.LIKE_NOT_EXISTING;
+import static sixgaezzang.sidepeek.like.util.LikeConstant.LIKE_USER_PROJECT_UNIQUE_CONSTRAINT;
 import static sixgaezzang.sidepeek.like.util.validation.LikeValidator.validateLikeId;
 import static sixgaezzang.sidepeek.like.util.validation.LikeValidator.validateLikeRequest;
 
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import sixgaezzang.sidepeek.like.domain.Like;
@@ -27,13 +31,14 @@ public class LikeService {
     private final LikeRepository likeRepository;
     private final UserService userService;
     private final ProjectService projectService;
+    private final LikeCountService likeCountService;
 
     @Transactional
     public LikeResponse save(Long loginId, LikeRequest request) {
         validateLoginId(loginId);
         validateLikeRequest(request);
 
-        User user = userService.getById(loginId);
+        User user = userService.getReferenceById(loginId);    // 존재 여부만 확인하므로 회원 행을 읽지 않음
 
         Project project = projectService.getById(request.projectId());
 
@@ -44,8 +49,16 @@ public class LikeService {
             .project(project)
             .build();
 
-        like = likeRepository.save(like);
-        project.increaseLikeCount();    // 좋아요 수 증가
+        try {
+            like = likeRepository.saveAndFlush(like);
+        } catch (DataIntegrityViolationException e) {
+            if (isUniqueViolation(e, LIKE_USER_PROJECT_UNIQUE_CONSTRAINT)) {    // 동시에 요청된 중복 좋아요
+                throw new EntityExistsException(LIKE_IS_DUPLICATED);
+            }
+            throw e;
+        }
+        Long projectId = project.getId();
+        runAfterCommit(() -> likeCountService.increase(projectId));    // 커밋된 좋아요만 증가(주기적으로 일괄 반영)
 
         return LikeResponse.from(like);
     }
@@ -57,10 +70,11 @@ public class LikeService {
 
         Like like = getById(likeId);
 
-        Project project = like.getProject();
-        project.decreaseLikeCount();    // 좋아요 수 감소
+        Long projectId = like.getProject().getId();
 
         likeRepository.delete(like);
+        likeRepository.flush();
+        runAfterCommit(() -> likeCountService.decrease(projectId));    // 커밋된 삭제만 감소(주기적으로 일괄 반영)
     }
 
     public Like getById(Long id) {
@@ -0,0 +1,22 @@
+package sixgaezzang.sidepeek.like.util;
+
+import java.time.Duration;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LikeConstant {
+
+    public static final String LIKE_USER_PROJECT_UNIQUE_CONSTRAINT = "uk_likes_user_id_project_id";
+
+    // Like Count
+    public static final String LIKE_COUNT_BUFFER_NAME = "project-like-count";
+    public static final long LIKE_COUNT_FLUSH_DELAY_SECONDS = 10;
+    public static final long LIKE_COUNT_RECOVER_DELAY_SECONDS = 300;
+    public static final Duration LIKE_COUNT_BATCH_STALE_AFTER = Duration.ofMinutes(5);
+    public static final long LIKE_COUNT_RECOUNT_DELAY_SECONDS = 600;
+    public static final Duration LIKE_COUNT_RECOUNT_WINDOW = Duration.ofHours(1);
+    public static final Duration LIKE_COUNT_RECOUNT_QUIET_PERIOD = Duration.ofMinutes(1);
+    public static final String LIKE_COUNT_RECOUNT_ALL_DONE_KEY = LIKE_COUNT_BUFFER_NAME + ":recount-all-done";
+
+}
@@ -1,17 +1,19 @@
 package sixgaezzang.sidepeek.media.controller;
 
+import static sixgaezzang.sidepeek.media.util.MediaConstant.FILE_PART_NAME;
+
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.multipart.MultipartFile;
 import sixgaezzang.sidepeek.common.annotation.Login;
 import sixgaezzang.sidepeek.common.doc.MediaControllerDoc;
 import sixgaezzang.sidepeek.media.dto.response.MediaUploadResponse;
 import sixgaezzang.sidepeek.media.service.MediaService;
+import sixgaezzang.sidepeek.media.util.component.MultipartStreamReader;
 
 @RestController
 @RequestMapping("/files")
@@ -19,15 +21,20 @@ import sixgaezzang.sidepeek.media.service.MediaService;
 public class MediaController implements MediaControllerDoc {
 
     private final MediaService mediaService;
+    private final MultipartStreamReader multipartStreamReader;
 
     @Override
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<MediaUploadResponse> uploadFile(
         @Login Long loginId,
-        @RequestParam MultipartFile file
+        HttpServletRequest request
     ) {
+        MediaUploadResponse response = multipartStreamReader.readFile(request, FILE_PART_NAME,
+            (fileName, contentType, inputStream) ->
+                mediaService.uploadFile(loginId, fileName, contentType, inputStream));
+
         return ResponseEntity.ok()
-            .body(mediaService.uploadFile(loginId, file));
+            .body(response);
     }
 
 }
@@ -3,6 +3,7 @@ package sixgaezzang.sidepeek.media.exception;
 import static sixgaezzang.sidepeek.media.exception.message.MediaErrorMessage.CANNOT_READ_FILE;
 import static sixgaezzang.sidepeek.media.exception.message.MediaErrorMessage.CONTENT_TYPE_IS_UNSUPPORTED;
 import static sixgaezzang.sidepeek.media.exception.message.MediaErrorMessage.FILE_IS_EMPTY;
+import static sixgaezzang.sidepeek.media.exception.message.MediaErrorMessage.UPLOAD_TIMED_OUT;
 
 import io.sentry.Sentry;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,6 +21,7 @@ import org.springframework.web.multipart.MultipartException;
 import org.springframework.web.multipart.support.MissingServletRequestPartException;
 import sixgaezzang.sidepeek.common.exception.ErrorResponse;
 import sixgaezzang.sidepeek.common.util.component.SlackClient;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 
 @RestControllerAdvice
@@ -62,4 +64,17 @@ public class MediaExceptionHandler {
             .status(HttpStatus.BAD_GATEWAY)
             .body(errorResponse);
     }
+
+    @ExceptionHandler(ApiCallTimeoutException.class)
+    public ResponseEntity<ErrorResponse> handleApiCallTimeoutException(HttpServletRequest request,
+        ApiCallTimeoutException e) {
+        ErrorResponse errorResponse = ErrorResponse.of(HttpStatus.GATEWAY_TIMEOUT,
+            UPLOAD_TIMED_OUT);
+        log.error(e.getMessage(), e.fillInStackTrace());
+        slackClient.sendErrorMessage(e, Sentry.captureException(e), request);
+
+        return ResponseEntity
+            .status(HttpStatus.GATEWAY_TIMEOUT)
+            .body(errorResponse);
+    }
 }
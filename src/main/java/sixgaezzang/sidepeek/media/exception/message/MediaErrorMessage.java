@@ -10,5 +10,7 @@ public final class MediaErrorMessage {
     public static final String FILE_IS_EMPTY = "파일과 함께 요청을 보내주세요.";
     public static final String FILE_IS_INVALID = "이미지 혹은 영상 파일만 가능합니다.";
     public static final String CANNOT_READ_FILE = "파일을 읽는 도중 예외가 발생했습니다.";
+    public static final String REQUEST_IS_TOO_LARGE = "요청의 용량이나 파트 수가 허용 범위를 넘었습니다.";
+    public static final String UPLOAD_TIMED_OUT = "파일 업로드 시간이 초과되었습니다.";
 
 }
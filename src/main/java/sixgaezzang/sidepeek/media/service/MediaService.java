@@ -2,54 +2,48 @@ package sixgaezzang.sidepeek.media.service;
 
 import static sixgaezzang.sidepeek.common.util.CommonConstant.DOT_SEPARATOR;
 import static sixgaezzang.sidepeek.common.util.validation.ValidationUtils.validateLoginId;
-import static sixgaezzang.sidepeek.media.exception.message.MediaErrorMessage.CANNOT_READ_FILE;
 import static sixgaezzang.sidepeek.media.util.MediaConstant.FOLDER_PATH_SEPARATOR;
-import static sixgaezzang.sidepeek.media.util.validation.MediaValidator.validateFile;
+import static sixgaezzang.sidepeek.media.util.validation.MediaValidator.validateFileType;
 
-import java.io.IOException;
+import java.io.InputStream;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 import sixgaezzang.sidepeek.config.properties.S3Properties;
 import sixgaezzang.sidepeek.media.dto.response.MediaUploadResponse;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import sixgaezzang.sidepeek.media.util.component.S3StreamUploader;
 
 @Service
 @RequiredArgsConstructor
 public class MediaService {
 
-    private final S3Client s3Client;
+    private final S3StreamUploader s3StreamUploader;
     private final S3Properties s3Properties;
     private final MultipartProperties multipartProperties;
 
-    public MediaUploadResponse uploadFile(Long loginId, MultipartFile file) {
+    /**
+     * 요청 본문에서 읽고 있는 파일 스트림을 그대로 S3에 업로드하는 메서드. 파일 용량은 스트림을 읽으면서 검증한다.
+     *
+     * @param loginId          로그인 사용자 식별자
+     * @param originalFileName 원본 파일 이름
+     * @param contentType      Content-Type
+     * @param inputStream      파일 스트림
+     * @return 업로드된 파일 URL
+     */
+    public MediaUploadResponse uploadFile(Long loginId, String originalFileName, String contentType,
+        InputStream inputStream) {
         validateLoginId(loginId);
-        validateFile(file, multipartProperties.getMaxFileSize());
-        String fileName = createUniqueFileName(file);
-
-        try {
-            PutObjectRequest putOb = PutObjectRequest.builder()
-                .bucket(s3Properties.baseBucket())
-                .key(s3Properties.keyPrefix() + FOLDER_PATH_SEPARATOR + fileName)
-                .build();
-
-            s3Client.putObject(putOb, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
-        } catch (IOException e) {
-            throw new IllegalStateException(CANNOT_READ_FILE);
-        }
-
-        return MediaUploadResponse.from(
-            s3Properties.basePath() + FOLDER_PATH_SEPARATOR
-                + s3Properties.keyPrefix() + FOLDER_PATH_SEPARATOR + fileName);
-    }
+        validateFileType(originalFileName, contentType);
+        String key = s3Properties.keyPrefix() + FOLDER_PATH_SEPARATOR + createUniqueFileName(originalFileName);
+
+        s3StreamUploader.upload(s3Properties.baseBucket(), key, contentType, inputStream,
+            multipartProperties.getMaxFileSize());
 
-    private String createUniqueFileName(MultipartFile file) {
-        String originalFileName = file.getOriginalFilename();
+        return MediaUploadResponse.from(s3Properties.basePath() + FOLDER_PATH_SEPARATOR + key);
+    }
 
+    private String createUniqueFileName(String originalFileName) {
         int fileExtensionIndex = originalFileName.lastIndexOf(DOT_SEPARATOR);
         String fileExtension = originalFileName.substring(fileExtensionIndex);
 
@@ -8,5 +8,10 @@ public final class MediaConstant {
     public static final String FOLDER_PATH_SEPARATOR = "/";
     public static final String IMAGE_PREFIX = "image";
     public static final String VIDEO_PREFIX = "video";
+    public static final String FILE_PART_NAME = "file";
+    public static final int UPLOAD_PART_SIZE = 8 * 1024 * 1024;    // S3 멀티파트 최소 크기(5MB) 이상
+    public static final int MAX_CONCURRENT_PART_UPLOADS = 4;
+    public static final int MAX_REQUEST_PART_COUNT = 10;
+    public static final int MAX_PART_HEADER_SIZE = 1024;
 
 }
@@ -0,0 +1,92 @@
+package sixgaezzang.sidepeek.media.util.component;
+
+import static sixgaezzang.sidepeek.media.exception.message.MediaErrorMessage.CANNOT_READ_FILE;
+import static sixgaezzang.sidepeek.media.exception.message.MediaErrorMessage.FILE_IS_EMPTY;
+import static sixgaezzang.sidepeek.media.exception.message.MediaErrorMessage.REQUEST_IS_TOO_LARGE;
+import static sixgaezzang.sidepeek.media.util.MediaConstant.MAX_PART_HEADER_SIZE;
+import static sixgaezzang.sidepeek.media.util.MediaConstant.MAX_REQUEST_PART_COUNT;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.fileupload2.core.DiskFileItem;
+import org.apache.commons.fileupload2.core.DiskFileItemFactory;
+import org.apache.commons.fileupload2.core.FileItemInput;
+import org.apache.commons.fileupload2.core.FileItemInputIterator;
+import org.apache.commons.fileupload2.core.FileUploadSizeException;
+import org.apache.commons.fileupload2.jakarta.servlet6.JakartaServletFileUpload;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+/**
+ * multipart/form-data 요청 본문을 직접 읽어 파일 파트의 스트림을 넘겨주는 컴포넌트.
+ * <p>
+ * 서블릿 컨테이너가 파일을 임시 파일이나 메모리에 먼저 저장하지 않도록, 멀티파트 리졸버는 지연 파싱으로 두고 이 컴포넌트가 요청
+ * 스트림에서 파트 경계를 따라 바로 읽는다. 파일 파트의 스트림은 {@code handler} 안에서만 유효하다.
+ * <p>
+ * 컨테이너의 멀티파트 설정을 거치지 않으므로 요청 전체 용량({@code spring.servlet.multipart.max-request-size}), 파트 수, 파트
+ * 헤더 크기를 파서에 직접 제한한다. 파일 하나의 용량은 스트림을 읽는 쪽에서 검증한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MultipartStreamReader {
+
+    private final MultipartProperties multipartProperties;
+
+    /**
+     * 요청에서 {@code partName} 파일 파트를 찾아 그 스트림으로 {@code handler}를 실행하는 메서드
+     *
+     * @param request  multipart/form-data 요청
+     * @param partName 파일 파트 이름
+     * @param handler  파일 스트림 처리 함수
+     * @return {@code handler}의 결과
+     */
+    public <T> T readFile(HttpServletRequest request, String partName, FilePartHandler<T> handler) {
+        Assert.isTrue(JakartaServletFileUpload.isMultipartContent(request), FILE_IS_EMPTY);
+
+        try {
+            FileItemInputIterator parts = createFileUpload().getItemIterator(request);
+
+            for (int partCount = 1; parts.hasNext(); partCount++) {
+                // 스트리밍 API는 파서의 파일 수 제한을 적용하지 않으므로 읽은 파트 수를 직접 센다
+                Assert.isTrue(partCount <= MAX_REQUEST_PART_COUNT, REQUEST_IS_TOO_LARGE);
+
+                FileItemInput part = parts.next();
+                if (!part.isFormField() && partName.equals(part.getFieldName())) {
+                    try (InputStream inputStream = part.getInputStream()) {
+                        return handler.handle(part.getName(), part.getContentType(), inputStream);
+                    }
+                }
+            }
+        } catch (FileUploadSizeException e) {
+            throw new IllegalArgumentException(REQUEST_IS_TOO_LARGE, e);
+        } catch (IOException e) {
+            throw new IllegalStateException(CANNOT_READ_FILE, e);
+        } catch (IllegalStateException e) {
+            if (e.getCause() instanceof FileUploadSizeException cause) {    // 파일을 읽는 도중 요청 용량을 넘음
+                throw new IllegalArgumentException(REQUEST_IS_TOO_LARGE, cause);
+            }
+            throw e;
+        }
+
+        throw new IllegalArgumentException(FILE_IS_EMPTY);
+    }
+
+    private JakartaServletFileUpload<DiskFileItem, DiskFileItemFactory> createFileUpload() {
+        JakartaServletFileUpload<DiskFileItem, DiskFileItemFactory> fileUpload = new JakartaServletFileUpload<>();
+        fileUpload.setMaxSize(multipartProperties.getMaxRequestSize().toBytes());
+        fileUpload.setMaxFileCount(MAX_REQUEST_PART_COUNT);
+        fileUpload.setMaxPartHeaderSize(MAX_PART_HEADER_SIZE);
+        return fileUpload;
+    }
+
+    @FunctionalInterface
+    public interface FilePartHandler<T> {
+
+        T handle(String fileName, String contentType, InputStream inputStream);
+
+    }
+
+}
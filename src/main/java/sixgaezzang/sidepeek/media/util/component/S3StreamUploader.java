@@ -0,0 +1,219 @@
+package sixgaezzang.sidepeek.media.util.component;
+
+import static sixgaezzang.sidepeek.media.exception.message.MediaErrorMessage.CANNOT_READ_FILE;
+import static sixgaezzang.sidepeek.media.exception.message.MediaErrorMessage.FILE_IS_EMPTY;
+import static sixgaezzang.sidepeek.media.exception.message.MediaErrorMessage.UPLOAD_TIMED_OUT;
+import static sixgaezzang.sidepeek.media.util.MediaConstant.MAX_CONCURRENT_PART_UPLOADS;
+import static sixgaezzang.sidepeek.media.util.MediaConstant.UPLOAD_PART_SIZE;
+import static sixgaezzang.sidepeek.media.util.validation.MediaValidator.validateFileSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+import org.springframework.util.unit.DataSize;
+import sixgaezzang.sidepeek.config.properties.S3Properties;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+/**
+ * 입력 스트림을 디스크에 저장하지 않고 S3에 올리는 컴포넌트.
+ * <p>
+ * 스트림을 {@link sixgaezzang.sidepeek.media.util.MediaConstant#UPLOAD_PART_SIZE} 단위로 읽어 멀티파트 업로드의 파트로 병렬
+ * 전송하고, 한 파트보다 작은 파일은 한 번의 PutObject로 올린다. 동시에 전송 중인 파트 수를 제한하여 S3가 느리면 스트림을 더 읽지
+ * 않으므로, 메모리에는 최대 (동시 전송 수 + 1)개의 파트만 남고 클라이언트에는 TCP 수준의 배압이 걸린다.
+ * <p>
+ * 업로드하는 동안 요청 스레드는 S3 응답을 기다리며 막힌다. 가상 스레드를 사용하지 않는 기본 설정에서는 이 시간만큼 서블릿 작업
+ * 스레드를 점유하므로, 모든 S3 호출은 {@code aws.s3.api-call-timeout} 안에 끝나도록 클라이언트에 설정하고 파트 전송 자리를 기다리는
+ * 시간도 같은 값으로 제한한다. 이 제한은 S3 쪽 지연만 다루며, 클라이언트가 본문을 느리게 보내는 경우는 서블릿 컨테이너의 읽기 시간
+ * 제한에 맡긴다.
+ */
+@Slf4j
+@Component
+public class S3StreamUploader {
+
+    private final S3AsyncClient s3AsyncClient;
+    private final Duration uploadTimeout;
+
+    public S3StreamUploader(S3AsyncClient s3AsyncClient, S3Properties s3Properties) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.uploadTimeout = s3Properties.apiCallTimeout();
+    }
+
+    /**
+     * 스트림을 끝까지 읽어 S3에 업로드하는 메서드. 업로드 도중 실패하거나 최대 용량을 넘으면 멀티파트 업로드를 취소한다.
+     *
+     * @param bucket      버킷
+     * @param key         객체 키
+     * @param contentType Content-Type
+     * @param inputStream 업로드할 파일의 스트림
+     * @param maxFileSize 최대 파일 용량
+     * @return 업로드한 바이트 수
+     */
+    public long upload(String bucket, String key, String contentType, InputStream inputStream,
+        DataSize maxFileSize) {
+        byte[] firstPart = readPart(inputStream);
+        Assert.isTrue(firstPart.length > 0, FILE_IS_EMPTY);
+        validateFileSize(firstPart.length, maxFileSize);
+
+        if (firstPart.length < UPLOAD_PART_SIZE) {
+            PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .build();
+            join(s3AsyncClient.putObject(request, AsyncRequestBody.fromBytes(firstPart)));
+            return firstPart.length;
+        }
+
+        CreateMultipartUploadRequest request = CreateMultipartUploadRequest.builder()
+            .bucket(bucket)
+            .key(key)
+            .contentType(contentType)
+            .build();
+        MultipartUpload upload = new MultipartUpload(bucket, key,
+            join(s3AsyncClient.createMultipartUpload(request)).uploadId());
+        List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+
+        try {
+            return uploadParts(upload, parts, firstPart, inputStream, maxFileSize);
+        } catch (RuntimeException e) {
+            abort(upload, parts);
+            throw e;
+        }
+    }
+
+    private long uploadParts(MultipartUpload upload, List<CompletableFuture<CompletedPart>> parts, byte[] firstPart,
+        InputStream inputStream, DataSize maxFileSize) {
+        Semaphore inFlightParts = new Semaphore(MAX_CONCURRENT_PART_UPLOADS);
+        long uploadedBytes = 0;
+        byte[] part = firstPart;
+
+        for (int partNumber = 1; part.length > 0; partNumber++) {
+            uploadedBytes += part.length;
+            validateFileSize(uploadedBytes, maxFileSize);
+
+            acquire(inFlightParts);    // 전송 중인 파트가 끝날 때까지 스트림을 더 읽지 않음
+            parts.stream()
+                .filter(CompletableFuture::isCompletedExceptionally)
+                .findFirst()
+                .ifPresent(this::join);    // 이미 실패한 파트가 있으면 나머지를 읽지 않고 중단
+            CompletableFuture<CompletedPart> completedPart = uploadPart(upload, partNumber, part);
+            completedPart.whenComplete((result, error) -> inFlightParts.release());
+            parts.add(completedPart);
+
+            part = readPart(inputStream);
+        }
+
+        join(CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new)));
+        List<CompletedPart> completedParts = parts.stream()
+            .map(CompletableFuture::join)
+            .sorted(Comparator.comparing(CompletedPart::partNumber))
+            .toList();
+
+        join(s3AsyncClient.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+            .bucket(upload.bucket())
+            .key(upload.key())
+            .uploadId(upload.uploadId())
+            .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+            .build()));
+        return uploadedBytes;
+    }
+
+    private void acquire(Semaphore inFlightParts) {
+        try {
+            if (!inFlightParts.tryAcquire(uploadTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw ApiCallTimeoutException.builder().message(UPLOAD_TIMED_OUT).build();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(CANNOT_READ_FILE, e);
+        }
+    }
+
+    private CompletableFuture<CompletedPart> uploadPart(MultipartUpload upload, int partNumber, byte[] part) {
+        UploadPartRequest request = UploadPartRequest.builder()
+            .bucket(upload.bucket())
+            .key(upload.key())
+            .uploadId(upload.uploadId())
+            .partNumber(partNumber)
+            .contentLength((long) part.length)
+            .build();
+
+        return s3AsyncClient.uploadPart(request, AsyncRequestBody.fromBytes(part))
+            .thenApply(response -> CompletedPart.builder()
+                .partNumber(partNumber)
+                .eTag(response.eTag())
+                .build());
+    }
+
+    /**
+     * 멀티파트 업로드를 취소하는 메서드. 취소한 뒤에 완료된 파트는 업로드에 남아 저장 용량을 차지하므로, 전송 중인 파트가 모두 끝난
+     * 뒤에 취소한다. 각 파트는 클라이언트의 호출 시간 제한 안에 끝나므로 기다리는 시간도 그만큼으로 제한된다. 취소에 실패해도 원래 예외를
+     * 가리지 않도록 로그만 남긴다.
+     */
+    private void abort(MultipartUpload upload, List<CompletableFuture<CompletedPart>> parts) {
+        AbortMultipartUploadRequest request = AbortMultipartUploadRequest.builder()
+            .bucket(upload.bucket())
+            .key(upload.key())
+            .uploadId(upload.uploadId())
+            .build();
+
+        CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+            .handle((result, error) -> null)    // 실패한 파트가 있어도 나머지 파트가 끝나기를 기다림
+            .thenCompose(ignored -> s3AsyncClient.abortMultipartUpload(request))
+            .handle((response, error) -> {
+                if (error != null) {
+                    log.warn("멀티파트 업로드를 취소하지 못했습니다. key={}, uploadId={}", upload.key(), upload.uploadId(),
+                        error);
+                }
+                return null;
+            })
+            .join();
+    }
+
+    private byte[] readPart(InputStream inputStream) {
+        try {
+            return inputStream.readNBytes(UPLOAD_PART_SIZE);
+        } catch (IOException e) {
+            throw new IllegalStateException(CANNOT_READ_FILE, e);
+        }
+    }
+
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {    // S3Exception 등 원래 예외를 그대로 던져 예외 핸들러가 처리하도록 함
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record MultipartUpload(
+        String bucket,
+        String key,
+        String uploadId
+    ) {
+
+    }
+
+}
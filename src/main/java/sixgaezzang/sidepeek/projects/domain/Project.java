@@ -80,13 +80,14 @@ public class Project extends BaseTimeEntity {
     @Column(name = "troubleshooting", columnDefinition = "TEXT")
     private String troubleshooting;
 
-    @Column(name = "like_count", nullable = false)
+    // 카운터는 ProjectCounterRepository의 증감 UPDATE로만 바뀌도록, 엔티티를 수정할 때 읽은 값을 다시 쓰지 않음
+    @Column(name = "like_count", nullable = false, updatable = false)
     private Long likeCount;
 
-    @Column(name = "view_count", nullable = false)
+    @Column(name = "view_count", nullable = false, updatable = false)
     private Long viewCount;
 
-    @Column(name = "comment_count", nullable = false)
+    @Column(name = "comment_count", nullable = false, updatable = false)
     private Long commentCount;
 
     @Column(name = "deleted_at")
@@ -122,26 +123,6 @@ public class Project extends BaseTimeEntity {
         this.commentCount = 0L;
     }
 
-    public void increaseViewCount() {
-        this.viewCount++;
-    }
-
-    public void increaseLikeCount() {
-        this.likeCount++;
-    }
-
-    public void decreaseLikeCount() {
-        this.likeCount--;
-    }
-
-    public void increaseCommentCount() {
-        this.commentCount++;
-    }
-
-    public void decreaseCommentCount(long commentCount) {
-        this.commentCount -= commentCount;
-    }
-
     public void softDelete(LocalDateTime now) {
         if (Objects.isNull(this.deletedAt)) {
             this.deletedAt = now;
@@ -8,8 +8,6 @@ import static sixgaezzang.sidepeek.skill.util.validation.SkillValidator.validate
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -19,6 +17,7 @@ import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import sixgaezzang.sidepeek.common.domain.BlockSequenceId;
 import sixgaezzang.sidepeek.skill.domain.Skill;
 
 @Entity
@@ -29,7 +28,7 @@ import sixgaezzang.sidepeek.skill.domain.Skill;
 public class ProjectSkill {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @BlockSequenceId(sequenceTable = "project_skill_id_sequence")
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -51,6 +50,14 @@ public class ProjectSkill {
         this.category = category;
     }
 
+    public void update(Skill skill, String category) {
+        validateSkill(skill);
+        validateCategory(category);
+
+        this.skill = skill;
+        this.category = category;
+    }
+
     private void validateConstructorArguments(Project project, Skill skill, String category) {
         validateProject(project);
         validateSkill(skill);
@@ -0,0 +1,10 @@
+package sixgaezzang.sidepeek.projects.domain.event;
+
+/**
+ * 프로젝트 상세 조회 결과(본문, 멤버, 기술 스택, 이미지, 댓글)가 변경되었음을 알리는 이벤트.
+ *
+ * @param projectId 변경된 프로젝트 식별자
+ */
+public record ProjectChangedEvent(Long projectId) {
+
+}
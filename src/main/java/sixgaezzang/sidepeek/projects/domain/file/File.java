@@ -42,6 +42,12 @@ public class File {
         this.url = url;
     }
 
+    public void update(String url) {
+        validateFileUrl(url);
+
+        this.url = url;
+    }
+
     private void validateConstructorArguments(Project project, String url) {
         validateProject(project);
         validateFileUrl(url);
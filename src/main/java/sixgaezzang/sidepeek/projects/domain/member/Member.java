@@ -62,6 +62,15 @@ public class Member {
         this.user = user;
     }
 
+    public void update(User user, String role, String nickname) {
+        validateRole(role);
+        validateNickname(nickname);
+
+        this.user = user;
+        this.role = role;
+        this.nickname = nickname;
+    }
+
     private void validateConstructorRequiredArguments(Project project, String role, String nickname) {
         validateProject(project);
         validateRole(role);
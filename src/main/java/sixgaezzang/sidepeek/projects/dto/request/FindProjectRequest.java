@@ -1,22 +1,31 @@
 package sixgaezzang.sidepeek.projects.dto.request;
 
+import static sixgaezzang.sidepeek.common.doc.description.ProjectDescription.CURSOR_DESCRIPTION;
 import static sixgaezzang.sidepeek.common.doc.description.ProjectDescription.IS_RELEASED_DESCRIPTION;
 import static sixgaezzang.sidepeek.common.doc.description.ProjectDescription.LAST_ORDER_COUNT_DESCRIPTION;
 import static sixgaezzang.sidepeek.common.doc.description.ProjectDescription.LAST_PROJECT_ID_DESCRIPTION;
 import static sixgaezzang.sidepeek.common.doc.description.ProjectDescription.PAGE_SIZE_DESCRIPTION;
 import static sixgaezzang.sidepeek.common.doc.description.ProjectDescription.SEARCH_DESCRIPTION;
 import static sixgaezzang.sidepeek.common.doc.description.ProjectDescription.SKILL_DESCRIPTION;
+import static sixgaezzang.sidepeek.common.doc.description.ProjectDescription.SKIP_COUNT_DESCRIPTION;
 import static sixgaezzang.sidepeek.common.doc.description.ProjectDescription.SORT_DESCRIPTION;
+import static sixgaezzang.sidepeek.projects.exception.message.ProjectErrorMessage.CURSOR_IS_INVALID;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.DEFAULT_PAGE_SIZE;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.annotation.Nullable;
 import java.util.List;
+import java.util.Objects;
 import lombok.Builder;
 
 @Schema(description = "프로젝트 조회 시 필터 및 페이지네이션 정보")
 @Builder
 public record FindProjectRequest(
     // Cursor Based Pagination
+    @Schema(description = CURSOR_DESCRIPTION)
+    @Nullable
+    String cursor,
+
     @Schema(description = LAST_PROJECT_ID_DESCRIPTION)
     @Nullable
     Long lastProjectId,
@@ -46,19 +55,51 @@ public record FindProjectRequest(
     // Search
     @Schema(description = SEARCH_DESCRIPTION)
     @Nullable
-    String search
+    String search,
+
+    // Count
+    @Schema(description = SKIP_COUNT_DESCRIPTION)
+    @Nullable
+    Boolean skipCount
 ) {
 
-    public FindProjectRequest(Long lastProjectId, Long lastOrderCount,
+    public FindProjectRequest(String cursor, Long lastProjectId, Long lastOrderCount,
         Integer pageSize, SortType sort,
-        Boolean isReleased, List<String> skill, String search) {
+        Boolean isReleased, List<String> skill, String search, Boolean skipCount) {
+        this.cursor = cursor;
         this.lastProjectId = lastProjectId;
         this.lastOrderCount = lastOrderCount;
-        this.pageSize = (pageSize != null) ? pageSize : 24;
+        this.pageSize = (pageSize != null) ? pageSize : DEFAULT_PAGE_SIZE;
         this.sort = (sort != null) ? sort : SortType.createdAt;
         this.isReleased = (isReleased != null) ? isReleased : false;
         this.skill = skill;
         this.search = search;
+        this.skipCount = (skipCount != null) ? skipCount : false;
+    }
+
+    public boolean isFirstPage() {
+        return cursor == null && lastProjectId == null && lastOrderCount == null;
+    }
+
+    /**
+     * 다음 페이지 시작 위치를 반환하는 메서드. {@code cursor}가 없으면 이전 버전의 마지막 프로젝트 정보로 만든다.
+     *
+     * @return 다음 페이지 시작 위치, 첫 페이지면 {@code null}
+     */
+    public ProjectCursor toCursor() {
+        if (Objects.nonNull(cursor)) {
+            ProjectCursor decoded = ProjectCursor.decode(cursor);
+            if (decoded.sort() != sort) {
+                throw new IllegalArgumentException(CURSOR_IS_INVALID);
+            }
+            return decoded;
+        }
+
+        if (Objects.isNull(lastProjectId) && Objects.isNull(lastOrderCount)) {
+            return null;
+        }
+        return new ProjectCursor(sort, sort == SortType.createdAt ? null : lastOrderCount, null,
+            lastProjectId);
     }
 
 }
@@ -0,0 +1,43 @@
+package sixgaezzang.sidepeek.projects.dto.request;
+
+import static sixgaezzang.sidepeek.common.doc.description.UserDescription.PROJECTS_CURSOR_PAGE_SIZE_DESCRIPTION;
+import static sixgaezzang.sidepeek.common.doc.description.UserDescription.PROJECTS_LAST_PROJECT_ID_DESCRIPTION;
+import static sixgaezzang.sidepeek.common.doc.description.UserDescription.PROJECTS_TYPE_DESCRIPTION;
+import static sixgaezzang.sidepeek.projects.exception.message.ProjectErrorMessage.USER_PROJECT_SEARCH_TYPE_IS_NULL;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.DEFAULT_PAGE_SIZE;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.MAX_PAGE_SIZE;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import sixgaezzang.sidepeek.projects.domain.UserProjectSearchType;
+
+@Schema(description = "회원 프로젝트 조회 시 조회 타입 및 페이지네이션 정보")
+@Builder
+public record FindUserProjectRequest(
+    @Schema(description = PROJECTS_TYPE_DESCRIPTION, example = "JOINED")
+    @NotNull(message = USER_PROJECT_SEARCH_TYPE_IS_NULL)
+    UserProjectSearchType type,
+
+    // Cursor Based Pagination
+    @Schema(description = PROJECTS_LAST_PROJECT_ID_DESCRIPTION)
+    @Nullable
+    Long lastProjectId,
+
+    @Schema(description = PROJECTS_CURSOR_PAGE_SIZE_DESCRIPTION)
+    @Nullable
+    @Min(value = 1, message = "페이지 크기는 1보다 작을 수 없습니다.")
+    @Max(value = MAX_PAGE_SIZE, message = "페이지 크기는 " + MAX_PAGE_SIZE + "보다 클 수 없습니다.")
+    Integer pageSize
+) {
+
+    public FindUserProjectRequest(UserProjectSearchType type, Long lastProjectId, Integer pageSize) {
+        this.type = type;
+        this.lastProjectId = lastProjectId;
+        this.pageSize = (pageSize != null) ? pageSize : DEFAULT_PAGE_SIZE;
+    }
+
+}
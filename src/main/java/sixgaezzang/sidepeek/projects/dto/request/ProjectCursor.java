@@ -0,0 +1,74 @@
+package sixgaezzang.sidepeek.projects.dto.request;
+
+import static sixgaezzang.sidepeek.projects.exception.message.ProjectErrorMessage.CURSOR_IS_INVALID;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+import sixgaezzang.sidepeek.projects.domain.Project;
+
+/**
+ * 프로젝트 목록의 다음 페이지 시작 위치.
+ * <p>
+ * 마지막으로 보여진 프로젝트의 (정렬 값, 식별자)를 담으며, 정렬 값은 좋아요순/조회수순이면 좋아요수/조회수, 최신순이면 생성 일시다.
+ * 클라이언트에는 내용을 알 수 없도록 Base64(URL-safe)로 인코딩한 문자열로 전달한다.
+ *
+ * @param sort       정렬 조건
+ * @param orderCount 좋아요수/조회수(최신순이면 null)
+ * @param createdAt  생성 일시(좋아요순/조회수순이거나 이전 버전의 커서면 null)
+ * @param projectId  프로젝트 식별자
+ */
+public record ProjectCursor(
+    SortType sort,
+    Long orderCount,
+    LocalDateTime createdAt,
+    Long projectId
+) {
+
+    private static final String DELIMITER = "|";
+    private static final String NULL_VALUE = "";
+
+    public ProjectCursor {
+        if (Objects.isNull(sort) || Objects.isNull(projectId)
+            || (sort != SortType.createdAt && Objects.isNull(orderCount))) {
+            throw new IllegalArgumentException(CURSOR_IS_INVALID);
+        }
+    }
+
+    public static ProjectCursor of(SortType sort, Project project) {
+        return switch (sort) {
+            case like -> new ProjectCursor(sort, project.getLikeCount(), null, project.getId());
+            case view -> new ProjectCursor(sort, project.getViewCount(), null, project.getId());
+            default -> new ProjectCursor(sort, null, project.getCreatedAt(), project.getId());
+        };
+    }
+
+    public static ProjectCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = decoded.split("\\" + DELIMITER, -1);
+
+            return new ProjectCursor(
+                SortType.valueOf(values[0]),
+                values[1].isEmpty() ? null : Long.valueOf(values[1]),
+                values[2].isEmpty() ? null : LocalDateTime.parse(values[2]),
+                Long.valueOf(values[3])
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException(CURSOR_IS_INVALID);
+        }
+    }
+
+    public String encode() {
+        String value = String.join(DELIMITER,
+            sort.name(),
+            Objects.isNull(orderCount) ? NULL_VALUE : orderCount.toString(),
+            Objects.isNull(createdAt) ? NULL_VALUE : createdAt.toString(),
+            projectId.toString());
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
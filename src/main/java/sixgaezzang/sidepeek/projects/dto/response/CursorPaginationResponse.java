@@ -1,29 +1,41 @@
 package sixgaezzang.sidepeek.projects.dto.response;
 
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.MAX_SEARCH_RESULT_COUNT;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.Builder;
 
 @Schema(description = "커서 기반 페이지네이션 결과 응답")
-@Builder
+@Builder(toBuilder = true)
 public record CursorPaginationResponse<T>(
 
     @Schema(description = "프로젝트 목록, 없으면 빈 배열 반환")
     List<T> content,
 
-    @Schema(description = "전체 데이터 개수")
-    long totalElements,
+    @Schema(description = "전체 데이터 개수, 개수 조회를 생략한 경우 null", nullable = true)
+    Long totalElements,
+
+    @Schema(description = "전체 데이터 개수가 캐시된 근사값인지 여부", example = "false")
+    boolean isTotalApproximate,
+
+    @Schema(description = "검색 결과가 관련도 상위 " + MAX_SEARCH_RESULT_COUNT
+        + "개로 잘려 목록과 전체 데이터 개수에서 나머지가 빠졌는지 여부", example = "false")
+    boolean isSearchTruncated,
 
     @Schema(description = "현재 페이지의 데이터 개수")
     int numberOfElements,
 
     @Schema(description = "다음 페이지 존재 여부")
-    boolean hasNext
+    boolean hasNext,
+
+    @Schema(description = "다음 페이지 조회 시 전달할 커서, 다음 페이지가 없거나 커서를 지원하지 않으면 null", nullable = true)
+    String nextCursor
 ) {
 
     public static <T> CursorPaginationResponse from(List<T> projects,
-        long totalElements,
+        Long totalElements,
         boolean hasNext) {
         return CursorPaginationResponse.builder()
             .content(new ArrayList<>(projects))
@@ -33,4 +45,23 @@ public record CursorPaginationResponse<T>(
             .build();
     }
 
+    public CursorPaginationResponse<T> withNextCursor(String nextCursor) {
+        return this.toBuilder()
+            .nextCursor(nextCursor)
+            .build();
+    }
+
+    public CursorPaginationResponse<T> withSearchTruncated(boolean isSearchTruncated) {
+        return this.toBuilder()
+            .isSearchTruncated(isSearchTruncated)
+            .build();
+    }
+
+    public CursorPaginationResponse<T> withTotalElements(Long totalElements, boolean isTotalApproximate) {
+        return this.toBuilder()
+            .totalElements(totalElements)
+            .isTotalApproximate(isTotalApproximate)
+            .build();
+    }
+
 }
@@ -1,8 +1,14 @@
 package sixgaezzang.sidepeek.projects.dto.response;
 
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.List;
+import java.util.Map;
 import lombok.Builder;
+import sixgaezzang.sidepeek.projects.domain.member.Member;
 import sixgaezzang.sidepeek.users.dto.response.UserSummary;
 
 @Schema(description = "프로젝트 멤버 정보")
@@ -21,4 +27,15 @@ public record MemberSummary(
             .build();
     }
 
+    public static List<MemberSummary> groupByRole(List<Member> members) {
+        Map<String, List<UserSummary>> memberMap = members.stream()
+            .collect(groupingBy(Member::getRole,
+                mapping(member -> UserSummary.of(member.getUser(), member.getNickname()),
+                    toList())));
+
+        return memberMap.entrySet().stream()
+            .map(entry -> MemberSummary.of(entry.getKey(), entry.getValue()))
+            .toList();
+    }
+
 }
@@ -0,0 +1,48 @@
+package sixgaezzang.sidepeek.projects.dto.response;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import sixgaezzang.sidepeek.comments.dto.response.CommentResponse;
+
+/**
+ * 로그인 사용자와 관계없이 동일한 프로젝트 상세 조회 결과. 캐시에 저장되는 단위이다.
+ * <p>
+ * 사용자별 값(좋아요 식별자, 댓글 작성자 여부)과 자주 바뀌는 카운터(조회수, 좋아요 수, 댓글 수)는 요청마다
+ * {@link #toResponse}로 덮어쓴다.
+ *
+ * @param response        사용자별 값이 비어 있는 상세 조회 결과
+ * @param commentOwnerIds 댓글/대댓글 식별자별 작성자 식별자
+ */
+public record ProjectDetailSnapshot(
+    ProjectResponse response,
+    Map<Long, Long> commentOwnerIds
+) {
+
+    public ProjectResponse toResponse(Long loginId, Long viewCount, Long likeCount, Long commentCount,
+        Long likeId) {
+        List<CommentResponse> comments = response.comments().stream()
+            .map(comment -> comment.toBuilder()
+                .isOwner(isOwner(comment.id(), loginId))
+                .replies(comment.replies().stream()
+                    .map(reply -> reply.toBuilder()
+                        .isOwner(isOwner(reply.id(), loginId))
+                        .build())
+                    .toList())
+                .build())
+            .toList();
+
+        return response.toBuilder()
+            .viewCount(viewCount)
+            .likeCount(likeCount)
+            .commentCount(commentCount)
+            .comments(comments)
+            .likeId(likeId)
+            .build();
+    }
+
+    private boolean isOwner(Long commentId, Long loginId) {
+        return Objects.nonNull(loginId) && Objects.equals(commentOwnerIds.get(commentId), loginId);
+    }
+
+}
@@ -9,7 +9,7 @@ import sixgaezzang.sidepeek.comments.dto.response.CommentResponse;
 import sixgaezzang.sidepeek.projects.domain.Project;
 
 @Schema(description = "프로젝트 상세 조회 응답")
-@Builder
+@Builder(toBuilder = true)
 public record ProjectResponse(
     @Schema(description = "프로젝트 식별자", example = "1")
     Long id,
@@ -94,4 +94,11 @@ public record ProjectResponse(
             .build();
     }
 
+    public ProjectResponse withPendingCounts(long pendingViewCount, long pendingLikeCount) {
+        return this.toBuilder()
+            .viewCount(viewCount + pendingViewCount)
+            .likeCount(likeCount + pendingLikeCount)
+            .build();
+    }
+
 }
@@ -1,8 +1,14 @@
 package sixgaezzang.sidepeek.projects.dto.response;
 
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.List;
+import java.util.Map;
 import lombok.Builder;
+import sixgaezzang.sidepeek.projects.domain.ProjectSkill;
 import sixgaezzang.sidepeek.skill.dto.response.SkillResponse;
 
 @Schema(description = "프로젝트 기술 스택 정보")
@@ -21,4 +27,15 @@ public record ProjectSkillSummary(
             .build();
     }
 
+    public static List<ProjectSkillSummary> groupByCategory(List<ProjectSkill> skills) {
+        Map<String, List<SkillResponse>> skillMap = skills.stream()
+            .collect(groupingBy(ProjectSkill::getCategory,
+                mapping(skill -> SkillResponse.from(skill.getSkill()),
+                    toList())));
+
+        return skillMap.entrySet().stream()
+            .map(entry -> ProjectSkillSummary.of(entry.getKey(), entry.getValue()))
+            .toList();
+    }
+
 }
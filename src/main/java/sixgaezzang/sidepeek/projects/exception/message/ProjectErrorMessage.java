@@ -58,4 +58,8 @@ public final class ProjectErrorMessage {
     
     // Search Type
     public static final String USER_PROJECT_SEARCH_TYPE_IS_INVALID = "유효하지 않은 프로젝트 검색 타입입니다.";
+    public static final String USER_PROJECT_SEARCH_TYPE_IS_NULL = "프로젝트 검색 타입을 입력해주세요.";
+
+    // Cursor
+    public static final String CURSOR_IS_INVALID = "유효하지 않은 커서입니다.";
 }
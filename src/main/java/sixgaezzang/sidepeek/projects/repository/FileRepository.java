@@ -7,10 +7,6 @@ import sixgaezzang.sidepeek.projects.domain.file.File;
 
 public interface FileRepository extends JpaRepository<File, Long> {
 
-    List<File> findAllByProject(Project project);
-
-    boolean existsByProject(Project project);
-
-    void deleteAllByProject(Project project);
+    List<File> findAllByProjectOrderById(Project project);
 
 }
@@ -1,15 +1,14 @@
 package sixgaezzang.sidepeek.projects.repository;
 
 import java.util.List;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import sixgaezzang.sidepeek.projects.domain.Project;
 import sixgaezzang.sidepeek.projects.domain.ProjectSkill;
 
 public interface ProjectSkillRepository extends JpaRepository<ProjectSkill, Long> {
 
-    List<ProjectSkill> findAllByProject(Project project);
+    @EntityGraph(attributePaths = "skill")
+    List<ProjectSkill> findAllByProjectOrderById(Project project);
 
-    void deleteAllByProject(Project project);
-
-    boolean existsByProject(Project project);
 }
@@ -0,0 +1,146 @@
+package sixgaezzang.sidepeek.projects.repository.project;
+
+import static sixgaezzang.sidepeek.like.domain.QLike.like;
+import static sixgaezzang.sidepeek.projects.domain.QProject.project;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.COUNTER_FLUSH_CHUNK_SIZE;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Repository;
+import sixgaezzang.sidepeek.projects.domain.Project;
+
+/**
+ * 프로젝트의 조회수, 좋아요 수, 댓글 수를 DB에서 원자적으로 증감하는 저장소.
+ * <p>
+ * 엔티티를 읽어 값을 바꾼 뒤 저장하면 동시에 들어온 요청의 증감분이 유실되므로, 모든 카운터는
+ * {@code UPDATE project SET x = x + :delta WHERE id = :id} 형태로만 반영한다. 엔티티의 카운터 컬럼은 수정할 수 없게 매핑되어
+ * 있어 프로젝트를 수정하더라도 이 증감분을 덮어쓰지 않는다.
+ */
+@Repository
+public class ProjectCounterRepository {
+
+    private final EntityManager em;
+    private final JPAQueryFactory queryFactory;
+
+    public ProjectCounterRepository(EntityManager em) {
+        this.em = em;
+        this.queryFactory = new JPAQueryFactory(em);
+    }
+
+    public long increaseViewCounts(Map<Long, Long> viewCountDeltas) {
+        return increaseCounts(project.viewCount, viewCountDeltas);
+    }
+
+    public long increaseLikeCounts(Map<Long, Long> likeCountDeltas) {
+        return increaseCounts(project.likeCount, likeCountDeltas);
+    }
+
+    /**
+     * 좋아요 수를 {@code likes} 테이블의 행 수로 다시 계산하는 메서드. 증감분 반영이 유실되어 어긋난 값을 바로잡을 때 사용한다.
+     *
+     * @param projectIds 다시 계산할 프로젝트 식별자 목록
+     * @return 수정된 프로젝트 수
+     */
+    public long recountLikeCounts(Collection<Long> projectIds) {
+        List<Long> ids = List.copyOf(projectIds);
+        long updatedCount = 0L;
+
+        for (int from = 0; from < ids.size(); from += COUNTER_FLUSH_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + COUNTER_FLUSH_CHUNK_SIZE, ids.size()));
+            updatedCount += recountLikeCounts(project.id.in(chunk));
+        }
+        return updatedCount;
+    }
+
+    /**
+     * 제외할 프로젝트를 뺀 모든 프로젝트의 좋아요 수를 {@code likes} 테이블의 행 수로 다시 계산하는 메서드
+     *
+     * @param excludedProjectIds 다시 계산하지 않을 프로젝트 식별자 목록
+     * @return 수정된 프로젝트 수
+     */
+    public long recountAllLikeCounts(Collection<Long> excludedProjectIds) {
+        return recountLikeCounts(excludedProjectIds.isEmpty() ? null : project.id.notIn(excludedProjectIds));
+    }
+
+    private long recountLikeCounts(BooleanExpression target) {
+        return queryFactory
+            .update(project)
+            .set(project.likeCount, JPAExpressions
+                .select(like.count())
+                .from(like)
+                .where(like.project.id.eq(project.id)))
+            .where(target)
+            .execute();
+    }
+
+    public long increaseCommentCount(Long projectId, long count) {
+        return increaseCount(project.commentCount, projectId, count);
+    }
+
+    public long decreaseCommentCount(Long projectId, long count) {
+        return increaseCount(project.commentCount, projectId, -count);
+    }
+
+    private long increaseCount(NumberPath<Long> countPath, Long projectId, long delta) {
+        em.flush();
+
+        long updatedCount = queryFactory
+            .update(project)
+            .set(countPath, countPath.add(delta))
+            .where(project.id.eq(projectId))
+            .execute();
+
+        refreshIfLoaded(projectId);
+        return updatedCount;
+    }
+
+    /**
+     * 이미 읽은 프로젝트만 증감된 카운터로 다시 읽는다. 읽지 않은 프로젝트는 프록시만 만들고 조회하지 않는다.
+     */
+    private void refreshIfLoaded(Long projectId) {
+        Project loadedProject = em.getReference(Project.class, projectId);
+        if (Hibernate.isInitialized(loadedProject)) {
+            em.refresh(loadedProject);
+        }
+    }
+
+    private long increaseCounts(NumberPath<Long> countPath, Map<Long, Long> countDeltas) {
+        List<Map.Entry<Long, Long>> entries = List.copyOf(countDeltas.entrySet());
+        long updatedCount = 0L;
+
+        for (int from = 0; from < entries.size(); from += COUNTER_FLUSH_CHUNK_SIZE) {
+            List<Map.Entry<Long, Long>> chunk = entries.subList(from,
+                Math.min(from + COUNTER_FLUSH_CHUNK_SIZE, entries.size()));
+            updatedCount += increaseCountsOfChunk(countPath, chunk);
+        }
+        return updatedCount;
+    }
+
+    private long increaseCountsOfChunk(NumberPath<Long> countPath, List<Map.Entry<Long, Long>> chunk) {
+        // 프로젝트별 증가량을 CASE 식으로 묶어 UPDATE 한 번으로 반영합니다.
+        CaseBuilder.Cases<Long, NumberExpression<Long>> deltaCases = null;
+        for (Map.Entry<Long, Long> entry : chunk) {
+            BooleanExpression isTarget = project.id.eq(entry.getKey());
+            deltaCases = Objects.isNull(deltaCases)
+                ? new CaseBuilder().when(isTarget).then(entry.getValue())
+                : deltaCases.when(isTarget).then(entry.getValue());
+        }
+
+        return queryFactory
+            .update(project)
+            .set(countPath, countPath.add(deltaCases.otherwise(0L)))
+            .where(project.id.in(chunk.stream().map(Map.Entry::getKey).toList()))
+            .execute();
+    }
+
+}
@@ -0,0 +1,158 @@
+package sixgaezzang.sidepeek.projects.repository.project;
+
+import static sixgaezzang.sidepeek.comments.domain.QComment.comment;
+import static sixgaezzang.sidepeek.like.domain.QLike.like;
+import static sixgaezzang.sidepeek.projects.domain.QProject.project;
+import static sixgaezzang.sidepeek.projects.domain.QProjectSkill.projectSkill;
+import static sixgaezzang.sidepeek.projects.domain.file.QFile.file;
+import static sixgaezzang.sidepeek.projects.domain.member.QMember.member;
+import static sixgaezzang.sidepeek.skill.domain.QSkill.skill;
+import static sixgaezzang.sidepeek.users.domain.QUser.user;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Repository;
+import sixgaezzang.sidepeek.comments.domain.Comment;
+import sixgaezzang.sidepeek.comments.dto.response.CommentResponse;
+import sixgaezzang.sidepeek.comments.repository.CommentRepository;
+import sixgaezzang.sidepeek.projects.domain.Project;
+import sixgaezzang.sidepeek.projects.dto.response.MemberSummary;
+import sixgaezzang.sidepeek.projects.dto.response.OverviewImageSummary;
+import sixgaezzang.sidepeek.projects.dto.response.ProjectDetailSnapshot;
+import sixgaezzang.sidepeek.projects.dto.response.ProjectResponse;
+import sixgaezzang.sidepeek.projects.dto.response.ProjectSkillSummary;
+
+/**
+ * 프로젝트 상세 조회에 필요한 데이터를 댓글/멤버 수와 관계없이 일정한 수의 쿼리로 조회하는 읽기 전용 모델.
+ * <p>
+ * 사용자와 관계없는 스냅샷은 프로젝트, 레이아웃 이미지, 기술 스택(스킬 fetch join), 멤버(회원 fetch join),
+ * 댓글과 대댓글(작성자 fetch join)을 각각 한 번씩, 5번의 쿼리로 조회한다. 카운터와 로그인 사용자의 좋아요 식별자는
+ * 스냅샷 캐시 여부와 관계없이 요청마다 한 번의 쿼리로 조회한다.
+ */
+@Repository
+public class ProjectDetailReadModel {
+
+    private final JPAQueryFactory queryFactory;
+    private final CommentRepository commentRepository;
+
+    public ProjectDetailReadModel(EntityManager em, CommentRepository commentRepository) {
+        this.queryFactory = new JPAQueryFactory(em);
+        this.commentRepository = commentRepository;
+    }
+
+    public Optional<ProjectDetailSnapshot> loadSnapshot(Long projectId) {
+        Project foundProject = queryFactory
+            .selectFrom(project)
+            .where(project.id.eq(projectId))
+            .fetchOne();
+
+        if (Objects.isNull(foundProject)) {
+            return Optional.empty();
+        }
+
+        List<Comment> comments = commentRepository.findAllWithRepliesByProjectId(projectId);
+        ProjectResponse response = ProjectResponse.from(
+            foundProject,
+            findOverviewImages(projectId),
+            findTechStacks(projectId),
+            findMembers(projectId),
+            CommentResponse.listOf(comments, null),
+            null
+        );
+
+        return Optional.of(new ProjectDetailSnapshot(response, getCommentOwnerIds(comments)));
+    }
+
+    /**
+     * 스냅샷에 덮어쓸 카운터와 로그인 사용자의 좋아요 식별자를 조회하는 메서드
+     *
+     * @param projectId 프로젝트 식별자
+     * @param loginId   로그인 사용자 식별자(로그인하지 않았다면 null)
+     * @return 프로젝트가 없거나 삭제되었다면 빈 값
+     */
+    public Optional<ViewerState> findViewerState(Long projectId, Long loginId) {
+        BooleanExpression likerCondition = Objects.isNull(loginId)
+            ? Expressions.FALSE.isTrue() : like.user.id.eq(loginId);
+
+        return Optional.ofNullable(queryFactory
+            .select(Projections.constructor(ViewerState.class,
+                project.viewCount, project.likeCount, project.commentCount, like.id))
+            .from(project)
+            .leftJoin(like).on(like.project.eq(project), likerCondition)
+            .where(project.id.eq(projectId))
+            .fetchOne());
+    }
+
+    /**
+     * 회원이 멤버이거나 댓글을 작성하여 스냅샷에 회원 요약 정보가 담기는 프로젝트의 식별자를 조회하는 메서드
+     *
+     * @param userId 회원 식별자
+     * @return 프로젝트 식별자 목록
+     */
+    public Set<Long> findProjectIdsShowingUser(Long userId) {
+        List<Long> memberProjectIds = queryFactory
+            .select(member.project.id)
+            .distinct()
+            .from(member)
+            .where(member.user.id.eq(userId))
+            .fetch();
+        List<Long> commentProjectIds = queryFactory
+            .select(comment.project.id)
+            .distinct()
+            .from(comment)
+            .where(comment.user.id.eq(userId))
+            .fetch();
+
+        return Stream.concat(memberProjectIds.stream(), commentProjectIds.stream())
+            .collect(Collectors.toSet());
+    }
+
+    private List<OverviewImageSummary> findOverviewImages(Long projectId) {
+        return queryFactory
+            .selectFrom(file)
+            .where(file.project.id.eq(projectId))
+            .orderBy(file.id.asc())
+            .fetch()
+            .stream()
+            .map(OverviewImageSummary::from)
+            .toList();
+    }
+
+    private List<ProjectSkillSummary> findTechStacks(Long projectId) {
+        return ProjectSkillSummary.groupByCategory(queryFactory
+            .selectFrom(projectSkill)
+            .join(projectSkill.skill, skill).fetchJoin()
+            .where(projectSkill.project.id.eq(projectId))
+            .orderBy(projectSkill.id.asc())
+            .fetch());
+    }
+
+    private List<MemberSummary> findMembers(Long projectId) {
+        return MemberSummary.groupByRole(queryFactory
+            .selectFrom(member)
+            .leftJoin(member.user, user).fetchJoin()
+            .where(member.project.id.eq(projectId))
+            .orderBy(member.id.asc())
+            .fetch());
+    }
+
+    private Map<Long, Long> getCommentOwnerIds(List<Comment> comments) {
+        return comments.stream()
+            .collect(Collectors.toMap(Comment::getId, Comment::getOwnerId));
+    }
+
+    public record ViewerState(Long viewCount, Long likeCount, Long commentCount, Long likeId) {
+
+    }
+
+}
@@ -5,6 +5,7 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import sixgaezzang.sidepeek.projects.dto.request.FindProjectRequest;
+import sixgaezzang.sidepeek.projects.dto.request.FindUserProjectRequest;
 import sixgaezzang.sidepeek.projects.dto.response.CursorPaginationResponse;
 import sixgaezzang.sidepeek.projects.dto.response.ProjectBannerResponse;
 import sixgaezzang.sidepeek.projects.dto.response.ProjectListResponse;
@@ -12,19 +13,23 @@ import sixgaezzang.sidepeek.users.domain.User;
 
 public interface ProjectRepositoryCustom {
 
-    CursorPaginationResponse<ProjectListResponse> findByCondition(
-        List<Long> likedProjectIds,
+    CursorPaginationResponse<ProjectListResponse> findByCondition(Long likerId,
         FindProjectRequest request);
 
+    long countByCondition(FindProjectRequest request);
+
     List<ProjectBannerResponse> findAllPopularOfPeriod(LocalDate startDate, LocalDate endDate,
         int count);
 
-    Page<ProjectListResponse> findAllByUserJoined(List<Long> likedProjectIds, User user,
+    CursorPaginationResponse<ProjectListResponse> findByUser(Long likerId, Long userId,
+        FindUserProjectRequest request);
+
+    Page<ProjectListResponse> findAllByUserJoined(Long likerId, User user,
         Pageable pageable);
 
-    Page<ProjectListResponse> findAllByUserLiked(List<Long> likedProjectIds, User user,
+    Page<ProjectListResponse> findAllByUserLiked(Long likerId, User user,
         Pageable pageable);
 
-    Page<ProjectListResponse> findAllByUserCommented(List<Long> likedProjectIds, User user,
+    Page<ProjectListResponse> findAllByUserCommented(Long likerId, User user,
         Pageable pageable);
 }
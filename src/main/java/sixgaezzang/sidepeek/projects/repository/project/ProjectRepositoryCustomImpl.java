@@ -5,19 +5,30 @@ import static sixgaezzang.sidepeek.like.domain.QLike.like;
 import static sixgaezzang.sidepeek.projects.domain.QProject.project;
 import static sixgaezzang.sidepeek.projects.domain.QProjectSkill.projectSkill;
 import static sixgaezzang.sidepeek.projects.domain.member.QMember.member;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.MAX_SEARCH_RESULT_COUNT;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.MAX_SKILL_FILTER_ID_COUNT;
+import static sixgaezzang.sidepeek.skill.domain.QSkill.skill;
 
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.DateTemplate;
+import com.querydsl.core.types.dsl.DateTimePath;
 import com.querydsl.core.types.dsl.EntityPathBase;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -25,102 +36,160 @@ import org.springframework.stereotype.Repository;
 import sixgaezzang.sidepeek.projects.domain.Project;
 import sixgaezzang.sidepeek.projects.domain.QProject;
 import sixgaezzang.sidepeek.projects.dto.request.FindProjectRequest;
+import sixgaezzang.sidepeek.projects.dto.request.FindUserProjectRequest;
+import sixgaezzang.sidepeek.projects.dto.request.ProjectCursor;
 import sixgaezzang.sidepeek.projects.dto.request.SortType;
 import sixgaezzang.sidepeek.projects.dto.response.CursorPaginationResponse;
 import sixgaezzang.sidepeek.projects.dto.response.ProjectBannerResponse;
 import sixgaezzang.sidepeek.projects.dto.response.ProjectListResponse;
+import sixgaezzang.sidepeek.projects.repository.search.ProjectSearchIndex;
+import sixgaezzang.sidepeek.projects.repository.search.ProjectSkillIndex;
 import sixgaezzang.sidepeek.users.domain.User;
 
 @Repository
 public class ProjectRepositoryCustomImpl implements ProjectRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final ProjectSearchIndex projectSearchIndex;
+    private final ProjectSkillIndex projectSkillIndex;
 
-    public ProjectRepositoryCustomImpl(EntityManager em) {
+    public ProjectRepositoryCustomImpl(EntityManager em, ProjectSearchIndex projectSearchIndex,
+        ProjectSkillIndex projectSkillIndex) {
         this.queryFactory = new JPAQueryFactory(em);
+        this.projectSearchIndex = projectSearchIndex;
+        this.projectSkillIndex = projectSkillIndex;
     }
 
     @Override
-    public CursorPaginationResponse<ProjectListResponse> findByCondition(
-        List<Long> likedProjectIds,
+    public CursorPaginationResponse<ProjectListResponse> findByCondition(Long likerId,
         FindProjectRequest request) {
         // where
         BooleanExpression deployCondition =
             request.isReleased() ? project.deployUrl.isNotNull() : null;
         BooleanExpression skillCondition = getSkillCondition(request.skill());
 
-        BooleanExpression searchCondition = getSearchCondition(request.search());
+        List<Long> searchedProjectIds = searchProjectIds(request.search());
+        BooleanExpression searchCondition = getSearchCondition(searchedProjectIds);
+        BooleanExpression likeSearchCondition = getLikeSearchCondition(request.search());
 
-        BooleanExpression cursorCondition = getCursorCondition(request.sort(),
-            request.lastProjectId(), request.lastOrderCount());
+        BooleanExpression cursorCondition = getCursorCondition(request.toCursor());
 
         // orderBy
         OrderSpecifier<?> orderSpecifier = getOrderSpecifier(request.sort());
 
-        Long totalElements = 0L;
-
         JPAQuery<Project> query = queryFactory
             .selectFrom(project);
 
-        if (searchCondition != null) {
+        if (likeSearchCondition != null) {
             query
                 .join(member).on(project.id.eq(member.project.id))
-                .where(searchCondition);
-            totalElements = getTotalElements(member,
-                Arrays.asList(deployCondition, skillCondition, searchCondition),
-                member.project);
-        } else {
-            totalElements = getTotalElements(project,
-                Arrays.asList(deployCondition, skillCondition), project);
+                .where(likeSearchCondition);
         }
 
-        List<ProjectListResponse> results = query
+        List<Project> projects = query
             .where(
                 deployCondition,
                 skillCondition,
+                searchCondition,
                 cursorCondition
             )
             .orderBy(orderSpecifier, project.id.desc())
             .limit(request.pageSize() + 1)
-            .fetch()
-            .stream()
-            .map(project -> {
-                boolean isLiked = likedProjectIds.contains(project.getId());
-                return ProjectListResponse.from(project, isLiked);
-            })
-            .toList();
+            .fetch();
+        List<ProjectListResponse> results = toProjectListResponseList(likerId, projects);
+
+        CursorPaginationResponse<ProjectListResponse> response = checkEndPage(results, request.pageSize())
+            .withSearchTruncated(isSearchTruncated(searchedProjectIds));
+        if (!response.hasNext()) {
+            return response;
+        }
+
+        Project lastProject = projects.get(request.pageSize() - 1);
+        return response.withNextCursor(ProjectCursor.of(request.sort(), lastProject).encode());
+    }
 
-        return checkEndPage(results, request.pageSize(), totalElements);
+    @Override
+    public long countByCondition(FindProjectRequest request) {
+        BooleanExpression deployCondition =
+            request.isReleased() ? project.deployUrl.isNotNull() : null;
+        BooleanExpression skillCondition = getSkillCondition(request.skill());
+        BooleanExpression searchCondition = getSearchCondition(searchProjectIds(request.search()));
+        BooleanExpression likeSearchCondition = getLikeSearchCondition(request.search());
+
+        if (likeSearchCondition != null) {
+            return getTotalElements(member,
+                Arrays.asList(deployCondition, skillCondition, likeSearchCondition),
+                member.project);
+        }
+        return getTotalElements(project,
+            Arrays.asList(deployCondition, skillCondition, searchCondition), project);
     }
 
     @Override
-    public Page<ProjectListResponse> findAllByUserJoined(List<Long> likedProjectIds, User user,
+    public CursorPaginationResponse<ProjectListResponse> findByUser(Long likerId, Long userId,
+        FindUserProjectRequest request) {
+        List<Long> projectIds = switch (request.type()) {
+            case JOINED -> findProjectIdsByUser(member, member.project, member.user.id.eq(userId), request);
+            case LIKED -> findProjectIdsByUser(like, like.project, like.user.id.eq(userId), request);
+            case COMMENTED -> findProjectIdsByUser(comment, comment.project, comment.user.id.eq(userId), request);
+        };
+
+        boolean hasNext = projectIds.size() > request.pageSize();
+        List<Long> pageProjectIds = hasNext ? projectIds.subList(0, request.pageSize()) : projectIds;
+
+        List<Project> projects = pageProjectIds.isEmpty() ? List.of() : queryFactory
+            .selectFrom(project)
+            .where(project.id.in(pageProjectIds))
+            .orderBy(project.id.desc())
+            .fetch();
+
+        return CursorPaginationResponse.from(toProjectListResponseList(likerId, projects), null, hasNext);
+    }
+
+    private List<Long> findProjectIdsByUser(EntityPathBase<?> from, QProject join,
+        BooleanExpression userCondition, FindUserProjectRequest request) {
+        BooleanExpression cursorCondition = Objects.isNull(request.lastProjectId())
+            ? null : project.id.lt(request.lastProjectId());
+
+        // (user_id, project_id) 인덱스에서 커서 이후의 프로젝트 식별자만 중복 없이 한 페이지만큼 읽습니다.
+        return queryFactory
+            .select(project.id)
+            .distinct()
+            .from(from)
+            .join(join, project)
+            .where(userCondition, cursorCondition)
+            .orderBy(project.id.desc())
+            .limit(request.pageSize() + 1)
+            .fetch();
+    }
+
+    @Override
+    public Page<ProjectListResponse> findAllByUserJoined(Long likerId, User user,
         Pageable pageable) {
         BooleanExpression memberCondition = member.user.eq(user);
-        return findPageByCondition(member, member.project, memberCondition, pageable,
-            likedProjectIds);
+        return findPageByCondition(member, member.project, memberCondition, pageable, likerId);
     }
 
     @Override
-    public Page<ProjectListResponse> findAllByUserLiked(List<Long> likedProjectIds, User user,
+    public Page<ProjectListResponse> findAllByUserLiked(Long likerId, User user,
         Pageable pageable) {
         BooleanExpression likeCondition = like.user.eq(user);
-        return findPageByCondition(like, like.project, likeCondition, pageable, likedProjectIds);
+        return findPageByCondition(like, like.project, likeCondition, pageable, likerId);
     }
 
     @Override
-    public Page<ProjectListResponse> findAllByUserCommented(List<Long> likedProjectIds, User user,
+    public Page<ProjectListResponse> findAllByUserCommented(Long likerId, User user,
         Pageable pageable) {
         BooleanExpression commentCondition = comment.user.eq(user);
-        return findPageByCondition(comment, comment.project, commentCondition, pageable,
-            likedProjectIds);
+        return findPageByCondition(comment, comment.project, commentCondition, pageable, likerId);
     }
 
     private Page<ProjectListResponse> findPageByCondition(EntityPathBase<?> from,
-        QProject join, BooleanExpression condition, Pageable pageable,
-        List<Long> likedProjectIds) {
+        QProject join, BooleanExpression condition, Pageable pageable, Long likerId) {
+        // 회원이 한 프로젝트에 여러 번 댓글을 작성해도 프로젝트는 한 번만 조회합니다.
         List<Project> projects = queryFactory
             .select(project)
+            .distinct()
             .from(from)
             .join(join, project)
             .where(condition)
@@ -129,8 +198,7 @@ public class ProjectRepositoryCustomImpl implements ProjectRepositoryCustom {
             .limit(pageable.getPageSize())
             .fetch();
 
-        List<ProjectListResponse> projectDTOs = toProjectListResponseList(likedProjectIds,
-            projects);
+        List<ProjectListResponse> projectDTOs = toProjectListResponseList(likerId, projects);
         long count = getCount(from, condition, join);
 
         return new PageImpl<>(projectDTOs, pageable, count);
@@ -167,25 +235,43 @@ public class ProjectRepositoryCustomImpl implements ProjectRepositoryCustom {
             .fetchOne();
     }
 
-    private List<ProjectListResponse> toProjectListResponseList(List<Long> likedProjectIds,
-        List<Project> projects) {
+    private List<ProjectListResponse> toProjectListResponseList(Long likerId, List<Project> projects) {
+        Set<Long> likedProjectIds = findLikedProjectIds(likerId, projects);
+
         return projects.stream()
             .map(project -> ProjectListResponse.from(project,
                 likedProjectIds.contains(project.getId())))
             .toList();
     }
 
+    private Set<Long> findLikedProjectIds(Long likerId, List<Project> projects) {
+        if (Objects.isNull(likerId) || projects.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        // 사용자의 전체 좋아요 대신 현재 페이지의 프로젝트 중 좋아요한 것만 조회합니다.
+        List<Long> pageProjectIds = projects.stream()
+            .map(Project::getId)
+            .toList();
+
+        return new HashSet<>(queryFactory
+            .select(like.project.id)
+            .from(like)
+            .where(like.user.id.eq(likerId),
+                like.project.id.in(pageProjectIds))
+            .fetch());
+    }
+
     @Override
     public List<ProjectBannerResponse> findAllPopularOfPeriod(LocalDate startDate,
         LocalDate endDate, int count) {
-        DateTemplate<LocalDate> createdAt = Expressions.dateTemplate(
-            LocalDate.class, "DATE_FORMAT({0}, {1})", like.createdAt, "%Y-%m-%d");
-
+        // created_at 인덱스를 사용할 수 있도록 컬럼을 가공하지 않고 범위 조건으로 비교합니다.
         List<Project> projects = queryFactory
             .select(project)
             .from(like)
             .join(like.project, project)
-            .where(createdAt.between(startDate, endDate))
+            .where(like.createdAt.goe(startDate.atStartOfDay()),
+                like.createdAt.lt(endDate.plusDays(1).atStartOfDay()))
             .groupBy(project)
             .orderBy(like.count().desc())
             .limit(count)
@@ -196,28 +282,68 @@ public class ProjectRepositoryCustomImpl implements ProjectRepositoryCustom {
             .toList();
     }
 
-    private BooleanExpression getCursorCondition(SortType sort, Long lastProjectId,
-        Long lastOrderCount) {
-        if (lastProjectId == null && lastOrderCount == null) {  // 첫 번째 페이지
+    private BooleanExpression getCursorCondition(ProjectCursor cursor) {
+        if (Objects.isNull(cursor)) {  // 첫 번째 페이지
             return null;
         }
 
-        switch (sort) { // 다음 페이지
+        switch (cursor.sort()) { // 다음 페이지
             case like: // 좋아요순
-                return project.likeCount.eq(lastOrderCount)
-                    .and(project.id.gt(lastProjectId))
-                    .or(project.likeCount.lt(lastOrderCount));
+                return isAfter(project.likeCount, cursor.orderCount(), cursor.projectId());
             case view: // 조회수순
-                return project.viewCount.eq(lastOrderCount)
-                    .and(project.id.gt(lastProjectId))
-                    .or(project.viewCount.lt(lastOrderCount));
+                return isAfter(project.viewCount, cursor.orderCount(), cursor.projectId());
             default: // 최신순
-                return project.id.lt(lastProjectId);
+                if (Objects.isNull(cursor.createdAt())) {   // 이전 버전의 커서
+                    return project.id.lt(cursor.projectId());
+                }
+                return isAfter(project.createdAt, cursor.createdAt(), cursor.projectId());
         }
     }
 
-    private BooleanExpression getSearchCondition(String search) {
-        if (Objects.isNull(search) || search.isEmpty()) {
+    /*
+     * 정렬 순서(정렬 값 DESC, id DESC)에서 커서 다음에 오는 행, 즉 (정렬 값, id) < (커서 정렬 값, 커서 id) 조건입니다.
+     * 인덱스 범위 조건으로 사용할 수 있도록 선행 조건(정렬 값 <= 커서 정렬 값)을 함께 둡니다.
+     */
+    private BooleanExpression isAfter(NumberPath<Long> orderPath, Long lastOrderValue, Long lastProjectId) {
+        return orderPath.loe(lastOrderValue)
+            .and(orderPath.lt(lastOrderValue).or(project.id.lt(lastProjectId)));
+    }
+
+    private BooleanExpression isAfter(DateTimePath<LocalDateTime> orderPath, LocalDateTime lastOrderValue,
+        Long lastProjectId) {
+        return orderPath.loe(lastOrderValue)
+            .and(orderPath.lt(lastOrderValue).or(project.id.lt(lastProjectId)));
+    }
+
+    private List<Long> searchProjectIds(String search) {
+        if (Objects.isNull(search) || search.isBlank() || !projectSearchIndex.supports(search)) {
+            return null;
+        }
+
+        // 검색 결과가 최대 개수를 넘는지 알 수 있도록 한 건 더 조회합니다.
+        return projectSearchIndex.search(search.trim(), MAX_SEARCH_RESULT_COUNT + 1);
+    }
+
+    private BooleanExpression getSearchCondition(List<Long> searchedProjectIds) {
+        if (Objects.isNull(searchedProjectIds)) {
+            return null;
+        }
+        if (searchedProjectIds.isEmpty()) {
+            return Expressions.FALSE.isTrue();
+        }
+
+        // 검색 색인에서 관련도 순으로 찾은 상위 프로젝트 중에서 정렬 조건에 맞게 조회합니다.
+        return project.id.in(isSearchTruncated(searchedProjectIds)
+            ? searchedProjectIds.subList(0, MAX_SEARCH_RESULT_COUNT) : searchedProjectIds);
+    }
+
+    private boolean isSearchTruncated(List<Long> searchedProjectIds) {
+        return Objects.nonNull(searchedProjectIds) && searchedProjectIds.size() > MAX_SEARCH_RESULT_COUNT;
+    }
+
+    private BooleanExpression getLikeSearchCondition(String search) {
+        // 검색 색인이 지원하지 않는 검색어(ngram보다 짧은 검색어 등)만 LIKE로 검색합니다.
+        if (Objects.isNull(search) || search.isBlank() || projectSearchIndex.supports(search)) {
             return null;
         }
 
@@ -226,22 +352,36 @@ public class ProjectRepositoryCustomImpl implements ProjectRepositoryCustom {
             .or(member.nickname.likeIgnoreCase(keyword));
     }
 
-    public BooleanExpression getSkillCondition(List<String> skillNames) {
+    private BooleanExpression getSkillCondition(List<String> skillNames) {
         if (Objects.isNull(skillNames) || skillNames.isEmpty()) {
             return null;
         }
 
-        // 프로젝트 ID 서브쿼리를 생성하여 스킬을 모두 포함하는 프로젝트를 찾기
-        JPAQuery<Long> projectHasSkillsSubQuery = queryFactory
+        // 스킬별 프로젝트 비트맵의 교집합으로 스킬을 모두 포함하는 프로젝트를 찾습니다.
+        List<Long> projectIds = projectSkillIndex.findProjectIdsHavingAll(skillNames);
+        if (projectIds.isEmpty()) {
+            return Expressions.FALSE.isTrue();
+        }
+        if (projectIds.size() > MAX_SKILL_FILTER_ID_COUNT) {
+            // 일치하는 프로젝트가 많으면 식별자 목록 대신 서브쿼리로 DB에서 찾습니다.
+            return getSkillSubQueryCondition(skillNames);
+        }
+        return project.id.in(projectIds);
+    }
+
+    private BooleanExpression getSkillSubQueryCondition(List<String> skillNames) {
+        // 스킬 이름 비교는 DB collation과 같이 대소문자를 구분하지 않습니다.
+        Set<String> distinctSkillNames = skillNames.stream()
+            .map(skillName -> skillName.trim().toLowerCase(Locale.ROOT))
+            .collect(Collectors.toSet());
+
+        return project.id.in(JPAExpressions
             .select(projectSkill.project.id)
             .from(projectSkill)
-            .join(projectSkill.skill)
-            .where(projectSkill.skill.name.in(skillNames))
+            .join(projectSkill.skill, skill)
+            .where(skill.name.in(distinctSkillNames))
             .groupBy(projectSkill.project.id)
-            .having(projectSkill.project.id.count().eq(Expressions.constant(skillNames.size())));
-
-        // 프로젝트 ID 서브쿼리와 매칭되는 프로젝트를 찾는 조건을 반환합니다.
-        return project.id.in(projectHasSkillsSubQuery);
+            .having(skill.name.countDistinct().eq((long) distinctSkillNames.size())));
     }
 
     private OrderSpecifier<?> getOrderSpecifier(SortType sort) {
@@ -256,7 +396,7 @@ public class ProjectRepositoryCustomImpl implements ProjectRepositoryCustom {
     }
 
     private CursorPaginationResponse<ProjectListResponse> checkEndPage(
-        List<ProjectListResponse> results, int pageSize, long totalElements) {
+        List<ProjectListResponse> results, int pageSize) {
         boolean hasNext = false;
 
         if (results.size() > pageSize) { //다음 게시물이 있는 경우
@@ -264,7 +404,8 @@ public class ProjectRepositoryCustomImpl implements ProjectRepositoryCustom {
             results = results.subList(0, pageSize);
         }
 
-        return CursorPaginationResponse.from(results, totalElements, hasNext);
+        // 전체 데이터 개수는 서비스에서 캐시를 통해 채웁니다.
+        return CursorPaginationResponse.from(results, null, hasNext);
     }
 
 }
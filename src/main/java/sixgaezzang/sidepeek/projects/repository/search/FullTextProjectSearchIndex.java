@@ -0,0 +1,83 @@
+package sixgaezzang.sidepeek.projects.repository.search;
+
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.SEARCH_NGRAM_SIZE;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+/**
+ * MySQL FULLTEXT(ngram parser) 인덱스를 사용하는 프로젝트 검색 색인.
+ * <p>
+ * 색인은 DB가 관리하므로 {@link #index}, {@link #remove}에서는 아무것도 하지 않는다. 검색어는 ngram 구문(phrase)으로 검색하여
+ * 부분 문자열 검색과 같은 결과를 얻고, 프로젝트 이름 일치에 멤버 닉네임 일치보다 높은 가중치를 준다.
+ */
+@Repository
+@ConditionalOnProperty(value = "project.search.index", havingValue = "fulltext", matchIfMissing = true)
+public class FullTextProjectSearchIndex implements ProjectSearchIndex {
+
+    private static final String SEARCH_QUERY = """
+        SELECT matched.id
+        FROM (
+            SELECT p.id AS id, MATCH(p.name) AGAINST (:keyword IN BOOLEAN MODE) * 2 AS score
+            FROM project p
+            WHERE MATCH(p.name) AGAINST (:keyword IN BOOLEAN MODE)
+                AND p.deleted_at IS NULL
+            UNION ALL
+            SELECT m.project_id AS id, MATCH(m.nickname) AGAINST (:keyword IN BOOLEAN MODE) AS score
+            FROM project_member m
+                JOIN project p ON p.id = m.project_id
+            WHERE MATCH(m.nickname) AGAINST (:keyword IN BOOLEAN MODE)
+                AND p.deleted_at IS NULL
+        ) matched
+        GROUP BY matched.id
+        ORDER BY SUM(matched.score) DESC, matched.id DESC
+        LIMIT :limit
+        """;
+
+    private final EntityManager em;
+
+    public FullTextProjectSearchIndex(EntityManager em) {
+        this.em = em;
+    }
+
+    @Override
+    public boolean supports(String keyword) {
+        // ngram 토큰보다 짧은 검색어는 FULLTEXT 인덱스로 찾을 수 없습니다.
+        return Objects.nonNull(keyword) && sanitize(keyword).length() >= SEARCH_NGRAM_SIZE;
+    }
+
+    @Override
+    public List<Long> search(String keyword, int limit) {
+        List<?> projectIds = em.createNativeQuery(SEARCH_QUERY)
+            .setParameter("keyword", toPhrase(keyword))
+            .setParameter("limit", limit)
+            .getResultList();
+
+        return projectIds.stream()
+            .map(projectId -> ((Number) projectId).longValue())
+            .toList();
+    }
+
+    @Override
+    public void index(Long projectId, String name, List<String> nicknames) {
+        // FULLTEXT 인덱스는 DB에서 갱신됩니다.
+    }
+
+    @Override
+    public void remove(Long projectId) {
+        // FULLTEXT 인덱스는 DB에서 갱신됩니다.
+    }
+
+    private String toPhrase(String keyword) {
+        // BOOLEAN MODE 연산자로 해석되지 않도록 구문으로 감쌉니다.
+        return "\"" + sanitize(keyword) + "\"";
+    }
+
+    private String sanitize(String keyword) {
+        return keyword.replace("\"", "").trim();
+    }
+
+}
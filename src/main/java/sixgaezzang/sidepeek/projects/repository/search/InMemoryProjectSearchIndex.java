@@ -0,0 +1,110 @@
+package sixgaezzang.sidepeek.projects.repository.search;
+
+import static sixgaezzang.sidepeek.common.util.TransactionUtils.runAfterCommit;
+import static sixgaezzang.sidepeek.projects.domain.QProject.project;
+import static sixgaezzang.sidepeek.projects.domain.member.QMember.member;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.SEARCH_INDEX_CHANGE_CHANNEL;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.SEARCH_INDEX_REBUILD_DELAY_MINUTES;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.SEARCH_NGRAM_SIZE;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import sixgaezzang.sidepeek.common.util.NgramIndex;
+import sixgaezzang.sidepeek.common.util.component.IndexChangeBroadcaster;
+
+/**
+ * 애플리케이션 메모리의 n-gram 역색인을 사용하는 프로젝트 검색 색인.
+ * <p>
+ * 애플리케이션 시작 시 DB에서 전체 색인을 만들고, 프로젝트 생성/수정/삭제는 트랜잭션 커밋 이후 즉시 반영한다. 다른 노드에서 발생한
+ * 변경은 Redis Pub/Sub으로 전달받아 반영하고, 메시지가 유실되어도 주기적인 재색인으로 맞춰진다. 재색인 중에 반영된 변경은 재색인
+ * 결과에 덮어쓰이지 않는다.
+ */
+@Repository
+@ConditionalOnProperty(value = "project.search.index", havingValue = "memory")
+public class InMemoryProjectSearchIndex implements ProjectSearchIndex {
+
+    private final JPAQueryFactory queryFactory;
+    private final IndexChangeBroadcaster indexChangeBroadcaster;
+    private final NgramIndex<Long> ngramIndex = new NgramIndex<>(SEARCH_NGRAM_SIZE);
+
+    public InMemoryProjectSearchIndex(EntityManager em, IndexChangeBroadcaster indexChangeBroadcaster) {
+        this.queryFactory = new JPAQueryFactory(em);
+        this.indexChangeBroadcaster = indexChangeBroadcaster;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        indexChangeBroadcaster.subscribe(SEARCH_INDEX_CHANGE_CHANNEL, ngramIndex::put);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelay = SEARCH_INDEX_REBUILD_DELAY_MINUTES,
+        initialDelay = SEARCH_INDEX_REBUILD_DELAY_MINUTES, timeUnit = TimeUnit.MINUTES)
+    public void rebuild() {
+        ngramIndex.rebuild(this::loadDocuments);
+    }
+
+    private Map<Long, List<String>> loadDocuments() {
+        Map<Long, List<String>> documents = new HashMap<>();
+        queryFactory
+            .select(project.id, project.name)
+            .from(project)
+            .fetch()
+            .forEach(tuple -> documents.put(tuple.get(project.id),
+                new ArrayList<>(List.of(tuple.get(project.name)))));
+
+        List<Tuple> nicknames = queryFactory
+            .select(member.project.id, member.nickname)
+            .from(member)
+            .fetch();
+        for (Tuple tuple : nicknames) {
+            List<String> texts = documents.get(tuple.get(member.project.id));
+            if (Objects.nonNull(texts)) {   // 삭제된 프로젝트의 멤버는 제외
+                texts.add(tuple.get(member.nickname));
+            }
+        }
+
+        return documents;
+    }
+
+    @Override
+    public boolean supports(String keyword) {
+        return !NgramIndex.normalize(keyword).isEmpty();
+    }
+
+    @Override
+    public List<Long> search(String keyword, int limit) {
+        return ngramIndex.search(keyword, limit);
+    }
+
+    @Override
+    public void index(Long projectId, String name, List<String> nicknames) {
+        List<String> texts = new ArrayList<>(nicknames);
+        texts.add(name);
+        runAfterCommit(() -> apply(projectId, texts));
+    }
+
+    @Override
+    public void remove(Long projectId) {
+        runAfterCommit(() -> apply(projectId, List.of()));
+    }
+
+    private void apply(Long projectId, List<String> texts) {
+        ngramIndex.put(projectId, texts);    // 빈 목록이면 삭제
+        indexChangeBroadcaster.publish(SEARCH_INDEX_CHANGE_CHANNEL, projectId, texts);
+    }
+
+}
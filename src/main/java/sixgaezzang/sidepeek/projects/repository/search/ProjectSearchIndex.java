@@ -0,0 +1,40 @@
+package sixgaezzang.sidepeek.projects.repository.search;
+
+import java.util.List;
+
+/**
+ * 프로젝트 이름과 멤버 닉네임으로 프로젝트를 검색하는 색인.
+ * <p>
+ * 선행 와일드카드 {@code LIKE} 검색 대신 색인을 통해 검색어와 일치하는 프로젝트 식별자를 관련도 순으로 조회한다.
+ */
+public interface ProjectSearchIndex {
+
+    /**
+     * 색인으로 검색할 수 있는 검색어인지 확인하는 메서드. 지원하지 않는 검색어는 {@code LIKE} 검색으로 처리한다.
+     *
+     * @param keyword 검색어
+     * @return 색인 검색 가능 여부
+     */
+    boolean supports(String keyword);
+
+    /**
+     * 검색어와 일치하는 프로젝트 식별자를 관련도 순으로 조회하는 메서드
+     *
+     * @param keyword 검색어
+     * @param limit   최대 조회 개수
+     * @return 관련도 내림차순으로 정렬된 프로젝트 식별자 목록
+     */
+    List<Long> search(String keyword, int limit);
+
+    /**
+     * 프로젝트를 색인하는 메서드. 이미 색인된 프로젝트라면 기존 색인을 대체한다.
+     *
+     * @param projectId 프로젝트 식별자
+     * @param name      프로젝트 이름
+     * @param nicknames 멤버 닉네임 목록
+     */
+    void index(Long projectId, String name, List<String> nicknames);
+
+    void remove(Long projectId);
+
+}
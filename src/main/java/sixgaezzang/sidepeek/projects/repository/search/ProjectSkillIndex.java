@@ -0,0 +1,195 @@
+package sixgaezzang.sidepeek.projects.repository.search;
+
+import static sixgaezzang.sidepeek.common.util.TransactionUtils.runAfterCommit;
+import static sixgaezzang.sidepeek.projects.domain.QProjectSkill.projectSkill;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.SEARCH_INDEX_REBUILD_DELAY_MINUTES;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.SKILL_INDEX_CHANGE_CHANNEL;
+import static sixgaezzang.sidepeek.skill.domain.QSkill.skill;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import sixgaezzang.sidepeek.common.util.IndexRebuildCoordinator;
+import sixgaezzang.sidepeek.common.util.component.IndexChangeBroadcaster;
+
+/**
+ * 기술 스택(스킬 이름)별로 해당 스킬을 사용하는 프로젝트 식별자를 비트맵({@link BitSet})으로 저장하는 메모리 색인.
+ * <p>
+ * "스킬을 모두 사용하는 프로젝트"는 스킬별 비트맵의 교집합으로 계산한다. 애플리케이션 시작 시 {@code project_skill}에서 전체
+ * 색인을 만들고, 프로젝트의 기술 스택이 변경되면 트랜잭션 커밋 이후 반영한 뒤 Redis Pub/Sub으로 다른 노드에도 전달한다. 삭제된
+ * 프로젝트는 프로젝트 조회 시 걸러진다.
+ * <p>
+ * 재색인 중 DB를 읽은 뒤 커밋된 변경은 {@link IndexRebuildCoordinator}가 기록해 두었다가 새 색인에 다시 적용한다.
+ */
+@Repository
+public class ProjectSkillIndex {
+
+    private final JPAQueryFactory queryFactory;
+    private final IndexChangeBroadcaster indexChangeBroadcaster;
+    private final Map<String, BitSet> projectsBySkill = new HashMap<>();
+    private final Map<Long, Set<String>> skillsByProject = new HashMap<>();
+    private final IndexRebuildCoordinator<Long, Set<String>> coordinator =
+        new IndexRebuildCoordinator<>(this::replaceWithoutLock);    // 삭제는 빈 집합
+
+    public ProjectSkillIndex(EntityManager em, IndexChangeBroadcaster indexChangeBroadcaster) {
+        this.queryFactory = new JPAQueryFactory(em);
+        this.indexChangeBroadcaster = indexChangeBroadcaster;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        indexChangeBroadcaster.subscribe(SKILL_INDEX_CHANGE_CHANNEL,
+            (projectId, skillNames) -> coordinator.write(projectId, Set.copyOf(skillNames)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelay = SEARCH_INDEX_REBUILD_DELAY_MINUTES,
+        initialDelay = SEARCH_INDEX_REBUILD_DELAY_MINUTES, timeUnit = TimeUnit.MINUTES)
+    public void rebuild() {
+        coordinator.rebuild(() -> {
+            Map<Long, Set<String>> rebuiltSkillsByProject = loadSkillsByProject();
+            Map<String, BitSet> rebuiltProjectsBySkill = new HashMap<>();
+            rebuiltSkillsByProject.forEach((projectId, skillNames) -> skillNames.forEach(skillName ->
+                rebuiltProjectsBySkill.computeIfAbsent(skillName, key -> new BitSet()).set(toIndex(projectId))));
+            return new Rebuilt(rebuiltProjectsBySkill, rebuiltSkillsByProject);
+        }, rebuilt -> {
+            projectsBySkill.clear();
+            projectsBySkill.putAll(rebuilt.projectsBySkill());
+            skillsByProject.clear();
+            skillsByProject.putAll(rebuilt.skillsByProject());
+        });
+    }
+
+    Map<Long, Set<String>> loadSkillsByProject() {
+        List<Tuple> projectSkills = queryFactory
+            .select(projectSkill.project.id, skill.name)
+            .from(projectSkill)
+            .join(projectSkill.skill, skill)
+            .fetch();
+
+        Map<Long, Set<String>> loadedSkillsByProject = new HashMap<>();
+        for (Tuple tuple : projectSkills) {
+            loadedSkillsByProject.computeIfAbsent(tuple.get(projectSkill.project.id), key -> new HashSet<>())
+                .add(normalize(tuple.get(skill.name)));
+        }
+        return loadedSkillsByProject;
+    }
+
+    /**
+     * 스킬을 모두 사용하는 프로젝트 식별자를 내림차순으로 조회하는 메서드
+     *
+     * @param skillNames 스킬 이름 목록
+     * @return 식별자 내림차순으로 정렬된 프로젝트 식별자 목록
+     */
+    public List<Long> findProjectIdsHavingAll(Collection<String> skillNames) {
+        BitSet matched = intersect(skillNames);
+
+        List<Long> projectIds = new ArrayList<>(matched.cardinality());
+        for (int index = matched.length() - 1; index >= 0; index = matched.previousSetBit(index - 1)) {
+            projectIds.add((long) index);
+        }
+        return projectIds;
+    }
+
+    /**
+     * 프로젝트의 기술 스택 색인을 교체하는 메서드. 트랜잭션 안에서 호출되면 커밋 이후에 반영한다.
+     *
+     * @param projectId  프로젝트 식별자
+     * @param skillNames 프로젝트의 스킬 이름 목록
+     */
+    public void replace(Long projectId, Collection<String> skillNames) {
+        Set<String> normalizedSkillNames = new HashSet<>();
+        skillNames.forEach(skillName -> normalizedSkillNames.add(normalize(skillName)));
+
+        runAfterCommit(() -> apply(projectId, normalizedSkillNames));
+    }
+
+    public void remove(Long projectId) {
+        runAfterCommit(() -> apply(projectId, Set.of()));
+    }
+
+    private void apply(Long projectId, Set<String> normalizedSkillNames) {
+        coordinator.write(projectId, normalizedSkillNames);
+        indexChangeBroadcaster.publish(SKILL_INDEX_CHANGE_CHANNEL, projectId, normalizedSkillNames);
+    }
+
+    private BitSet intersect(Collection<String> skillNames) {
+        return coordinator.read(() -> {
+            BitSet matched = null;
+            for (String skillName : new HashSet<>(skillNames)) {
+                BitSet projects = projectsBySkill.get(normalize(skillName));
+                if (Objects.isNull(projects)) {
+                    return new BitSet();
+                }
+
+                if (Objects.isNull(matched)) {
+                    matched = (BitSet) projects.clone();
+                } else {
+                    matched.and(projects);
+                }
+            }
+            return Objects.isNull(matched) ? new BitSet() : matched;
+        });
+    }
+
+    private void replaceWithoutLock(Long projectId, Set<String> normalizedSkillNames) {
+        removeWithoutLock(projectId);
+        if (normalizedSkillNames.isEmpty()) {
+            return;
+        }
+
+        normalizedSkillNames.forEach(skillName ->
+            projectsBySkill.computeIfAbsent(skillName, key -> new BitSet()).set(toIndex(projectId)));
+        skillsByProject.put(projectId, normalizedSkillNames);
+    }
+
+    private void removeWithoutLock(Long projectId) {
+        Set<String> skillNames = skillsByProject.remove(projectId);
+        if (Objects.isNull(skillNames)) {
+            return;
+        }
+
+        for (String skillName : skillNames) {
+            BitSet projects = projectsBySkill.get(skillName);
+            if (Objects.nonNull(projects)) {
+                projects.clear(toIndex(projectId));
+                if (projects.isEmpty()) {
+                    projectsBySkill.remove(skillName);
+                }
+            }
+        }
+    }
+
+    private String normalize(String skillName) {
+        // 스킬 이름 비교는 DB collation과 같이 대소문자를 구분하지 않습니다.
+        return skillName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private int toIndex(Long projectId) {
+        return Math.toIntExact(projectId);
+    }
+
+    private record Rebuilt(
+        Map<String, BitSet> projectsBySkill,
+        Map<Long, Set<String>> skillsByProject
+    ) {
+
+    }
+
+}
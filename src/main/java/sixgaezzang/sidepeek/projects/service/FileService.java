@@ -6,9 +6,11 @@ import static sixgaezzang.sidepeek.projects.util.validation.ProjectValidator.val
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import sixgaezzang.sidepeek.common.util.ChildCollectionSynchronizer;
 import sixgaezzang.sidepeek.projects.domain.Project;
 import sixgaezzang.sidepeek.projects.domain.file.File;
 import sixgaezzang.sidepeek.projects.dto.response.OverviewImageSummary;
@@ -25,31 +27,29 @@ public class FileService {
     public List<OverviewImageSummary> cleanAndSaveAll(Project project, List<String> overviewImageUrls) {
         validateProject(project);
 
-        cleanExistingFilesByProject(project);
-
-        if (!isNotNullOrEmpty(overviewImageUrls)) {
-            return Collections.emptyList();
+        List<String> urls = Collections.emptyList();
+        if (isNotNullOrEmpty(overviewImageUrls)) {
+            validateFiles(overviewImageUrls);
+            urls = overviewImageUrls;
         }
 
-        validateFiles(overviewImageUrls);
-        List<File> overviewImages = overviewImageUrls.stream()
-            .map(overviewImage -> convertToOverviewImageFile(project, overviewImage))
-            .toList();
+        // 레이아웃 이미지는 식별자 순서가 곧 노출 순서이므로 같은 위치의 파일끼리 비교
+        ChildCollectionSynchronizer<File, String> synchronizer = new ChildCollectionSynchronizer<>(
+            fileRepository,
+            File::getId,
+            (file, url) -> Objects.equals(file.getUrl(), url),
+            url -> convertToOverviewImageFile(project, url),
+            File::update
+        );
 
-        return fileRepository.saveAll(overviewImages)
+        return synchronizer.synchronizeInOrder(fileRepository.findAllByProjectOrderById(project), urls)
             .stream()
             .map(OverviewImageSummary::from)
             .toList();
     }
 
     public List<File> findAllByProject(Project project) {
-        return fileRepository.findAllByProject(project);
-    }
-
-    private void cleanExistingFilesByProject(Project project) {
-        if (fileRepository.existsByProject(project)) {
-            fileRepository.deleteAllByProject(project);
-        }
+        return fileRepository.findAllByProjectOrderById(project);
     }
 
     private File convertToOverviewImageFile(Project project, String overviewImage) {
@@ -1,25 +1,21 @@
 package sixgaezzang.sidepeek.projects.service;
 
-import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.mapping;
-import static java.util.stream.Collectors.toList;
 import static sixgaezzang.sidepeek.projects.util.validation.MemberValidator.validateMembers;
 import static sixgaezzang.sidepeek.projects.util.validation.ProjectValidator.validateProject;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import sixgaezzang.sidepeek.common.util.ChildCollectionSynchronizer;
 import sixgaezzang.sidepeek.projects.domain.Project;
 import sixgaezzang.sidepeek.projects.domain.member.Member;
 import sixgaezzang.sidepeek.projects.dto.request.SaveMemberRequest;
 import sixgaezzang.sidepeek.projects.dto.response.MemberSummary;
 import sixgaezzang.sidepeek.projects.repository.MemberRepository;
 import sixgaezzang.sidepeek.users.domain.User;
-import sixgaezzang.sidepeek.users.dto.response.UserSummary;
 import sixgaezzang.sidepeek.users.service.UserService;
 
 @Service
@@ -36,46 +32,41 @@ public class MemberService {
         validateProject(project);
         validateMembers(project.getOwnerId(), memberSaveRequests);
 
-        cleanExistingMembersByProject(project);
+        // 멤버도 식별자 순서가 곧 노출 순서이므로 같은 위치의 멤버끼리 비교하여 달라진 멤버만 추가/수정/삭제
+        ChildCollectionSynchronizer<Member, SaveMemberRequest> synchronizer = new ChildCollectionSynchronizer<>(
+            memberRepository,
+            Member::getId,
+            this::isSameMember,
+            member -> member.toEntity(project, getUserOrNull(member)),
+            (member, request) -> member.update(getUserOrNull(request), request.role(), request.nickname())
+        );
+        List<Member> members = synchronizer.synchronizeInOrder(memberRepository.findAllByProjectOrderById(project),
+            memberSaveRequests);
 
-        List<Member> members = memberSaveRequests.stream()
-            .map(member -> member.toEntity(
-                project,
-                Objects.nonNull(member.id()) ? userService.getById(member.id()) : null)
-            )
-            .toList();
-
-        return generateMemberSummaries(memberRepository.saveAll(members));
+        return MemberSummary.groupByRole(members);
     }
 
     public List<MemberSummary> findAll(Project project) {
-        List<Member> members = memberRepository.findAllByProject(project);
+        List<Member> members = memberRepository.findAllByProjectOrderById(project);
 
-        return generateMemberSummaries(members);
+        return MemberSummary.groupByRole(members);
     }
 
     public Optional<User> findFellowMemberByProject(Long userId, Project project) {
-        return memberRepository.findAllByProject(project)
+        return memberRepository.findAllByProjectOrderById(project)
             .stream()
             .filter(member -> Objects.equals(member.getUserId(), userId))
             .findAny()
             .map(Member::getUser);
     }
 
-    private void cleanExistingMembersByProject(Project project) {
-        if (memberRepository.existsByProject(project)) {
-            memberRepository.deleteAllByProject(project);
-        }
+    private boolean isSameMember(Member member, SaveMemberRequest request) {
+        return Objects.equals(member.getUserId(), request.id())
+            && Objects.equals(member.getNickname(), request.nickname())
+            && Objects.equals(member.getRole(), request.role());
     }
 
-    private List<MemberSummary> generateMemberSummaries(List<Member> members) {
-        Map<String, List<UserSummary>> memberMap = members.stream()
-            .collect(groupingBy(Member::getRole,
-                mapping(member -> UserSummary.of(member.getUser(), member.getNickname()),
-                    toList())));
-
-        return memberMap.entrySet().stream()
-            .map(entry -> MemberSummary.of(entry.getKey(), entry.getValue()))
-            .toList();
+    private User getUserOrNull(SaveMemberRequest request) {
+        return Objects.nonNull(request.id()) ? userService.getById(request.id()) : null;
     }
 }
@@ -0,0 +1,126 @@
+package sixgaezzang.sidepeek.projects.service;
+
+import static sixgaezzang.sidepeek.common.util.TransactionUtils.runAfterCommit;
+import static sixgaezzang.sidepeek.projects.util.DateUtils.getEndDayOfLastWeek;
+import static sixgaezzang.sidepeek.projects.util.DateUtils.getStartDayOfLastWeek;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.BANNER_PROJECT_COUNT;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.POPULAR_PROJECTS_KEY_PREFIX;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.POPULAR_PROJECTS_MATERIALIZE_CRON;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.POPULAR_PROJECTS_SNAPSHOT_TTL;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.POPULAR_PROJECTS_TTL;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import sixgaezzang.sidepeek.common.util.component.DateTimeProvider;
+import sixgaezzang.sidepeek.projects.domain.Project;
+import sixgaezzang.sidepeek.projects.dto.response.ProjectBannerResponse;
+import sixgaezzang.sidepeek.projects.repository.project.ProjectRepository;
+
+/**
+ * 지난 주 인기 프로젝트 순위를 미리 계산해두고 제공하는 서비스.
+ * <p>
+ * 매주 월요일 0시에 지난 주 좋아요 수로 순위를 계산하여 Redis에 주(週)별로 저장하고, 조회 시에는 메모리 스냅샷을 원자적으로
+ * 교체하여 사용한다. 스냅샷은 프로젝트 수정/삭제가 반영되도록 {@code POPULAR_PROJECTS_SNAPSHOT_TTL}마다 Redis에서 다시 읽으며,
+ * 아직 계산되지 않은 주라면 조회 시점에 계산한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PopularProjectsMaterializer {
+
+    private static final String ID_DELIMITER = ",";
+
+    private final DateTimeProvider dateTimeProvider;
+    private final ProjectRepository projectRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    @Scheduled(cron = POPULAR_PROJECTS_MATERIALIZE_CRON)
+    public void materializeLastWeek() {
+        LocalDate today = dateTimeProvider.getCurrentDate();
+        LocalDate startDate = getStartDayOfLastWeek(today);
+
+        List<ProjectBannerResponse> banners = projectRepository.findAllPopularOfPeriod(startDate,
+            getEndDayOfLastWeek(today), BANNER_PROJECT_COUNT);
+        save(startDate, banners);
+        snapshot.set(new Snapshot(startDate, banners, Instant.now()));
+    }
+
+    /**
+     * 기간의 인기 프로젝트를 조회하는 메서드. 메모리 스냅샷, Redis, DB 순으로 조회한다.
+     *
+     * @param startDate 기간 시작일(지난 주 월요일)
+     * @param endDate   기간 종료일(지난 주 일요일)
+     * @return 좋아요를 많이 받은 순으로 정렬된 프로젝트 목록
+     */
+    public List<ProjectBannerResponse> findAllPopularOfPeriod(LocalDate startDate, LocalDate endDate) {
+        Snapshot current = snapshot.get();
+        if (Objects.nonNull(current) && current.isValid(startDate)) {
+            return current.banners();
+        }
+
+        String materializedIds = redisTemplate.opsForValue().get(getKey(startDate));
+        List<ProjectBannerResponse> banners = Objects.isNull(materializedIds)
+            ? projectRepository.findAllPopularOfPeriod(startDate, endDate, BANNER_PROJECT_COUNT)
+            : findAllBannerByIds(materializedIds);
+
+        // 롤백되는 트랜잭션에서 조회한 결과가 공유되지 않도록 커밋 이후에 저장합니다.
+        runAfterCommit(() -> {
+            if (Objects.isNull(materializedIds)) {
+                save(startDate, banners);
+            }
+            snapshot.set(new Snapshot(startDate, banners, Instant.now()));
+        });
+        return banners;
+    }
+
+    private void save(LocalDate startDate, List<ProjectBannerResponse> banners) {
+        String projectIds = banners.stream()
+            .map(banner -> String.valueOf(banner.id()))
+            .collect(Collectors.joining(ID_DELIMITER));
+        redisTemplate.opsForValue().set(getKey(startDate), projectIds, POPULAR_PROJECTS_TTL);
+    }
+
+    private List<ProjectBannerResponse> findAllBannerByIds(String materializedIds) {
+        if (materializedIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> projectIds = Arrays.stream(materializedIds.split(ID_DELIMITER))
+            .map(Long::valueOf)
+            .toList();
+        Map<Long, Project> projectsById = projectRepository.findAllById(projectIds).stream()
+            .collect(Collectors.toMap(Project::getId, Function.identity()));
+
+        // 순위를 유지하고, 그 사이 삭제된 프로젝트는 제외합니다.
+        return projectIds.stream()
+            .map(projectsById::get)
+            .filter(Objects::nonNull)
+            .map(ProjectBannerResponse::from)
+            .toList();
+    }
+
+    private String getKey(LocalDate startDate) {
+        return POPULAR_PROJECTS_KEY_PREFIX + startDate;
+    }
+
+    private record Snapshot(LocalDate startDate, List<ProjectBannerResponse> banners, Instant loadedAt) {
+
+        boolean isValid(LocalDate startDate) {
+            return this.startDate.equals(startDate)
+                && loadedAt.plus(POPULAR_PROJECTS_SNAPSHOT_TTL).isAfter(Instant.now());
+        }
+
+    }
+
+}
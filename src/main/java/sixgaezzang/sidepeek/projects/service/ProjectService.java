@@ -7,19 +7,16 @@ import static sixgaezzang.sidepeek.projects.exception.message.ProjectErrorMessag
 import static sixgaezzang.sidepeek.projects.exception.message.ProjectErrorMessage.USER_PROJECT_SEARCH_TYPE_IS_INVALID;
 import static sixgaezzang.sidepeek.projects.util.DateUtils.getEndDayOfLastWeek;
 import static sixgaezzang.sidepeek.projects.util.DateUtils.getStartDayOfLastWeek;
-import static sixgaezzang.sidepeek.projects.util.ProjectConstant.BANNER_PROJECT_COUNT;
 import static sixgaezzang.sidepeek.users.util.validation.UserValidator.validateLoginIdEqualsUserId;
 
 import jakarta.persistence.EntityNotFoundException;
-import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,20 +25,32 @@ import sixgaezzang.sidepeek.comments.service.CommentService;
 import sixgaezzang.sidepeek.common.dto.response.Page;
 import sixgaezzang.sidepeek.common.util.component.DateTimeProvider;
 import sixgaezzang.sidepeek.like.repository.LikeRepository;
+import sixgaezzang.sidepeek.like.service.LikeCountService;
 import sixgaezzang.sidepeek.projects.domain.Project;
 import sixgaezzang.sidepeek.projects.domain.UserProjectSearchType;
+import sixgaezzang.sidepeek.projects.domain.event.ProjectChangedEvent;
 import sixgaezzang.sidepeek.projects.dto.request.FindProjectRequest;
+import sixgaezzang.sidepeek.projects.dto.request.FindUserProjectRequest;
+import sixgaezzang.sidepeek.projects.dto.request.SaveMemberRequest;
 import sixgaezzang.sidepeek.projects.dto.request.SaveProjectRequest;
 import sixgaezzang.sidepeek.projects.dto.request.UpdateProjectRequest;
 import sixgaezzang.sidepeek.projects.dto.response.CursorPaginationResponse;
 import sixgaezzang.sidepeek.projects.dto.response.MemberSummary;
 import sixgaezzang.sidepeek.projects.dto.response.OverviewImageSummary;
 import sixgaezzang.sidepeek.projects.dto.response.ProjectBannerResponse;
+import sixgaezzang.sidepeek.projects.dto.response.ProjectDetailSnapshot;
 import sixgaezzang.sidepeek.projects.dto.response.ProjectListResponse;
 import sixgaezzang.sidepeek.projects.dto.response.ProjectResponse;
 import sixgaezzang.sidepeek.projects.dto.response.ProjectSkillSummary;
+import sixgaezzang.sidepeek.projects.repository.project.ProjectDetailReadModel;
+import sixgaezzang.sidepeek.projects.repository.project.ProjectDetailReadModel.ViewerState;
 import sixgaezzang.sidepeek.projects.repository.project.ProjectRepository;
+import sixgaezzang.sidepeek.projects.repository.search.ProjectSearchIndex;
+import sixgaezzang.sidepeek.projects.util.component.ProjectCountCache;
+import sixgaezzang.sidepeek.projects.util.component.ProjectCountCache.CachedCount;
+import sixgaezzang.sidepeek.projects.util.component.ProjectDetailCache;
 import sixgaezzang.sidepeek.users.domain.User;
+import sixgaezzang.sidepeek.users.domain.event.UserSummaryChangedEvent;
 import sixgaezzang.sidepeek.users.service.UserService;
 
 @Service
@@ -51,13 +60,20 @@ public class ProjectService {
 
     private final DateTimeProvider dateTimeProvider;
     private final ProjectRepository projectRepository;
+    private final ProjectDetailReadModel projectDetailReadModel;
+    private final ProjectCountCache projectCountCache;
+    private final ProjectDetailCache projectDetailCache;
+    private final ProjectSearchIndex projectSearchIndex;
     private final UserService userService;
     private final ProjectSkillService projectSkillService;
     private final MemberService memberService;
     private final FileService fileService;
     private final LikeRepository likeRepository;
     private final CommentService commentService;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final ViewCountService viewCountService;
+    private final LikeCountService likeCountService;
+    private final PopularProjectsMaterializer popularProjectsMaterializer;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ProjectResponse save(Long loginId, SaveProjectRequest request) {
@@ -66,12 +82,14 @@ public class ProjectService {
 
         Project project = request.toEntity();
         projectRepository.save(project);
+        projectCountCache.invalidate();
 
         List<ProjectSkillSummary> techStacks = projectSkillService.cleanAndSaveAll(project,
             request.techStacks());
         List<MemberSummary> members = memberService.cleanAndSaveAll(project, request.members());
         List<OverviewImageSummary> overviewImages = fileService.cleanAndSaveAll(project,
             request.overviewImageUrl());
+        projectSearchIndex.index(project.getId(), project.getName(), getNicknames(request.members()));
 
         return ProjectResponse.from(project, overviewImages, techStacks, members,
             Collections.emptyList(), null);
@@ -84,34 +102,34 @@ public class ProjectService {
 
     public CursorPaginationResponse<ProjectListResponse> findByCondition(Long loginId,
         FindProjectRequest request) {
-        // 사용자가 좋아요한 프로젝트 ID를 조회
-        List<Long> likedProjectIds = getLikedProjectIds(loginId);
+        // 좋아요 여부는 조회된 페이지의 프로젝트에 대해서만 확인
+        CursorPaginationResponse<ProjectListResponse> response = projectRepository.findByCondition(
+            loginId, request);
 
-        return projectRepository.findByCondition(likedProjectIds, request);
+        if (request.skipCount() && !request.isFirstPage()) {
+            return response;    // 전체 개수 생략
+        }
+
+        CachedCount totalElements = projectCountCache.getOrCount(request,
+            () -> projectRepository.countByCondition(request));
+        return response.withTotalElements(totalElements.count(), totalElements.isCached());
     }
 
-    @Transactional
     public ProjectResponse findById(String ip, Long loginId, Long projectId) {
-        Project project = getById(projectId);
-
-        List<OverviewImageSummary> overviewImages = fileService.findAllByProject(project)
-            .stream()
-            .map(OverviewImageSummary::from)
-            .toList();
-
-        List<ProjectSkillSummary> techStacks = projectSkillService.findAll(project);
-
-        List<MemberSummary> members = memberService.findAll(project);
-
-        List<CommentResponse> comments = commentService.findAll(loginId, project);
-
-        // 로그인한 사용자가 좋아요한 프로젝트라면, 좋아요 식별자 반환(아니라면 null)
-        User user = userService.getByIdOrNull(loginId);
-        Long likeId = findLikeIdByUserAndProject(user, project);
+        // 트랜잭션의 첫 DB 조회보다 먼저 캐시 버전을 읽어야 이전 데이터가 새 버전으로 캐싱되지 않음
+        ProjectDetailSnapshot snapshot = projectDetailCache.getOrLoad(projectId,
+                () -> projectDetailReadModel.loadSnapshot(projectId))
+            .orElseThrow(() -> new EntityNotFoundException(PROJECT_NOT_EXISTING));
+        // 삭제 여부와 카운터, 좋아요 식별자는 캐시와 관계없이 매 요청 조회
+        ViewerState viewerState = projectDetailReadModel.findViewerState(projectId, loginId)
+            .orElseThrow(() -> new EntityNotFoundException(PROJECT_NOT_EXISTING));
 
-        increaseViewCount(ip, project); // 조회수 증가
+        viewCountService.increase(ip, projectId); // 조회수 증가(주기적으로 일괄 반영)
 
-        return ProjectResponse.from(project, overviewImages, techStacks, members, comments, likeId);
+        return snapshot.toResponse(loginId, viewerState.viewCount(), viewerState.likeCount(),
+                viewerState.commentCount(), viewerState.likeId())
+            .withPendingCounts(viewCountService.getPendingCount(projectId),
+                likeCountService.getPendingCount(projectId));
     }
 
     public List<ProjectBannerResponse> findAllPopularLastWeek() {
@@ -119,29 +137,38 @@ public class ProjectService {
         LocalDate startDate = getStartDayOfLastWeek(today);
         LocalDate endDate = getEndDayOfLastWeek(today);
 
-        return projectRepository.findAllPopularOfPeriod(startDate, endDate, BANNER_PROJECT_COUNT);
+        return popularProjectsMaterializer.findAllPopularOfPeriod(startDate, endDate);
     }
 
     public Page<ProjectListResponse> findByUser(Long userId, Long loginId,
         UserProjectSearchType type, Pageable pageable) {
         User user = userService.getById(userId);
 
-        List<Long> likedProjectIds = getLikedProjectIds(userId);
-
         switch (type) {
             case JOINED:
-                return findJoinedProjectsByUser(user, likedProjectIds, pageable);
+                return findJoinedProjectsByUser(user, userId, pageable);
             case LIKED:
                 validateLoginIdEqualsUserId(loginId, userId);
-                return findLikedProjectsByUser(user, likedProjectIds, pageable);
+                return findLikedProjectsByUser(user, userId, pageable);
             case COMMENTED:
                 validateLoginIdEqualsUserId(loginId, userId);
-                return findAllByUserCommentedByUser(user, likedProjectIds, pageable);
+                return findAllByUserCommentedByUser(user, userId, pageable);
             default:
                 throw new IllegalArgumentException(USER_PROJECT_SEARCH_TYPE_IS_INVALID);
         }
     }
 
+    public CursorPaginationResponse<ProjectListResponse> findByUser(Long userId, Long loginId,
+        FindUserProjectRequest request) {
+        userService.getPrincipal(userId);    // 존재 여부만 확인하므로 회원 행을 읽지 않음
+
+        if (request.type() != UserProjectSearchType.JOINED) {
+            validateLoginIdEqualsUserId(loginId, userId);
+        }
+
+        return projectRepository.findByUser(userId, userId, request);
+    }
+
     @Transactional
     public ProjectResponse update(Long loginId, Long projectId, UpdateProjectRequest request) {
         validateLoginId(loginId);
@@ -150,17 +177,20 @@ public class ProjectService {
         validateLoginUserIncludeMembers(loginId, project);
 
         project.update(request);
+        projectCountCache.invalidate();
 
         List<ProjectSkillSummary> techStacks = projectSkillService.cleanAndSaveAll(project,
             request.techStacks());
         List<MemberSummary> members = memberService.cleanAndSaveAll(project, request.members());
         List<OverviewImageSummary> overviewImages = fileService.cleanAndSaveAll(project,
             request.overviewImageUrl());
+        projectSearchIndex.index(project.getId(), project.getName(), getNicknames(request.members()));
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
 
         List<CommentResponse> comments = commentService.findAll(loginId, project);
 
-        User user = userService.getByIdOrNull(loginId);
-        Long likeId = findLikeIdByUserAndProject(user, project);
+        Long likeId = likeRepository.findIdByUserAndProject(userService.getReferenceById(loginId), project)
+            .orElse(null);
 
         return ProjectResponse.from(project, overviewImages, techStacks, members, comments, likeId);
     }
@@ -173,6 +203,25 @@ public class ProjectService {
         validateLoginIdEqualsOwnerId(loginId, project.getOwnerId());
 
         project.softDelete(dateTimeProvider.getCurrentDateTime());
+        projectCountCache.invalidate();
+        projectSearchIndex.remove(projectId);
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
+    }
+
+    /**
+     * 회원의 닉네임이나 프로필 이미지가 바뀌거나 회원이 탈퇴하면, 그 회원이 노출되는 프로젝트의 상세 스냅샷을 무효화한다. 회원을
+     * 변경한 트랜잭션 안에서 프로젝트를 찾고, 스냅샷은 {@link ProjectDetailCache}가 커밋 이후에 무효화한다.
+     */
+    @EventListener
+    public void handle(UserSummaryChangedEvent event) {
+        projectDetailReadModel.findProjectIdsShowingUser(event.userId())
+            .forEach(projectId -> eventPublisher.publishEvent(new ProjectChangedEvent(projectId)));
+    }
+
+    private List<String> getNicknames(List<SaveMemberRequest> members) {
+        return members.stream()
+            .map(SaveMemberRequest::nickname)
+            .toList();
     }
 
     private void validateLoginUserIncludeMembers(Long loginId, Project project) {
@@ -181,42 +230,18 @@ public class ProjectService {
                 () -> new AccessDeniedException(ONLY_OWNER_AND_FELLOW_MEMBER_CAN_UPDATE));
     }
 
-    private List<Long> getLikedProjectIds(Long userId) {
-        return Optional.ofNullable(userId)
-            .map(likeRepository::findAllProjectIdsByUser)
-            .orElse(Collections.emptyList());
-    }
-
-    private Page<ProjectListResponse> findJoinedProjectsByUser(User user,
-        List<Long> likedProjectIds,
+    private Page<ProjectListResponse> findJoinedProjectsByUser(User user, Long likerId,
         Pageable pageable) {
-        return Page.from(projectRepository.findAllByUserJoined(likedProjectIds, user, pageable));
+        return Page.from(projectRepository.findAllByUserJoined(likerId, user, pageable));
     }
 
-    private Page<ProjectListResponse> findLikedProjectsByUser(User user, List<Long> likedProjectIds,
+    private Page<ProjectListResponse> findLikedProjectsByUser(User user, Long likerId,
         Pageable pageable) {
-        return Page.from(projectRepository.findAllByUserLiked(likedProjectIds, user, pageable));
+        return Page.from(projectRepository.findAllByUserLiked(likerId, user, pageable));
     }
 
-    private Page<ProjectListResponse> findAllByUserCommentedByUser(User user,
-        List<Long> likedProjectIds,
+    private Page<ProjectListResponse> findAllByUserCommentedByUser(User user, Long likerId,
         Pageable pageable) {
-        return Page.from(projectRepository.findAllByUserCommented(likedProjectIds, user, pageable));
-    }
-
-    private Long findLikeIdByUserAndProject(User user, Project project) {
-        if (Objects.isNull(user)) {
-            return null;
-        }
-        return likeRepository.findIdByUserAndProject(user, project).orElse(null);
-    }
-
-    private void increaseViewCount(String ip, Project project) {
-        String viewCountKey = ip + "-" + project.getId();
-
-        if (!redisTemplate.hasKey(viewCountKey)) {
-            project.increaseViewCount();
-            redisTemplate.opsForValue().set(viewCountKey, "ON", Duration.ofDays(1));
-        }
+        return Page.from(projectRepository.findAllByUserCommented(likerId, user, pageable));
     }
 }
@@ -1,22 +1,22 @@
 package sixgaezzang.sidepeek.projects.service;
 
-import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.mapping;
-import static java.util.stream.Collectors.toList;
 import static sixgaezzang.sidepeek.common.util.validation.TechStackValidator.validateTechStacks;
 import static sixgaezzang.sidepeek.projects.util.validation.ProjectValidator.validateProject;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import sixgaezzang.sidepeek.common.dto.request.SaveTechStackRequest;
+import sixgaezzang.sidepeek.common.util.ChildCollectionSynchronizer;
 import sixgaezzang.sidepeek.projects.domain.Project;
 import sixgaezzang.sidepeek.projects.domain.ProjectSkill;
 import sixgaezzang.sidepeek.projects.dto.response.ProjectSkillSummary;
 import sixgaezzang.sidepeek.projects.repository.ProjectSkillRepository;
-import sixgaezzang.sidepeek.skill.dto.response.SkillResponse;
+import sixgaezzang.sidepeek.projects.repository.search.ProjectSkillIndex;
+import sixgaezzang.sidepeek.skill.domain.Skill;
 import sixgaezzang.sidepeek.skill.serivce.SkillService;
 
 @Service
@@ -25,12 +25,13 @@ import sixgaezzang.sidepeek.skill.serivce.SkillService;
 public class ProjectSkillService {
 
     private final ProjectSkillRepository projectSkillRepository;
+    private final ProjectSkillIndex projectSkillIndex;
     private final SkillService skillService;
 
     public List<ProjectSkillSummary> findAll(Project project) {
-        List<ProjectSkill> skills = projectSkillRepository.findAllByProject(project);
+        List<ProjectSkill> skills = projectSkillRepository.findAllByProjectOrderById(project);
 
-        return generateProjectSkillSummaries(skills);
+        return ProjectSkillSummary.groupByCategory(skills);
     }
 
     @Transactional
@@ -39,38 +40,33 @@ public class ProjectSkillService {
         validateProject(project);
         validateTechStacks(techStacks);
 
-        cleanExistingProjectSkillsByProject(project);
+        Map<Long, Skill> skills = skillService.getAllByIds(techStacks.stream()
+            .map(SaveTechStackRequest::skillId)
+            .toList());
 
-        List<ProjectSkill> skills = convertAllToEntity(project, techStacks);
+        // 기존 기술 스택과 비교하여 달라진 기술 스택만 추가/수정/삭제(식별자 순서가 노출 순서이므로 요청 순서를 유지)
+        ChildCollectionSynchronizer<ProjectSkill, SaveTechStackRequest> synchronizer =
+            new ChildCollectionSynchronizer<>(
+                projectSkillRepository,
+                ProjectSkill::getId,
+                this::isSameTechStack,
+                techStack -> techStack.toProjectSkill(project, skills.get(techStack.skillId())),
+                (projectSkill, techStack) -> projectSkill.update(skills.get(techStack.skillId()),
+                    techStack.category())
+            );
+        List<ProjectSkill> projectSkills = synchronizer.synchronizeInOrder(
+            projectSkillRepository.findAllByProjectOrderById(project), techStacks);
 
-        return generateProjectSkillSummaries(projectSkillRepository.saveAll(skills));
-    }
+        projectSkillIndex.replace(project.getId(), projectSkills.stream()
+            .map(projectSkill -> projectSkill.getSkill().getName())
+            .toList());
 
-    private void cleanExistingProjectSkillsByProject(Project project) {
-        if (projectSkillRepository.existsByProject(project)) {
-            projectSkillRepository.deleteAllByProject(project);
-        }
+        return ProjectSkillSummary.groupByCategory(projectSkills);
     }
 
-    private List<ProjectSkill> convertAllToEntity(Project project,
-        List<SaveTechStackRequest> techStacks) {
-        return techStacks.stream()
-            .map(techStack -> techStack.toProjectSkill(
-                project,
-                skillService.getById(techStack.skillId()))
-            )
-            .toList();
-    }
-
-    private List<ProjectSkillSummary> generateProjectSkillSummaries(List<ProjectSkill> skills) {
-        Map<String, List<SkillResponse>> skillMap = skills.stream()
-            .collect(groupingBy(ProjectSkill::getCategory,
-                mapping(skill -> SkillResponse.from(skill.getSkill()),
-                    toList())));
-
-        return skillMap.entrySet().stream()
-            .map(entry -> ProjectSkillSummary.of(entry.getKey(), entry.getValue()))
-            .toList();
+    private boolean isSameTechStack(ProjectSkill projectSkill, SaveTechStackRequest techStack) {
+        return Objects.equals(projectSkill.getSkill().getId(), techStack.skillId())
+            && Objects.equals(projectSkill.getCategory(), techStack.category());
     }
 
 }
@@ -0,0 +1,60 @@
+package sixgaezzang.sidepeek.projects.service;
+
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.VIEW_COUNT_BATCH_STALE_AFTER;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.VIEW_COUNT_BUFFER_NAME;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.VIEW_COUNT_FLUSH_DELAY_SECONDS;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.VIEW_COUNT_RECOVER_DELAY_SECONDS;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import sixgaezzang.sidepeek.common.counter.RedisCounterBuffer;
+import sixgaezzang.sidepeek.projects.repository.project.ProjectCounterRepository;
+import sixgaezzang.sidepeek.projects.util.component.ViewDeduplicator;
+
+@Service
+public class ViewCountService {
+
+    private final ViewDeduplicator viewDeduplicator;
+    private final ProjectCounterRepository projectCounterRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisCounterBuffer viewCountBuffer;
+
+    public ViewCountService(RedisTemplate<String, String> redisTemplate, ViewDeduplicator viewDeduplicator,
+        ProjectCounterRepository projectCounterRepository, TransactionTemplate transactionTemplate) {
+        this.viewDeduplicator = viewDeduplicator;
+        this.projectCounterRepository = projectCounterRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.viewCountBuffer = new RedisCounterBuffer(redisTemplate, VIEW_COUNT_BUFFER_NAME);
+    }
+
+    public void increase(String ip, Long projectId) {
+        if (viewDeduplicator.isFirstView(ip, projectId)) {
+            viewCountBuffer.increase(projectId, 1L);
+        }
+    }
+
+    public long getPendingCount(Long projectId) {
+        return viewCountBuffer.getPendingDelta(projectId);
+    }
+
+    @Scheduled(fixedDelay = VIEW_COUNT_FLUSH_DELAY_SECONDS, timeUnit = TimeUnit.SECONDS)
+    public void flush() {
+        viewCountBuffer.flush(this::apply);
+    }
+
+    @Scheduled(fixedDelay = VIEW_COUNT_RECOVER_DELAY_SECONDS, timeUnit = TimeUnit.SECONDS)
+    public void recover() {
+        viewCountBuffer.recover(VIEW_COUNT_BATCH_STALE_AFTER, this::apply);
+    }
+
+    private void apply(Map<Long, Long> viewCountDeltas) {
+        // 배치 전체를 하나의 트랜잭션으로 반영해야 실패 시 배치를 그대로 재반영할 수 있습니다.
+        transactionTemplate.executeWithoutResult(status ->
+            projectCounterRepository.increaseViewCounts(viewCountDeltas));
+    }
+
+}
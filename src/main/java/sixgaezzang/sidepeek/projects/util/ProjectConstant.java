@@ -1,5 +1,6 @@
 package sixgaezzang.sidepeek.projects.util;
 
+import java.time.Duration;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -10,6 +11,46 @@ public final class ProjectConstant {
     public static final int MAX_OVERVIEW_LENGTH = 300;
     public static final String YEAR_MONTH_PATTERN = "yyyy-MM";
     public static final int BANNER_PROJECT_COUNT = 5;
+    public static final int DEFAULT_PAGE_SIZE = 24;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // Popular Projects
+    public static final String POPULAR_PROJECTS_KEY_PREFIX = "popular-projects:";
+    public static final Duration POPULAR_PROJECTS_TTL = Duration.ofDays(14);
+    public static final Duration POPULAR_PROJECTS_SNAPSHOT_TTL = Duration.ofMinutes(10);
+    public static final String POPULAR_PROJECTS_MATERIALIZE_CRON = "0 0 0 * * MON";
+
+    // View Count
+    public static final String VIEW_COUNT_BUFFER_NAME = "project-view-count";
+    public static final long VIEW_COUNT_FLUSH_DELAY_SECONDS = 60;
+    public static final long VIEW_COUNT_RECOVER_DELAY_SECONDS = 300;
+    public static final Duration VIEW_COUNT_BATCH_STALE_AFTER = Duration.ofMinutes(5);
+    public static final int COUNTER_FLUSH_CHUNK_SIZE = 500;
+    public static final String VIEW_DEDUP_KEY_PREFIX = "project-view:";
+    public static final Duration VIEW_DEDUP_TTL = Duration.ofDays(1);
+    public static final String UNIQUE_VIEWER_KEY_PREFIX = "project-viewers:";
+    public static final Duration UNIQUE_VIEWER_DAILY_KEY_TTL = Duration.ofDays(2);
+
+    // Project Count
+    public static final String PROJECT_COUNT_KEY_PREFIX = "project-count:";
+    public static final String PROJECT_COUNT_GENERATION_KEY = "project-count:generation";
+    public static final Duration PROJECT_COUNT_TTL = Duration.ofSeconds(30);
+
+    // Project Detail Cache
+    public static final String PROJECT_DETAIL_KEY_PREFIX = "project-detail:";
+    public static final String PROJECT_DETAIL_VERSION_KEY_PREFIX = "project-detail:version:";
+    public static final String PROJECT_DETAIL_EVICT_CHANNEL = "project-detail:evict";
+    public static final Duration PROJECT_DETAIL_TTL = Duration.ofMinutes(30);
+    public static final Duration PROJECT_DETAIL_LOCAL_TTL = Duration.ofMinutes(1);
+    public static final int PROJECT_DETAIL_LOCAL_MAX_SIZE = 1_000;
+
+    // Search
+    public static final int SEARCH_NGRAM_SIZE = 2;
+    public static final int MAX_SEARCH_RESULT_COUNT = 1000;
+    public static final long SEARCH_INDEX_REBUILD_DELAY_MINUTES = 10;
+    public static final String SEARCH_INDEX_CHANGE_CHANNEL = "project-search-index:change";
+    public static final String SKILL_INDEX_CHANGE_CHANNEL = "project-skill-index:change";
+    public static final int MAX_SKILL_FILTER_ID_COUNT = 1000;
 
     // Member
     public static final int MAX_MEMBER_COUNT = 10;
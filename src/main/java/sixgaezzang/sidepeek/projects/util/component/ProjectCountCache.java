@@ -0,0 +1,79 @@
+package sixgaezzang.sidepeek.projects.util.component;
+
+import static sixgaezzang.sidepeek.common.util.TransactionUtils.runAfterCommit;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.PROJECT_COUNT_GENERATION_KEY;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.PROJECT_COUNT_KEY_PREFIX;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.PROJECT_COUNT_TTL;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import sixgaezzang.sidepeek.projects.dto.request.FindProjectRequest;
+
+/**
+ * 프로젝트 목록 조회 조건별 전체 개수를 짧은 TTL로 캐싱하는 컴포넌트.
+ * <p>
+ * 캐시 키는 필터(출시 여부, 정렬된 기술 스택, 검색어)를 정규화하여 만들고, 프로젝트가 생성/수정/삭제되면 세대(generation)
+ * 값을 증가시켜 이전 세대의 캐시를 모두 무효화한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectCountCache {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 캐시된 전체 개수를 반환하고, 없으면 {@code counter}로 조회하여 캐싱하는 메서드
+     *
+     * @param request 프로젝트 목록 조회 조건
+     * @param counter 전체 개수 조회 함수
+     * @return 전체 개수와 캐시 사용 여부
+     */
+    public CachedCount getOrCount(FindProjectRequest request, Supplier<Long> counter) {
+        String key = generateKey(request);
+
+        String cached = redisTemplate.opsForValue().get(key);
+        if (Objects.nonNull(cached)) {
+            return new CachedCount(Long.parseLong(cached), true);
+        }
+
+        long count = counter.get();
+        redisTemplate.opsForValue().set(key, String.valueOf(count), PROJECT_COUNT_TTL);
+        return new CachedCount(count, false);
+    }
+
+    /**
+     * 캐시된 전체 개수를 모두 무효화하는 메서드. 트랜잭션 안에서 호출되면 커밋 이후에 무효화한다.
+     */
+    public void invalidate() {
+        runAfterCommit(this::increaseGeneration);
+    }
+
+    private void increaseGeneration() {
+        redisTemplate.opsForValue().increment(PROJECT_COUNT_GENERATION_KEY);
+    }
+
+    private String generateKey(FindProjectRequest request) {
+        String generation = redisTemplate.opsForValue().get(PROJECT_COUNT_GENERATION_KEY);
+
+        List<String> skills = Objects.isNull(request.skill()) ? List.of()
+            : request.skill().stream().sorted().toList();
+        String search = Objects.isNull(request.search()) ? ""
+            : request.search().trim().toLowerCase(Locale.ROOT);
+
+        String filter = request.isReleased() + "|" + String.join(",", skills) + "|" + search;
+        return PROJECT_COUNT_KEY_PREFIX + Objects.requireNonNullElse(generation, "0") + ":"
+            + DigestUtils.md5DigestAsHex(filter.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public record CachedCount(long count, boolean isCached) {
+
+    }
+
+}
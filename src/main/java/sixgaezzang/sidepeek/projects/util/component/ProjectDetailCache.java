@@ -0,0 +1,163 @@
+package sixgaezzang.sidepeek.projects.util.component;
+
+import static sixgaezzang.sidepeek.common.util.TransactionUtils.runAfterCommit;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.PROJECT_DETAIL_EVICT_CHANNEL;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.PROJECT_DETAIL_KEY_PREFIX;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.PROJECT_DETAIL_LOCAL_MAX_SIZE;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.PROJECT_DETAIL_LOCAL_TTL;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.PROJECT_DETAIL_TTL;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.PROJECT_DETAIL_VERSION_KEY_PREFIX;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sixgaezzang.sidepeek.projects.domain.event.ProjectChangedEvent;
+import sixgaezzang.sidepeek.projects.dto.response.ProjectDetailSnapshot;
+
+/**
+ * 사용자와 관계없는 프로젝트 상세 조회 결과를 로컬(Caffeine, L1)과 Redis(L2)에 2단계로 캐싱하는 컴포넌트.
+ * <p>
+ * 프로젝트가 변경되면 {@link ProjectChangedEvent}를 받아 커밋 이후에 Redis의 스냅샷을 삭제하고 버전을 증가시킨 뒤,
+ * Pub/Sub으로 모든 노드의 로컬 캐시를 무효화한다. 스냅샷은 조회 전에 읽은 버전이 그대로일 때만 저장하므로, 변경 전에
+ * 시작된 조회가 무효화 이후에 이전 스냅샷을 다시 저장하지 않는다.
+ */
+@Slf4j
+@Component
+public class ProjectDetailCache implements MessageListener {
+
+    private static final RedisScript<Long> PUT_IF_VERSION_SCRIPT = new DefaultRedisScript<>("""
+        local version = redis.call('GET', KEYS[1]) or ''
+        if version ~= ARGV[1] then
+            return 0
+        end
+        redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3])
+        return 1
+        """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Cache<Long, ProjectDetailSnapshot> localCache;
+
+    public ProjectDetailCache(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper,
+        RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.listenerContainer = listenerContainer;
+        this.localCache = Caffeine.newBuilder()
+            .maximumSize(PROJECT_DETAIL_LOCAL_MAX_SIZE)
+            .expireAfterWrite(PROJECT_DETAIL_LOCAL_TTL)
+            .build();
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(PROJECT_DETAIL_EVICT_CHANNEL));
+    }
+
+    /**
+     * 캐시된 스냅샷을 반환하고, 없으면 {@code loader}로 조회하여 커밋 이후에 캐싱하는 메서드.
+     * <p>
+     * REPEATABLE READ 트랜잭션은 첫 조회 시점의 데이터를 계속 읽으므로, 트랜잭션 안에서는 DB를 조회하기 전에 호출해야 한다. 그렇지
+     * 않으면 첫 조회 이후 커밋된 변경이 빠진 스냅샷이 변경 이후의 버전으로 캐싱될 수 있다.
+     *
+     * @param projectId 프로젝트 식별자
+     * @param loader    스냅샷 조회 함수
+     * @return 프로젝트가 없으면 빈 값
+     */
+    public Optional<ProjectDetailSnapshot> getOrLoad(Long projectId,
+        Supplier<Optional<ProjectDetailSnapshot>> loader) {
+        ProjectDetailSnapshot local = localCache.getIfPresent(projectId);
+        if (Objects.nonNull(local)) {
+            return Optional.of(local);
+        }
+
+        Optional<ProjectDetailSnapshot> cached = findInRedis(projectId);
+        if (cached.isPresent()) {
+            localCache.put(projectId, cached.get());
+            return cached;
+        }
+
+        String version = Objects.requireNonNullElse(
+            redisTemplate.opsForValue().get(PROJECT_DETAIL_VERSION_KEY_PREFIX + projectId), "");
+        Optional<ProjectDetailSnapshot> loaded = loader.get();
+        loaded.ifPresent(snapshot -> runAfterCommit(() -> put(projectId, version, snapshot)));
+
+        return loaded;
+    }
+
+    /**
+     * 스냅샷을 모든 노드에서 무효화하는 메서드
+     *
+     * @param projectId 프로젝트 식별자
+     */
+    public void evict(Long projectId) {
+        String versionKey = PROJECT_DETAIL_VERSION_KEY_PREFIX + projectId;
+
+        localCache.invalidate(projectId);
+        redisTemplate.opsForValue().increment(versionKey);
+        redisTemplate.expire(versionKey, PROJECT_DETAIL_TTL);
+        redisTemplate.delete(PROJECT_DETAIL_KEY_PREFIX + projectId);
+        redisTemplate.convertAndSend(PROJECT_DETAIL_EVICT_CHANNEL, projectId.toString());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(ProjectChangedEvent event) {
+        evict(event.projectId());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        localCache.invalidate(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+    }
+
+    private Optional<ProjectDetailSnapshot> findInRedis(Long projectId) {
+        String value = redisTemplate.opsForValue().get(PROJECT_DETAIL_KEY_PREFIX + projectId);
+        if (Objects.isNull(value)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(objectMapper.readValue(value, ProjectDetailSnapshot.class));
+        } catch (JsonProcessingException e) {    // 응답 형식이 바뀌어 읽을 수 없는 스냅샷은 다시 조회
+            log.warn("프로젝트 상세 캐시를 읽을 수 없습니다. projectId={}", projectId, e);
+            return Optional.empty();
+        }
+    }
+
+    private void put(Long projectId, String version, ProjectDetailSnapshot snapshot) {
+        String value;
+        try {
+            value = objectMapper.writeValueAsString(snapshot);
+        } catch (JsonProcessingException e) {
+            log.warn("프로젝트 상세 캐시를 저장할 수 없습니다. projectId={}", projectId, e);
+            return;
+        }
+
+        Long stored = redisTemplate.execute(PUT_IF_VERSION_SCRIPT,
+            List.of(PROJECT_DETAIL_VERSION_KEY_PREFIX + projectId, PROJECT_DETAIL_KEY_PREFIX + projectId),
+            version, value, String.valueOf(PROJECT_DETAIL_TTL.toMillis()));
+
+        if (stored != null && stored == 1L) {
+            localCache.put(projectId, snapshot);
+        }
+    }
+
+}
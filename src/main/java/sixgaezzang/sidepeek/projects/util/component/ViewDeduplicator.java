@@ -0,0 +1,67 @@
+package sixgaezzang.sidepeek.projects.util.component;
+
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.UNIQUE_VIEWER_DAILY_KEY_TTL;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.UNIQUE_VIEWER_KEY_PREFIX;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.VIEW_DEDUP_KEY_PREFIX;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.VIEW_DEDUP_TTL;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import sixgaezzang.sidepeek.common.util.component.DateTimeProvider;
+import sixgaezzang.sidepeek.config.properties.ViewCountProperties;
+import sixgaezzang.sidepeek.config.properties.ViewCountProperties.DedupMode;
+
+/**
+ * 같은 사용자(IP)의 반복 조회를 걸러내는 컴포넌트.
+ * <p>
+ * {@code KEY} 모드는 IP×프로젝트마다 하루짜리 키를 SET NX EX로 한 번에 등록하고, {@code HYPER_LOG_LOG} 모드는 프로젝트별
+ * 일자 HyperLogLog에 IP를 추가하여 키 개수를 프로젝트 수 수준으로 줄인다. HyperLogLog 모드는 근사값이므로 드물게 새 조회가
+ * 중복으로 판정될 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ViewDeduplicator {
+
+    private static final DateTimeFormatter DAY_FORMATTER = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final RedisScript<Long> HYPER_LOG_LOG_SCRIPT = new DefaultRedisScript<>("""
+        local added = redis.call('PFADD', KEYS[1], ARGV[1])
+        if added == 1 then
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+        end
+        return added
+        """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DateTimeProvider dateTimeProvider;
+    private final ViewCountProperties viewCountProperties;
+
+    /**
+     * 조회를 기록하고 처음 집계되는 조회인지 반환하는 메서드
+     *
+     * @param ip        조회자 IP
+     * @param projectId 프로젝트 Id
+     * @return 오늘(KEY 모드는 최근 24시간) 처음 조회하면 {@code true}
+     */
+    public boolean isFirstView(String ip, Long projectId) {
+        if (viewCountProperties.dedupMode() == DedupMode.HYPER_LOG_LOG) {
+            Long added = redisTemplate.execute(HYPER_LOG_LOG_SCRIPT,
+                List.of(getDailyViewersKey(projectId)),
+                ip, String.valueOf(UNIQUE_VIEWER_DAILY_KEY_TTL.toSeconds()));
+            return added != null && added == 1L;
+        }
+
+        String key = VIEW_DEDUP_KEY_PREFIX + projectId + ":" + ip;
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, "1", VIEW_DEDUP_TTL));
+    }
+
+    private String getDailyViewersKey(Long projectId) {
+        return UNIQUE_VIEWER_KEY_PREFIX + projectId + ":"
+            + dateTimeProvider.getCurrentDate().format(DAY_FORMATTER);
+    }
+
+}
@@ -5,6 +5,7 @@ import static sixgaezzang.sidepeek.common.util.validation.ValidationUtils.valida
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -13,9 +14,11 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import sixgaezzang.sidepeek.skill.repository.SkillCatalogInvalidator;
 
 @Entity
 @Table(name = "skill")
+@EntityListeners(SkillCatalogInvalidator.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class Skill {
@@ -10,6 +10,7 @@ import lombok.NoArgsConstructor;
 public class SkillErrorMessage {
 
     public static final String SKILL_NOT_EXISTING = "Skill Id에 해당하는 스킬이 없습니다.";
+    public static final String SKILLS_NOT_EXISTING = "Skill Id에 해당하는 스킬이 없습니다. 존재하지 않는 Skill Id: ";
     public static final String SKILL_IS_NULL = "기술 스택이 null 입니다.";
     public static final String SKILL_ID_IS_NULL = "기술 스택의 스택 Id를 입력해주세요";
     public static final String SKILL_NAME_OVER_MAX_LENGTH = "기술 스택명은 " + MAX_SKILL_NAME_LENGTH
@@ -0,0 +1,115 @@
+package sixgaezzang.sidepeek.skill.repository;
+
+import static sixgaezzang.sidepeek.skill.util.SkillConstant.SKILL_SEARCH_NGRAM_SIZE;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Repository;
+import sixgaezzang.sidepeek.common.util.NgramIndex;
+import sixgaezzang.sidepeek.skill.domain.Skill;
+import sixgaezzang.sidepeek.skill.dto.response.SkillSearchResponse;
+
+/**
+ * 기술 스택 전체를 메모리에 불변 스냅샷으로 보관하는 카탈로그.
+ * <p>
+ * 기술 스택은 적고 거의 바뀌지 않으므로 이름 검색(n-gram 색인, 대소문자 무시)과 식별자 조회를 DB 없이 처리하고, 검색어가 없을 때의
+ * 응답은 미리 만들어 둔다. 기술 스택이 저장/수정/삭제되면 {@link #invalidate()}로 스냅샷을 무효화하고, 다음 조회 시 전체를 다시
+ * 읽어 한 번에 교체한다.
+ */
+@Repository
+public class SkillCatalog {
+
+    private final SkillRepository skillRepository;
+    private final AtomicLong generation = new AtomicLong();
+    private final ReentrantLock reloadLock = new ReentrantLock();    // DB 조회 중 가상 스레드가 캐리어에 고정되지 않도록 synchronized 대신 사용
+    private volatile Snapshot snapshot;
+
+    public SkillCatalog(SkillRepository skillRepository) {
+        this.skillRepository = skillRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        getSnapshot();
+    }
+
+    public SkillSearchResponse findAll() {
+        return getSnapshot().allSkills();
+    }
+
+    /**
+     * 이름에 검색어가 포함된 기술 스택을 조회하는 메서드. 이름이 검색어로 시작하는 기술 스택이 먼저 반환된다.
+     *
+     * @param keyword 검색어(대소문자 무시)
+     * @return 검색 결과
+     */
+    public SkillSearchResponse searchByName(String keyword) {
+        Snapshot current = getSnapshot();
+
+        List<Skill> skills = current.nameIndex().search(keyword, current.skillsById().size()).stream()
+            .map(current.skillsById()::get)
+            .toList();
+
+        return SkillSearchResponse.from(skills);
+    }
+
+    public Optional<Skill> findById(Long id) {
+        return Optional.ofNullable(getSnapshot().skillsById().get(id));
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    private Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (Objects.nonNull(current) && current.generation() == generation.get()) {
+            return current;
+        }
+        return reload();
+    }
+
+    private Snapshot reload() {
+        reloadLock.lock();
+        try {
+            return reloadSnapshot();
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private Snapshot reloadSnapshot() {
+        long loadingGeneration = generation.get();
+        if (Objects.nonNull(snapshot) && snapshot.generation() == loadingGeneration) {
+            return snapshot;    // 다른 스레드가 이미 다시 읽음
+        }
+
+        List<Skill> skills = skillRepository.findAll();
+        Map<Long, Skill> skillsById = skills.stream()
+            .collect(Collectors.toUnmodifiableMap(Skill::getId, Function.identity()));
+        NgramIndex<Long> nameIndex = new NgramIndex<>(SKILL_SEARCH_NGRAM_SIZE);
+        skills.forEach(skill -> nameIndex.put(skill.getId(), List.of(skill.getName())));
+
+        // 읽는 도중 무효화되었다면 다음 조회 시 다시 읽도록 읽기 시작한 세대로 저장
+        snapshot = new Snapshot(loadingGeneration, skillsById, nameIndex, SkillSearchResponse.from(skills));
+        return snapshot;
+    }
+
+    private record Snapshot(
+        long generation,
+        Map<Long, Skill> skillsById,
+        NgramIndex<Long> nameIndex,
+        SkillSearchResponse allSkills
+    ) {
+
+    }
+
+}
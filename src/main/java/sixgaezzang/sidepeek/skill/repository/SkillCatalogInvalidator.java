@@ -0,0 +1,32 @@
+package sixgaezzang.sidepeek.skill.repository;
+
+import static sixgaezzang.sidepeek.common.util.TransactionUtils.runAfterCompletion;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import sixgaezzang.sidepeek.skill.domain.Skill;
+
+/**
+ * 기술 스택이 변경되면 {@link SkillCatalog}를 무효화하는 엔티티 리스너.
+ * <p>
+ * 같은 트랜잭션 안의 조회에는 변경 내용이 보이도록 즉시 무효화하고, 트랜잭션이 끝나면(롤백 포함) 한 번 더 무효화하여 커밋된
+ * 상태로 다시 읽도록 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SkillCatalogInvalidator {
+
+    private final SkillCatalog skillCatalog;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void invalidate(Skill skill) {
+        skillCatalog.invalidate();
+        runAfterCompletion(skillCatalog::invalidate);
+    }
+
+}
@@ -2,15 +2,23 @@ package sixgaezzang.sidepeek.skill.serivce;
 
 import static sixgaezzang.sidepeek.common.util.validation.ValidationUtils.validateMaxLength;
 import static sixgaezzang.sidepeek.skill.domain.Skill.MAX_SKILL_NAME_LENGTH;
+import static sixgaezzang.sidepeek.skill.exception.message.SkillErrorMessage.SKILLS_NOT_EXISTING;
 import static sixgaezzang.sidepeek.skill.exception.message.SkillErrorMessage.SKILL_NOT_EXISTING;
 
 import jakarta.persistence.EntityNotFoundException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import sixgaezzang.sidepeek.skill.domain.Skill;
 import sixgaezzang.sidepeek.skill.dto.response.SkillSearchResponse;
+import sixgaezzang.sidepeek.skill.repository.SkillCatalog;
 import sixgaezzang.sidepeek.skill.repository.SkillRepository;
 
 @Service
@@ -19,21 +27,66 @@ import sixgaezzang.sidepeek.skill.repository.SkillRepository;
 public class SkillService {
 
     private final SkillRepository skillRepository;
+    private final SkillCatalog skillCatalog;
 
     public SkillSearchResponse searchByName(String keyword) {
         if (Objects.isNull(keyword) || keyword.isBlank()) {
-            return SkillSearchResponse.from(skillRepository.findAll());
+            return skillCatalog.findAll();
         }
 
         validateMaxLength(keyword, MAX_SKILL_NAME_LENGTH,
             "최대 " + MAX_SKILL_NAME_LENGTH + "자의 키워드로 검색할 수 있습니다.");
 
-        return SkillSearchResponse.from(skillRepository.findAllByNameContaining(keyword));
+        return skillCatalog.searchByName(keyword);
     }
 
     public Skill getById(Long skillId) {
-        return skillRepository.findById(skillId)
+        return skillCatalog.findById(skillId)
+            .orElseGet(() -> findByIdAndInvalidate(skillId));
+    }
+
+    /**
+     * 식별자 목록에 해당하는 기술 스택을 한 번에 조회하는 메서드. 카탈로그에 없는 식별자만 DB에서 한 번에 조회한다.
+     *
+     * @param skillIds 기술 스택 식별자 목록
+     * @return 식별자별 기술 스택
+     * @throws EntityNotFoundException 존재하지 않는 식별자가 있으면 발생하며, 메시지에 존재하지 않는 식별자를 모두 담는다.
+     */
+    public Map<Long, Skill> getAllByIds(Collection<Long> skillIds) {
+        Map<Long, Skill> skills = new HashMap<>();
+        List<Long> uncachedIds = new ArrayList<>();
+        for (Long skillId : new LinkedHashSet<>(skillIds)) {
+            skillCatalog.findById(skillId)
+                .ifPresentOrElse(skill -> skills.put(skillId, skill), () -> uncachedIds.add(skillId));
+        }
+
+        if (uncachedIds.isEmpty()) {
+            return skills;
+        }
+
+        List<Skill> foundSkills = skillRepository.findAllById(uncachedIds);
+        if (!foundSkills.isEmpty()) {
+            skillCatalog.invalidate();
+        }
+        foundSkills.forEach(skill -> skills.put(skill.getId(), skill));
+
+        List<Long> missingIds = uncachedIds.stream()
+            .filter(skillId -> !skills.containsKey(skillId))
+            .toList();
+        if (!missingIds.isEmpty()) {
+            throw new EntityNotFoundException(SKILLS_NOT_EXISTING + missingIds);
+        }
+
+        return skills;
+    }
+
+    private Skill findByIdAndInvalidate(Long skillId) {
+        // 애플리케이션을 거치지 않고 추가된 기술 스택이라면 카탈로그를 다시 읽도록 함
+        Skill skill = skillRepository.findById(skillId)
             .orElseThrow(() -> new EntityNotFoundException(SKILL_NOT_EXISTING));
+        skillCatalog.invalidate();
+
+        return skill;
     }
 
 }
@@ -0,0 +1,12 @@
+package sixgaezzang.sidepeek.skill.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SkillConstant {
+
+    // Search
+    public static final int SKILL_SEARCH_NGRAM_SIZE = 2;
+
+}
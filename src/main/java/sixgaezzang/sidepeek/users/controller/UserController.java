@@ -11,6 +11,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -23,6 +24,8 @@ import sixgaezzang.sidepeek.common.annotation.Login;
 import sixgaezzang.sidepeek.common.doc.UserControllerDoc;
 import sixgaezzang.sidepeek.common.dto.response.Page;
 import sixgaezzang.sidepeek.projects.domain.UserProjectSearchType;
+import sixgaezzang.sidepeek.projects.dto.request.FindUserProjectRequest;
+import sixgaezzang.sidepeek.projects.dto.response.CursorPaginationResponse;
 import sixgaezzang.sidepeek.projects.dto.response.ProjectListResponse;
 import sixgaezzang.sidepeek.projects.service.ProjectService;
 import sixgaezzang.sidepeek.users.dto.request.CheckEmailRequest;
@@ -132,4 +135,18 @@ public class UserController implements UserControllerDoc {
         return ResponseEntity.ok()
             .body(projects);
     }
+
+    @Override
+    @GetMapping("/{id}/projects/cursor")
+    public ResponseEntity<CursorPaginationResponse<ProjectListResponse>> getProjectsByCursor(
+        @Login Long loginId,
+        @PathVariable Long id,
+        @Valid @ModelAttribute FindUserProjectRequest request
+    ) {
+        CursorPaginationResponse<ProjectListResponse> projects = projectService.findByUser(id, loginId,
+            request);
+
+        return ResponseEntity.ok()
+            .body(projects);
+    }
 }
@@ -0,0 +1,10 @@
+package sixgaezzang.sidepeek.users.domain.event;
+
+/**
+ * 다른 응답에 함께 노출되는 회원 요약 정보(닉네임, 프로필 이미지)가 변경되었거나 회원이 탈퇴했음을 알리는 이벤트.
+ *
+ * @param userId 변경된 회원 식별자
+ */
+public record UserSummaryChangedEvent(Long userId) {
+
+}
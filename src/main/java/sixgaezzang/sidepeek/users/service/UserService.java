@@ -17,14 +17,15 @@ import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import sixgaezzang.sidepeek.auth.repository.AuthProviderRepository;
 import sixgaezzang.sidepeek.users.domain.User;
+import sixgaezzang.sidepeek.users.domain.event.UserSummaryChangedEvent;
 import sixgaezzang.sidepeek.users.dto.request.SignUpRequest;
 import sixgaezzang.sidepeek.users.dto.request.UpdatePasswordRequest;
 import sixgaezzang.sidepeek.users.dto.request.UpdateUserProfileRequest;
@@ -33,6 +34,8 @@ import sixgaezzang.sidepeek.users.dto.response.UserProfileResponse;
 import sixgaezzang.sidepeek.users.dto.response.UserSearchResponse;
 import sixgaezzang.sidepeek.users.dto.response.UserSkillSummary;
 import sixgaezzang.sidepeek.users.repository.UserRepository;
+import sixgaezzang.sidepeek.users.util.component.PrincipalCache;
+import sixgaezzang.sidepeek.users.util.component.PrincipalCache.Principal;
 
 @Service
 @Transactional(readOnly = true)
@@ -43,6 +46,8 @@ public class UserService {
     private final AuthProviderRepository authProviderRepository;
     private final UserSkillService userSkillService;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Long signUp(SignUpRequest request) {
@@ -66,10 +71,27 @@ public class UserService {
             .orElseThrow(() -> new EntityNotFoundException(USER_NOT_EXISTING));
     }
 
-    public User getByIdOrNull(Long userId) {
-        return Optional.ofNullable(userId)
-            .map(this::getById)
-            .orElse(null);
+    /**
+     * 회원 행을 읽지 않고 캐시된 식별 정보로 회원을 확인하는 메서드
+     *
+     * @param userId 회원 식별자
+     * @return 회원 식별 정보
+     */
+    public Principal getPrincipal(Long userId) {
+        return principalCache.getOrLoad(userId, () -> userRepository.findById(userId)
+                .map(user -> Principal.of(user, authProviderRepository.existsByUser(user))))
+            .orElseThrow(() -> new EntityNotFoundException(USER_NOT_EXISTING));
+    }
+
+    /**
+     * 연관관계 설정에만 사용할 회원 참조를 반환하는 메서드. 존재 여부는 캐시로 확인하므로 회원 행을 읽지 않는다.
+     *
+     * @param userId 회원 식별자
+     * @return 회원 프록시
+     */
+    public User getReferenceById(Long userId) {
+        getPrincipal(userId);
+        return userRepository.getReferenceById(userId);
     }
 
     public UserSearchResponse searchByNickname(String keyword) {
@@ -122,6 +144,8 @@ public class UserService {
         List<UserSkillSummary> techStacks = userSkillService.saveAll(user, request.techStacks());
 
         boolean isSocialLogin = authProviderRepository.existsByUser(user);
+        principalCache.evict(id);
+        eventPublisher.publishEvent(new UserSummaryChangedEvent(id));
 
         return UserProfileResponse.from(user, isSocialLogin, techStacks);
     }
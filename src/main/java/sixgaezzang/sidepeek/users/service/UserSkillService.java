@@ -2,18 +2,19 @@ package sixgaezzang.sidepeek.users.service;
 
 import static sixgaezzang.sidepeek.common.util.validation.TechStackValidator.validateTechStacks;
 import static sixgaezzang.sidepeek.common.util.validation.ValidationUtils.isNullOrEmpty;
-import static sixgaezzang.sidepeek.skill.exception.message.SkillErrorMessage.SKILL_NOT_EXISTING;
 import static sixgaezzang.sidepeek.users.util.validation.UserValidator.validateUser;
 
-import jakarta.persistence.EntityNotFoundException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import sixgaezzang.sidepeek.common.dto.request.SaveTechStackRequest;
+import sixgaezzang.sidepeek.common.util.ChildCollectionSynchronizer;
 import sixgaezzang.sidepeek.skill.domain.Skill;
-import sixgaezzang.sidepeek.skill.repository.SkillRepository;
+import sixgaezzang.sidepeek.skill.serivce.SkillService;
 import sixgaezzang.sidepeek.users.domain.User;
 import sixgaezzang.sidepeek.users.domain.UserSkill;
 import sixgaezzang.sidepeek.users.dto.response.UserSkillSummary;
@@ -25,7 +26,7 @@ import sixgaezzang.sidepeek.users.repository.userskill.UserSkillRepository;
 public class UserSkillService {
 
     private final UserSkillRepository userSkillRepository;
-    private final SkillRepository skillRepository;
+    private final SkillService skillService;
 
     public List<UserSkillSummary> findAllByUser(User user) {
         validateUser(user);
@@ -38,31 +39,35 @@ public class UserSkillService {
 
     public List<UserSkillSummary> saveAll(User user, List<SaveTechStackRequest> techStacks) {
         validateUser(user);
-        if (userSkillRepository.existsByUser(user)) {
-            userSkillRepository.deleteAllByUser(user);
-        }
 
-        if (isNullOrEmpty(techStacks)) {
-            return Collections.emptyList();
+        List<SaveTechStackRequest> requests = Collections.emptyList();
+        if (!isNullOrEmpty(techStacks)) {
+            validateTechStacks(techStacks);
+            requests = techStacks;
         }
+        Map<Long, Skill> skills = skillService.getAllByIds(requests.stream()
+            .map(SaveTechStackRequest::skillId)
+            .toList());
 
-        validateTechStacks(techStacks);
-        List<UserSkill> skills = convertAllToEntity(user, techStacks);
-        userSkillRepository.saveAll(skills);
+        // 기존 기술 스택과 비교하여 달라진 기술 스택만 추가/수정/삭제
+        ChildCollectionSynchronizer<UserSkill, SaveTechStackRequest> synchronizer =
+            new ChildCollectionSynchronizer<>(
+                userSkillRepository,
+                UserSkill::getId,
+                this::isSameTechStack,
+                techStack -> techStack.toUserSkill(user, skills.get(techStack.skillId())),
+                (userSkill, techStack) -> userSkill.update(skills.get(techStack.skillId()),
+                    techStack.category())
+            );
 
-        return skills.stream()
+        return synchronizer.synchronize(userSkillRepository.findAllByUser(user), requests)
+            .stream()
             .map(UserSkillSummary::from)
             .toList();
     }
 
-    private List<UserSkill> convertAllToEntity(User user, List<SaveTechStackRequest> techStacks) {
-        return techStacks.stream()
-            .map(techStack -> {
-                Skill skill = skillRepository.findById(techStack.skillId())
-                    .orElseThrow(() -> new EntityNotFoundException(SKILL_NOT_EXISTING));
-
-                return techStack.toUserSkill(user, skill);
-            })
-            .toList();
+    private boolean isSameTechStack(UserSkill userSkill, SaveTechStackRequest techStack) {
+        return Objects.equals(userSkill.getSkill().getId(), techStack.skillId())
+            && Objects.equals(userSkill.getCategory(), techStack.category());
     }
 }
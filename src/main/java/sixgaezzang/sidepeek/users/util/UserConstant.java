@@ -1,5 +1,6 @@
 package sixgaezzang.sidepeek.users.util;
 
+import java.time.Duration;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -11,4 +12,7 @@ public final class UserConstant {
     public static final int MAX_CAREER_LENGTH = 30;
     public static final int MAX_JOB_LENGTH = 30;
     public static final int MAX_EMAIL_LENGTH = 50;
+    public static final String PRINCIPAL_KEY_PREFIX = "principal:";
+    public static final String PRINCIPAL_VERSION_KEY_PREFIX = "principal:version:";
+    public static final Duration PRINCIPAL_TTL = Duration.ofHours(1);
 }
@@ -0,0 +1,170 @@
+package sixgaezzang.sidepeek.users.util.component;
+
+import static sixgaezzang.sidepeek.common.util.TransactionUtils.runAfterCommit;
+import static sixgaezzang.sidepeek.common.util.TransactionUtils.runAfterCompletion;
+import static sixgaezzang.sidepeek.users.util.UserConstant.PRINCIPAL_KEY_PREFIX;
+import static sixgaezzang.sidepeek.users.util.UserConstant.PRINCIPAL_TTL;
+import static sixgaezzang.sidepeek.users.util.UserConstant.PRINCIPAL_VERSION_KEY_PREFIX;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import sixgaezzang.sidepeek.users.domain.User;
+import sixgaezzang.sidepeek.users.dto.response.UserSummary;
+
+/**
+ * 로그인 사용자의 식별 정보(닉네임, 프로필 이미지, 소셜 로그인 여부)를 Redis에 보관하는 캐시.
+ * <p>
+ * 회원이 존재하는지 확인하거나 요약 정보만 필요한 요청이 {@code users} 행을 읽지 않도록, 로그인/토큰 재발급 시 저장하고
+ * 프로필이 수정되면 무효화한다. 저장은 커밋 이후에만 하므로 롤백된 트랜잭션의 값은 캐시에 남지 않는다.
+ * <p>
+ * 무효화할 때마다 버전을 증가시키고, 식별 정보는 조회 전에 읽은 버전이 그대로일 때만 저장한다. 따라서 무효화 이전에 시작된 조회가
+ * 커밋 이후에 이전 식별 정보를 다시 저장하지 않는다.
+ */
+@Slf4j
+@Component
+public class PrincipalCache {
+
+    private static final RedisScript<Long> PUT_IF_VERSION_SCRIPT = new DefaultRedisScript<>("""
+        local version = redis.call('GET', KEYS[1]) or ''
+        if version ~= ARGV[1] then
+            return 0
+        end
+        redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3])
+        return 1
+        """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public PrincipalCache(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 캐시된 식별 정보를 반환하고, 없으면 {@code loader}로 조회하여 커밋 이후에 캐싱하는 메서드
+     *
+     * @param userId 회원 식별자
+     * @param loader 식별 정보 조회 함수
+     * @return 회원이 없으면 빈 값
+     */
+    public Optional<Principal> getOrLoad(Long userId, Supplier<Optional<Principal>> loader) {
+        Optional<Principal> cached = find(userId);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        String version = getVersion(userId);
+        Optional<Principal> loaded = loader.get();
+        loaded.ifPresent(principal -> put(principal, version));
+        return loaded;
+    }
+
+    /**
+     * 식별 정보를 커밋 이후에 캐싱하는 메서드. 호출 시점의 버전으로 저장하므로 식별 정보를 조회한 직후에 호출해야 한다.
+     *
+     * @param principal 회원 식별 정보
+     */
+    public void put(Principal principal) {
+        put(principal, getVersion(principal.id()));
+    }
+
+    /**
+     * 식별 정보를 무효화하는 메서드. 트랜잭션이 끝나기 전에 시작된 조회는 변경 전의 회원 정보를 무효화 이후의 버전으로 읽을 수 있으므로
+     * 트랜잭션이 끝난 뒤에 버전을 한 번 더 증가시킨다.
+     *
+     * @param userId 회원 식별자
+     */
+    public void evict(Long userId) {
+        invalidate(userId);
+        runAfterCompletion(() -> invalidate(userId));
+    }
+
+    private void invalidate(Long userId) {
+        String versionKey = getVersionKey(userId);
+
+        redisTemplate.opsForValue().increment(versionKey);
+        redisTemplate.expire(versionKey, PRINCIPAL_TTL);
+        redisTemplate.delete(getKey(userId));
+    }
+
+    private void put(Principal principal, String version) {
+        String value;
+        try {
+            value = objectMapper.writeValueAsString(principal);
+        } catch (JsonProcessingException e) {
+            log.warn("회원 식별 정보를 캐싱할 수 없습니다. userId={}", principal.id(), e);
+            return;
+        }
+
+        runAfterCommit(() -> redisTemplate.execute(PUT_IF_VERSION_SCRIPT,
+            List.of(getVersionKey(principal.id()), getKey(principal.id())),
+            version, value, String.valueOf(PRINCIPAL_TTL.toMillis())));
+    }
+
+    private String getVersion(Long userId) {
+        return Objects.requireNonNullElse(redisTemplate.opsForValue().get(getVersionKey(userId)), "");
+    }
+
+    private Optional<Principal> find(Long userId) {
+        String value = redisTemplate.opsForValue().get(getKey(userId));
+        if (Objects.isNull(value)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(objectMapper.readValue(value, Principal.class));
+        } catch (JsonProcessingException e) {    // 형식이 바뀌어 읽을 수 없는 값은 다시 조회
+            log.warn("회원 식별 정보 캐시를 읽을 수 없습니다. userId={}", userId, e);
+            return Optional.empty();
+        }
+    }
+
+    private String getKey(Long userId) {
+        return PRINCIPAL_KEY_PREFIX + userId;
+    }
+
+    private String getVersionKey(Long userId) {
+        return PRINCIPAL_VERSION_KEY_PREFIX + userId;
+    }
+
+    /**
+     * 캐싱되는 회원 식별 정보
+     *
+     * @param id              회원 식별자
+     * @param nickname        닉네임
+     * @param profileImageUrl 프로필 이미지
+     * @param isSocialLogin   소셜 로그인 회원 여부
+     */
+    public record Principal(
+        Long id,
+        String nickname,
+        String profileImageUrl,
+        Boolean isSocialLogin
+    ) {
+
+        public static Principal of(User user, boolean isSocialLogin) {
+            return new Principal(user.getId(), user.getNickname(), user.getProfileImageUrl(), isSocialLogin);
+        }
+
+        public UserSummary toUserSummary() {
+            return UserSummary.builder()
+                .id(id)
+                .isSocialLogin(isSocialLogin)
+                .nickname(nickname)
+                .profileImageUrl(profileImageUrl)
+                .build();
+        }
+
+    }
+
+}
@@ -0,0 +1,8 @@
+-- ID SEQUENCE
+-- 더미데이터의 식별자 이후의 블록(블록 크기 50)부터 할당하도록 블록 번호를 올립니다.
+INSERT IGNORE INTO project_skill_id_sequence (id)
+SELECT CEIL((COALESCE(MAX(id), 0) + 1) / 50)
+FROM project_skill;
+INSERT IGNORE INTO user_skill_id_sequence (id)
+SELECT CEIL((COALESCE(MAX(id), 0) + 1) / 50)
+FROM user_skill;
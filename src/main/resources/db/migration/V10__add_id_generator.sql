@@ -0,0 +1,15 @@
+-- ID GENERATOR
+-- IDENTITY 전략은 INSERT를 JDBC 배치로 묶을 수 없으므로, 기술 스택 연관 테이블은 식별자를 블록 단위로 미리 할당받습니다.
+CREATE TABLE id_generator
+(
+    name     VARCHAR(50) NOT NULL PRIMARY KEY,
+    next_val BIGINT      NOT NULL
+);
+
+INSERT INTO id_generator (name, next_val)
+SELECT 'project_skill', COALESCE(MAX(id), 0) + 1
+FROM project_skill;
+
+INSERT INTO id_generator (name, next_val)
+SELECT 'user_skill', COALESCE(MAX(id), 0) + 1
+FROM user_skill;
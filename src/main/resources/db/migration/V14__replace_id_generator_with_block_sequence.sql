@@ -0,0 +1,25 @@
+-- ID GENERATOR
+-- 테이블 전략은 블록을 별도 트랜잭션(두 번째 커넥션)으로 할당받아 커넥션 풀이 고갈될 수 있으므로,
+-- 현재 트랜잭션에서 AUTO_INCREMENT로 블록 번호(블록 크기 50)를 받는 시퀀스 테이블로 바꿉니다.
+-- 배포 중에 이전 버전이 할당받을 수 있는 블록 하나를 건너뛰도록 여유를 둡니다.
+CREATE TABLE project_skill_id_sequence
+(
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY
+);
+
+INSERT INTO project_skill_id_sequence (id)
+SELECT CEIL(next_val / 50) + 1
+FROM id_generator
+WHERE name = 'project_skill';
+
+CREATE TABLE user_skill_id_sequence
+(
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY
+);
+
+INSERT INTO user_skill_id_sequence (id)
+SELECT CEIL(next_val / 50) + 1
+FROM id_generator
+WHERE name = 'user_skill';
+
+DROP TABLE id_generator;
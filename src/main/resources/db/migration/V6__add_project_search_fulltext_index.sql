@@ -0,0 +1,7 @@
+-- PROJECT
+ALTER TABLE project
+    ADD FULLTEXT INDEX ft_project_name (name) WITH PARSER ngram;
+
+-- PROJECT_MEMBER
+ALTER TABLE project_member
+    ADD FULLTEXT INDEX ft_project_member_nickname (nickname) WITH PARSER ngram;
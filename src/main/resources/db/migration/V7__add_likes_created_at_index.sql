@@ -0,0 +1,2 @@
+-- LIKES
+CREATE INDEX idx_likes_created_at_project_id ON likes (created_at, project_id);
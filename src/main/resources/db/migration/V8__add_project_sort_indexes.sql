@@ -0,0 +1,17 @@
+-- PROJECT
+-- 삭제되지 않은 프로젝트(deleted_at IS NULL)를 정렬 기준별로 인덱스 순서대로 읽도록 합니다.
+CREATE INDEX idx_project_deleted_at_created_at ON project (deleted_at, created_at, id);
+CREATE INDEX idx_project_deleted_at_like_count ON project (deleted_at, like_count, id);
+CREATE INDEX idx_project_deleted_at_view_count ON project (deleted_at, view_count, id);
+
+-- LIKES
+-- 중복 좋아요를 정리한 뒤 사용자별 프로젝트 좋아요를 하나로 제한합니다.
+DELETE duplicated
+FROM likes duplicated
+         JOIN likes origin
+              ON duplicated.user_id = origin.user_id
+                  AND duplicated.project_id = origin.project_id
+                  AND duplicated.id > origin.id;
+
+ALTER TABLE likes
+    ADD CONSTRAINT uk_likes_user_id_project_id UNIQUE (user_id, project_id);
@@ -0,0 +1,6 @@
+-- PROJECT_MEMBER
+-- 회원별 프로젝트 탭을 프로젝트 식별자 순서대로 읽도록 합니다.
+CREATE INDEX idx_project_member_user_id_project_id ON project_member (user_id, project_id);
+
+-- COMMENTS
+CREATE INDEX idx_comments_user_id_project_id ON comments (user_id, project_id);
@@ -0,0 +1,83 @@
+package sixgaezzang.sidepeek.auth.benchmark;
+
+import static sixgaezzang.sidepeek.auth.filter.JWTValidationFilter.JWT_HEADER;
+import static sixgaezzang.sidepeek.auth.filter.JWTValidationFilter.JWT_PREFIX;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import sixgaezzang.sidepeek.auth.filter.JWTValidationFilter;
+import sixgaezzang.sidepeek.auth.jwt.JWTManager;
+import sixgaezzang.sidepeek.auth.jwt.VerifiedTokenCache;
+import sixgaezzang.sidepeek.config.properties.JWTProperties;
+
+/**
+ * 인증된 요청 한 건이 {@link JWTValidationFilter}에서 쓰는 시간을 토큰 검증 방식별로 측정하는 JMH 벤치마크.
+ * <p>
+ * {@code legacyParserPerRequest}는 요청마다 파서를 만들던 이전 방식, {@code sharedParser}는 공유 파서로 매번 서명을
+ * 검증하는 방식, {@code filterWithCache}는 검증 결과 캐시에 적중하는 현재 필터 전체의 비용이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JWTValidationFilterBenchmark {
+
+    private static final String SECRET_KEY = "sidepeek-benchmark-secret-key-for-hmac-sha-256";
+    private static final long USER_ID = 1L;
+
+    private SecretKey secretKey;
+    private JWTManager jwtManager;
+    private JWTValidationFilter filter;
+    private String token;
+
+    @Setup
+    public void setup() {
+        JWTProperties properties = new JWTProperties("sidepeek", SECRET_KEY, 60, 14);
+        secretKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+        jwtManager = new JWTManager(properties);
+        filter = new JWTValidationFilter(new VerifiedTokenCache(jwtManager));
+        token = jwtManager.generateAccessToken(USER_ID);
+    }
+
+    @Benchmark
+    public Object legacyParserPerRequest() {
+        return Jwts.parserBuilder()
+            .setSigningKey(secretKey)
+            .build()
+            .parseClaimsJws(token)
+            .getBody()
+            .get(JWTManager.USER_ID_CLAIM, Long.class);
+    }
+
+    @Benchmark
+    public Object sharedParser() {
+        return jwtManager.parse(token).userId();
+    }
+
+    @Benchmark
+    public Object filterWithCache() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(JWT_HEADER, JWT_PREFIX + token);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+
+}
@@ -0,0 +1,52 @@
+package sixgaezzang.sidepeek.auth.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * {@link JWTValidationFilterBenchmark}를 실행하고 결과를 {@code build/reports/benchmark}에 남기는 테스트.
+ * <p>
+ * 애플리케이션 컨텍스트 없이 실행되며, {@code ./gradlew benchmarkTest}로 다른 벤치마크와 함께 실행한다.
+ */
+@Tag("benchmark")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class JWTValidationFilterBenchmarkTest {
+
+    static final Path REPORT_PATH = Path.of("build/reports/benchmark/jwt-validation-filter.txt");
+
+    @Test
+    void 토큰_검증_방식별_필터_비용을_측정한다() throws IOException, RunnerException {
+        // given
+        Files.createDirectories(REPORT_PATH.getParent());
+        Options options = new OptionsBuilder()
+            .include(JWTValidationFilterBenchmark.class.getSimpleName())
+            .forks(1)
+            .warmupIterations(3)
+            .measurementIterations(5)
+            .result(REPORT_PATH.toString())
+            .resultFormat(ResultFormatType.TEXT)
+            .build();
+
+        // when
+        Collection<RunResult> results = new Runner(options).run();
+
+        // then
+        assertThat(results).hasSize(3);
+        assertThat(REPORT_PATH).exists();
+    }
+
+}
@@ -0,0 +1,127 @@
+package sixgaezzang.sidepeek.auth.controller;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static sixgaezzang.sidepeek.auth.exception.message.AuthErrorMessage.OAUTH_CREDENTIALS_IS_INVALID;
+import static sixgaezzang.sidepeek.auth.exception.message.AuthErrorMessage.OAUTH_PROVIDER_UNAVAILABLE;
+
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import sixgaezzang.sidepeek.auth.dto.response.LoginResponse;
+import sixgaezzang.sidepeek.auth.service.AuthService;
+import sixgaezzang.sidepeek.common.exception.OAuth2ProviderException;
+import sixgaezzang.sidepeek.users.dto.response.UserSummary;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class AuthControllerTest {
+
+    static final String SOCIAL_LOGIN_URL = "/auth/login/{provider}";
+    static final String PROVIDER = "github";
+    static final String CODE = "code";
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean
+    AuthService authService;
+
+    private MvcResult startSocialLogin(String provider) throws Exception {
+        return mockMvc.perform(post(SOCIAL_LOGIN_URL, provider).param("code", CODE))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+    }
+
+    @Nested
+    class 소셜_로그인_테스트 {
+
+        @Test
+        void 로그인이_완료되면_비동기로_토큰을_응답한다() throws Exception {
+            // given
+            LoginResponse response = LoginResponse.builder()
+                .accessToken("access-token")
+                .refreshToken("refresh-token")
+                .user(UserSummary.builder()
+                    .id(1L)
+                    .isSocialLogin(true)
+                    .nickname("sidepeek")
+                    .build())
+                .build();
+            given(authService.socialLogin(PROVIDER, CODE))
+                .willReturn(CompletableFuture.supplyAsync(() -> response));
+
+            // when
+            MvcResult result = startSocialLogin(PROVIDER);
+
+            // then
+            mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accessToken").value(response.accessToken()))
+                .andExpect(jsonPath("$.refreshToken").value(response.refreshToken()))
+                .andExpect(jsonPath("$.user.isSocialLogin").value(true));
+        }
+
+        @Test
+        void 제공자_조회에_실패하면_401을_응답한다() throws Exception {
+            // given
+            CompletableFuture<LoginResponse> failed = CompletableFuture.<LoginResponse>failedFuture(
+                    new AuthenticationServiceException(OAUTH_CREDENTIALS_IS_INVALID))
+                .thenApply(response -> response);    // 이후 단계에서는 CompletionException으로 감싸져 전달됨
+            given(authService.socialLogin(PROVIDER, CODE)).willReturn(failed);
+
+            // when
+            MvcResult result = startSocialLogin(PROVIDER);
+
+            // then
+            mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value(OAUTH_CREDENTIALS_IS_INVALID));
+        }
+
+        @Test
+        void 제공자에_연결할_수_없으면_503을_응답한다() throws Exception {
+            // given
+            CompletableFuture<LoginResponse> failed = CompletableFuture.<LoginResponse>failedFuture(
+                    new OAuth2ProviderException(HttpStatus.SERVICE_UNAVAILABLE, OAUTH_PROVIDER_UNAVAILABLE, null))
+                .thenApply(response -> response);
+            given(authService.socialLogin(PROVIDER, CODE)).willReturn(failed);
+
+            // when
+            MvcResult result = startSocialLogin(PROVIDER);
+
+            // then
+            mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.message").value(OAUTH_PROVIDER_UNAVAILABLE));
+        }
+
+        @Test
+        void 지원하지_않는_제공자이면_400을_응답한다() throws Exception {
+            // given
+            String provider = "unknown";
+            given(authService.socialLogin(provider, CODE)).willThrow(IllegalArgumentException.class);
+
+            // when, then
+            mockMvc.perform(post(SOCIAL_LOGIN_URL, provider).param("code", CODE))
+                .andExpect(status().isBadRequest());
+        }
+
+    }
+
+}
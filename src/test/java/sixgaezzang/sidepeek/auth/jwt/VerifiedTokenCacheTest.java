@@ -0,0 +1,83 @@
+package sixgaezzang.sidepeek.auth.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static sixgaezzang.sidepeek.auth.exception.message.AuthErrorMessage.TOKEN_IS_EXPIRED;
+import static sixgaezzang.sidepeek.auth.exception.message.AuthErrorMessage.TOKEN_IS_INVALID;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import sixgaezzang.sidepeek.common.exception.TokenValidationFailException;
+import sixgaezzang.sidepeek.config.properties.JWTProperties;
+
+@SpringBootTest
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class VerifiedTokenCacheTest {
+
+    static final long USER_ID = 1L;
+
+    @Autowired
+    VerifiedTokenCache verifiedTokenCache;
+
+    @Autowired
+    JWTManager jwtManager;
+
+    @Autowired
+    JWTProperties jwtProperties;
+
+    @Nested
+    class 토큰_검증_테스트 {
+
+        @Test
+        void 검증된_토큰은_같은_값을_반환한다() {
+            // given
+            String token = jwtManager.generateAccessToken(USER_ID);
+
+            // when
+            VerifiedToken first = verifiedTokenCache.verify(token);
+            VerifiedToken second = verifiedTokenCache.verify(token);
+
+            // then
+            assertThat(first.userId()).isEqualTo(USER_ID);
+            assertThat(second).isSameAs(first);
+        }
+
+        @Test
+        void 서명이_변조된_토큰은_검증에_실패한다() {
+            // given
+            String token = jwtManager.generateAccessToken(USER_ID);
+            verifiedTokenCache.verify(token);
+            String tamperedToken = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+            // when
+            ThrowingCallable verify = () -> verifiedTokenCache.verify(tamperedToken);
+
+            // then
+            assertThatExceptionOfType(TokenValidationFailException.class).isThrownBy(verify)
+                .withMessage(TOKEN_IS_INVALID);
+        }
+
+        @Test
+        void 만료된_토큰은_캐싱하지_않고_검증에_실패한다() {
+            // given
+            JWTManager expiredTokenManager = new JWTManager(new JWTProperties(jwtProperties.issuer(),
+                jwtProperties.secretKey(), -1, jwtProperties.refreshExpiredAfter()));
+            String expiredToken = expiredTokenManager.generateAccessToken(USER_ID);
+
+            // when
+            ThrowingCallable verify = () -> verifiedTokenCache.verify(expiredToken);
+
+            // then
+            assertThatExceptionOfType(TokenValidationFailException.class).isThrownBy(verify)
+                .withMessage(TOKEN_IS_EXPIRED);
+        }
+
+    }
+
+}
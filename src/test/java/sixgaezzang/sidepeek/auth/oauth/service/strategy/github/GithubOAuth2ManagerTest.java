@@ -0,0 +1,205 @@
+package sixgaezzang.sidepeek.auth.oauth.service.strategy.github;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static sixgaezzang.sidepeek.auth.exception.message.AuthErrorMessage.OAUTH_CREDENTIALS_IS_INVALID;
+import static sixgaezzang.sidepeek.auth.exception.message.AuthErrorMessage.OAUTH_PROVIDER_ERROR;
+import static sixgaezzang.sidepeek.auth.exception.message.AuthErrorMessage.OAUTH_PROVIDER_UNAVAILABLE;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import sixgaezzang.sidepeek.auth.oauth.OAuth2User;
+import sixgaezzang.sidepeek.common.exception.OAuth2ProviderException;
+import sixgaezzang.sidepeek.config.WebClientConfig;
+import sixgaezzang.sidepeek.config.properties.GithubOAuth2Properties;
+import sixgaezzang.sidepeek.config.properties.OAuth2ClientProperties;
+
+/**
+ * GitHub 대신 로컬 {@link MockWebServer}에 요청을 보내 {@link GithubOAuth2Manager}를 검증하는 테스트.
+ */
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class GithubOAuth2ManagerTest {
+
+    static final String CODE = "authorization-code";
+    static final String ACCESS_TOKEN = "gho_access_token";
+    static final String ACCESS_TOKEN_RESPONSE = "{\"access_token\":\"" + ACCESS_TOKEN + "\"}";
+    static final String USER_INFO_RESPONSE = """
+        {"id":1234,"login":"sidepeek","avatar_url":"https://avatars.githubusercontent.com/u/1234",
+        "html_url":"https://github.com/sidepeek","blog":"https://sidepeek.dev"}
+        """;
+
+    MockWebServer server;
+    GithubOAuth2Manager githubOAuth2Manager;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        githubOAuth2Manager = createManager(server);
+    }
+
+    private GithubOAuth2Manager createManager(MockWebServer server) {
+        GithubOAuth2Properties properties = new GithubOAuth2Properties("client-id", "client-secret",
+            server.url("/login/oauth/access_token").toString(), server.url("/user").toString());
+        OAuth2ClientProperties clientProperties = new OAuth2ClientProperties(10, Duration.ofSeconds(30),
+            Duration.ofSeconds(1), Duration.ofSeconds(2), 2, Duration.ofMillis(10));
+        return new GithubOAuth2Manager(properties, clientProperties,
+            new WebClientConfig(clientProperties).oauth2WebClient());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    private MockResponse jsonResponse(String body) {
+        return new MockResponse()
+            .setHeader(CONTENT_TYPE, APPLICATION_JSON_VALUE)
+            .setBody(body);
+    }
+
+    private OAuth2User getOauth2User() {
+        try {
+            return githubOAuth2Manager.getOauth2UserAsync(CODE).join();
+        } catch (CompletionException e) {    // 비동기 조회에서 발생한 예외를 그대로 전달
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    @Nested
+    class 사용자_정보_조회_테스트 {
+
+        @Test
+        void 인가_코드로_사용자_정보를_비동기로_조회한다() throws Exception {
+            // given
+            server.enqueue(jsonResponse(ACCESS_TOKEN_RESPONSE));
+            server.enqueue(jsonResponse(USER_INFO_RESPONSE));
+
+            // when
+            OAuth2User oauth2User = githubOAuth2Manager.getOauth2UserAsync(CODE)
+                .get(5, TimeUnit.SECONDS);
+
+            // then
+            assertThat(oauth2User.getUser().getNickname()).isEqualTo("sidepeek");
+            assertThat(oauth2User.getAuthProvider().getProviderId()).isEqualTo("1234");
+
+            RecordedRequest tokenRequest = server.takeRequest();
+            RecordedRequest userInfoRequest = server.takeRequest();
+            assertThat(tokenRequest.getRequestUrl().queryParameter("code")).isEqualTo(CODE);
+            assertThat(userInfoRequest.getHeader(AUTHORIZATION)).isEqualTo("Bearer " + ACCESS_TOKEN);
+        }
+
+        @Test
+        void 사용자_정보_조회의_서버_오류는_재시도한_뒤_조회에_성공한다() {
+            // given
+            server.enqueue(jsonResponse(ACCESS_TOKEN_RESPONSE));
+            server.enqueue(new MockResponse().setResponseCode(503));
+            server.enqueue(jsonResponse(USER_INFO_RESPONSE));
+
+            // when
+            OAuth2User oauth2User = getOauth2User();
+
+            // then
+            assertThat(oauth2User.getUser().getNickname()).isEqualTo("sidepeek");
+            assertThat(server.getRequestCount()).isEqualTo(3);
+        }
+
+        @Test
+        void 인가_코드를_전송한_뒤의_서버_오류는_재시도하지_않고_조회에_실패한다() {
+            // given
+            server.enqueue(new MockResponse().setResponseCode(503));
+            server.enqueue(jsonResponse(ACCESS_TOKEN_RESPONSE));
+
+            // when
+            ThrowingCallable getOauth2User = GithubOAuth2ManagerTest.this::getOauth2User;
+
+            // then
+            assertThatExceptionOfType(OAuth2ProviderException.class).isThrownBy(getOauth2User)
+                .withMessage(OAUTH_PROVIDER_ERROR)
+                .extracting(OAuth2ProviderException::getStatus).isEqualTo(HttpStatus.BAD_GATEWAY);
+            assertThat(server.getRequestCount()).isEqualTo(1);
+        }
+
+        @Test
+        void 재시도_후에도_서버_오류가_계속되면_502로_응답하도록_실패한다() {
+            // given
+            server.enqueue(jsonResponse(ACCESS_TOKEN_RESPONSE));
+            for (int i = 0; i < 3; i++) {    // 최초 요청 + 재시도 2회
+                server.enqueue(new MockResponse().setResponseCode(500));
+            }
+
+            // when
+            ThrowingCallable getOauth2User = GithubOAuth2ManagerTest.this::getOauth2User;
+
+            // then
+            assertThatExceptionOfType(OAuth2ProviderException.class).isThrownBy(getOauth2User)
+                .withMessage(OAUTH_PROVIDER_ERROR)
+                .extracting(OAuth2ProviderException::getStatus).isEqualTo(HttpStatus.BAD_GATEWAY);
+            assertThat(server.getRequestCount()).isEqualTo(4);
+        }
+
+        @Test
+        void 제공자에_연결할_수_없으면_503으로_응답하도록_실패한다() throws IOException {
+            // given
+            MockWebServer stoppedServer = new MockWebServer();
+            stoppedServer.start();
+            stoppedServer.shutdown();    // 연결이 거부되는 주소
+            githubOAuth2Manager = createManager(stoppedServer);
+
+            // when
+            ThrowingCallable getOauth2User = GithubOAuth2ManagerTest.this::getOauth2User;
+
+            // then
+            assertThatExceptionOfType(OAuth2ProviderException.class).isThrownBy(getOauth2User)
+                .withMessage(OAUTH_PROVIDER_UNAVAILABLE)
+                .extracting(OAuth2ProviderException::getStatus).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        @Test
+        void 유효하지_않은_인가_코드인_경우_조회에_실패한다() {
+            // given
+            server.enqueue(jsonResponse("{\"error\":\"bad_verification_code\"}"));
+
+            // when
+            ThrowingCallable getOauth2User = GithubOAuth2ManagerTest.this::getOauth2User;
+
+            // then
+            assertThatExceptionOfType(AuthenticationServiceException.class).isThrownBy(getOauth2User)
+                .withMessage(OAUTH_CREDENTIALS_IS_INVALID);
+            assertThat(server.getRequestCount()).isEqualTo(1);
+        }
+
+        @Test
+        void 클라이언트_오류는_재시도하지_않고_조회에_실패한다() {
+            // given
+            server.enqueue(jsonResponse(ACCESS_TOKEN_RESPONSE));
+            server.enqueue(new MockResponse().setResponseCode(401));
+
+            // when
+            ThrowingCallable getOauth2User = GithubOAuth2ManagerTest.this::getOauth2User;
+
+            // then
+            assertThatExceptionOfType(AuthenticationServiceException.class).isThrownBy(getOauth2User)
+                .withMessage(OAUTH_CREDENTIALS_IS_INVALID);
+            assertThat(server.getRequestCount()).isEqualTo(2);
+        }
+    }
+
+}
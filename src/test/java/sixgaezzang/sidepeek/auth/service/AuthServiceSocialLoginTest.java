@@ -0,0 +1,209 @@
+package sixgaezzang.sidepeek.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static sixgaezzang.sidepeek.auth.exception.message.AuthErrorMessage.OAUTH_CREDENTIALS_IS_INVALID;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.task.TaskExecutionProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sixgaezzang.sidepeek.auth.domain.AuthProvider;
+import sixgaezzang.sidepeek.auth.domain.ProviderType;
+import sixgaezzang.sidepeek.auth.dto.response.LoginResponse;
+import sixgaezzang.sidepeek.auth.jwt.JWTManager;
+import sixgaezzang.sidepeek.auth.oauth.OAuth2User;
+import sixgaezzang.sidepeek.auth.oauth.service.strategy.OAuth2ManagerFactory;
+import sixgaezzang.sidepeek.auth.repository.AuthProviderRepository;
+import sixgaezzang.sidepeek.auth.repository.RefreshTokenStore;
+import sixgaezzang.sidepeek.users.domain.User;
+import sixgaezzang.sidepeek.users.repository.UserRepository;
+import sixgaezzang.sidepeek.users.util.component.PrincipalCache;
+
+// 회원 조회/생성은 애플리케이션 작업 스레드의 별도 트랜잭션에서 커밋되므로 테스트 트랜잭션을 사용하지 않고 직접 정리합니다.
+@SpringBootTest
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class AuthServiceSocialLoginTest {
+
+    static final String PROVIDER = "github";
+    static final String CODE = "code";
+    static final long TIMEOUT_SECONDS = 5;
+
+    @MockBean
+    OAuth2ManagerFactory oauth2ManagerFactory;
+
+    @SpyBean
+    AuthProviderRepository authProviderRepository;
+
+    @Autowired
+    AuthService authService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    RefreshTokenStore refreshTokenStore;
+
+    @Autowired
+    JWTManager jwtManager;
+
+    @Autowired
+    PrincipalCache principalCache;
+
+    @Autowired
+    TaskExecutionProperties taskExecutionProperties;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    String providerId;
+    String nickname;
+    String refreshToken;
+
+    @BeforeEach
+    void setup() {
+        providerId = UUID.randomUUID().toString();
+        nickname = providerId.substring(0, 12);
+        given(oauth2ManagerFactory.getManager(ProviderType.GITHUB))
+            .willReturn(code -> CompletableFuture.supplyAsync(this::createOAuth2User));
+    }
+
+    @AfterEach
+    void cleanup() {
+        if (refreshToken != null) {
+            refreshTokenStore.delete(jwtManager.parse(refreshToken).familyId());
+        }
+
+        List<Long> userIds = jdbcTemplate.queryForList(
+            "SELECT user_id FROM auth_provider WHERE provider_id = ?", Long.class, providerId);
+        jdbcTemplate.update("DELETE FROM auth_provider WHERE provider_id = ?", providerId);
+        userRepository.deleteAllByIdInBatch(userIds);
+        userIds.forEach(principalCache::evict);
+    }
+
+    private OAuth2User createOAuth2User() {
+        return OAuth2User.builder()
+            .user(User.builder()
+                .email(nickname + "@sidepeek.com")
+                .nickname(nickname)
+                .build())
+            .authProvider(AuthProvider.builder()
+                .providerType(ProviderType.GITHUB)
+                .providerId(providerId)
+                .build())
+            .build();
+    }
+
+    private LoginResponse socialLogin() throws Exception {
+        LoginResponse response = authService.socialLogin(PROVIDER, CODE).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        refreshToken = response.refreshToken();
+        return response;
+    }
+
+    private Long countAuthProviders() {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM auth_provider WHERE provider_id = ?", Long.class, providerId);
+    }
+
+    @Nested
+    class 소셜_로그인_테스트 {
+
+        @Test
+        void 처음_로그인한_소셜_회원을_생성하고_토큰을_발급한다() throws Exception {
+            // when
+            LoginResponse response = socialLogin();
+
+            // then
+            assertThat(response.accessToken()).isNotBlank();
+            assertThat(response.refreshToken()).isNotBlank();
+            assertThat(response.user().nickname()).isEqualTo(nickname);
+            assertThat(response.user().isSocialLogin()).isTrue();
+            assertThat(countAuthProviders()).isEqualTo(1L);
+        }
+
+        @Test
+        void 이미_가입한_소셜_회원은_기존_회원으로_로그인한다() throws Exception {
+            // given
+            Long userId = socialLogin().user().id();
+            refreshTokenStore.delete(jwtManager.parse(refreshToken).familyId());
+
+            // when
+            LoginResponse response = socialLogin();
+
+            // then
+            assertThat(response.user().id()).isEqualTo(userId);
+            assertThat(countAuthProviders()).isEqualTo(1L);
+        }
+
+        @Test
+        void 회원_조회와_생성은_애플리케이션_작업_스레드의_쓰기_트랜잭션에서_실행한다() throws Exception {
+            // given
+            AtomicReference<String> threadName = new AtomicReference<>();
+            AtomicBoolean transactionActive = new AtomicBoolean();
+            AtomicBoolean readOnly = new AtomicBoolean(true);
+            doAnswer(invocation -> {
+                threadName.set(Thread.currentThread().getName());
+                transactionActive.set(TransactionSynchronizationManager.isActualTransactionActive());
+                readOnly.set(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+                return invocation.callRealMethod();
+            }).when(authProviderRepository).findByProviderTypeAndProviderId(eq(ProviderType.GITHUB), any());
+
+            // when
+            socialLogin();
+
+            // then
+            assertThat(threadName.get()).startsWith(taskExecutionProperties.getThreadNamePrefix());
+            assertThat(transactionActive).isTrue();
+            assertThat(readOnly).isFalse();
+        }
+
+        @Test
+        void 제공자_조회에_실패하면_인증_예외로_완료된다() {
+            // given
+            given(oauth2ManagerFactory.getManager(ProviderType.GITHUB))
+                .willReturn(code -> CompletableFuture.failedFuture(
+                    new AuthenticationServiceException(OAUTH_CREDENTIALS_IS_INVALID)));
+
+            // when
+            CompletableFuture<LoginResponse> response = authService.socialLogin(PROVIDER, CODE);
+
+            // then
+            assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(() -> response.get(TIMEOUT_SECONDS, TimeUnit.SECONDS))
+                .havingCause()
+                .isInstanceOf(AuthenticationServiceException.class)
+                .withMessage(OAUTH_CREDENTIALS_IS_INVALID);
+            assertThat(countAuthProviders()).isZero();
+        }
+
+        @Test
+        void 지원하지_않는_제공자이면_예외를_던진다() {
+            // when, then
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> authService.socialLogin("unknown", CODE));
+        }
+
+    }
+
+}
@@ -2,12 +2,12 @@ package sixgaezzang.sidepeek.auth.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
-import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.BDDMockito.given;
+import static sixgaezzang.sidepeek.auth.exception.message.AuthErrorMessage.TOKEN_IS_EXPIRED;
+import static sixgaezzang.sidepeek.auth.exception.message.AuthErrorMessage.TOKEN_IS_INVALID;
+import static sixgaezzang.sidepeek.auth.util.AuthConstant.REFRESH_TOKEN_KEY_PREFIX;
 import static sixgaezzang.sidepeek.users.exception.message.UserErrorMessage.USER_NOT_EXISTING;
 
 import jakarta.persistence.EntityNotFoundException;
-import java.time.Instant;
 import net.datafaker.Faker;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,16 +17,16 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
-import sixgaezzang.sidepeek.auth.domain.RefreshToken;
 import sixgaezzang.sidepeek.auth.dto.request.LoginRequest;
 import sixgaezzang.sidepeek.auth.dto.request.ReissueTokenRequest;
 import sixgaezzang.sidepeek.auth.dto.response.LoginResponse;
 import sixgaezzang.sidepeek.auth.jwt.JWTManager;
 import sixgaezzang.sidepeek.common.exception.TokenValidationFailException;
+import sixgaezzang.sidepeek.config.properties.JWTProperties;
 import sixgaezzang.sidepeek.users.domain.User;
 import sixgaezzang.sidepeek.users.dto.response.UserSummary;
 import sixgaezzang.sidepeek.users.repository.UserRepository;
@@ -50,9 +50,15 @@ class AuthServiceTest {
     @Autowired
     JWTManager jwtManager;
 
-    @MockBean
+    @Autowired
+    JWTProperties jwtProperties;
+
+    @Autowired
     RefreshTokenService refreshTokenService;
 
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
     String email;
     String password;
     String nickname;
@@ -145,30 +151,19 @@ class AuthServiceTest {
     @Nested
     class 토큰_재발급_테스트 {
 
-        Long expiredAt;
-
-        @BeforeEach
-        void setUp() {
-            expiredAt = getExpiredAt(1);
-        }
-
         @Test
         void 유효한_리프레시_토큰인_경우_재발급에_성공한다() {
             // given
             User user = createUser();
-            String refreshToken = jwtManager.generateRefreshToken(user.getId());
+            String refreshToken = refreshTokenService.issue(user.getId());
             ReissueTokenRequest request = new ReissueTokenRequest(refreshToken);
-            RefreshToken redisRefreshToken = new RefreshToken(user.getId(), refreshToken,
-                expiredAt);
-
-            given(refreshTokenService.getById(anyLong())).willReturn(redisRefreshToken);
 
             // when
             LoginResponse response = authService.reissue(request);
 
             // then
             assertThat(response.accessToken()).isNotNull();
-            assertThat(response.refreshToken()).isNotNull();
+            assertThat(response.refreshToken()).isNotNull().isNotEqualTo(refreshToken);
             assertThat(response.user()).extracting("id", "nickname", "profileImageUrl")
                 .containsExactly(user.getId(), user.getNickname(), user.getProfileImageUrl());
         }
@@ -184,30 +179,94 @@ class AuthServiceTest {
 
             // then
             assertThatExceptionOfType(TokenValidationFailException.class).isThrownBy(reissue)
-                .withMessage("유효하지 않은 토큰입니다.");
+                .withMessage(TOKEN_IS_INVALID);
+        }
+
+        @Test
+        void 만료된_리프레시_토큰인_경우_재발급에_실패한다() {
+            // given
+            User user = createUser();
+            JWTManager expiredTokenManager = new JWTManager(new JWTProperties(jwtProperties.issuer(),
+                jwtProperties.secretKey(), jwtProperties.expiredAfter(), -1));
+            String expiredToken = expiredTokenManager.generateRefreshToken(user.getId());
+            ReissueTokenRequest request = new ReissueTokenRequest(expiredToken);
+
+            // when
+            ThrowingCallable reissue = () -> authService.reissue(request);
+
+            // then
+            assertThatExceptionOfType(TokenValidationFailException.class).isThrownBy(reissue)
+                .withMessage(TOKEN_IS_EXPIRED);
+        }
+
+        @Test
+        void 이미_재발급에_사용된_리프레시_토큰인_경우_재발급에_실패하고_토큰_family를_폐기한다() {
+            // given
+            User user = createUser();
+            String refreshToken = refreshTokenService.issue(user.getId());
+            LoginResponse reissued = authService.reissue(new ReissueTokenRequest(refreshToken));
+            LoginResponse reissuedAgain = authService.reissue(new ReissueTokenRequest(reissued.refreshToken()));
+
+            // when
+            ThrowingCallable reuse = () -> authService.reissue(new ReissueTokenRequest(refreshToken));
+            ThrowingCallable reissueRotated = () -> authService.reissue(
+                new ReissueTokenRequest(reissuedAgain.refreshToken()));
+
+            // then
+            assertThatExceptionOfType(TokenValidationFailException.class).isThrownBy(reuse)
+                .withMessage(TOKEN_IS_INVALID);
+            assertThatExceptionOfType(TokenValidationFailException.class).isThrownBy(reissueRotated)
+                .withMessage(TOKEN_IS_INVALID);
+        }
+
+        @Test
+        void 유예_기간_안에_같은_리프레시_토큰으로_재발급하면_먼저_교체된_토큰을_받는다() {
+            // given
+            User user = createUser();
+            String refreshToken = refreshTokenService.issue(user.getId());
+            LoginResponse reissued = authService.reissue(new ReissueTokenRequest(refreshToken));
+
+            // when
+            LoginResponse reissuedByOtherTab = authService.reissue(new ReissueTokenRequest(refreshToken));
+
+            // then
+            assertThat(reissuedByOtherTab.refreshToken()).isEqualTo(reissued.refreshToken());
+            assertThat(authService.reissue(new ReissueTokenRequest(reissued.refreshToken())).refreshToken())
+                .isNotEqualTo(reissued.refreshToken());
         }
 
-        // TODO: 만료된 리프레시 토큰일 경우 재발급에 실패한다.
+        @Test
+        void 저장되지_않은_리프레시_토큰인_경우_재발급에_실패한다() {
+            // given
+            User user = createUser();
+            String refreshToken = jwtManager.generateRefreshToken(user.getId());
+            ReissueTokenRequest request = new ReissueTokenRequest(refreshToken);
+
+            // when
+            ThrowingCallable reissue = () -> authService.reissue(request);
 
-        // TODO: 요청된_리프레시_토큰과_저장된_토큰이_다를_경우_재발급에_실패한다.
+            // then
+            assertThatExceptionOfType(TokenValidationFailException.class).isThrownBy(reissue)
+                .withMessage(TOKEN_IS_INVALID);
+        }
 
         @Test
         void 존재하지_않는_사용자인_경우_재발급에_실패한다() {
             // given
             Long invalidUserId = faker.random().nextLong(Long.MAX_VALUE);
-            String refreshToken = jwtManager.generateRefreshToken(invalidUserId);
-            RefreshToken redisRefreshToken = new RefreshToken(invalidUserId, refreshToken,
-                expiredAt);
+            String refreshToken = refreshTokenService.issue(invalidUserId);
             ReissueTokenRequest request = new ReissueTokenRequest(refreshToken);
 
-            given(refreshTokenService.getById(anyLong())).willReturn(redisRefreshToken);
-
             // when
             ThrowingCallable reissue = () -> authService.reissue(request);
 
             // then
             assertThatExceptionOfType(EntityNotFoundException.class).isThrownBy(reissue)
                 .withMessage(USER_NOT_EXISTING);
+
+            String familyId = jwtManager.parse(refreshToken).familyId();
+            assertThat(redisTemplate.opsForValue().get(REFRESH_TOKEN_KEY_PREFIX + familyId))
+                .isEqualTo(refreshToken);    // 토큰 family를 교체하지 않음
         }
     }
 
@@ -222,11 +281,4 @@ class AuthServiceTest {
         return userRepository.save(user);
     }
 
-    private Long getExpiredAt(int expiredAfter) {
-        Instant now = Instant.now();
-        Instant expiredAt = now.plusMillis(expiredAfter);
-
-        return expiredAt.getEpochSecond();
-    }
-
 }
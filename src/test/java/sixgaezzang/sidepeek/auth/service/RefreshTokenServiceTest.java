@@ -2,11 +2,14 @@ package sixgaezzang.sidepeek.auth.service;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
-import static sixgaezzang.sidepeek.auth.domain.RefreshToken.MILLISECONDS_PER_SECOND;
 import static sixgaezzang.sidepeek.auth.exception.message.AuthErrorMessage.TOKEN_IS_INVALID;
+import static sixgaezzang.sidepeek.auth.util.AuthConstant.LEGACY_REFRESH_TOKEN_KEY;
+import static sixgaezzang.sidepeek.auth.util.AuthConstant.PREVIOUS_REFRESH_TOKEN_KEY_SUFFIX;
+import static sixgaezzang.sidepeek.auth.util.AuthConstant.REFRESH_TOKEN_KEY_PREFIX;
 
 import net.datafaker.Faker;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
@@ -14,10 +17,11 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.transaction.annotation.Transactional;
-import sixgaezzang.sidepeek.auth.domain.RefreshToken;
 import sixgaezzang.sidepeek.auth.jwt.JWTManager;
-import sixgaezzang.sidepeek.auth.repository.RefreshTokenRepository;
+import sixgaezzang.sidepeek.auth.jwt.VerifiedToken;
+import sixgaezzang.sidepeek.auth.repository.RefreshTokenStore;
 import sixgaezzang.sidepeek.common.exception.TokenValidationFailException;
 
 @SpringBootTest
@@ -31,84 +35,168 @@ class RefreshTokenServiceTest {
     RefreshTokenService refreshTokenService;
 
     @Autowired
-    RefreshTokenRepository refreshTokenRepository;
+    RefreshTokenStore refreshTokenStore;
 
     @Autowired
     JWTManager jwtManager;
 
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
+    Long userId;
     String refreshToken;
+    VerifiedToken verifiedToken;
 
     @BeforeEach
     void setUp() {
-        Long userId = faker.random().nextLong(Long.MAX_VALUE);
-        refreshToken = jwtManager.generateRefreshToken(userId);
+        userId = faker.random().nextLong(Long.MAX_VALUE);
+        refreshToken = refreshTokenService.issue(userId);
+        verifiedToken = jwtManager.parse(refreshToken);
+    }
+
+    @AfterEach
+    void cleanup() {
+        refreshTokenStore.delete(verifiedToken.familyId());
     }
 
     @Nested
-    class 리프레시_토큰_저장_테스트 {
+    class 이전_리프레시_토큰_정리_테스트 {
 
         @Test
-        void 토큰_저장에_성공한다() {
+        void 이전_저장소가_남긴_키를_모두_삭제한다() {
+            // given
+            redisTemplate.opsForHash().put(LEGACY_REFRESH_TOKEN_KEY + ":" + userId, "refreshToken", refreshToken);
+            redisTemplate.opsForHash().put(LEGACY_REFRESH_TOKEN_KEY + ":" + userId + ":phantom", "refreshToken",
+                refreshToken);
+            redisTemplate.opsForSet().add(LEGACY_REFRESH_TOKEN_KEY, userId.toString());
+
             // when
-            RefreshToken actual = refreshTokenService.save(refreshToken);
+            refreshTokenStore.deleteLegacyTokens();
+
+            // then
+            assertThat(redisTemplate.hasKey(LEGACY_REFRESH_TOKEN_KEY + ":" + userId)).isFalse();
+            assertThat(redisTemplate.hasKey(LEGACY_REFRESH_TOKEN_KEY + ":" + userId + ":phantom")).isFalse();
+            assertThat(redisTemplate.hasKey(LEGACY_REFRESH_TOKEN_KEY)).isFalse();
+            assertThat(refreshTokenStore.exists(verifiedToken.familyId())).isTrue();
+        }
+    }
+
+    @Nested
+    class 리프레시_토큰_발급_테스트 {
 
+        @Test
+        void 새_토큰_family로_발급하고_저장한다() {
             // then
-            assertThat(actual).isNotNull();
-            assertThat(actual.refreshToken()).isEqualTo(refreshToken);
-            assertThat(actual.expiredAt()).isGreaterThan(
-                System.currentTimeMillis() / MILLISECONDS_PER_SECOND);
+            assertThat(verifiedToken.userId()).isEqualTo(userId);
+            assertThat(verifiedToken.familyId()).isNotNull();
+            assertThat(verifiedToken.expiredAt()).isGreaterThan(System.currentTimeMillis());
+            assertThat(refreshTokenStore.exists(verifiedToken.familyId())).isTrue();
         }
 
         @Test
-        void 유효하지_않은_토큰인_경우_저장에_실패한다() {
+        void 발급할_때마다_다른_토큰_family를_시작한다() {
             // given
-            String invalidToken = faker.animal().name();
+            String otherRefreshToken = refreshTokenService.issue(userId);
 
             // when
-            ThrowingCallable saven = () -> refreshTokenService.save(invalidToken);
+            VerifiedToken other = jwtManager.parse(otherRefreshToken);
+            refreshTokenStore.delete(other.familyId());
 
             // then
-            assertThatThrownBy(saven).isInstanceOf(TokenValidationFailException.class)
-                .hasMessage(TOKEN_IS_INVALID);
+            assertThat(other.familyId()).isNotEqualTo(verifiedToken.familyId());
         }
     }
 
     @Nested
-    class 리프레시_토큰_조회_테스트 {
+    class 리프레시_토큰_교체_테스트 {
+
+        @Test
+        void 같은_토큰_family의_새_토큰으로_교체한다() {
+            // when
+            String newRefreshToken = refreshTokenService.rotate(verifiedToken, refreshToken);
+
+            // then
+            VerifiedToken rotated = jwtManager.parse(newRefreshToken);
+            assertThat(newRefreshToken).isNotEqualTo(refreshToken);
+            assertThat(rotated.userId()).isEqualTo(userId);
+            assertThat(rotated.familyId()).isEqualTo(verifiedToken.familyId());
+        }
+
+        @Test
+        void 이미_교체된_토큰이_재사용되면_토큰_family를_폐기한다() {
+            // given
+            String newRefreshToken = refreshTokenService.rotate(verifiedToken, refreshToken);
+            VerifiedToken rotated = jwtManager.parse(newRefreshToken);
+            String latestRefreshToken = refreshTokenService.rotate(rotated, newRefreshToken);
+
+            // when
+            ThrowingCallable reuse = () -> refreshTokenService.rotate(verifiedToken, refreshToken);
+
+            // then
+            assertThatThrownBy(reuse).isInstanceOf(TokenValidationFailException.class)
+                .hasMessage(TOKEN_IS_INVALID);
+            assertThat(refreshTokenStore.exists(verifiedToken.familyId())).isFalse();
+
+            VerifiedToken latest = jwtManager.parse(latestRefreshToken);
+            assertThatThrownBy(() -> refreshTokenService.rotate(latest, latestRefreshToken))
+                .isInstanceOf(TokenValidationFailException.class)
+                .hasMessage(TOKEN_IS_INVALID);
+        }
 
         @Test
-        void 사용자ID를_통해_토큰_조회에_성공한다() {
+        void 유예_기간_안에_직전_토큰이_제시되면_먼저_교체된_토큰을_반환한다() {
             // given
-            Long userId = faker.random().nextLong(Long.MAX_VALUE);
-            RefreshToken refreshToken = createRefreshToken(userId);
+            String newRefreshToken = refreshTokenService.rotate(verifiedToken, refreshToken);
 
             // when
-            RefreshToken actual = refreshTokenService.getById(userId);
+            String concurrentRefreshToken = refreshTokenService.rotate(verifiedToken, refreshToken);
 
             // then
-            assertThat(actual).isNotNull();
-            assertThat(actual).extracting("id", "refreshToken", "expiredAt")
-                .containsExactly(userId, refreshToken.refreshToken(), refreshToken.expiredAt());
+            assertThat(concurrentRefreshToken).isEqualTo(newRefreshToken);
+            assertThat(refreshTokenStore.exists(verifiedToken.familyId())).isTrue();
         }
 
         @Test
-        void 사용자의_리프레시_토큰이_존재하지_않는_경우_조회에_실패한다() {
+        void 유예_기간이_지난_뒤_직전_토큰이_제시되면_토큰_family를_폐기한다() {
             // given
-            Long userId = faker.random().nextLong(Long.MAX_VALUE);
+            refreshTokenService.rotate(verifiedToken, refreshToken);
+            redisTemplate.delete(REFRESH_TOKEN_KEY_PREFIX + verifiedToken.familyId()
+                + PREVIOUS_REFRESH_TOKEN_KEY_SUFFIX);    // 유예 기간 만료
 
             // when
-            ThrowingCallable getById = () -> refreshTokenService.getById(userId);
+            ThrowingCallable reuse = () -> refreshTokenService.rotate(verifiedToken, refreshToken);
 
             // then
-            assertThatThrownBy(getById).isInstanceOf(TokenValidationFailException.class)
+            assertThatThrownBy(reuse).isInstanceOf(TokenValidationFailException.class)
                 .hasMessage(TOKEN_IS_INVALID);
+            assertThat(refreshTokenStore.exists(verifiedToken.familyId())).isFalse();
         }
-    }
 
-    private RefreshToken createRefreshToken(Long userId) {
-        String refreshToken = jwtManager.generateRefreshToken(userId);
-        Long expirationAt = jwtManager.getExpiredAt(refreshToken);
+        @Test
+        void 저장되지_않은_토큰_family인_경우_교체에_실패한다() {
+            // given
+            refreshTokenStore.delete(verifiedToken.familyId());
+
+            // when
+            ThrowingCallable rotate = () -> refreshTokenService.rotate(verifiedToken, refreshToken);
+
+            // then
+            assertThatThrownBy(rotate).isInstanceOf(TokenValidationFailException.class)
+                .hasMessage(TOKEN_IS_INVALID);
+        }
+
+        @Test
+        void 토큰_family가_없는_토큰인_경우_교체에_실패한다() {
+            // given
+            String accessToken = jwtManager.generateAccessToken(userId);
+            VerifiedToken verifiedAccessToken = jwtManager.parse(accessToken);
+
+            // when
+            ThrowingCallable rotate = () -> refreshTokenService.rotate(verifiedAccessToken, accessToken);
 
-        return refreshTokenRepository.save(RefreshToken.from(userId, refreshToken, expirationAt));
+            // then
+            assertThatThrownBy(rotate).isInstanceOf(TokenValidationFailException.class)
+                .hasMessage(TOKEN_IS_INVALID);
+        }
     }
 }
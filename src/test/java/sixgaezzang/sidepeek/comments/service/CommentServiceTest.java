@@ -2,6 +2,7 @@ package sixgaezzang.sidepeek.comments.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.tuple;
 import static sixgaezzang.sidepeek.comments.exception.message.CommentErrorMessage.CHILD_COMMENT_CANNOT_BE_PARENT;
 import static sixgaezzang.sidepeek.comments.exception.message.CommentErrorMessage.COMMENT_ID_IS_NULL;
 import static sixgaezzang.sidepeek.comments.exception.message.CommentErrorMessage.COMMENT_NOT_EXISTING;
@@ -12,8 +13,11 @@ import static sixgaezzang.sidepeek.common.exception.message.CommonErrorMessage.O
 import static sixgaezzang.sidepeek.projects.exception.message.ProjectErrorMessage.OWNER_ID_IS_NULL;
 import static sixgaezzang.sidepeek.projects.exception.message.ProjectErrorMessage.PROJECT_NOT_EXISTING;
 import static sixgaezzang.sidepeek.users.exception.message.UserErrorMessage.USER_NOT_EXISTING;
+import static sixgaezzang.sidepeek.util.FakeValueProvider.createId;
 
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import java.util.List;
 import org.assertj.core.api.ThrowableAssert;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -28,8 +32,11 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.transaction.annotation.Transactional;
 import sixgaezzang.sidepeek.comments.domain.Comment;
+import sixgaezzang.sidepeek.comments.dto.request.FindCommentRequest;
 import sixgaezzang.sidepeek.comments.dto.request.SaveCommentRequest;
 import sixgaezzang.sidepeek.comments.dto.request.UpdateCommentRequest;
+import sixgaezzang.sidepeek.comments.dto.response.CommentCursorPaginationResponse;
+import sixgaezzang.sidepeek.comments.dto.response.CommentResponse;
 import sixgaezzang.sidepeek.comments.repository.CommentRepository;
 import sixgaezzang.sidepeek.projects.domain.Project;
 import sixgaezzang.sidepeek.projects.repository.project.ProjectRepository;
@@ -59,6 +66,9 @@ class CommentServiceTest {
     @Autowired
     UserRepository userRepository;
 
+    @Autowired
+    EntityManager em;
+
     User user;
     Project project;
     Comment parent;
@@ -79,6 +89,12 @@ class CommentServiceTest {
         return commentRepository.save(newComment);
     }
 
+    private Long getCommentCount(Project project) {    // 댓글 수는 DB에서 직접 증감하므로 다시 조회
+        return projectRepository.findById(project.getId())
+            .map(Project::getCommentCount)
+            .orElseThrow();
+    }
+
     @BeforeEach
     void setup() {
         user = createAndSaveUser();
@@ -102,7 +118,7 @@ class CommentServiceTest {
 
             // then
             assertThat(projectId).isEqualTo(project.getId());
-            assertThat(project.getCommentCount()).isEqualTo(initialCommentCount + 1);
+            assertThat(getCommentCount(project)).isEqualTo(initialCommentCount + 1);
         }
 
         @Test
@@ -117,7 +133,7 @@ class CommentServiceTest {
 
             // then
             assertThat(projectId).isEqualTo(parent.getProject().getId());
-            assertThat(project.getCommentCount()).isEqualTo(initialCommentCount + 1);
+            assertThat(getCommentCount(project)).isEqualTo(initialCommentCount + 1);
         }
 
         @Test
@@ -342,6 +358,64 @@ class CommentServiceTest {
 
     }
 
+    @Nested
+    class 댓글_조회_테스트 {
+
+        @Test
+        void 대댓글을_포함한_프로젝트_댓글_목록_조회에_성공한다() {
+            // given
+            Comment reply = createAndSaveComment(createAndSaveUser(), project, parent);
+
+            // when
+            List<CommentResponse> responses = commentService.findAll(user.getId(), project);
+
+            // then
+            assertThat(responses).extracting("id")
+                .containsExactly(parent.getId(), comment.getId());
+            assertThat(responses.get(0).replies()).extracting("id", "parentId", "isOwner")
+                .containsExactly(tuple(reply.getId(), parent.getId(), false));
+            assertThat(responses.get(1).replies()).isEmpty();
+        }
+
+        @Test
+        void 커서를_이용해_프로젝트_댓글_목록을_페이지_단위로_조회한다() {
+            // given
+            createAndSaveComment(user, project, parent);
+            FindCommentRequest firstRequest = new FindCommentRequest(project.getId(), null, 1);
+
+            // when
+            CommentCursorPaginationResponse firstPage = commentService.findByProject(
+                user.getId(), firstRequest);
+            CommentCursorPaginationResponse secondPage = commentService.findByProject(
+                user.getId(), new FindCommentRequest(project.getId(), parent.getId(), 1));
+
+            // then
+            assertThat(firstPage.hasNext()).isTrue();
+            assertThat(firstPage.nextCursor()).isEqualTo(parent.getId());
+            assertThat(firstPage.totalElements()).isEqualTo(2L);    // 대댓글 제외
+            assertThat(firstPage.content()).extracting("id").containsExactly(parent.getId());
+            assertThat(firstPage.content().get(0).replies()).hasSize(1);
+            assertThat(secondPage.hasNext()).isFalse();
+            assertThat(secondPage.nextCursor()).isNull();
+            assertThat(secondPage.content()).extracting("id").containsExactly(comment.getId());
+        }
+
+        @Test
+        void 프로젝트가_존재하지_않으면_댓글_목록_조회에_실패한다() {
+            // given
+            FindCommentRequest request = new FindCommentRequest(createId(), null, null);
+
+            // when
+            ThrowableAssert.ThrowingCallable findByProject = () -> commentService.findByProject(
+                user.getId(), request);
+
+            // then
+            assertThatExceptionOfType(EntityNotFoundException.class).isThrownBy(findByProject)
+                .withMessage(PROJECT_NOT_EXISTING);
+        }
+
+    }
+
     @Nested
     class 댓글_수정_테스트 {
 
@@ -450,7 +524,7 @@ class CommentServiceTest {
 
             // then
             assertThat(commentRepository.findById(comment.getId())).isEmpty();
-            assertThat(project.getCommentCount()).isEqualTo(initialCommentCount - 1);
+            assertThat(getCommentCount(project)).isEqualTo(initialCommentCount - 1);
         }
 
         @Test
@@ -464,9 +538,22 @@ class CommentServiceTest {
 
             // then
             assertThat(commentRepository.findById(comment.getId())).isEmpty();
-            // TODO: Empty가 아닌 것으로 나오는 이유 알아보기
-            // assertThat(commentRepository.findById(subComment.getId())).isEmpty();
-            assertThat(project.getCommentCount()).isEqualTo(initialCommentCount - 2);
+            assertThat(commentRepository.findById(subComment.getId())).isEmpty();
+            assertThat(getCommentCount(project)).isEqualTo(initialCommentCount - 2);
+        }
+
+        @Test
+        void 삭제된_댓글만_영속성_컨텍스트에서_분리한다() {
+            // given
+            Comment subComment = createAndSaveComment(user, null, comment);
+
+            // when
+            commentService.delete(user.getId(), comment.getId());
+
+            // then
+            assertThat(em.contains(comment)).isFalse();
+            assertThat(em.contains(subComment)).isFalse();
+            assertThat(em.contains(parent)).isTrue();
         }
 
         @Test
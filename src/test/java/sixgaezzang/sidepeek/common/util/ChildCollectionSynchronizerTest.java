@@ -0,0 +1,184 @@
+package sixgaezzang.sidepeek.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.Objects;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import sixgaezzang.sidepeek.projects.domain.Project;
+import sixgaezzang.sidepeek.projects.domain.file.File;
+import sixgaezzang.sidepeek.projects.repository.FileRepository;
+import sixgaezzang.sidepeek.projects.repository.project.ProjectRepository;
+import sixgaezzang.sidepeek.users.repository.UserRepository;
+import sixgaezzang.sidepeek.util.FakeEntityProvider;
+
+@SpringBootTest
+@Transactional
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ChildCollectionSynchronizerTest {
+
+    static final String FIRST_URL = "https://sidepeek.com/1.png";
+    static final String SECOND_URL = "https://sidepeek.com/2.png";
+    static final String THIRD_URL = "https://sidepeek.com/3.png";
+    static final String NEW_URL = "https://sidepeek.com/new.png";
+
+    @Autowired
+    FileRepository fileRepository;
+
+    @Autowired
+    ProjectRepository projectRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    EntityManager em;
+
+    Project project;
+    ChildCollectionSynchronizer<File, String> synchronizer;
+
+    @BeforeEach
+    void setup() {
+        project = projectRepository.save(FakeEntityProvider.createProject(
+            userRepository.save(FakeEntityProvider.createUser())));
+        synchronizer = new ChildCollectionSynchronizer<>(
+            fileRepository,
+            File::getId,
+            (file, url) -> Objects.equals(file.getUrl(), url),
+            url -> File.builder().project(project).url(url).build(),
+            File::update
+        );
+    }
+
+    private List<File> saveFiles(String... urls) {
+        List<File> files = synchronizer.synchronizeInOrder(List.of(), List.of(urls));
+        em.flush();
+        return files;
+    }
+
+    private List<File> findFiles() {
+        em.flush();
+        em.clear();
+        return fileRepository.findAllByProjectOrderById(project);
+    }
+
+    private List<Long> getIds(List<File> files) {
+        return files.stream()
+            .map(File::getId)
+            .toList();
+    }
+
+    @Nested
+    class 순서와_관계없는_동기화_테스트 {
+
+        @Test
+        void 요청과_같은_행은_순서가_달라도_그대로_둔다() {
+            // given
+            List<File> existing = saveFiles(FIRST_URL, SECOND_URL);
+
+            // when
+            List<File> synchronizedFiles = synchronizer.synchronize(existing, List.of(SECOND_URL, FIRST_URL));
+
+            // then
+            assertThat(getIds(synchronizedFiles)).containsExactly(existing.get(1).getId(), existing.get(0).getId());
+            assertThat(getIds(findFiles())).containsExactlyElementsOf(getIds(existing));
+        }
+
+        @Test
+        void 달라진_요청은_남는_기존_행을_수정하여_재사용한다() {
+            // given
+            List<File> existing = saveFiles(FIRST_URL, SECOND_URL);
+
+            // when
+            synchronizer.synchronize(existing, List.of(NEW_URL, SECOND_URL));
+
+            // then
+            List<File> files = findFiles();
+            assertThat(getIds(files)).containsExactlyElementsOf(getIds(existing));
+            assertThat(files).extracting(File::getUrl).containsExactly(NEW_URL, SECOND_URL);
+        }
+
+        @Test
+        void 요청보다_많은_기존_행은_삭제한다() {
+            // given
+            List<File> existing = saveFiles(FIRST_URL, SECOND_URL, THIRD_URL);
+
+            // when
+            synchronizer.synchronize(existing, List.of(THIRD_URL));
+
+            // then
+            List<File> files = findFiles();
+            assertThat(getIds(files)).containsExactly(existing.get(2).getId());
+            assertThat(files).extracting(File::getUrl).containsExactly(THIRD_URL);
+        }
+
+        @Test
+        void 기존_행이_부족하면_새로운_행을_추가한다() {
+            // given
+            List<File> existing = saveFiles(FIRST_URL);
+
+            // when
+            synchronizer.synchronize(existing, List.of(FIRST_URL, NEW_URL));
+
+            // then
+            List<File> files = findFiles();
+            assertThat(files.get(0).getId()).isEqualTo(existing.get(0).getId());
+            assertThat(files).extracting(File::getUrl).containsExactly(FIRST_URL, NEW_URL);
+        }
+
+    }
+
+    @Nested
+    class 순서를_유지하는_동기화_테스트 {
+
+        @Test
+        void 같은_위치의_행을_요청_순서대로_수정한다() {
+            // given
+            List<File> existing = saveFiles(FIRST_URL, SECOND_URL);
+
+            // when
+            synchronizer.synchronizeInOrder(existing, List.of(SECOND_URL, FIRST_URL));
+
+            // then
+            List<File> files = findFiles();
+            assertThat(getIds(files)).containsExactlyElementsOf(getIds(existing));
+            assertThat(files).extracting(File::getUrl).containsExactly(SECOND_URL, FIRST_URL);
+        }
+
+        @Test
+        void 추가된_행은_기존_행_뒤에_노출된다() {
+            // given
+            List<File> existing = saveFiles(FIRST_URL, SECOND_URL);
+
+            // when
+            synchronizer.synchronizeInOrder(existing, List.of(FIRST_URL, SECOND_URL, NEW_URL));
+
+            // then
+            assertThat(findFiles()).extracting(File::getUrl).containsExactly(FIRST_URL, SECOND_URL, NEW_URL);
+        }
+
+        @Test
+        void 요청보다_많은_뒤쪽_행을_삭제한다() {
+            // given
+            List<File> existing = saveFiles(FIRST_URL, SECOND_URL, THIRD_URL);
+
+            // when
+            synchronizer.synchronizeInOrder(existing, List.of(FIRST_URL, NEW_URL));
+
+            // then
+            List<File> files = findFiles();
+            assertThat(getIds(files)).containsExactly(existing.get(0).getId(), existing.get(1).getId());
+            assertThat(files).extracting(File::getUrl).containsExactly(FIRST_URL, NEW_URL);
+        }
+
+    }
+
+}
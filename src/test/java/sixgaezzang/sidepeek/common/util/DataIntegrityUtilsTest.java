@@ -0,0 +1,69 @@
+package sixgaezzang.sidepeek.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.SQLException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class DataIntegrityUtilsTest {
+
+    static final String CONSTRAINT_NAME = "uk_likes_user_id_project_id";
+
+    private DataIntegrityViolationException createException(String message, int errorCode) {
+        SQLException sqlException = new SQLException(message, "23000", errorCode);
+        return new DataIntegrityViolationException("could not execute statement",
+            new ConstraintViolationException("could not execute statement", sqlException, null));
+    }
+
+    @Nested
+    class 유니크_제약_위반_확인_테스트 {
+
+        @Test
+        void 같은_이름의_유니크_제약_중복이면_true를_반환한다() {
+            // given
+            DataIntegrityViolationException e = createException(
+                "Duplicate entry '1-2' for key 'likes." + CONSTRAINT_NAME + "'", 1062);
+
+            // when, then
+            assertThat(DataIntegrityUtils.isUniqueViolation(e, CONSTRAINT_NAME)).isTrue();
+        }
+
+        @Test
+        void 다른_유니크_제약_중복이면_false를_반환한다() {
+            // given
+            DataIntegrityViolationException e = createException(
+                "Duplicate entry 'a@b.c' for key 'users.uk_users_email'", 1062);
+
+            // when, then
+            assertThat(DataIntegrityUtils.isUniqueViolation(e, CONSTRAINT_NAME)).isFalse();
+        }
+
+        @Test
+        void 외래_키_제약_위반이면_false를_반환한다() {
+            // given
+            DataIntegrityViolationException e = createException(
+                "Cannot add or update a child row: a foreign key constraint fails (`likes`, CONSTRAINT `"
+                    + CONSTRAINT_NAME + "`)", 1452);
+
+            // when, then
+            assertThat(DataIntegrityUtils.isUniqueViolation(e, CONSTRAINT_NAME)).isFalse();
+        }
+
+        @Test
+        void SQL_예외가_없으면_false를_반환한다() {
+            // given
+            DataIntegrityViolationException e = new DataIntegrityViolationException("not null");
+
+            // when, then
+            assertThat(DataIntegrityUtils.isUniqueViolation(e, CONSTRAINT_NAME)).isFalse();
+        }
+
+    }
+
+}
@@ -0,0 +1,131 @@
+package sixgaezzang.sidepeek.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class NgramIndexTest {
+
+    static final int LIMIT = 10;
+
+    NgramIndex<Long> ngramIndex;
+
+    @BeforeEach
+    void setup() {
+        ngramIndex = new NgramIndex<>(2);
+    }
+
+    @Nested
+    class 검색_테스트 {
+
+        @Test
+        void 대소문자를_구분하지_않고_부분_문자열로_검색한다() {
+            // given
+            ngramIndex.put(1L, List.of("SidePeek"));
+            ngramIndex.put(2L, List.of("other"));
+
+            // when
+            List<Long> ids = ngramIndex.search("EPE", LIMIT);
+
+            // then
+            assertThat(ids).containsExactly(1L);
+        }
+
+        @Test
+        void 접두어가_일치하는_문서를_먼저_반환한다() {
+            // given
+            ngramIndex.put(1L, List.of("my sidepeek"));
+            ngramIndex.put(2L, List.of("sidepeek"));
+
+            // when
+            List<Long> ids = ngramIndex.search("side", LIMIT);
+
+            // then
+            assertThat(ids).containsExactly(2L, 1L);
+        }
+
+        @Test
+        void 삭제한_문서는_검색되지_않는다() {
+            // given
+            ngramIndex.put(1L, List.of("sidepeek"));
+
+            // when
+            ngramIndex.remove(1L);
+
+            // then
+            assertThat(ngramIndex.search("side", LIMIT)).isEmpty();
+        }
+
+    }
+
+    @Nested
+    class 재색인_테스트 {
+
+        @Test
+        void 읽은_문서로_전체_색인을_교체한다() {
+            // given
+            ngramIndex.put(1L, List.of("sidepeek"));
+
+            // when
+            ngramIndex.rebuild(() -> Map.of(2L, List.of("sidepeek")));
+
+            // then
+            assertThat(ngramIndex.search("side", LIMIT)).containsExactly(2L);
+        }
+
+        @Test
+        void 재색인_중에_삭제된_문서는_다시_색인되지_않는다() {
+            // given
+            ngramIndex.put(1L, List.of("sidepeek"));
+
+            // when
+            ngramIndex.rebuild(() -> {
+                Map<Long, List<String>> documents = Map.of(1L, List.of("sidepeek"));
+                ngramIndex.remove(1L);    // 문서를 읽은 뒤 반영된 삭제
+                return documents;
+            });
+
+            // then
+            assertThat(ngramIndex.search("side", LIMIT)).isEmpty();
+        }
+
+        @Test
+        void 재색인_중에_수정된_문서는_재색인_결과에_덮어써지지_않는다() {
+            // given
+            ngramIndex.put(1L, List.of("sidepeek"));
+
+            // when
+            ngramIndex.rebuild(() -> {
+                Map<Long, List<String>> documents = Map.of(1L, List.of("sidepeek"));
+                ngramIndex.put(1L, List.of("renamed"));    // 문서를 읽은 뒤 반영된 수정
+                return documents;
+            });
+
+            // then
+            assertThat(ngramIndex.search("side", LIMIT)).isEmpty();
+            assertThat(ngramIndex.search("renamed", LIMIT)).containsExactly(1L);
+        }
+
+        @Test
+        void 재색인이_끝난_뒤의_변경은_다음_재색인에_다시_적용하지_않는다() {
+            // given
+            ngramIndex.rebuild(() -> Map.of(1L, List.of("sidepeek")));
+            ngramIndex.remove(1L);
+
+            // when
+            ngramIndex.rebuild(() -> Map.of(1L, List.of("sidepeek")));
+
+            // then
+            assertThat(ngramIndex.search("side", LIMIT)).containsExactly(1L);
+        }
+
+    }
+
+}
@@ -0,0 +1,192 @@
+package sixgaezzang.sidepeek.like.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static sixgaezzang.sidepeek.like.util.LikeConstant.LIKE_COUNT_RECOUNT_ALL_DONE_KEY;
+import static sixgaezzang.sidepeek.util.FakeEntityProvider.createLike;
+import static sixgaezzang.sidepeek.util.FakeEntityProvider.createProject;
+import static sixgaezzang.sidepeek.util.FakeEntityProvider.createUser;
+
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import sixgaezzang.sidepeek.common.util.component.DateTimeProvider;
+import sixgaezzang.sidepeek.like.repository.LikeRepository;
+import sixgaezzang.sidepeek.projects.domain.Project;
+import sixgaezzang.sidepeek.projects.repository.project.ProjectRepository;
+import sixgaezzang.sidepeek.users.domain.User;
+import sixgaezzang.sidepeek.users.repository.UserRepository;
+
+@SpringBootTest
+@Transactional
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class LikeCountServiceTest {
+
+    @Autowired
+    LikeCountService likeCountService;
+
+    @Autowired
+    ProjectRepository projectRepository;
+
+    @Autowired
+    LikeRepository likeRepository;
+
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
+    @MockBean
+    DateTimeProvider dateTimeProvider;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    EntityManager em;
+
+    Project project;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(createUser());
+        project = projectRepository.save(createProject(user));
+    }
+
+    private void likeByNewUsers(Project project, int count) {
+        for (int i = 0; i < count; i++) {
+            likeRepository.save(createLike(userRepository.save(createUser()), project));
+        }
+    }
+
+    private Long findLikeCount(Long projectId) {
+        em.flush();
+        em.clear();
+        return projectRepository.findById(projectId).orElseThrow().getLikeCount();
+    }
+
+    @Nested
+    class 좋아요_수_반영_테스트 {
+
+        @Test
+        void 누적된_증감분을_합산하여_좋아요_수에_반영한다() {
+            // given
+            Long projectId = project.getId();
+            likeCountService.increase(projectId);
+            likeCountService.increase(projectId);
+            likeCountService.decrease(projectId);
+
+            // when
+            likeCountService.flush();
+
+            // then
+            em.flush();
+            em.clear();
+            assertThat(likeCountService.getPendingCount(projectId)).isZero();
+            assertThat(projectRepository.findById(projectId).orElseThrow().getLikeCount()).isEqualTo(1L);
+        }
+
+    }
+
+    @Nested
+    class 좋아요_수_재계산_테스트 {
+
+        @BeforeEach
+        void setUp() {
+            // 방금 생성한 좋아요가 재계산 대상 기간에 포함되도록 현재 시각을 옮깁니다.
+            given(dateTimeProvider.getCurrentDateTime()).willReturn(LocalDateTime.now().plusMinutes(10));
+        }
+
+        @AfterEach
+        void tearDown() {
+            likeCountService.flush();
+        }
+
+        @Test
+        void 증감분이_유실된_프로젝트의_좋아요_수를_좋아요_행_수로_맞춘다() {
+            // given
+            likeByNewUsers(project, 2);
+
+            // when
+            likeCountService.recountRecentlyLiked();
+
+            // then
+            assertThat(findLikeCount(project.getId())).isEqualTo(2L);
+        }
+
+        @Test
+        void 반영_대기_중인_증감분이_있는_프로젝트는_다시_계산하지_않는다() {
+            // given
+            likeByNewUsers(project, 1);
+            likeCountService.increase(project.getId());
+
+            // when
+            likeCountService.recountRecentlyLiked();
+
+            // then
+            assertThat(findLikeCount(project.getId())).isZero();
+        }
+
+        @Test
+        void 마지막_좋아요가_방금_생성된_프로젝트는_다시_계산하지_않는다() {
+            // given
+            likeByNewUsers(project, 1);
+            given(dateTimeProvider.getCurrentDateTime()).willReturn(LocalDateTime.now());
+
+            // when
+            likeCountService.recountRecentlyLiked();
+
+            // then
+            assertThat(findLikeCount(project.getId())).isZero();
+        }
+
+    }
+
+    @Nested
+    class 전체_좋아요_수_재계산_테스트 {
+
+        @BeforeEach
+        void setUp() {
+            given(dateTimeProvider.getCurrentDateTime()).willReturn(LocalDateTime.now());
+            redisTemplate.delete(LIKE_COUNT_RECOUNT_ALL_DONE_KEY);
+        }
+
+        @Test
+        void 누적된_증감분을_먼저_반영한_뒤_좋아요_행_수로_다시_계산한다() {
+            // given
+            likeByNewUsers(project, 2);
+            likeCountService.increase(project.getId());
+            likeCountService.increase(project.getId());
+
+            // when
+            likeCountService.recountAllOnce();
+
+            // then
+            assertThat(likeCountService.getPendingCount(project.getId())).isZero();
+            assertThat(findLikeCount(project.getId())).isEqualTo(2L);
+        }
+
+        @Test
+        void 이미_다시_계산했다면_다시_계산하지_않는다() {
+            // given
+            likeCountService.recountAllOnce();
+            likeByNewUsers(project, 1);
+
+            // when
+            likeCountService.recountAllOnce();
+
+            // then
+            assertThat(findLikeCount(project.getId())).isZero();
+        }
+
+    }
+
+}
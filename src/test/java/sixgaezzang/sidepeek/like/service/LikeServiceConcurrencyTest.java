@@ -0,0 +1,121 @@
+package sixgaezzang.sidepeek.like.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sixgaezzang.sidepeek.util.FakeDtoProvider.createLikeRequest;
+import static sixgaezzang.sidepeek.util.FakeEntityProvider.createProject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import sixgaezzang.sidepeek.projects.domain.Project;
+import sixgaezzang.sidepeek.projects.repository.project.ProjectRepository;
+import sixgaezzang.sidepeek.users.domain.User;
+import sixgaezzang.sidepeek.users.repository.UserRepository;
+
+// 좋아요 수는 커밋 이후에 누적되므로 테스트 트랜잭션을 사용하지 않고 직접 정리합니다.
+@SpringBootTest
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class LikeServiceConcurrencyTest {
+
+    static final int REQUEST_COUNT = 1000;
+    static final int THREAD_COUNT = 32;
+
+    @Autowired
+    LikeService likeService;
+
+    @Autowired
+    LikeCountService likeCountService;
+
+    @Autowired
+    ProjectRepository projectRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    List<User> users;
+    Project project;
+
+    @BeforeEach
+    void setup() {
+        // 비밀번호 암호화 비용을 피하기 위해 소셜 회원으로 생성하고, 중복되지 않도록 식별 값을 직접 지정
+        users = userRepository.saveAll(IntStream.range(0, REQUEST_COUNT)
+            .mapToObj(i -> {
+                String key = UUID.randomUUID().toString().substring(0, 12);
+                return User.builder()
+                    .email(key + "@sidepeek.com")
+                    .nickname(key)
+                    .build();
+            })
+            .toList());
+        project = projectRepository.save(createProject(users.get(0)));
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM likes WHERE project_id = ?", project.getId());
+        jdbcTemplate.update("DELETE FROM project WHERE id = ?", project.getId());
+        userRepository.deleteAllByIdInBatch(users.stream()
+            .map(User::getId)
+            .toList());
+    }
+
+    private void saveLikesConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (User user : users) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    likeService.save(user.getId(), createLikeRequest(project.getId()));
+                    return null;
+                }));
+            }
+            start.countDown();
+
+            for (Future<?> future : futures) {
+                future.get();    // 실패한 요청이 있으면 예외를 그대로 전달
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Nested
+    class 좋아요_동시_저장_테스트 {
+
+        @Test
+        void 동시에_저장된_좋아요가_모두_좋아요_수에_반영된다() throws Exception {
+            // given
+            saveLikesConcurrently();
+
+            // when
+            likeCountService.flush();
+
+            // then
+            assertThat(likeCountService.getPendingCount(project.getId())).isZero();
+            assertThat(projectRepository.findById(project.getId()).orElseThrow().getLikeCount())
+                .isEqualTo((long) REQUEST_COUNT);
+        }
+
+    }
+
+}
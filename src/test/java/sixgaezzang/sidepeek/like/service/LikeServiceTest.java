@@ -22,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.transaction.annotation.Transactional;
 import sixgaezzang.sidepeek.like.domain.Like;
 import sixgaezzang.sidepeek.like.dto.request.LikeRequest;
@@ -42,6 +43,9 @@ class LikeServiceTest {
     @Autowired
     LikeService likeService;
 
+    @Autowired
+    LikeCountService likeCountService;
+
     @Autowired
     LikeRepository likeRepository;
 
@@ -83,7 +87,7 @@ class LikeServiceTest {
         void 좋아요한_이력이_없으면_좋아요_생성에_성공한다() {
             // given
             LikeRequest request = FakeDtoProvider.createLikeRequest(project.getId());
-            Long initialLikeCount = project.getLikeCount();
+            long initialPendingCount = likeCountService.getPendingCount(project.getId());
 
             // when
             LikeResponse response = likeService.save(user.getId(), request);
@@ -93,7 +97,23 @@ class LikeServiceTest {
             assertThat(like).isPresent();
             assertThat(like.get()).extracting("project", "user")
                 .containsExactly(project, user);
-            assertThat(project.getLikeCount()).isEqualTo(initialLikeCount + 1); // 좋아요 수 업데이트 반영 확인
+            assertThat(likeCountService.getPendingCount(project.getId()))
+                .isEqualTo(initialPendingCount); // 커밋 전에는 좋아요 수 증가분을 쌓지 않음
+        }
+
+        @Test
+        void 트랜잭션이_롤백되면_좋아요_수_증가분을_쌓지_않는다() {
+            // given
+            LikeRequest request = FakeDtoProvider.createLikeRequest(project.getId());
+            long initialPendingCount = likeCountService.getPendingCount(project.getId());
+
+            // when
+            likeService.save(user.getId(), request);
+            TestTransaction.end();    // 테스트 트랜잭션은 기본적으로 롤백
+
+            // then
+            assertThat(likeCountService.getPendingCount(project.getId()))
+                .isEqualTo(initialPendingCount);
         }
 
         @Test
@@ -172,7 +192,7 @@ class LikeServiceTest {
         void 좋아요한_이력이_있으면_좋아요_삭제에_성공한다() {
             // given
             Like existingLike = createAndSaveLike(user, project);
-            Long initialLikeCount = project.getLikeCount();
+            long initialPendingCount = likeCountService.getPendingCount(project.getId());
 
             // when
             likeService.delete(user.getId(), existingLike.getId());
@@ -180,7 +200,8 @@ class LikeServiceTest {
             // then
             Optional<Like> like = likeRepository.findById(existingLike.getId());
             assertThat(like).isNotPresent();
-            assertThat(project.getLikeCount()).isEqualTo(initialLikeCount - 1); // 좋아요 수 업데이트 반영 확인
+            assertThat(likeCountService.getPendingCount(project.getId()))
+                .isEqualTo(initialPendingCount); // 커밋 전에는 좋아요 수 감소분을 쌓지 않음
         }
 
         @Test
@@ -0,0 +1,152 @@
+package sixgaezzang.sidepeek.media.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static sixgaezzang.sidepeek.auth.filter.JWTValidationFilter.JWT_HEADER;
+import static sixgaezzang.sidepeek.auth.filter.JWTValidationFilter.JWT_PREFIX;
+import static sixgaezzang.sidepeek.common.exception.message.CommonErrorMessage.LOGIN_IS_REQUIRED;
+import static sixgaezzang.sidepeek.media.exception.message.MediaErrorMessage.FILE_IS_EMPTY;
+import static sixgaezzang.sidepeek.media.util.MediaConstant.FILE_PART_NAME;
+import static sixgaezzang.sidepeek.media.util.MediaConstant.FOLDER_PATH_SEPARATOR;
+import static sixgaezzang.sidepeek.util.MultipartBodyProvider.createFilePart;
+import static sixgaezzang.sidepeek.util.MultipartBodyProvider.createMultipartBody;
+
+import com.jayway.jsonpath.JsonPath;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import sixgaezzang.sidepeek.auth.jwt.JWTManager;
+import sixgaezzang.sidepeek.config.properties.S3Properties;
+import sixgaezzang.sidepeek.util.FakeS3AsyncClient;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class MediaControllerTest {
+
+    static final String UPLOAD_URL = "/files";
+    static final String FILE_NAME = "image.png";
+    static final String CONTENT_TYPE = "image/png";
+    static final long USER_ID = 1L;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    FakeS3AsyncClient s3AsyncClient;
+
+    @Autowired
+    S3Properties s3Properties;
+
+    @Autowired
+    MultipartProperties multipartProperties;
+
+    @Autowired
+    JWTManager jwtManager;
+
+    private byte[] createFile(int size) {
+        byte[] file = new byte[size];
+        new Random(size).nextBytes(file);
+        return file;
+    }
+
+    private MockHttpServletRequestBuilder createUploadRequest(MultipartBodyBuilder builder) {
+        MockHttpOutputMessage body = createMultipartBody(builder);    // 파싱된 파트가 아닌 원본 본문을 그대로 전송
+
+        return post(UPLOAD_URL)
+            .contentType(body.getHeaders().getContentType())
+            .content(body.getBodyAsBytes());
+    }
+
+    private MockHttpServletRequestBuilder withLogin(MockHttpServletRequestBuilder request) {
+        return request.header(JWT_HEADER, JWT_PREFIX + jwtManager.generateAccessToken(USER_ID));
+    }
+
+    @TestConfiguration
+    static class FakeS3Config {
+
+        @Bean
+        @Primary
+        FakeS3AsyncClient fakeS3AsyncClient() {
+            return new FakeS3AsyncClient();
+        }
+
+    }
+
+    @Nested
+    class 파일_업로드_테스트 {
+
+        @Test
+        void 요청_본문의_파일을_S3로_스트리밍하여_업로드한다() throws Exception {
+            // given
+            byte[] file = createFile(1024);
+            MultipartBodyBuilder builder = createFilePart(FILE_PART_NAME, FILE_NAME, CONTENT_TYPE, file);
+
+            // when
+            String response = mockMvc.perform(withLogin(createUploadRequest(builder)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+            // then
+            String fileUrl = JsonPath.read(response, "$.fileUrl");
+            assertThat(fileUrl).startsWith(s3Properties.basePath()).endsWith(".png");
+            String key = fileUrl.substring((s3Properties.basePath() + FOLDER_PATH_SEPARATOR).length());
+            assertThat(s3AsyncClient.getObject(key)).hasValue(file);
+        }
+
+        @Test
+        void 최대_파일_용량을_넘으면_400을_응답한다() throws Exception {
+            // given
+            byte[] file = createFile((int) multipartProperties.getMaxFileSize().toBytes() + 1);
+            MultipartBodyBuilder builder = createFilePart(FILE_PART_NAME, FILE_NAME, CONTENT_TYPE, file);
+
+            // when, then
+            mockMvc.perform(withLogin(createUploadRequest(builder)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(
+                    "파일 용량은 " + multipartProperties.getMaxFileSize().toMegabytes() + "MB 이하여야합니다."));
+        }
+
+        @Test
+        void 파일_파트가_없으면_400을_응답한다() throws Exception {
+            // given
+            MultipartBodyBuilder builder = new MultipartBodyBuilder();
+            builder.part("description", "파일이 없는 요청");
+
+            // when, then
+            mockMvc.perform(withLogin(createUploadRequest(builder)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(FILE_IS_EMPTY));
+        }
+
+        @Test
+        void 로그인하지_않으면_401을_응답한다() throws Exception {
+            // given
+            MultipartBodyBuilder builder = createFilePart(FILE_PART_NAME, FILE_NAME, CONTENT_TYPE, createFile(1024));
+
+            // when, then
+            mockMvc.perform(createUploadRequest(builder))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value(LOGIN_IS_REQUIRED));
+        }
+
+    }
+
+}
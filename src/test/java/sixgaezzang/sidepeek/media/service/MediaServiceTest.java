@@ -2,11 +2,15 @@ package sixgaezzang.sidepeek.media.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.verify;
 import static sixgaezzang.sidepeek.common.exception.message.CommonErrorMessage.LOGIN_IS_REQUIRED;
-import static sixgaezzang.sidepeek.media.exception.message.MediaErrorMessage.FILE_IS_EMPTY;
 import static sixgaezzang.sidepeek.media.exception.message.MediaErrorMessage.FILE_IS_INVALID;
 
-import org.assertj.core.api.ThrowableAssert;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -16,19 +20,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.util.unit.DataSize;
 import sixgaezzang.sidepeek.config.properties.S3Properties;
 import sixgaezzang.sidepeek.media.dto.response.MediaUploadResponse;
+import sixgaezzang.sidepeek.media.util.component.S3StreamUploader;
 import sixgaezzang.sidepeek.users.domain.User;
 import sixgaezzang.sidepeek.users.repository.UserRepository;
 import sixgaezzang.sidepeek.util.FakeEntityProvider;
-import software.amazon.awssdk.services.s3.S3Client;
 
 @SpringBootTest
 @Transactional
@@ -36,14 +38,11 @@ import software.amazon.awssdk.services.s3.S3Client;
 class MediaServiceTest {
 
     @MockBean
-    S3Client s3Client;
+    S3StreamUploader s3StreamUploader;
 
     @Autowired
     S3Properties s3Properties;
 
-    @Autowired
-    MultipartProperties multipartProperties;
-
     @Autowired
     MediaService mediaService;
 
@@ -62,9 +61,8 @@ class MediaServiceTest {
         return userRepository.save(newUser);
     }
 
-    private MultipartFile createMultipartFile(String contentType, String name, String extension, byte[] size) {
-        return new MockMultipartFile(name + extension,
-            name + extension, contentType, size);
+    private InputStream createInputStream() {
+        return new ByteArrayInputStream("File Input Stream".getBytes());
     }
 
     @Nested
@@ -74,80 +72,67 @@ class MediaServiceTest {
         @CsvSource(value = {"image/*:.jpeg", "video/*:.mp4"}, delimiter = ':')
         void 로그인한_상태에서_이미지_또는_영상_파일_업로드에_성공한다(String contentType, String fileExtension) {
             // given
-            MultipartFile file =
-                createMultipartFile(contentType, "fileName", fileExtension, "File Input Stream".getBytes());
+            String fileName = "fileName" + fileExtension;
 
             // when
-            MediaUploadResponse response = mediaService.uploadFile(user.getId(), file);
+            MediaUploadResponse response = mediaService.uploadFile(user.getId(), fileName, contentType,
+                createInputStream());
 
             // then
             assertThat(response.fileUrl()).contains(s3Properties.basePath());
             assertThat(response.fileUrl()).contains(fileExtension);
         }
 
-        @ParameterizedTest(name = "[{index}] ContentType이 {0}이고 Extension이 {1}인 경우")
-        @CsvSource(value = {"text/*:.txt", "audio/*:.aac", "font/*:.ttf"}, delimiter = ':')
-        void 이미지나_영상이_아닌_파일_업로드에_실패한다(String contentType, String fileExtension) {
+        @Test
+        void 요청_본문의_파일_스트림을_그대로_업로드한다() {
             // given
-            MultipartFile file =
-                createMultipartFile(contentType, "fileName", fileExtension, "File Input Stream".getBytes());
+            InputStream inputStream = createInputStream();
 
             // when
-            ThrowingCallable upload = () -> mediaService.uploadFile(user.getId(), file);
-
-            // then
-            assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(upload)
-                .withMessage(FILE_IS_INVALID);
-        }
-
-        @Test
-        void 파일이_null인_경우_업로드에_실패한다() {
-            // given, when
-            ThrowableAssert.ThrowingCallable upload = () -> mediaService.uploadFile(user.getId(), null);
+            MediaUploadResponse response = mediaService.uploadFile(user.getId(), "fileName.mp4", "video/mp4",
+                inputStream);
 
             // then
-            assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(upload)
-                .withMessage(FILE_IS_EMPTY);
+            assertThat(response.fileUrl()).startsWith(s3Properties.basePath()).endsWith(".mp4");
+            verify(s3StreamUploader).upload(eq(s3Properties.baseBucket()), startsWith(s3Properties.keyPrefix()),
+                eq("video/mp4"), eq(inputStream), any(DataSize.class));
         }
 
         @Test
-        void 파일이_비어있는_경우_업로드에_실패한다() {
-            // given
-            MultipartFile file = createMultipartFile("image/jpeg", "fileName", ".jpeg", new byte[] {});
-
+        void 확장자가_없는_파일_스트림은_업로드에_실패한다() {
             // when
-            ThrowingCallable upload = () -> mediaService.uploadFile(user.getId(), file);
+            ThrowingCallable upload = () -> mediaService.uploadFile(user.getId(), "fileName", "image/png",
+                createInputStream());
 
             // then
             assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(upload)
-                .withMessage(FILE_IS_EMPTY);
+                .withMessage(FILE_IS_INVALID);
         }
 
-        @Test
-        void 파일_사이즈가_최대_파일_사이즈보다_커서_업로드에_실패한다() {
+        @ParameterizedTest(name = "[{index}] ContentType이 {0}이고 Extension이 {1}인 경우")
+        @CsvSource(value = {"text/*:.txt", "audio/*:.aac", "font/*:.ttf"}, delimiter = ':')
+        void 이미지나_영상이_아닌_파일_업로드에_실패한다(String contentType, String fileExtension) {
             // given
-            int maxSize = (int) multipartProperties.getMaxFileSize().toBytes();
-            byte[] greaterThanMaxSize = new byte[maxSize + 1];
-            MultipartFile file = createMultipartFile(
-                "image/jpeg", "fileName", ".jpeg", greaterThanMaxSize);
+            String fileName = "fileName" + fileExtension;
 
             // when
-            ThrowingCallable upload = () -> mediaService.uploadFile(user.getId(), file);
+            ThrowingCallable upload = () -> mediaService.uploadFile(user.getId(), fileName, contentType,
+                createInputStream());
 
             // then
             assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(upload)
-                .withMessage("파일 용량은 " + multipartProperties.getMaxFileSize().toMegabytes() + "MB 이하여야합니다.");
+                .withMessage(FILE_IS_INVALID);
         }
 
         @ParameterizedTest(name = "[{index}] ContentType이 {0}이고 Extension이 {1}인 경우")
         @CsvSource(value = {"image/*:.jpeg", "video/*:.mp4"}, delimiter = ':')
         void 로그인을_하지_않으면_업로드에_실패한다(String contentType, String fileExtension) {
             // given
-            MultipartFile file = createMultipartFile(
-                contentType, "fileName", fileExtension, "File Input Stream".getBytes());
+            String fileName = "fileName" + fileExtension;
 
             // when
-            ThrowingCallable upload = () -> mediaService.uploadFile(null, file);
+            ThrowingCallable upload = () -> mediaService.uploadFile(null, fileName, contentType,
+                createInputStream());
 
             // then
             assertThatExceptionOfType(BadCredentialsException.class).isThrownBy(upload)
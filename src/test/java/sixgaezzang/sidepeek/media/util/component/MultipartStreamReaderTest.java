@@ -0,0 +1,188 @@
+package sixgaezzang.sidepeek.media.util.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static sixgaezzang.sidepeek.media.exception.message.MediaErrorMessage.FILE_IS_EMPTY;
+import static sixgaezzang.sidepeek.media.exception.message.MediaErrorMessage.REQUEST_IS_TOO_LARGE;
+import static sixgaezzang.sidepeek.media.util.MediaConstant.FILE_PART_NAME;
+import static sixgaezzang.sidepeek.media.util.MediaConstant.MAX_PART_HEADER_SIZE;
+import static sixgaezzang.sidepeek.media.util.MediaConstant.MAX_REQUEST_PART_COUNT;
+import static sixgaezzang.sidepeek.util.MultipartBodyProvider.createFilePart;
+import static sixgaezzang.sidepeek.util.MultipartBodyProvider.createMultipartBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.unit.DataSize;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class MultipartStreamReaderTest {
+
+    static final String FILE_NAME = "video.mp4";
+    static final String CONTENT_TYPE = "video/mp4";
+    static final byte[] CONTENT = "File Input Stream".getBytes();
+
+    MultipartProperties multipartProperties = new MultipartProperties();
+    MultipartStreamReader multipartStreamReader = new MultipartStreamReader(multipartProperties);
+
+    private MockHttpServletRequest createRequest(MultipartBodyBuilder builder) {
+        MockHttpOutputMessage body = createMultipartBody(builder);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/files");
+        request.setContentType(body.getHeaders().getContentType().toString());
+        request.setContent(body.getBodyAsBytes());
+        return request;
+    }
+
+    private FilePart readFile(MockHttpServletRequest request) {
+        return multipartStreamReader.readFile(request, FILE_PART_NAME,
+            (fileName, contentType, inputStream) -> new FilePart(fileName, contentType, readAll(inputStream)));
+    }
+
+    private byte[] readAll(InputStream inputStream) {
+        try {
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record FilePart(
+        String fileName,
+        String contentType,
+        byte[] content
+    ) {
+
+    }
+
+    @Nested
+    class 파일_파트_읽기_테스트 {
+
+        @Test
+        void 파일_파트의_이름과_타입과_내용을_스트림으로_넘긴다() {
+            // given
+            MultipartBodyBuilder builder = createFilePart(FILE_PART_NAME, FILE_NAME, CONTENT_TYPE, CONTENT);
+
+            // when
+            FilePart filePart = readFile(createRequest(builder));
+
+            // then
+            assertThat(filePart.fileName()).isEqualTo(FILE_NAME);
+            assertThat(filePart.contentType()).isEqualTo(CONTENT_TYPE);
+            assertThat(filePart.content()).isEqualTo(CONTENT);
+        }
+
+        @Test
+        void 파일_파트_앞의_다른_파트는_건너뛴다() {
+            // given
+            MultipartBodyBuilder builder = createFilePart("thumbnail", "image.png", "image/png", new byte[] {1, 2});
+            builder.part("description", "설명");
+            builder.part(FILE_PART_NAME, CONTENT)
+                .filename(FILE_NAME)
+                .contentType(MediaType.parseMediaType(CONTENT_TYPE));
+
+            // when
+            FilePart filePart = readFile(createRequest(builder));
+
+            // then
+            assertThat(filePart.fileName()).isEqualTo(FILE_NAME);
+            assertThat(filePart.content()).isEqualTo(CONTENT);
+        }
+
+        @Test
+        void 파일_파트가_없으면_예외를_던진다() {
+            // given
+            MultipartBodyBuilder builder = new MultipartBodyBuilder();
+            builder.part(FILE_PART_NAME, "파일이 아닌 값");
+            MockHttpServletRequest request = createRequest(builder);
+
+            // when
+            ThrowingCallable read = () -> readFile(request);
+
+            // then
+            assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(read)
+                .withMessage(FILE_IS_EMPTY);
+        }
+
+        @Test
+        void multipart_요청이_아니면_예외를_던진다() {
+            // given
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/files");
+            request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            request.setContent(CONTENT);
+
+            // when
+            ThrowingCallable read = () -> readFile(request);
+
+            // then
+            assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(read)
+                .withMessage(FILE_IS_EMPTY);
+        }
+
+    }
+
+    @Nested
+    class 요청_제한_테스트 {
+
+        @Test
+        void 요청_용량이_최대_요청_용량을_넘으면_예외를_던진다() {
+            // given
+            multipartProperties.setMaxRequestSize(DataSize.ofBytes(CONTENT.length));
+            MultipartBodyBuilder builder = createFilePart(FILE_PART_NAME, FILE_NAME, CONTENT_TYPE, CONTENT);
+            MockHttpServletRequest request = createRequest(builder);
+
+            // when
+            ThrowingCallable read = () -> readFile(request);
+
+            // then
+            assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(read)
+                .withMessage(REQUEST_IS_TOO_LARGE);
+        }
+
+        @Test
+        void 파일_파트_앞의_파트가_너무_많으면_예외를_던진다() {
+            // given
+            MultipartBodyBuilder builder = new MultipartBodyBuilder();
+            for (int i = 0; i < MAX_REQUEST_PART_COUNT; i++) {
+                builder.part("description" + i, "설명");
+            }
+            builder.part(FILE_PART_NAME, CONTENT)
+                .filename(FILE_NAME)
+                .contentType(MediaType.parseMediaType(CONTENT_TYPE));
+            MockHttpServletRequest request = createRequest(builder);
+
+            // when
+            ThrowingCallable read = () -> readFile(request);
+
+            // then
+            assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(read)
+                .withMessage(REQUEST_IS_TOO_LARGE);
+        }
+
+        @Test
+        void 파트_헤더가_너무_크면_예외를_던진다() {
+            // given
+            String fileName = "a".repeat(MAX_PART_HEADER_SIZE) + ".mp4";
+            MultipartBodyBuilder builder = createFilePart(FILE_PART_NAME, fileName, CONTENT_TYPE, CONTENT);
+            MockHttpServletRequest request = createRequest(builder);
+
+            // when
+            ThrowingCallable read = () -> readFile(request);
+
+            // then
+            assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(read)
+                .withMessage(REQUEST_IS_TOO_LARGE);
+        }
+
+    }
+
+}
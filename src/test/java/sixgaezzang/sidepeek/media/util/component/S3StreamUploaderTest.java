@@ -0,0 +1,167 @@
+package sixgaezzang.sidepeek.media.util.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static sixgaezzang.sidepeek.media.exception.message.MediaErrorMessage.FILE_IS_EMPTY;
+import static sixgaezzang.sidepeek.media.exception.message.MediaErrorMessage.UPLOAD_TIMED_OUT;
+import static sixgaezzang.sidepeek.media.util.MediaConstant.MAX_CONCURRENT_PART_UPLOADS;
+import static sixgaezzang.sidepeek.media.util.MediaConstant.UPLOAD_PART_SIZE;
+
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.Random;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import sixgaezzang.sidepeek.config.properties.S3Properties;
+import sixgaezzang.sidepeek.util.FakeS3AsyncClient;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class S3StreamUploaderTest {
+
+    static final String BUCKET = "sidepeek-test";
+    static final String KEY = "test/video.mp4";
+    static final String CONTENT_TYPE = "video/mp4";
+    static final DataSize MAX_FILE_SIZE = DataSize.ofMegabytes(50);
+    static final Duration API_CALL_TIMEOUT = Duration.ofMillis(200);
+
+    FakeS3AsyncClient s3AsyncClient;
+    S3StreamUploader s3StreamUploader;
+
+    @BeforeEach
+    void setup() {
+        s3AsyncClient = new FakeS3AsyncClient();
+        s3StreamUploader = new S3StreamUploader(s3AsyncClient,
+            new S3Properties(null, BUCKET, null, null, null, API_CALL_TIMEOUT, API_CALL_TIMEOUT));
+    }
+
+    private byte[] createFile(int size) {
+        byte[] file = new byte[size];
+        new Random(size).nextBytes(file);
+        return file;
+    }
+
+    @Nested
+    class 스트림_업로드_테스트 {
+
+        @Test
+        void 파트_크기보다_작은_파일은_한_번에_업로드한다() {
+            // given
+            byte[] file = createFile(1024);
+
+            // when
+            long uploadedBytes = s3StreamUploader.upload(BUCKET, KEY, CONTENT_TYPE,
+                new ByteArrayInputStream(file), MAX_FILE_SIZE);
+
+            // then
+            assertThat(uploadedBytes).isEqualTo(file.length);
+            assertThat(s3AsyncClient.getPutObjectCount()).isEqualTo(1);
+            assertThat(s3AsyncClient.getObject(KEY)).hasValue(file);
+        }
+
+        @Test
+        void 파트_크기보다_큰_파일은_멀티파트로_나누어_순서대로_합친다() {
+            // given
+            byte[] file = createFile(UPLOAD_PART_SIZE * 2 + 1024);
+
+            // when
+            long uploadedBytes = s3StreamUploader.upload(BUCKET, KEY, CONTENT_TYPE,
+                new ByteArrayInputStream(file), MAX_FILE_SIZE);
+
+            // then
+            assertThat(uploadedBytes).isEqualTo(file.length);
+            assertThat(s3AsyncClient.getPutObjectCount()).isZero();
+            assertThat(s3AsyncClient.getObject(KEY)).hasValue(file);
+            assertThat(s3AsyncClient.getInProgressUploadCount()).isZero();
+        }
+
+        @Test
+        void 빈_파일은_업로드하지_않는다() {
+            // given
+            ByteArrayInputStream emptyStream = new ByteArrayInputStream(new byte[] {});
+
+            // when
+            ThrowingCallable upload = () -> s3StreamUploader.upload(BUCKET, KEY, CONTENT_TYPE, emptyStream,
+                MAX_FILE_SIZE);
+
+            // then
+            assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(upload)
+                .withMessage(FILE_IS_EMPTY);
+            assertThat(s3AsyncClient.getObject(KEY)).isEmpty();
+        }
+
+        @Test
+        void 최대_파일_용량을_넘으면_멀티파트_업로드를_취소한다() {
+            // given
+            DataSize maxFileSize = DataSize.ofBytes(UPLOAD_PART_SIZE + 1);
+            byte[] file = createFile(UPLOAD_PART_SIZE * 2);
+
+            // when
+            ThrowingCallable upload = () -> s3StreamUploader.upload(BUCKET, KEY, CONTENT_TYPE,
+                new ByteArrayInputStream(file), maxFileSize);
+
+            // then
+            assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(upload)
+                .withMessage("파일 용량은 " + maxFileSize.toMegabytes() + "MB 이하여야합니다.");
+            assertThat(s3AsyncClient.getAbortedUploadIds()).hasSize(1);
+            assertThat(s3AsyncClient.getObject(KEY)).isEmpty();
+        }
+
+        @Test
+        void 파트_업로드에_실패하면_멀티파트_업로드를_취소한다() {
+            // given
+            s3AsyncClient.failOnPart(2);
+            byte[] file = createFile(UPLOAD_PART_SIZE * 3);
+
+            // when
+            ThrowingCallable upload = () -> s3StreamUploader.upload(BUCKET, KEY, CONTENT_TYPE,
+                new ByteArrayInputStream(file), MAX_FILE_SIZE);
+
+            // then
+            assertThatExceptionOfType(S3Exception.class).isThrownBy(upload);
+            assertThat(s3AsyncClient.getAbortedUploadIds()).hasSize(1);
+            assertThat(s3AsyncClient.getObject(KEY)).isEmpty();
+        }
+
+        @Test
+        void 전송_중인_파트가_모두_끝난_뒤에_멀티파트_업로드를_취소한다() {
+            // given
+            s3AsyncClient.delayParts(Duration.ofMillis(300));
+            s3AsyncClient.failOnPart(2);
+            byte[] file = createFile(UPLOAD_PART_SIZE * 3);
+
+            // when
+            ThrowingCallable upload = () -> s3StreamUploader.upload(BUCKET, KEY, CONTENT_TYPE,
+                new ByteArrayInputStream(file), MAX_FILE_SIZE);
+
+            // then
+            assertThatExceptionOfType(S3Exception.class).isThrownBy(upload);
+            assertThat(s3AsyncClient.getAbortedUploadIds()).hasSize(1);
+            assertThat(s3AsyncClient.getPartsUploadedAfterAbort()).isZero();
+        }
+
+        @Test
+        void 전송_중인_파트가_제한_시간_안에_끝나지_않으면_업로드를_취소한다() {
+            // given
+            s3AsyncClient.delayParts(API_CALL_TIMEOUT.multipliedBy(3));
+            byte[] file = createFile(UPLOAD_PART_SIZE * (MAX_CONCURRENT_PART_UPLOADS + 1));
+
+            // when
+            ThrowingCallable upload = () -> s3StreamUploader.upload(BUCKET, KEY, CONTENT_TYPE,
+                new ByteArrayInputStream(file), MAX_FILE_SIZE);
+
+            // then
+            assertThatExceptionOfType(ApiCallTimeoutException.class).isThrownBy(upload)
+                .withMessage(UPLOAD_TIMED_OUT);
+            assertThat(s3AsyncClient.getAbortedUploadIds()).hasSize(1);
+            assertThat(s3AsyncClient.getObject(KEY)).isEmpty();
+        }
+    }
+
+}
@@ -0,0 +1,195 @@
+package sixgaezzang.sidepeek.projects.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import sixgaezzang.sidepeek.projects.dto.request.FindProjectRequest;
+import sixgaezzang.sidepeek.projects.dto.request.SortType;
+import sixgaezzang.sidepeek.projects.dto.response.CursorPaginationResponse;
+import sixgaezzang.sidepeek.projects.dto.response.ProjectListResponse;
+import sixgaezzang.sidepeek.projects.repository.project.ProjectRepository;
+
+/**
+ * 커서 기반 페이지네이션이 정렬 값이 동시에 바뀌는 중에도 누락이나 중복 없이 전체 목록을 순회하는지 확인하는 속성 기반 테스트.
+ * <p>
+ * 동점이 많도록 좁은 범위의 좋아요수/조회수/생성 일시로 10만 개의 프로젝트를 만들고, 무작위 페이지 크기로 순회하는 동안 일부
+ * 프로젝트의 좋아요수/조회수를 계속 증가시킨다. 순회 중 정렬 값이 바뀌지 않은 프로젝트는 정확히 한 번씩 조회되어야 한다.
+ * 데이터가 커서 {@code ./gradlew benchmarkTest}로 실행한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ProjectCursorPagingPropertyTest {
+
+    static final String SEED_NAME_PREFIX = "cursor-property-";
+    static final int PROJECT_COUNT = 100_000;
+    static final int SEED_BATCH_SIZE = 5_000;
+    static final int TRIAL_COUNT = 3;
+    static final int MUTABLE_PERCENT = 10;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    ProjectRepository projectRepository;
+
+    List<Long> seededIds;
+    List<Long> mutableIds;
+
+    @BeforeAll
+    void setup() {
+        Random random = new Random(PROJECT_COUNT);
+        for (int from = 0; from < PROJECT_COUNT; from += SEED_BATCH_SIZE) {
+            insertProjects(random, from, Math.min(SEED_BATCH_SIZE, PROJECT_COUNT - from));
+        }
+
+        seededIds = jdbcTemplate.queryForList("SELECT id FROM project WHERE name LIKE ?", Long.class,
+            SEED_NAME_PREFIX + "%");
+        mutableIds = seededIds.stream()
+            .filter(id -> id % 100 < MUTABLE_PERCENT)
+            .toList();
+    }
+
+    @AfterAll
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM project WHERE name LIKE ?", SEED_NAME_PREFIX + "%");
+    }
+
+    @ParameterizedTest
+    @EnumSource(SortType.class)
+    void 정렬_값이_바뀌는_중에도_바뀌지_않은_프로젝트는_정확히_한_번씩_조회된다(SortType sort) throws Exception {
+        for (int trial = 0; trial < TRIAL_COUNT; trial++) {
+            // given
+            long seed = System.nanoTime();
+            Random random = new Random(seed);
+            int pageSize = 10 + random.nextInt(491);
+
+            Set<Long> updatedIds = ConcurrentUpdater.newUpdatedIdSet();
+            List<Long> pagedIds;
+
+            // when
+            try (ConcurrentUpdater updater = new ConcurrentUpdater(jdbcTemplate, mutableIds, updatedIds, seed)) {
+                updater.start();
+                pagedIds = pageThroughAll(sort, pageSize);
+            }
+
+            // then
+            Map<Long, Long> seenCounts = pagedIds.stream()
+                .collect(Collectors.groupingBy(id -> id, HashMap::new, Collectors.counting()));
+            List<Long> stableIds = seededIds.stream()
+                .filter(id -> sort == SortType.createdAt || !updatedIds.contains(id))
+                .toList();
+
+            assertThat(stableIds)
+                .as("sort=%s, pageSize=%d, seed=%d", sort, pageSize, seed)
+                .allSatisfy(id -> assertThat(seenCounts.get(id)).isEqualTo(1L));
+        }
+    }
+
+    private List<Long> pageThroughAll(SortType sort, int pageSize) {
+        List<Long> pagedIds = new ArrayList<>();
+        String cursor = null;
+        do {
+            FindProjectRequest request = FindProjectRequest.builder()
+                .cursor(cursor)
+                .sort(sort)
+                .pageSize(pageSize)
+                .build();
+            CursorPaginationResponse<ProjectListResponse> response = projectRepository.findByCondition(null,
+                request);
+
+            response.content().forEach(project -> pagedIds.add(project.id()));
+            cursor = response.nextCursor();
+        } while (Objects.nonNull(cursor));
+        return pagedIds;
+    }
+
+    private void insertProjects(Random random, int from, int size) {
+        StringBuilder sql = new StringBuilder("INSERT INTO project (name, overview, github_url, like_count, "
+            + "view_count, owner_id, description, created_at) VALUES ");
+        List<Object> args = new ArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            sql.append(i == 0 ? "" : ", ")
+                .append("(?, 'cursor', 'https://github.com/sidepeek', ?, ?, 1, 'cursor', "
+                    + "TIMESTAMP '2000-01-01 00:00:00' + INTERVAL ? SECOND)");
+            args.add(SEED_NAME_PREFIX + (from + i));
+            args.add(random.nextInt(50));   // 동점이 많도록 좁은 범위를 사용
+            args.add(random.nextInt(50));
+            args.add(random.nextInt(1_000));
+        }
+
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    /**
+     * 순회하는 동안 무작위 프로젝트의 좋아요수/조회수를 증가시키고, 증가시킨 프로젝트를 기록한다.
+     */
+    static class ConcurrentUpdater implements AutoCloseable {
+
+        private final JdbcTemplate jdbcTemplate;
+        private final List<Long> mutableIds;
+        private final Set<Long> updatedIds;
+        private final Random random;
+        private final AtomicBoolean running = new AtomicBoolean(true);
+        private final ExecutorService executor = Executors.newSingleThreadExecutor();
+        private Future<?> task;
+
+        ConcurrentUpdater(JdbcTemplate jdbcTemplate, List<Long> mutableIds, Set<Long> updatedIds,
+            long seed) {
+            this.jdbcTemplate = jdbcTemplate;
+            this.mutableIds = mutableIds;
+            this.updatedIds = updatedIds;
+            this.random = new Random(seed);
+        }
+
+        static Set<Long> newUpdatedIdSet() {
+            return ConcurrentHashMap.newKeySet();
+        }
+
+        void start() {
+            task = executor.submit(() -> {
+                while (running.get()) {
+                    Long projectId = mutableIds.get(random.nextInt(mutableIds.size()));
+                    // 조회 결과와 비교하기 전에 기록해야 누락을 변경으로 오인하지 않습니다.
+                    updatedIds.add(projectId);
+                    jdbcTemplate.update("UPDATE project SET like_count = like_count + 1, "
+                        + "view_count = view_count + 1 WHERE id = ?", projectId);
+                }
+            });
+        }
+
+        @Override
+        public void close() throws Exception {
+            running.set(false);
+            task.get();
+            executor.shutdown();
+        }
+
+    }
+
+}
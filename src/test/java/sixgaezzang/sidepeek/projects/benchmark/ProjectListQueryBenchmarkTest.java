@@ -0,0 +1,163 @@
+package sixgaezzang.sidepeek.projects.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import sixgaezzang.sidepeek.projects.dto.request.FindProjectRequest;
+import sixgaezzang.sidepeek.projects.dto.request.SortType;
+import sixgaezzang.sidepeek.projects.repository.project.ProjectRepository;
+
+/**
+ * 프로젝트 목록 조회의 실행 계획과 응답 시간(p50, p99)을 정렬 기준별로 측정하는 벤치마크.
+ * <p>
+ * 전용 데이터베이스에서 {@code ./gradlew benchmarkTest}로 실행하며, 처음 실행 시 {@code benchmark.project-count}(기본 100만)개의
+ * 프로젝트를 채운다. 인덱스 추가 전후를 비교하려면 {@code -Dspring.flyway.target=7}로 한 번, 옵션 없이 한 번 실행한 뒤
+ * {@code build/reports/benchmark}에 스키마 버전별로 남는 결과를 비교한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ProjectListQueryBenchmarkTest {
+
+    static final String SEED_NAME_PREFIX = "benchmark-";
+    static final int SEED_BATCH_SIZE = 5_000;
+    static final int WARM_UP_COUNT = 20;
+    static final int MEASURE_COUNT = 200;
+    static final int PAGE_SIZE = 24;
+
+    @Value("${benchmark.project-count:1000000}")
+    int projectCount;
+
+    @Value("${benchmark.report-dir:build/reports/benchmark}")
+    String reportDir;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    ProjectRepository projectRepository;
+
+    @Autowired
+    Flyway flyway;
+
+    @Test
+    void 정렬_기준별_프로젝트_목록_조회_성능을_측정한다() throws IOException {
+        // given
+        seedProjects();
+        String schemaVersion = flyway.info().current().getVersion().getVersion();
+        StringBuilder report = new StringBuilder()
+            .append("# Project list benchmark (schema V").append(schemaVersion).append(")\n\n")
+            .append("projects: ").append(countSeededProjects()).append("\n");
+
+        // when
+        for (SortType sort : SortType.values()) {
+            report.append("\n## sort=").append(sort).append("\n\n")
+                .append("```\n").append(explain(sort)).append("```\n\n")
+                .append(measure(sort)).append("\n");
+        }
+
+        // then
+        Path reportPath = Path.of(reportDir, "project-list-V" + schemaVersion + ".md");
+        Files.createDirectories(reportPath.getParent());
+        Files.writeString(reportPath, report);
+        assertThat(reportPath).exists();
+    }
+
+    private void seedProjects() {
+        long seededCount = countSeededProjects();
+        for (long from = seededCount; from < projectCount; from += SEED_BATCH_SIZE) {
+            insertProjects(from, (int) Math.min(SEED_BATCH_SIZE, projectCount - from));
+        }
+    }
+
+    private long countSeededProjects() {
+        Long count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM project WHERE name LIKE ?", Long.class, SEED_NAME_PREFIX + "%");
+        return Objects.requireNonNullElse(count, 0L);
+    }
+
+    private void insertProjects(long from, int size) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder sql = new StringBuilder("INSERT INTO project (name, overview, github_url, like_count, "
+            + "view_count, owner_id, description, created_at, deleted_at) VALUES ");
+        List<Object> args = new ArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            sql.append(i == 0 ? "" : ", ")
+                .append("(?, 'benchmark', 'https://github.com/sidepeek', ?, ?, 1, 'benchmark', "
+                    + "NOW() - INTERVAL ? SECOND, IF(?, NOW(), NULL))");
+            args.add(SEED_NAME_PREFIX + (from + i));
+            args.add(random.nextLong(1_000));
+            args.add(random.nextLong(100_000));
+            args.add(random.nextLong(365L * 24 * 60 * 60));
+            args.add(random.nextInt(20) == 0);  // 5%는 삭제된 프로젝트
+        }
+
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    private String explain(SortType sort) {
+        String orderColumn = switch (sort) {
+            case like -> "like_count";
+            case view -> "view_count";
+            default -> "created_at";
+        };
+
+        List<Map<String, Object>> plans = jdbcTemplate.queryForList("EXPLAIN SELECT * FROM project "
+            + "WHERE deleted_at IS NULL ORDER BY " + orderColumn + " DESC, id DESC LIMIT " + (PAGE_SIZE + 1));
+
+        StringBuilder plan = new StringBuilder();
+        plans.forEach(row -> plan.append(row).append("\n"));
+        return plan.toString();
+    }
+
+    private String measure(SortType sort) {
+        FindProjectRequest request = FindProjectRequest.builder()
+            .sort(sort)
+            .pageSize(PAGE_SIZE)
+            .build();
+
+        for (int i = 0; i < WARM_UP_COUNT; i++) {
+            projectRepository.findByCondition(null, request);
+        }
+
+        List<Long> elapsedNanos = new ArrayList<>(MEASURE_COUNT);
+        for (int i = 0; i < MEASURE_COUNT; i++) {
+            long startedAt = System.nanoTime();
+            projectRepository.findByCondition(null, request);
+            elapsedNanos.add(System.nanoTime() - startedAt);
+        }
+        Collections.sort(elapsedNanos);
+
+        return String.format("p50: %.2fms, p99: %.2fms, max: %.2fms",
+            toMillis(percentile(elapsedNanos, 50)), toMillis(percentile(elapsedNanos, 99)),
+            toMillis(elapsedNanos.get(elapsedNanos.size() - 1)));
+    }
+
+    private long percentile(List<Long> sortedValues, int percent) {
+        int index = (int) Math.ceil(percent / 100.0 * sortedValues.size()) - 1;
+        return sortedValues.get(Math.max(index, 0));
+    }
+
+    private double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+}
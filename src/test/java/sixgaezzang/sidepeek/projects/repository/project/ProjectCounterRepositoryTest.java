@@ -0,0 +1,160 @@
+package sixgaezzang.sidepeek.projects.repository.project;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sixgaezzang.sidepeek.util.FakeDtoProvider.createUpdateProjectRequestWithOption;
+import static sixgaezzang.sidepeek.util.FakeEntityProvider.createProject;
+import static sixgaezzang.sidepeek.util.FakeEntityProvider.createUser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import sixgaezzang.sidepeek.projects.domain.Project;
+import sixgaezzang.sidepeek.projects.dto.request.UpdateProjectRequest;
+import sixgaezzang.sidepeek.users.domain.User;
+import sixgaezzang.sidepeek.users.repository.UserRepository;
+
+// 동시에 커밋되는 트랜잭션을 검증하므로 테스트 트랜잭션을 사용하지 않고 직접 정리합니다.
+@SpringBootTest
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ProjectCounterRepositoryTest {
+
+    static final int REQUEST_COUNT = 1000;
+    static final int THREAD_COUNT = 32;
+
+    @Autowired
+    ProjectCounterRepository projectCounterRepository;
+
+    @Autowired
+    ProjectRepository projectRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    User user;
+    Project project;
+
+    @BeforeEach
+    void setup() {
+        user = userRepository.save(createUser());
+        project = projectRepository.save(createProject(user));
+    }
+
+    @AfterEach
+    void cleanup() {
+        projectRepository.deleteById(project.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    private void runConcurrently(Consumer<Long> request) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < REQUEST_COUNT; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    transactionTemplate.executeWithoutResult(status -> request.accept(project.getId()));
+                    return null;
+                }));
+            }
+            start.countDown();
+
+            for (Future<?> future : futures) {
+                future.get();    // 실패한 요청이 있으면 예외를 그대로 전달
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Project findProject() {
+        return projectRepository.findById(project.getId()).orElseThrow();
+    }
+
+    @Nested
+    class 카운터_동시_증감_테스트 {
+
+        @Test
+        void 동시에_요청된_좋아요_수_증가분이_모두_반영된다() throws Exception {
+            // given, when
+            runConcurrently(projectId -> projectCounterRepository.increaseLikeCounts(Map.of(projectId, 1L)));
+
+            // then
+            assertThat(findProject().getLikeCount()).isEqualTo((long) REQUEST_COUNT);
+        }
+
+        @Test
+        void 동시에_요청된_댓글_수_증가분이_모두_반영된다() throws Exception {
+            // given, when
+            runConcurrently(projectId -> projectCounterRepository.increaseCommentCount(projectId, 1L));
+
+            // then
+            assertThat(findProject().getCommentCount()).isEqualTo((long) REQUEST_COUNT);
+        }
+
+    }
+
+    @Nested
+    class 프로젝트_수정과_카운터_증감_테스트 {
+
+        @Test
+        void 프로젝트를_읽은_뒤_커밋된_증가분은_프로젝트_수정으로_덮어쓰지_않는다() {
+            // given
+            UpdateProjectRequest request = createUpdateProjectRequestWithOption(List.of(), null, null, null,
+                null, null, null);
+
+            // when
+            transactionTemplate.executeWithoutResult(status -> {
+                Project loadedProject = findProject();
+                CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(    // 카운터 반영이 먼저 커밋
+                    counterStatus -> {
+                        projectCounterRepository.increaseLikeCounts(Map.of(project.getId(), 1L));
+                        projectCounterRepository.increaseViewCounts(Map.of(project.getId(), 1L));
+                        projectCounterRepository.increaseCommentCount(project.getId(), 1L);
+                    })).join();
+                loadedProject.update(request);
+            });
+
+            // then
+            Project updatedProject = findProject();
+            assertThat(updatedProject.getName()).isEqualTo(request.name());
+            assertThat(updatedProject.getLikeCount()).isEqualTo(1L);
+            assertThat(updatedProject.getViewCount()).isEqualTo(1L);
+            assertThat(updatedProject.getCommentCount()).isEqualTo(1L);
+        }
+
+        @Test
+        void 같은_트랜잭션에서_읽은_프로젝트는_증감된_카운터로_갱신된다() {
+            // given, when
+            Project loadedProject = transactionTemplate.execute(status -> {
+                Project readProject = findProject();
+                projectCounterRepository.increaseCommentCount(project.getId(), 1L);
+                return readProject;
+            });
+
+            // then
+            assertThat(loadedProject.getCommentCount()).isEqualTo(1L);
+        }
+
+    }
+
+}
@@ -0,0 +1,127 @@
+package sixgaezzang.sidepeek.projects.repository.project;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.MAX_SKILL_FILTER_ID_COUNT;
+import static sixgaezzang.sidepeek.util.FakeDtoProvider.createSaveTechStackRequest;
+import static sixgaezzang.sidepeek.util.FakeEntityProvider.createProject;
+import static sixgaezzang.sidepeek.util.FakeEntityProvider.createSkill;
+import static sixgaezzang.sidepeek.util.FakeEntityProvider.createUser;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.transaction.annotation.Transactional;
+import sixgaezzang.sidepeek.projects.domain.Project;
+import sixgaezzang.sidepeek.projects.dto.request.FindProjectRequest;
+import sixgaezzang.sidepeek.projects.dto.response.CursorPaginationResponse;
+import sixgaezzang.sidepeek.projects.dto.response.ProjectListResponse;
+import sixgaezzang.sidepeek.projects.repository.search.ProjectSkillIndex;
+import sixgaezzang.sidepeek.projects.service.ProjectSkillService;
+import sixgaezzang.sidepeek.skill.domain.Skill;
+import sixgaezzang.sidepeek.skill.repository.SkillRepository;
+import sixgaezzang.sidepeek.users.domain.User;
+import sixgaezzang.sidepeek.users.repository.UserRepository;
+
+@SpringBootTest
+@Transactional
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ProjectRepositoryCustomImplTest {
+
+    @MockBean
+    ProjectSkillIndex projectSkillIndex;
+
+    @Autowired
+    ProjectRepository projectRepository;
+
+    @Autowired
+    ProjectSkillService projectSkillService;
+
+    @Autowired
+    SkillRepository skillRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    EntityManager em;
+
+    Skill firstSkill;
+    Skill secondSkill;
+    Project projectWithBothSkills;
+    Project projectWithFirstSkill;
+
+    @BeforeEach
+    void setup() {
+        User user = userRepository.save(createUser());
+        firstSkill = skillRepository.save(createSkill());
+        secondSkill = skillRepository.save(createSkill());
+
+        projectWithFirstSkill = projectRepository.save(createProject(user));
+        projectSkillService.cleanAndSaveAll(projectWithFirstSkill,
+            List.of(createSaveTechStackRequest(firstSkill.getId())));
+
+        projectWithBothSkills = projectRepository.save(createProject(user));
+        projectSkillService.cleanAndSaveAll(projectWithBothSkills,
+            List.of(createSaveTechStackRequest(firstSkill.getId()),
+                createSaveTechStackRequest(secondSkill.getId())));
+
+        em.flush();
+    }
+
+    @Nested
+    class 스킬_조건_조회_테스트 {
+
+        @Test
+        void 색인에서_찾은_프로젝트가_많으면_서브쿼리로_스킬을_모두_사용하는_프로젝트를_조회한다() {
+            // given
+            List<Long> manyProjectIds = LongStream.rangeClosed(1, MAX_SKILL_FILTER_ID_COUNT + 1)
+                .boxed()
+                .toList();
+            given(projectSkillIndex.findProjectIdsHavingAll(anyCollection())).willReturn(manyProjectIds);
+
+            FindProjectRequest request = FindProjectRequest.builder()
+                .skill(List.of(firstSkill.getName().toUpperCase(), secondSkill.getName(), secondSkill.getName()))
+                .build();
+
+            // when
+            CursorPaginationResponse<ProjectListResponse> response = projectRepository.findByCondition(null,
+                request);
+
+            // then
+            assertThat(response.content()).extracting(ProjectListResponse::id)
+                .containsExactly(projectWithBothSkills.getId());
+            assertThat(projectRepository.countByCondition(request)).isEqualTo(1L);
+        }
+
+        @Test
+        void 색인에서_찾은_프로젝트가_적으면_식별자_목록으로_조회한다() {
+            // given
+            given(projectSkillIndex.findProjectIdsHavingAll(anyCollection()))
+                .willReturn(List.of(projectWithFirstSkill.getId()));
+
+            FindProjectRequest request = FindProjectRequest.builder()
+                .skill(List.of(firstSkill.getName()))
+                .build();
+
+            // when
+            CursorPaginationResponse<ProjectListResponse> response = projectRepository.findByCondition(null,
+                request);
+
+            // then
+            assertThat(response.content()).extracting(ProjectListResponse::id)
+                .containsExactly(projectWithFirstSkill.getId());
+        }
+
+    }
+
+}
@@ -0,0 +1,178 @@
+package sixgaezzang.sidepeek.projects.repository.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.MAX_SEARCH_RESULT_COUNT;
+
+import jakarta.persistence.EntityManager;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import sixgaezzang.sidepeek.projects.domain.Project;
+import sixgaezzang.sidepeek.projects.domain.member.Member;
+import sixgaezzang.sidepeek.projects.repository.MemberRepository;
+import sixgaezzang.sidepeek.projects.repository.project.ProjectRepository;
+import sixgaezzang.sidepeek.users.domain.User;
+import sixgaezzang.sidepeek.users.repository.UserRepository;
+import sixgaezzang.sidepeek.util.FakeEntityProvider;
+import sixgaezzang.sidepeek.util.FakeValueProvider;
+
+// InnoDB FULLTEXT 인덱스는 커밋된 행만 검색하므로 테스트 트랜잭션을 사용하지 않고 직접 정리합니다.
+@SpringBootTest
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class FullTextProjectSearchIndexTest {
+
+    @Autowired
+    ProjectRepository projectRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    EntityManager em;
+
+    FullTextProjectSearchIndex projectSearchIndex;
+    String keyword;
+    User user;
+    List<Long> projectIds;
+
+    @BeforeEach
+    void setup() {
+        projectSearchIndex = new FullTextProjectSearchIndex(em);
+        keyword = UUID.randomUUID().toString().substring(0, 8);
+        user = userRepository.save(FakeEntityProvider.createUser());
+        projectIds = new ArrayList<>();
+    }
+
+    @AfterEach
+    void cleanup() {
+        projectIds.forEach(projectId -> {
+            jdbcTemplate.update("DELETE FROM project_member WHERE project_id = ?", projectId);
+            jdbcTemplate.update("DELETE FROM project WHERE id = ?", projectId);
+        });
+        userRepository.deleteById(user.getId());
+    }
+
+    private Project saveProject(String name) {
+        Project project = projectRepository.save(Project.builder()
+            .name(name)
+            .overview(FakeValueProvider.createOverview())
+            .githubUrl(FakeValueProvider.createGithubUrl())
+            .startDate(YearMonth.now())
+            .endDate(YearMonth.now().plusMonths(3))
+            .ownerId(user.getId())
+            .description(FakeValueProvider.createLongText())
+            .build());
+        projectIds.add(project.getId());
+        return project;
+    }
+
+    private void saveMember(Project project, String nickname) {
+        memberRepository.save(Member.builder()
+            .nickname(nickname)
+            .project(project)
+            .role(FakeValueProvider.createRole())
+            .build());
+    }
+
+    @Nested
+    class 검색어_지원_여부_테스트 {
+
+        @Test
+        void ngram_토큰보다_짧은_검색어는_지원하지_않는다() {
+            // given, when, then
+            assertThat(projectSearchIndex.supports("a")).isFalse();
+            assertThat(projectSearchIndex.supports(" \"a\" ")).isFalse();
+            assertThat(projectSearchIndex.supports("ab")).isTrue();
+        }
+
+    }
+
+    @Nested
+    class 프로젝트_검색_테스트 {
+
+        @Test
+        void 프로젝트_이름의_일부로_검색한다() {
+            // given
+            Project project = saveProject("사이드 " + keyword + " 프로젝트");
+
+            // when
+            List<Long> searchedIds = projectSearchIndex.search(keyword, MAX_SEARCH_RESULT_COUNT);
+
+            // then
+            assertThat(searchedIds).containsExactly(project.getId());
+        }
+
+        @Test
+        void 멤버_닉네임으로_검색한다() {
+            // given
+            Project project = saveProject(FakeValueProvider.createProjectName());
+            saveMember(project, keyword);
+
+            // when
+            List<Long> searchedIds = projectSearchIndex.search(keyword, MAX_SEARCH_RESULT_COUNT);
+
+            // then
+            assertThat(searchedIds).containsExactly(project.getId());
+        }
+
+        @Test
+        void 이름이_일치하는_프로젝트가_닉네임만_일치하는_프로젝트보다_앞에_온다() {
+            // given
+            Project nicknameMatched = saveProject(FakeValueProvider.createProjectName());
+            saveMember(nicknameMatched, keyword);
+            Project nameMatched = saveProject(keyword);
+
+            // when
+            List<Long> searchedIds = projectSearchIndex.search(keyword, MAX_SEARCH_RESULT_COUNT);
+
+            // then
+            assertThat(searchedIds).containsExactly(nameMatched.getId(), nicknameMatched.getId());
+        }
+
+        @Test
+        void 최대_조회_개수만큼만_조회한다() {
+            // given
+            Project first = saveProject(keyword + " 1");
+            Project second = saveProject(keyword + " 2");
+
+            // when
+            List<Long> searchedIds = projectSearchIndex.search(keyword, 1);
+
+            // then
+            assertThat(searchedIds).hasSize(1)
+                .containsAnyOf(first.getId(), second.getId());
+        }
+
+        @Test
+        void 삭제된_프로젝트는_검색되지_않는다() {
+            // given
+            Project project = saveProject(keyword);
+            saveMember(project, keyword);
+            jdbcTemplate.update("UPDATE project SET deleted_at = NOW() WHERE id = ?", project.getId());
+
+            // when
+            List<Long> searchedIds = projectSearchIndex.search(keyword, MAX_SEARCH_RESULT_COUNT);
+
+            // then
+            assertThat(searchedIds).isEmpty();
+        }
+
+    }
+
+}
@@ -0,0 +1,118 @@
+package sixgaezzang.sidepeek.projects.repository.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.MAX_SEARCH_RESULT_COUNT;
+import static sixgaezzang.sidepeek.util.FakeEntityProvider.createMember;
+import static sixgaezzang.sidepeek.util.FakeEntityProvider.createProject;
+import static sixgaezzang.sidepeek.util.FakeEntityProvider.createUser;
+
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import sixgaezzang.sidepeek.common.util.component.IndexChangeBroadcaster;
+import sixgaezzang.sidepeek.projects.domain.Project;
+import sixgaezzang.sidepeek.projects.repository.MemberRepository;
+import sixgaezzang.sidepeek.projects.repository.project.ProjectRepository;
+import sixgaezzang.sidepeek.users.domain.User;
+import sixgaezzang.sidepeek.users.repository.UserRepository;
+
+@SpringBootTest
+@Transactional
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class InMemoryProjectSearchIndexTest {
+
+    @Autowired
+    ProjectRepository projectRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    IndexChangeBroadcaster indexChangeBroadcaster;
+
+    @Autowired
+    EntityManager em;
+
+    InMemoryProjectSearchIndex projectSearchIndex;
+    User user;
+    Project project;
+
+    @BeforeEach
+    void setup() {
+        projectSearchIndex = new InMemoryProjectSearchIndex(em, indexChangeBroadcaster);
+        user = userRepository.save(createUser());
+        project = projectRepository.save(createProject(user));
+        memberRepository.save(createMember(user, project));
+        em.flush();
+    }
+
+    @Nested
+    class 프로젝트_검색_테스트 {
+
+        @Test
+        void 프로젝트_이름의_일부로_검색한다() {
+            // given
+            projectSearchIndex.rebuild();
+            String keyword = project.getName().substring(1).toUpperCase();
+
+            // when
+            List<Long> projectIds = projectSearchIndex.search(keyword, MAX_SEARCH_RESULT_COUNT);
+
+            // then
+            assertThat(projectIds).contains(project.getId());
+        }
+
+        @Test
+        void 멤버_닉네임으로_검색한다() {
+            // given
+            projectSearchIndex.rebuild();
+
+            // when
+            List<Long> projectIds = projectSearchIndex.search(user.getNickname(), MAX_SEARCH_RESULT_COUNT);
+
+            // then
+            assertThat(projectIds).contains(project.getId());
+        }
+
+        @Test
+        void 삭제된_프로젝트는_검색되지_않는다() {
+            // given
+            project.softDelete(LocalDateTime.now());
+            em.flush();
+            em.clear();
+
+            // when
+            projectSearchIndex.rebuild();
+            List<Long> projectIds = projectSearchIndex.search(project.getName(), MAX_SEARCH_RESULT_COUNT);
+
+            // then
+            assertThat(projectIds).doesNotContain(project.getId());
+        }
+
+        @Test
+        void 트랜잭션이_커밋되기_전의_변경은_색인에_반영하지_않는다() {
+            // given
+            projectSearchIndex.rebuild();
+
+            // when
+            projectSearchIndex.remove(project.getId());
+
+            // then
+            assertThat(projectSearchIndex.search(project.getName(), MAX_SEARCH_RESULT_COUNT))
+                .contains(project.getId());
+        }
+
+    }
+
+}
@@ -0,0 +1,249 @@
+package sixgaezzang.sidepeek.projects.repository.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static sixgaezzang.sidepeek.util.FakeDtoProvider.createSaveTechStackRequest;
+import static sixgaezzang.sidepeek.util.FakeEntityProvider.createProject;
+import static sixgaezzang.sidepeek.util.FakeEntityProvider.createSkill;
+import static sixgaezzang.sidepeek.util.FakeEntityProvider.createUser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.annotation.Transactional;
+import sixgaezzang.sidepeek.common.util.component.IndexChangeBroadcaster;
+import sixgaezzang.sidepeek.projects.domain.Project;
+import sixgaezzang.sidepeek.projects.repository.project.ProjectRepository;
+import sixgaezzang.sidepeek.projects.service.ProjectSkillService;
+import sixgaezzang.sidepeek.skill.domain.Skill;
+import sixgaezzang.sidepeek.skill.repository.SkillRepository;
+import sixgaezzang.sidepeek.users.domain.User;
+import sixgaezzang.sidepeek.users.repository.UserRepository;
+
+@SpringBootTest
+@Transactional
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ProjectSkillIndexTest {
+
+    @Autowired
+    ProjectSkillIndex projectSkillIndex;
+
+    @Autowired
+    ProjectSkillService projectSkillService;
+
+    @Autowired
+    ProjectRepository projectRepository;
+
+    @Autowired
+    SkillRepository skillRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    IndexChangeBroadcaster indexChangeBroadcaster;
+
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    RedisMessageListenerContainer listenerContainer;
+
+    @Autowired
+    EntityManager em;
+
+    Skill firstSkill;
+    Skill secondSkill;
+    Project projectWithBothSkills;
+    Project projectWithFirstSkill;
+
+    @BeforeEach
+    void setup() {
+        User user = userRepository.save(createUser());
+        firstSkill = skillRepository.save(createSkill());
+        secondSkill = skillRepository.save(createSkill());
+
+        projectWithFirstSkill = projectRepository.save(createProject(user));
+        projectSkillService.cleanAndSaveAll(projectWithFirstSkill,
+            List.of(createSaveTechStackRequest(firstSkill.getId())));
+
+        projectWithBothSkills = projectRepository.save(createProject(user));
+        projectSkillService.cleanAndSaveAll(projectWithBothSkills,
+            List.of(createSaveTechStackRequest(firstSkill.getId()),
+                createSaveTechStackRequest(secondSkill.getId())));
+
+        em.flush();
+        projectSkillIndex.rebuild();
+    }
+
+    @Nested
+    class 스킬_조건_조회_테스트 {
+
+        @Test
+        void 스킬을_모두_사용하는_프로젝트만_조회한다() {
+            // given
+            List<String> skillNames = List.of(firstSkill.getName(), secondSkill.getName());
+
+            // when
+            List<Long> projectIds = projectSkillIndex.findProjectIdsHavingAll(skillNames);
+
+            // then
+            assertThat(projectIds).contains(projectWithBothSkills.getId())
+                .doesNotContain(projectWithFirstSkill.getId());
+        }
+
+        @Test
+        void 프로젝트_식별자_내림차순으로_조회한다() {
+            // given
+            List<String> skillNames = List.of(firstSkill.getName().toUpperCase());
+
+            // when
+            List<Long> projectIds = projectSkillIndex.findProjectIdsHavingAll(skillNames);
+
+            // then
+            assertThat(projectIds).containsSubsequence(projectWithBothSkills.getId(),
+                projectWithFirstSkill.getId());
+        }
+
+        @Test
+        void 사용하는_프로젝트가_없는_스킬이면_빈_목록을_반환한다() {
+            // given
+            Skill unusedSkill = skillRepository.save(createSkill());
+
+            // when
+            List<Long> projectIds = projectSkillIndex.findProjectIdsHavingAll(
+                List.of(firstSkill.getName(), unusedSkill.getName()));
+
+            // then
+            assertThat(projectIds).isEmpty();
+        }
+
+    }
+
+    @Nested
+    class 재색인_테스트 {
+
+        // DB를 읽은 직후 다른 요청의 변경이 커밋되어 색인에 반영되는 상황을 재현합니다.
+        private ProjectSkillIndex createIndexChangedWhileLoading(Consumer<ProjectSkillIndex> change) {
+            return new ProjectSkillIndex(em, indexChangeBroadcaster) {
+                @Override
+                Map<Long, Set<String>> loadSkillsByProject() {
+                    Map<Long, Set<String>> loadedSkillsByProject = super.loadSkillsByProject();
+                    // 트랜잭션 밖의 다른 스레드에서 실행하여 커밋 이후가 아닌 즉시 반영
+                    CompletableFuture.runAsync(() -> change.accept(this)).join();
+                    return loadedSkillsByProject;
+                }
+            };
+        }
+
+        @Test
+        void 재색인_중에_삭제된_프로젝트는_다시_색인되지_않는다() {
+            // given
+            Long projectId = projectWithBothSkills.getId();
+            ProjectSkillIndex index = createIndexChangedWhileLoading(self -> self.remove(projectId));
+
+            // when
+            index.rebuild();
+
+            // then
+            assertThat(index.findProjectIdsHavingAll(List.of(firstSkill.getName())))
+                .contains(projectWithFirstSkill.getId())
+                .doesNotContain(projectId);
+        }
+
+        @Test
+        void 재색인_중에_변경된_기술_스택은_재색인_결과에_덮어써지지_않는다() {
+            // given
+            Long projectId = projectWithFirstSkill.getId();
+            List<String> skillNames = List.of(firstSkill.getName(), secondSkill.getName());
+            ProjectSkillIndex index = createIndexChangedWhileLoading(self -> self.replace(projectId, skillNames));
+
+            // when
+            index.rebuild();
+
+            // then
+            assertThat(index.findProjectIdsHavingAll(skillNames))
+                .contains(projectId, projectWithBothSkills.getId());
+        }
+
+        @Test
+        void 재색인이_끝난_뒤의_변경은_기록하지_않고_바로_반영한다() {
+            // given
+            Long projectId = projectWithBothSkills.getId();
+            ProjectSkillIndex index = createIndexChangedWhileLoading(self -> {
+            });
+            index.rebuild();
+
+            // when
+            CompletableFuture.runAsync(() -> index.remove(projectId)).join();
+            index.rebuild();
+
+            // then
+            assertThat(index.findProjectIdsHavingAll(List.of(secondSkill.getName())))
+                .contains(projectId);    // 재색인은 DB 기준으로 되돌림
+        }
+
+    }
+
+    @Nested
+    class 노드_간_전파_테스트 {
+
+        // 같은 Redis를 사용하는 다른 노드의 색인을 만듭니다.
+        private ProjectSkillIndex createOtherNodeIndex() {
+            ProjectSkillIndex index = new ProjectSkillIndex(em,
+                new IndexChangeBroadcaster(redisTemplate, objectMapper, listenerContainer));
+            index.subscribe();
+            index.rebuild();
+            return index;
+        }
+
+        @Test
+        void 다른_노드에서_변경된_기술_스택을_반영한다() {
+            // given
+            ProjectSkillIndex otherNodeIndex = createOtherNodeIndex();
+            Long projectId = projectWithFirstSkill.getId();
+            List<String> skillNames = List.of(firstSkill.getName(), secondSkill.getName());
+
+            // when
+            CompletableFuture.runAsync(() -> projectSkillIndex.replace(projectId, skillNames)).join();
+
+            // then
+            await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(otherNodeIndex.findProjectIdsHavingAll(skillNames)).contains(projectId));
+        }
+
+        @Test
+        void 다른_노드에서_삭제된_프로젝트를_반영한다() {
+            // given
+            ProjectSkillIndex otherNodeIndex = createOtherNodeIndex();
+            Long projectId = projectWithBothSkills.getId();
+
+            // when
+            CompletableFuture.runAsync(() -> projectSkillIndex.remove(projectId)).join();
+
+            // then
+            await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(otherNodeIndex.findProjectIdsHavingAll(List.of(secondSkill.getName())))
+                    .doesNotContain(projectId));
+        }
+
+    }
+
+}
@@ -140,6 +140,31 @@ class FileServiceTest {
             assertThat(savedFiles).hasSameSizeAs(emptyFile);
         }
 
+        @Test
+        void 달라진_파일만_수정하여_요청_순서대로_파일_목록_수정에_성공한다() {
+            // given
+            fileService.cleanAndSaveAll(project, imageUrls);
+            List<Long> originalIds = fileService.findAllByProject(project).stream()
+                .map(File::getId)
+                .toList();
+
+            List<String> reversedImageUrls = new ArrayList<>(imageUrls);
+            Collections.reverse(reversedImageUrls);
+            reversedImageUrls.add(FakeValueProvider.createUrl());
+
+            // when
+            List<OverviewImageSummary> savedImageUrls = fileService.cleanAndSaveAll(project, reversedImageUrls);
+            List<File> savedFiles = fileService.findAllByProject(project);
+
+            // then
+            assertThat(savedImageUrls).extracting(OverviewImageSummary::url)
+                .containsExactlyElementsOf(reversedImageUrls);
+            assertThat(savedFiles).extracting(File::getUrl)
+                .containsExactlyElementsOf(reversedImageUrls);
+            assertThat(savedFiles.subList(0, IMAGE_COUNT)).extracting(File::getId)
+                .containsExactlyElementsOf(originalIds);
+        }
+
         private User createAndSaveUser() {
             User newUser = FakeEntityProvider.createUser();
             return userRepository.save(newUser);
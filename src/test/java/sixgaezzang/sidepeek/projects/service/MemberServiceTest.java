@@ -1,6 +1,7 @@
 package sixgaezzang.sidepeek.projects.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
 import static sixgaezzang.sidepeek.projects.exception.message.MemberErrorMessage.MEMBER_IS_DUPLICATED;
 import static sixgaezzang.sidepeek.projects.exception.message.MemberErrorMessage.MEMBER_IS_EMPTY;
@@ -31,6 +32,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 import sixgaezzang.sidepeek.projects.domain.Project;
+import sixgaezzang.sidepeek.projects.domain.member.Member;
 import sixgaezzang.sidepeek.projects.dto.request.SaveMemberRequest;
 import sixgaezzang.sidepeek.projects.dto.response.MemberSummary;
 import sixgaezzang.sidepeek.projects.repository.MemberRepository;
@@ -256,5 +258,31 @@ class MemberServiceTest {
             assertThat(savedMembers).hasSameSizeAs(membersOnlyOwner);
         }
 
+        @Test
+        void 달라진_멤버만_수정하여_요청_순서대로_멤버_목록_수정에_성공한다() {
+            // given
+            memberService.cleanAndSaveAll(project, members);
+            List<Long> originalIds = memberRepository.findAllByProjectOrderById(project).stream()
+                .map(Member::getId)
+                .toList();
+
+            List<SaveMemberRequest> changedMembers = new ArrayList<>(members);
+            SaveMemberRequest lastMember = changedMembers.get(MEMBER_COUNT - 1);
+            changedMembers.set(MEMBER_COUNT - 1,
+                new SaveMemberRequest(lastMember.id(), lastMember.nickname(), "변경된 역할"));
+
+            // when
+            memberService.cleanAndSaveAll(project, changedMembers);
+            List<Member> savedMembers = memberRepository.findAllByProjectOrderById(project);
+
+            // then
+            assertThat(savedMembers).extracting(Member::getId)
+                .containsExactlyElementsOf(originalIds);
+            assertThat(savedMembers).extracting(Member::getNickname, Member::getRole)
+                .containsExactlyElementsOf(changedMembers.stream()
+                    .map(member -> tuple(member.nickname(), member.role()))
+                    .toList());
+        }
+
     }
 }
@@ -0,0 +1,179 @@
+package sixgaezzang.sidepeek.projects.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static sixgaezzang.sidepeek.projects.util.ProjectConstant.POPULAR_PROJECTS_KEY_PREFIX;
+import static sixgaezzang.sidepeek.util.FakeEntityProvider.createLike;
+import static sixgaezzang.sidepeek.util.FakeEntityProvider.createProject;
+import static sixgaezzang.sidepeek.util.FakeEntityProvider.createUser;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import sixgaezzang.sidepeek.common.util.component.DateTimeProvider;
+import sixgaezzang.sidepeek.like.domain.Like;
+import sixgaezzang.sidepeek.like.repository.LikeRepository;
+import sixgaezzang.sidepeek.projects.domain.Project;
+import sixgaezzang.sidepeek.projects.dto.response.ProjectBannerResponse;
+import sixgaezzang.sidepeek.projects.repository.project.ProjectRepository;
+import sixgaezzang.sidepeek.users.domain.User;
+import sixgaezzang.sidepeek.users.repository.UserRepository;
+
+@SpringBootTest
+@Transactional
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class PopularProjectsMaterializerTest {
+
+    static final LocalDate START_DATE = LocalDate.of(2000, 1, 3);
+    static final LocalDate END_DATE = START_DATE.plusDays(6);
+    static final String KEY = POPULAR_PROJECTS_KEY_PREFIX + START_DATE;
+    // 계산 결과는 메모리 스냅샷에도 남으므로 조회 테스트와 다른 주를 사용합니다.
+    static final LocalDate MATERIALIZED_START_DATE = START_DATE.plusWeeks(1);
+    static final LocalDate MATERIALIZED_END_DATE = MATERIALIZED_START_DATE.plusDays(6);
+    static final String MATERIALIZED_KEY = POPULAR_PROJECTS_KEY_PREFIX + MATERIALIZED_START_DATE;
+
+    @MockBean
+    DateTimeProvider dateTimeProvider;
+
+    @Autowired
+    PopularProjectsMaterializer popularProjectsMaterializer;
+
+    @Autowired
+    ProjectRepository projectRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    LikeRepository likeRepository;
+
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    User user;
+
+    @BeforeEach
+    void setup() {
+        user = userRepository.save(createUser());
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(List.of(KEY, MATERIALIZED_KEY));
+    }
+
+    private void saveLikes(Project project, int likeCount, LocalDateTime likedAt) {
+        for (int i = 0; i < likeCount; i++) {
+            Like like = likeRepository.saveAndFlush(createLike(userRepository.save(createUser()), project));
+            jdbcTemplate.update("UPDATE likes SET created_at = ? WHERE id = ?", likedAt, like.getId());
+        }
+    }
+
+    @Nested
+    class 인기_프로젝트_조회_테스트 {
+
+        @Test
+        void 계산된_순위가_있으면_순위대로_조회한다() {
+            // given
+            Project first = projectRepository.save(createProject(user));
+            Project second = projectRepository.save(createProject(user));
+            redisTemplate.opsForValue().set(KEY, second.getId() + "," + first.getId());
+
+            // when
+            List<ProjectBannerResponse> responses = popularProjectsMaterializer.findAllPopularOfPeriod(
+                START_DATE, END_DATE);
+
+            // then
+            assertThat(responses).extracting(ProjectBannerResponse::id)
+                .containsExactly(second.getId(), first.getId());
+        }
+
+        @Test
+        void 계산된_순위에서_삭제된_프로젝트는_제외한다() {
+            // given
+            Project project = projectRepository.save(createProject(user));
+            Project deletedProject = projectRepository.save(createProject(user));
+            deletedProject.softDelete(LocalDateTime.now());
+            projectRepository.flush();
+            redisTemplate.opsForValue().set(KEY, deletedProject.getId() + "," + project.getId());
+
+            // when
+            List<ProjectBannerResponse> responses = popularProjectsMaterializer.findAllPopularOfPeriod(
+                START_DATE, END_DATE);
+
+            // then
+            assertThat(responses).extracting(ProjectBannerResponse::id)
+                .containsExactly(project.getId());
+        }
+
+        @Test
+        void 계산된_순위가_없으면_좋아요_기록으로_계산한다() {
+            // given, when
+            List<ProjectBannerResponse> responses = popularProjectsMaterializer.findAllPopularOfPeriod(
+                START_DATE, END_DATE);
+
+            // then
+            assertThat(responses).isEmpty();
+        }
+
+    }
+
+    @Nested
+    class 인기_프로젝트_계산_테스트 {
+
+        @Test
+        void 지난_주_좋아요를_많이_받은_순으로_순위를_계산하여_저장한다() {
+            // given
+            LocalDateTime lastWeek = MATERIALIZED_START_DATE.atTime(12, 0);
+            Project mostLiked = projectRepository.save(createProject(user));
+            Project leastLiked = projectRepository.save(createProject(user));
+            Project secondLiked = projectRepository.save(createProject(user));
+            saveLikes(mostLiked, 3, lastWeek);
+            saveLikes(leastLiked, 1, MATERIALIZED_END_DATE.atTime(23, 59));
+            saveLikes(leastLiked, 3, MATERIALIZED_END_DATE.plusDays(1).atStartOfDay());    // 이번 주 좋아요는 제외
+            saveLikes(secondLiked, 2, lastWeek);
+            given(dateTimeProvider.getCurrentDate()).willReturn(MATERIALIZED_END_DATE.plusDays(1));
+
+            // when
+            popularProjectsMaterializer.materializeLastWeek();
+
+            // then
+            assertThat(redisTemplate.opsForValue().get(MATERIALIZED_KEY))
+                .isEqualTo(mostLiked.getId() + "," + secondLiked.getId() + "," + leastLiked.getId());
+            assertThat(popularProjectsMaterializer.findAllPopularOfPeriod(MATERIALIZED_START_DATE,
+                MATERIALIZED_END_DATE)).extracting(ProjectBannerResponse::id)
+                .containsExactly(mostLiked.getId(), secondLiked.getId(), leastLiked.getId());
+        }
+
+        @Test
+        void 지난_주_좋아요가_없으면_빈_순위를_저장한다() {
+            // given
+            given(dateTimeProvider.getCurrentDate()).willReturn(MATERIALIZED_END_DATE.plusDays(1));
+
+            // when
+            popularProjectsMaterializer.materializeLastWeek();
+
+            // then
+            assertThat(redisTemplate.opsForValue().get(MATERIALIZED_KEY)).isEmpty();
+            assertThat(popularProjectsMaterializer.findAllPopularOfPeriod(MATERIALIZED_START_DATE,
+                MATERIALIZED_END_DATE)).isEmpty();
+        }
+
+    }
+
+}
@@ -0,0 +1,192 @@
+package sixgaezzang.sidepeek.projects.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static sixgaezzang.sidepeek.util.FakeDtoProvider.createSaveCommentRequestWithProjectId;
+import static sixgaezzang.sidepeek.util.FakeDtoProvider.createUpdateUserProfileRequestWithEmptyTechStacks;
+import static sixgaezzang.sidepeek.util.FakeEntityProvider.createMember;
+import static sixgaezzang.sidepeek.util.FakeEntityProvider.createProject;
+import static sixgaezzang.sidepeek.util.FakeEntityProvider.createUser;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import sixgaezzang.sidepeek.comments.dto.request.SaveCommentRequest;
+import sixgaezzang.sidepeek.comments.dto.request.UpdateCommentRequest;
+import sixgaezzang.sidepeek.comments.dto.response.CommentResponse;
+import sixgaezzang.sidepeek.comments.service.CommentService;
+import sixgaezzang.sidepeek.projects.domain.Project;
+import sixgaezzang.sidepeek.projects.dto.response.MemberSummary;
+import sixgaezzang.sidepeek.projects.dto.response.ProjectResponse;
+import sixgaezzang.sidepeek.projects.repository.MemberRepository;
+import sixgaezzang.sidepeek.projects.repository.project.ProjectDetailReadModel;
+import sixgaezzang.sidepeek.projects.repository.project.ProjectRepository;
+import sixgaezzang.sidepeek.projects.util.component.ProjectDetailCache;
+import sixgaezzang.sidepeek.users.domain.User;
+import sixgaezzang.sidepeek.users.dto.request.UpdateUserProfileRequest;
+import sixgaezzang.sidepeek.users.dto.response.UserSummary;
+import sixgaezzang.sidepeek.users.repository.UserRepository;
+import sixgaezzang.sidepeek.users.service.UserService;
+
+// 스냅샷은 커밋 이후에 캐싱되고 변경 이벤트도 커밋 이후에 처리되므로 테스트 트랜잭션을 사용하지 않고 직접 정리합니다.
+@SpringBootTest
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ProjectDetailCacheEvictionTest {
+
+    static final String IP = "127.0.0.1";
+
+    @SpyBean
+    ProjectDetailReadModel projectDetailReadModel;
+
+    @Autowired
+    ProjectService projectService;
+
+    @Autowired
+    CommentService commentService;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    ProjectDetailCache projectDetailCache;
+
+    @Autowired
+    ProjectRepository projectRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    User user;
+    Project project;
+
+    @BeforeEach
+    void setup() {
+        user = userRepository.save(createUser());
+        project = projectRepository.save(createProject(user));
+        memberRepository.save(createMember(user, project));
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM comments WHERE project_id = ?", project.getId());
+        jdbcTemplate.update("DELETE FROM project_member WHERE project_id = ?", project.getId());
+        jdbcTemplate.update("DELETE FROM project WHERE id = ?", project.getId());
+        userRepository.deleteById(user.getId());
+        projectDetailCache.evict(project.getId());
+    }
+
+    private ProjectResponse findProject() {
+        return projectService.findById(IP, user.getId(), project.getId());
+    }
+
+    private SaveCommentRequest createCommentRequest() {
+        return createSaveCommentRequestWithProjectId(user.getId(), project.getId());
+    }
+
+    @Nested
+    class 변경_이후_상세_조회_테스트 {
+
+        @Test
+        void 댓글을_작성하면_다음_상세_조회에_반영된다() {
+            // given
+            assertThat(findProject().comments()).isEmpty();    // 스냅샷 캐싱
+            SaveCommentRequest request = createCommentRequest();
+
+            // when
+            commentService.save(user.getId(), request);
+            ProjectResponse response = findProject();
+
+            // then
+            assertThat(response.comments()).extracting(CommentResponse::content)
+                .containsExactly(request.content());
+            assertThat(response.commentCount()).isEqualTo(1L);
+        }
+
+        @Test
+        void 댓글을_수정하면_다음_상세_조회에_반영된다() {
+            // given
+            commentService.save(user.getId(), createCommentRequest());
+            Long commentId = findProject().comments().get(0).id();    // 스냅샷 캐싱
+            UpdateCommentRequest request = new UpdateCommentRequest(false, "수정된 댓글");
+
+            // when
+            commentService.update(user.getId(), commentId, request);
+
+            // then
+            assertThat(findProject().comments()).extracting(CommentResponse::content)
+                .containsExactly(request.content());
+        }
+
+        @Test
+        void 상세_조회_도중_커밋된_변경은_다음_상세_조회에_반영된다() {
+            // given
+            SaveCommentRequest request = createCommentRequest();
+            AtomicBoolean changed = new AtomicBoolean();
+            doAnswer(invocation -> {
+                Object viewerState = invocation.callRealMethod();
+                if (changed.compareAndSet(false, true)) {    // 상세 조회 트랜잭션 도중 다른 요청이 댓글을 작성
+                    CompletableFuture.runAsync(() -> commentService.save(user.getId(), request)).join();
+                }
+                return viewerState;
+            }).when(projectDetailReadModel).findViewerState(eq(project.getId()), any());
+
+            // when
+            findProject();
+            ProjectResponse response = findProject();
+
+            // then
+            assertThat(response.comments()).extracting(CommentResponse::content)
+                .containsExactly(request.content());
+        }
+
+        @Test
+        void 댓글_작성자가_프로필을_수정하면_다음_상세_조회에_반영된다() {
+            // given
+            commentService.save(user.getId(), createCommentRequest());
+            assertThat(findProject().comments()).hasSize(1);    // 스냅샷 캐싱
+            UpdateUserProfileRequest request = createUpdateUserProfileRequestWithEmptyTechStacks();
+
+            // when
+            userService.updateProfile(user.getId(), user.getId(), request);
+
+            // then
+            assertThat(findProject().comments()).extracting(CommentResponse::user)
+                .extracting(UserSummary::nickname)
+                .containsExactly(request.nickname());
+        }
+
+        @Test
+        void 멤버가_프로필_이미지를_수정하면_다음_상세_조회에_반영된다() {
+            // given
+            findProject();    // 스냅샷 캐싱
+            UpdateUserProfileRequest request = createUpdateUserProfileRequestWithEmptyTechStacks();
+
+            // when
+            userService.updateProfile(user.getId(), user.getId(), request);
+
+            // then
+            assertThat(findProject().members()).flatExtracting(MemberSummary::userSummary)
+                .extracting(UserSummary::profileImageUrl)
+                .containsExactly(request.profileImageUrl());
+        }
+
+    }
+
+}
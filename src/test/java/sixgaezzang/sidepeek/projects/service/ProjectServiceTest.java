@@ -6,6 +6,7 @@ import static org.mockito.BDDMockito.given;
 import static sixgaezzang.sidepeek.common.exception.message.CommonErrorMessage.LOGIN_IS_REQUIRED;
 import static sixgaezzang.sidepeek.common.exception.message.CommonErrorMessage.OWNER_ID_NOT_EQUALS_LOGIN_ID;
 import static sixgaezzang.sidepeek.common.util.CommonConstant.MAX_TECH_STACK_COUNT;
+import static sixgaezzang.sidepeek.projects.exception.message.ProjectErrorMessage.CURSOR_IS_INVALID;
 import static sixgaezzang.sidepeek.projects.exception.message.ProjectErrorMessage.ONLY_OWNER_AND_FELLOW_MEMBER_CAN_UPDATE;
 import static sixgaezzang.sidepeek.projects.exception.message.ProjectErrorMessage.OWNER_ID_IS_NULL;
 import static sixgaezzang.sidepeek.projects.exception.message.ProjectErrorMessage.PROJECT_NOT_EXISTING;
@@ -34,6 +35,7 @@ import static sixgaezzang.sidepeek.util.FakeValueProvider.createUserProjectSearc
 import static sixgaezzang.sidepeek.util.FakeValueProvider.getMemberCountByRole;
 import static sixgaezzang.sidepeek.util.FakeValueProvider.getSkillCountByCategory;
 
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -41,8 +43,11 @@ import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import net.datafaker.Faker;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.BeforeEach;
@@ -70,20 +75,26 @@ import sixgaezzang.sidepeek.like.repository.LikeRepository;
 import sixgaezzang.sidepeek.projects.domain.Project;
 import sixgaezzang.sidepeek.projects.domain.UserProjectSearchType;
 import sixgaezzang.sidepeek.projects.domain.member.Member;
+import sixgaezzang.sidepeek.projects.dto.request.FindProjectRequest;
+import sixgaezzang.sidepeek.projects.dto.request.FindUserProjectRequest;
 import sixgaezzang.sidepeek.projects.dto.request.SaveMemberRequest;
 import sixgaezzang.sidepeek.projects.dto.request.SaveProjectRequest;
+import sixgaezzang.sidepeek.projects.dto.request.SortType;
 import sixgaezzang.sidepeek.projects.dto.request.UpdateProjectRequest;
+import sixgaezzang.sidepeek.projects.dto.response.CursorPaginationResponse;
 import sixgaezzang.sidepeek.projects.dto.response.ProjectBannerResponse;
 import sixgaezzang.sidepeek.projects.dto.response.ProjectListResponse;
 import sixgaezzang.sidepeek.projects.dto.response.ProjectResponse;
 import sixgaezzang.sidepeek.projects.repository.FileRepository;
 import sixgaezzang.sidepeek.projects.repository.MemberRepository;
 import sixgaezzang.sidepeek.projects.repository.ProjectSkillRepository;
+import sixgaezzang.sidepeek.projects.repository.project.ProjectCounterRepository;
 import sixgaezzang.sidepeek.projects.repository.project.ProjectRepository;
 import sixgaezzang.sidepeek.skill.domain.Skill;
 import sixgaezzang.sidepeek.skill.repository.SkillRepository;
 import sixgaezzang.sidepeek.users.domain.User;
 import sixgaezzang.sidepeek.users.repository.UserRepository;
+import sixgaezzang.sidepeek.util.QueryCounter;
 
 @SpringBootTest
 @Transactional
@@ -118,6 +129,9 @@ class ProjectServiceTest {
     @Autowired
     ProjectRepository projectRepository;
 
+    @Autowired
+    ProjectCounterRepository projectCounterRepository;
+
     @Autowired
     CommentRepository commentRepository;
 
@@ -133,6 +147,9 @@ class ProjectServiceTest {
     @Autowired
     FileRepository fileRepository;
 
+    @Autowired
+    EntityManager em;
+
     User user;
 
     private User createAndSaveUser() {
@@ -254,6 +271,36 @@ class ProjectServiceTest {
                     like.getId());
         }
 
+        @Test
+        void 댓글과_멤버_수와_관계없이_일정한_수의_쿼리로_프로젝트_상세_조회를_성공한다() {
+            // given
+            String ip = "localhost";
+            Long projectId = getNewSavedProject(user.getId()).id();
+            Project project = projectRepository.getReferenceById(projectId);
+            for (int i = 0; i < 5; i++) {
+                User commenter = createAndSaveUser();
+                Comment comment = createAndSaveComment(commenter, project, null);
+                createAndSaveComment(createAndSaveUser(), project, comment);
+                createAndSaveComment(commenter, project, comment);
+            }
+            createAndSaveLike(project, user);
+            em.flush();
+            em.clear();
+
+            // when
+            QueryCounter.start();
+            ProjectResponse response = projectService.findById(ip, user.getId(), projectId);
+            long queryCount = QueryCounter.stop();
+
+            // then
+            assertThat(queryCount).isEqualTo(6); // 프로젝트, 이미지, 기술 스택, 멤버, 댓글, 좋아요
+            assertThat(response.comments()).hasSize(5)
+                .allSatisfy(comment -> assertThat(comment.replies()).hasSize(2));
+            assertThat(response.members()).isNotEmpty();
+            assertThat(response.techStacks()).isNotEmpty();
+            assertThat(response.likeId()).isNotNull();
+        }
+
         @Test
         void 프로젝트_ID가_존재하지_않으면_프로젝트_상세_조회를_실패한다() {
             // given
@@ -269,6 +316,97 @@ class ProjectServiceTest {
         }
     }
 
+    @Nested
+    class 프로젝트_전체_조회_테스트 {
+
+        @Test
+        void 같은_조건의_전체_개수는_캐시된_근사값으로_조회한다() {
+            // given
+            createAndSaveProject(user);
+            FindProjectRequest request = FindProjectRequest.builder()
+                .search(faker.regexify("[a-z]{20}"))
+                .build();
+
+            // when
+            CursorPaginationResponse<ProjectListResponse> first = projectService.findByCondition(
+                user.getId(), request);
+            CursorPaginationResponse<ProjectListResponse> second = projectService.findByCondition(
+                user.getId(), request);
+
+            // then
+            assertThat(first.totalElements()).isNotNull();
+            assertThat(first.isTotalApproximate()).isFalse();
+            assertThat(second.totalElements()).isEqualTo(first.totalElements());
+            assertThat(second.isTotalApproximate()).isTrue();
+        }
+
+        @Test
+        void 첫_페이지가_아니고_개수_생략을_요청하면_전체_개수를_조회하지_않는다() {
+            // given
+            Project project = createAndSaveProject(user);
+            FindProjectRequest request = FindProjectRequest.builder()
+                .lastProjectId(project.getId())
+                .skipCount(true)
+                .build();
+
+            // when
+            CursorPaginationResponse<ProjectListResponse> response = projectService.findByCondition(
+                user.getId(), request);
+
+            // then
+            assertThat(response.totalElements()).isNull();
+        }
+
+        @Test
+        void 정렬_값이_같으면_다음_커서로_식별자_내림차순으로_이어서_조회한다() {
+            // given
+            long topLikeCount = Integer.MAX_VALUE;
+            List<Long> projectIds = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                projectIds.add(createAndSaveProject(user).getId());
+            }
+            projectCounterRepository.increaseLikeCounts(projectIds.stream()
+                .collect(Collectors.toMap(Function.identity(), projectId -> topLikeCount)));
+            em.clear();
+
+            // when
+            List<Long> pagedIds = new ArrayList<>();
+            String cursor = null;
+            for (int i = 0; i < projectIds.size(); i++) {
+                FindProjectRequest request = FindProjectRequest.builder()
+                    .cursor(cursor)
+                    .sort(SortType.like)
+                    .pageSize(1)
+                    .build();
+                CursorPaginationResponse<ProjectListResponse> response = projectService.findByCondition(
+                    user.getId(), request);
+
+                pagedIds.add(response.content().get(0).id());
+                cursor = response.nextCursor();
+            }
+
+            // then
+            Collections.reverse(projectIds);
+            assertThat(pagedIds).containsExactlyElementsOf(projectIds);
+        }
+
+        @Test
+        void 유효하지_않은_커서면_프로젝트_전체_조회를_실패한다() {
+            // given
+            FindProjectRequest request = FindProjectRequest.builder()
+                .cursor("invalid-cursor")
+                .build();
+
+            // when
+            ThrowingCallable findByCondition = () -> projectService.findByCondition(user.getId(), request);
+
+            // then
+            assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(findByCondition)
+                .withMessage(CURSOR_IS_INVALID);
+        }
+
+    }
+
     @Nested
     class 지난_주_인기_프로젝트_조회_테스트 {
 
@@ -370,7 +508,8 @@ class ProjectServiceTest {
                 UserProjectSearchType.JOINED, Pageable.ofSize(defaultPageSize));
 
             // then
-            assertThat(expected.data()).isNotEmpty();
+            assertThat(expected.data()).isNotEmpty()
+                .extracting("isLiked").containsOnly(false);
             assertThat(expected).extracting("totalElements", "totalPages", "pageSize", "pageNumber")
                 .containsExactly(projectCount, calculatePageNumber(projectCount, defaultPageSize),
                     defaultPageSize, 0);
@@ -387,7 +526,8 @@ class ProjectServiceTest {
                 UserProjectSearchType.LIKED, Pageable.ofSize(defaultPageSize));
 
             // then
-            assertThat(expected.data()).isNotEmpty();
+            assertThat(expected.data()).isNotEmpty()
+                .extracting("isLiked").containsOnly(true);    // 현재 페이지의 좋아요 여부 반영 확인
             assertThat(expected).extracting("totalElements", "totalPages", "pageSize", "pageNumber")
                 .containsExactly(projectCount, calculatePageNumber(projectCount, defaultPageSize),
                     defaultPageSize, 0);
@@ -479,6 +619,71 @@ class ProjectServiceTest {
                 .withMessage(USER_ID_NOT_EQUALS_LOGIN_ID);
         }
 
+        @Test
+        void 마지막_프로젝트_식별자로_참여한_프로젝트를_중복_없이_이어서_조회한다() {
+            // given
+            Long loginId = user.getId();
+            joinProjects(user, projects);
+            int pageSize = 5;
+
+            // when
+            List<Long> projectIds = new ArrayList<>();
+            Long lastProjectId = null;
+            boolean hasNext = true;
+            while (hasNext) {
+                CursorPaginationResponse<ProjectListResponse> response = projectService.findByUser(user.getId(),
+                    loginId, new FindUserProjectRequest(UserProjectSearchType.JOINED, lastProjectId, pageSize));
+
+                List<Long> pageProjectIds = response.content().stream().map(ProjectListResponse::id).toList();
+                assertThat(pageProjectIds.size()).isLessThanOrEqualTo(pageSize);
+                projectIds.addAll(pageProjectIds);
+
+                hasNext = response.hasNext();
+                lastProjectId = pageProjectIds.isEmpty() ? null : pageProjectIds.get(pageProjectIds.size() - 1);
+            }
+
+            // then
+            List<Long> expectedIds = new ArrayList<>(projects.stream().map(Project::getId).toList());
+            expectedIds.sort(Collections.reverseOrder());
+            assertThat(projectIds).containsExactlyElementsOf(expectedIds);
+        }
+
+        @Test
+        void 같은_프로젝트에_여러_번_댓글을_달아도_프로젝트는_한_번만_조회된다() {
+            // given
+            Long loginId = user.getId();
+            commentOnProjects(user, projects);
+            commentOnProjects(user, projects);
+
+            // when
+            CursorPaginationResponse<ProjectListResponse> cursorResponse = projectService.findByUser(user.getId(),
+                loginId, new FindUserProjectRequest(UserProjectSearchType.COMMENTED, null, (int) projectCount));
+            Page<ProjectListResponse> pageResponse = projectService.findByUser(user.getId(), loginId,
+                UserProjectSearchType.COMMENTED, Pageable.ofSize((int) projectCount));
+
+            // then
+            assertThat(cursorResponse.hasNext()).isFalse();
+            assertThat(cursorResponse.content()).hasSize((int) projectCount)
+                .extracting("id").doesNotHaveDuplicates();
+            assertThat(pageResponse.data()).hasSize((int) projectCount)
+                .extracting("id").doesNotHaveDuplicates();
+        }
+
+        @Test
+        void 본인이_아닐_경우_커서_기반으로_좋아요_한_프로젝트_조회에_실패한다() {
+            // given
+            User anotherUser = createAndSaveUser();
+            likeProjects(user, projects);
+
+            // when
+            ThrowingCallable findByUser = () -> projectService.findByUser(user.getId(), anotherUser.getId(),
+                new FindUserProjectRequest(UserProjectSearchType.LIKED, null, null));
+
+            // then
+            assertThatExceptionOfType(AccessDeniedException.class).isThrownBy(findByUser)
+                .withMessage(USER_ID_NOT_EQUALS_LOGIN_ID);
+        }
+
         private void joinProjects(User user, List<Project> projects) {
             projects.stream()
                 .forEach(project -> memberRepository.save(Member.builder()
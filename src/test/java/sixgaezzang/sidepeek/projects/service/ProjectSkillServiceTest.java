@@ -8,15 +8,19 @@ import static sixgaezzang.sidepeek.common.exception.message.TechStackErrorMessag
 import static sixgaezzang.sidepeek.common.util.CommonConstant.MAX_TECH_STACK_COUNT;
 import static sixgaezzang.sidepeek.projects.exception.message.ProjectErrorMessage.PROJECT_IS_NULL;
 import static sixgaezzang.sidepeek.skill.exception.message.SkillErrorMessage.SKILL_ID_IS_NULL;
-import static sixgaezzang.sidepeek.skill.exception.message.SkillErrorMessage.SKILL_NOT_EXISTING;
+import static sixgaezzang.sidepeek.skill.exception.message.SkillErrorMessage.SKILLS_NOT_EXISTING;
 import static sixgaezzang.sidepeek.util.FakeDtoProvider.createSaveTechStackRequests;
 import static sixgaezzang.sidepeek.util.FakeValueProvider.getSkillCountByCategory;
 
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import org.assertj.core.api.AssertionsForClassTypes;
 import org.assertj.core.api.ThrowableAssert;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -30,6 +34,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 import sixgaezzang.sidepeek.common.dto.request.SaveTechStackRequest;
 import sixgaezzang.sidepeek.projects.domain.Project;
+import sixgaezzang.sidepeek.projects.domain.ProjectSkill;
 import sixgaezzang.sidepeek.projects.dto.response.ProjectSkillSummary;
 import sixgaezzang.sidepeek.projects.repository.ProjectSkillRepository;
 import sixgaezzang.sidepeek.projects.repository.project.ProjectRepository;
@@ -46,6 +51,7 @@ import sixgaezzang.sidepeek.util.FakeEntityProvider;
 class ProjectSkillServiceTest {
 
     static final int SKILL_COUNT = MAX_TECH_STACK_COUNT / 2;
+    static final long OTHER_NODE_PROJECT_SKILL_ID = 1_000_000_000_000L;
     static List<SaveTechStackRequest> techStacks;
     static List<SaveTechStackRequest> overLengthTechStacks;
     static int SKILL_COUNT_BY_CATEGORY;
@@ -65,6 +71,9 @@ class ProjectSkillServiceTest {
     @Autowired
     UserRepository userRepository;
 
+    @Autowired
+    EntityManager em;
+
     Project project;
     User user;
     Skill skill;
@@ -112,6 +121,27 @@ class ProjectSkillServiceTest {
             assertThat(savedTechStacks).hasSize(SKILL_COUNT_BY_CATEGORY);
         }
 
+        @Test
+        void 추가된_프로젝트_기술_스택을_하나의_배치_INSERT로_저장한다() {
+            // given
+            em.flush();
+            Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+            statistics.setStatisticsEnabled(true);
+
+            try {
+                // when
+                projectSkillService.cleanAndSaveAll(project, techStacks);
+                statistics.clear();
+                em.flush();
+
+                // then
+                assertThat(statistics.getEntityInsertCount()).isEqualTo(SKILL_COUNT);
+                assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+            } finally {
+                statistics.setStatisticsEnabled(false);
+            }
+        }
+
         @ParameterizedTest
         @NullAndEmptySource
         void 빈_기술_스택_목록_저장에_실패한다(List<SaveTechStackRequest> emptyTechStacks) {
@@ -183,7 +213,23 @@ class ProjectSkillServiceTest {
 
             // then
             assertThatExceptionOfType(EntityNotFoundException.class).isThrownBy(saveAll)
-                .withMessage(SKILL_NOT_EXISTING);
+                .withMessage(SKILLS_NOT_EXISTING + List.of(skill.getId() + 1));
+        }
+
+        @Test
+        void 존재하지_않는_기술_스택_Id를_모두_포함하여_기술_스택_목록_저장에_실패한다() {
+            // given
+            List<SaveTechStackRequest> techStacksWithNonExistSkills = new ArrayList<>(techStacks);
+            techStacksWithNonExistSkills.add(FakeDtoProvider.createSaveTechStackRequest(skill.getId() + 1));
+            techStacksWithNonExistSkills.add(FakeDtoProvider.createSaveTechStackRequest(skill.getId() + 2));
+
+            // when
+            ThrowableAssert.ThrowingCallable saveAll =
+                () -> projectSkillService.cleanAndSaveAll(project, techStacksWithNonExistSkills);
+
+            // then
+            assertThatExceptionOfType(EntityNotFoundException.class).isThrownBy(saveAll)
+                .withMessage(SKILLS_NOT_EXISTING + List.of(skill.getId() + 1, skill.getId() + 2));
         }
 
         @Test
@@ -245,6 +291,66 @@ class ProjectSkillServiceTest {
             assertThat(savedTechStacks).hasSameSizeAs(techStacksOnlyOne);
         }
 
+        @Test
+        void 변경되지_않은_프로젝트_기술_스택은_다시_저장하지_않고_유지한다() {
+            // given
+            projectSkillService.cleanAndSaveAll(project, techStacks);
+            List<Long> originalIds = projectSkillRepository.findAllByProjectOrderById(project).stream()
+                .map(ProjectSkill::getId)
+                .toList();
+
+            // when
+            List<SaveTechStackRequest> changedTechStacks = new ArrayList<>(techStacks);
+            changedTechStacks.set(0, FakeDtoProvider.createSaveTechStackRequest(skill.getId()));
+            projectSkillService.cleanAndSaveAll(project, changedTechStacks);
+
+            // then
+            List<ProjectSkill> savedProjectSkills = projectSkillRepository.findAllByProjectOrderById(project);
+            assertThat(savedProjectSkills).extracting("id")
+                .containsExactlyInAnyOrderElementsOf(originalIds);
+            assertThat(savedProjectSkills).extracting("skill.id")
+                .contains(skill.getId());
+        }
+
+        @Test
+        void 순서를_바꾸면_식별자_순서를_요청_순서에_맞춘다() {
+            // given
+            projectSkillService.cleanAndSaveAll(project, techStacks);
+            List<SaveTechStackRequest> reversedTechStacks = new ArrayList<>(techStacks);
+            Collections.reverse(reversedTechStacks);
+
+            // when
+            projectSkillService.cleanAndSaveAll(project, reversedTechStacks);
+
+            // then
+            em.flush();
+            em.clear();
+            assertThat(projectSkillRepository.findAllByProjectOrderById(project)).extracting("skill.id")
+                .containsExactlyElementsOf(reversedTechStacks.stream().map(SaveTechStackRequest::skillId).toList());
+        }
+
+        @Test
+        void 추가된_기술_스택의_식별자가_기존보다_작아도_요청_순서를_유지한다() {
+            // given
+            SaveTechStackRequest existingTechStack = techStacks.get(0);
+            em.createNativeQuery("INSERT INTO project_skill (id, project_id, skill_id, category) VALUES (?, ?, ?, ?)")
+                .setParameter(1, OTHER_NODE_PROJECT_SKILL_ID)    // 다른 노드가 더 뒤의 블록에서 할당받은 식별자
+                .setParameter(2, project.getId())
+                .setParameter(3, existingTechStack.skillId())
+                .setParameter(4, existingTechStack.category())
+                .executeUpdate();
+            em.clear();
+
+            // when
+            projectSkillService.cleanAndSaveAll(project, List.of(existingTechStack, techStacks.get(1)));
+
+            // then
+            em.flush();
+            em.clear();
+            assertThat(projectSkillRepository.findAllByProjectOrderById(project)).extracting("skill.id")
+                .containsExactly(existingTechStack.skillId(), techStacks.get(1).skillId());
+        }
+
     }
 
 }
@@ -0,0 +1,181 @@
+package sixgaezzang.sidepeek.projects.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static sixgaezzang.sidepeek.util.FakeEntityProvider.createProject;
+import static sixgaezzang.sidepeek.util.FakeEntityProvider.createUser;
+
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import sixgaezzang.sidepeek.common.counter.RedisCounterBuffer;
+import sixgaezzang.sidepeek.common.util.component.DateTimeProvider;
+import sixgaezzang.sidepeek.config.properties.ViewCountProperties;
+import sixgaezzang.sidepeek.config.properties.ViewCountProperties.DedupMode;
+import sixgaezzang.sidepeek.projects.domain.Project;
+import sixgaezzang.sidepeek.projects.repository.project.ProjectCounterRepository;
+import sixgaezzang.sidepeek.projects.repository.project.ProjectRepository;
+import sixgaezzang.sidepeek.projects.util.component.ViewDeduplicator;
+import sixgaezzang.sidepeek.users.domain.User;
+import sixgaezzang.sidepeek.users.repository.UserRepository;
+
+@SpringBootTest
+@Transactional
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ViewCountServiceTest {
+
+    static final String IP = "127.0.0.1";
+
+    @Autowired
+    ViewCountService viewCountService;
+
+    @Autowired
+    ProjectRepository projectRepository;
+
+    @Autowired
+    ProjectCounterRepository projectCounterRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    DateTimeProvider dateTimeProvider;
+
+    @Autowired
+    EntityManager em;
+
+    Project project;
+
+    @BeforeEach
+    void setup() {
+        User user = userRepository.save(createUser());
+        project = projectRepository.save(createProject(user));
+    }
+
+    private Long findViewCount(Long projectId) {
+        em.flush();
+        em.clear();
+        return projectRepository.findById(projectId).orElseThrow().getViewCount();
+    }
+
+    @Nested
+    class 조회수_증가_테스트 {
+
+        @Test
+        void 조회수_증가분이_버퍼에_누적된다() {
+            // given
+            Long projectId = project.getId();
+
+            // when
+            viewCountService.increase(IP, projectId);
+
+            // then
+            assertThat(viewCountService.getPendingCount(projectId)).isEqualTo(1L);
+        }
+
+        @Test
+        void 같은_IP가_하루_안에_다시_조회하면_증가하지_않는다() {
+            // given
+            Long projectId = project.getId();
+            viewCountService.increase(IP, projectId);
+
+            // when
+            viewCountService.increase(IP, projectId);
+
+            // then
+            assertThat(viewCountService.getPendingCount(projectId)).isEqualTo(1L);
+        }
+
+    }
+
+    @Nested
+    class 조회수_반영_테스트 {
+
+        @Test
+        void 누적된_조회수를_DB에_반영하고_버퍼를_비운다() {
+            // given
+            Long projectId = project.getId();
+            viewCountService.increase(IP, projectId);
+            viewCountService.increase("127.0.0.2", projectId);
+
+            // when
+            viewCountService.flush();
+
+            // then
+            assertThat(viewCountService.getPendingCount(projectId)).isZero();
+            assertThat(findViewCount(projectId)).isEqualTo(2L);
+        }
+
+        @Test
+        void 반영에_실패한_배치는_복구_시_다시_반영된다() {
+            // given
+            Long projectId = project.getId();
+            RedisCounterBuffer buffer = new RedisCounterBuffer(redisTemplate, "test-view-count");
+            buffer.increase(projectId, 3L);
+
+            // when
+            assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() ->
+                buffer.flush(deltas -> {
+                    throw new IllegalStateException();
+                }));
+            buffer.recover(Duration.ZERO, projectCounterRepository::increaseViewCounts);
+
+            // then
+            assertThat(buffer.getPendingDelta(projectId)).isZero();
+            assertThat(findViewCount(projectId)).isEqualTo(3L);
+        }
+
+    }
+
+    @Nested
+    class HyperLogLog_중복_제거_테스트 {
+
+        ViewDeduplicator viewDeduplicator;
+
+        @BeforeEach
+        void setup() {
+            viewDeduplicator = new ViewDeduplicator(redisTemplate, dateTimeProvider,
+                new ViewCountProperties(DedupMode.HYPER_LOG_LOG));
+        }
+
+        @Test
+        void 같은_IP의_재조회는_첫_조회로_판정하지_않는다() {
+            // given
+            Long projectId = project.getId();
+
+            // when
+            boolean first = viewDeduplicator.isFirstView(IP, projectId);
+            boolean second = viewDeduplicator.isFirstView(IP, projectId);
+
+            // then
+            assertThat(first).isTrue();
+            assertThat(second).isFalse();
+        }
+
+        @Test
+        void 다른_IP의_조회는_각각_첫_조회로_판정한다() {
+            // given
+            Long projectId = project.getId();
+            viewDeduplicator.isFirstView(IP, projectId);
+
+            // when
+            boolean anotherIp = viewDeduplicator.isFirstView("127.0.0.2", projectId);
+
+            // then
+            assertThat(anotherIp).isTrue();
+        }
+
+    }
+
+}
@@ -0,0 +1,215 @@
+package sixgaezzang.sidepeek.projects.util.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import sixgaezzang.sidepeek.comments.dto.response.CommentResponse;
+import sixgaezzang.sidepeek.comments.dto.response.ReplyResponse;
+import sixgaezzang.sidepeek.projects.dto.response.MemberSummary;
+import sixgaezzang.sidepeek.projects.dto.response.ProjectDetailSnapshot;
+import sixgaezzang.sidepeek.projects.dto.response.ProjectResponse;
+import sixgaezzang.sidepeek.users.dto.response.UserSummary;
+
+@SpringBootTest
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ProjectDetailCacheTest {
+
+    static final Long PROJECT_ID = -1L;    // DB에 존재할 수 없는 식별자
+    static final Long OWNER_ID = 1L;
+
+    @Autowired
+    ProjectDetailCache projectDetailCache;
+
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    RedisMessageListenerContainer listenerContainer;
+
+    ProjectDetailSnapshot snapshot;
+    AtomicInteger loadCount;
+
+    @BeforeEach
+    void setup() {
+        snapshot = createSnapshot();
+        loadCount = new AtomicInteger();
+    }
+
+    @AfterEach
+    void cleanup() {
+        projectDetailCache.evict(PROJECT_ID);
+    }
+
+    private Supplier<Optional<ProjectDetailSnapshot>> loader() {
+        return () -> {
+            loadCount.incrementAndGet();
+            return Optional.of(snapshot);
+        };
+    }
+
+    private ProjectDetailSnapshot createSnapshot() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 2, 20, 17, 0);
+        UserSummary writer = new UserSummary(OWNER_ID, "사이드픽", "");
+
+        ReplyResponse reply = ReplyResponse.builder()
+            .id(2L)
+            .parentId(1L)
+            .user(null)
+            .isAnonymous(true)
+            .content("감사합니다!")
+            .createdAt(createdAt)
+            .build();
+        CommentResponse comment = CommentResponse.builder()
+            .id(1L)
+            .user(writer)
+            .isAnonymous(false)
+            .content("우와 이 프로젝트 대박인데요?")
+            .createdAt(createdAt)
+            .replies(List.of(reply))
+            .build();
+
+        ProjectResponse response = ProjectResponse.builder()
+            .id(PROJECT_ID)
+            .name("사이드픽")
+            .overviewImageUrl(List.of())
+            .viewCount(0L)
+            .likeCount(0L)
+            .commentCount(2L)
+            .techStacks(List.of())
+            .startDate(YearMonth.of(2024, 2))
+            .ownerId(OWNER_ID)
+            .members(List.of(MemberSummary.of("백엔드", List.of(writer))))
+            .description("## 기능 설명")
+            .comments(List.of(comment))
+            .build();
+
+        return new ProjectDetailSnapshot(response, Map.of(1L, OWNER_ID, 2L, OWNER_ID));
+    }
+
+    @Nested
+    class 스냅샷_캐싱_테스트 {
+
+        @Test
+        void 캐싱된_스냅샷은_다시_조회하지_않는다() {
+            // given
+            projectDetailCache.getOrLoad(PROJECT_ID, loader());
+
+            // when
+            Optional<ProjectDetailSnapshot> cached = projectDetailCache.getOrLoad(PROJECT_ID, loader());
+
+            // then
+            assertThat(cached).contains(snapshot);
+            assertThat(loadCount).hasValue(1);
+        }
+
+        @Test
+        void 다른_노드는_Redis에_저장된_스냅샷을_그대로_읽는다() {
+            // given
+            projectDetailCache.getOrLoad(PROJECT_ID, loader());
+            ProjectDetailCache otherNode = new ProjectDetailCache(redisTemplate, objectMapper, listenerContainer);
+
+            // when
+            Optional<ProjectDetailSnapshot> cached = otherNode.getOrLoad(PROJECT_ID, loader());
+
+            // then
+            assertThat(cached).contains(snapshot);
+            assertThat(loadCount).hasValue(1);
+        }
+
+        @Test
+        void 사용자별_값은_스냅샷과_관계없이_요청마다_덮어쓴다() {
+            // given
+            ProjectDetailSnapshot cached = projectDetailCache.getOrLoad(PROJECT_ID, loader()).orElseThrow();
+
+            // when
+            ProjectResponse ownerResponse = cached.toResponse(OWNER_ID, 3L, 2L, 2L, 10L);
+            ProjectResponse guestResponse = cached.toResponse(null, 3L, 2L, 2L, null);
+
+            // then
+            assertThat(ownerResponse.comments()).extracting("isOwner").containsOnly(true);
+            assertThat(ownerResponse.comments().get(0).replies()).extracting("isOwner").containsOnly(true);
+            assertThat(ownerResponse).extracting("viewCount", "likeCount", "likeId")
+                .containsExactly(3L, 2L, 10L);
+            assertThat(guestResponse.comments()).extracting("isOwner").containsOnly(false);
+            assertThat(guestResponse.likeId()).isNull();
+        }
+
+    }
+
+    @Nested
+    class 스냅샷_무효화_테스트 {
+
+        @Test
+        void 무효화된_스냅샷은_다시_조회한다() {
+            // given
+            projectDetailCache.getOrLoad(PROJECT_ID, loader());
+
+            // when
+            projectDetailCache.evict(PROJECT_ID);
+            projectDetailCache.getOrLoad(PROJECT_ID, loader());
+
+            // then
+            assertThat(loadCount).hasValue(2);
+        }
+
+        @Test
+        void 조회_도중_무효화되면_조회한_스냅샷을_저장하지_않는다() {
+            // given
+            Supplier<Optional<ProjectDetailSnapshot>> staleLoader = () -> {
+                loadCount.incrementAndGet();
+                projectDetailCache.evict(PROJECT_ID);    // 조회 도중 다른 요청이 프로젝트를 수정
+                return Optional.of(snapshot);
+            };
+
+            // when
+            projectDetailCache.getOrLoad(PROJECT_ID, staleLoader);
+            projectDetailCache.getOrLoad(PROJECT_ID, loader());
+
+            // then
+            assertThat(loadCount).hasValue(2);
+        }
+
+        @Test
+        void 무효화_메시지를_받은_다른_노드는_로컬_캐시를_비운다() throws InterruptedException {
+            // given
+            ProjectDetailCache otherNode = new ProjectDetailCache(redisTemplate, objectMapper, listenerContainer);
+            otherNode.subscribe();
+            otherNode.getOrLoad(PROJECT_ID, loader());
+
+            // when
+            projectDetailCache.evict(PROJECT_ID);
+
+            // then
+            for (int i = 0; i < 20 && loadCount.get() < 2; i++) {    // 메시지는 비동기로 전달
+                Thread.sleep(100);
+                otherNode.getOrLoad(PROJECT_ID, () -> {
+                    loadCount.incrementAndGet();
+                    return Optional.empty();
+                });
+            }
+            assertThat(loadCount).hasValue(2);
+        }
+
+    }
+
+}
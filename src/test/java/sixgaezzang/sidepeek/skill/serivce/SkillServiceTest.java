@@ -3,7 +3,9 @@ package sixgaezzang.sidepeek.skill.serivce;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
 import static sixgaezzang.sidepeek.skill.domain.Skill.MAX_SKILL_NAME_LENGTH;
+import static sixgaezzang.sidepeek.skill.exception.message.SkillErrorMessage.SKILL_NOT_EXISTING;
 
+import jakarta.persistence.EntityNotFoundException;
 import java.util.ArrayList;
 import java.util.List;
 import org.assertj.core.api.ThrowableAssert;
@@ -95,6 +97,73 @@ class SkillServiceTest {
                 .withMessage("최대 " + MAX_SKILL_NAME_LENGTH + "자의 키워드로 검색할 수 있습니다.");
         }
 
+        @Test
+        void 대소문자_구분_없이_검색어로_시작하는_기술_스택이_먼저_검색된다() {
+            // given
+            Skill containing = skillRepository.save(Skill.builder()
+                .name("sidepeekjava")
+                .iconImageUrl(FakeValueProvider.createUrl())
+                .build());
+            Skill startsWith = skillRepository.save(Skill.builder()
+                .name("javasidepeek")
+                .iconImageUrl(FakeValueProvider.createUrl())
+                .build());
+
+            // when
+            List<SkillResponse> skills = skillService.searchByName("JAVASIDE")
+                .skills();
+
+            // then
+            assertThat(skills).extracting("id")
+                .containsExactly(startsWith.getId());
+            assertThat(skillService.searchByName("Java").skills()).extracting("id")
+                .containsSubsequence(startsWith.getId(), containing.getId());
+        }
+
+        @Test
+        void 기술_스택이_추가되면_전체_검색_결과에_반영된다() {
+            // given
+            skillService.searchByName(null);
+
+            // when
+            createAndSaveSkill();
+            List<SkillResponse> skills = skillService.searchByName(null)
+                .skills();
+
+            // then
+            assertThat(skills.size()).isEqualTo(SKILL_COUNT + 1);
+        }
+
+    }
+
+    @Nested
+    class 기술_스택_조회_테스트 {
+
+        @Test
+        void 식별자로_기술_스택_조회에_성공한다() {
+            // given
+            Skill skill = createAndSaveSkill();
+
+            // when
+            Skill found = skillService.getById(skill.getId());
+
+            // then
+            assertThat(found.getName()).isEqualTo(skill.getName());
+        }
+
+        @Test
+        void 존재하지_않는_식별자로_기술_스택_조회에_실패한다() {
+            // given
+            Long invalidId = Long.MAX_VALUE;
+
+            // when
+            ThrowableAssert.ThrowingCallable getById = () -> skillService.getById(invalidId);
+
+            // then
+            assertThatExceptionOfType(EntityNotFoundException.class).isThrownBy(getById)
+                .withMessage(SKILL_NOT_EXISTING);
+        }
+
     }
 
 }
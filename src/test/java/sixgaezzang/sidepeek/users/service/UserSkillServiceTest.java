@@ -6,7 +6,7 @@ import static sixgaezzang.sidepeek.common.exception.message.TechStackErrorMessag
 import static sixgaezzang.sidepeek.common.exception.message.TechStackErrorMessage.TECH_STACK_IS_DUPLICATED;
 import static sixgaezzang.sidepeek.common.util.CommonConstant.MAX_TECH_STACK_COUNT;
 import static sixgaezzang.sidepeek.skill.exception.message.SkillErrorMessage.SKILL_ID_IS_NULL;
-import static sixgaezzang.sidepeek.skill.exception.message.SkillErrorMessage.SKILL_NOT_EXISTING;
+import static sixgaezzang.sidepeek.skill.exception.message.SkillErrorMessage.SKILLS_NOT_EXISTING;
 import static sixgaezzang.sidepeek.users.exception.message.UserErrorMessage.USER_IS_NULL;
 
 import jakarta.persistence.EntityNotFoundException;
@@ -199,7 +199,23 @@ class UserSkillServiceTest {
 
             // then
             AssertionsForClassTypes.assertThatExceptionOfType(EntityNotFoundException.class).isThrownBy(saveAll)
-                .withMessage(SKILL_NOT_EXISTING);
+                .withMessage(SKILLS_NOT_EXISTING + List.of(skill.getId() + 1));
+        }
+
+        @Test
+        void 존재하지_않는_기술_스택_Id를_모두_포함하여_사용자_기술_스택_목록_수정에_실패한다() {
+            // given
+            List<SaveTechStackRequest> techStacksWithNonExistSkills = new ArrayList<>(techStacks);
+            techStacksWithNonExistSkills.add(FakeDtoProvider.createSaveTechStackRequest(skill.getId() + 1));
+            techStacksWithNonExistSkills.add(FakeDtoProvider.createSaveTechStackRequest(skill.getId() + 2));
+
+            // when
+            ThrowableAssert.ThrowingCallable saveAll =
+                () -> userSkillService.saveAll(user, techStacksWithNonExistSkills);
+
+            // then
+            AssertionsForClassTypes.assertThatExceptionOfType(EntityNotFoundException.class).isThrownBy(saveAll)
+                .withMessage(SKILLS_NOT_EXISTING + List.of(skill.getId() + 1, skill.getId() + 2));
         }
 
         @Test
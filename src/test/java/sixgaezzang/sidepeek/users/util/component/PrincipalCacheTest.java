@@ -0,0 +1,121 @@
+package sixgaezzang.sidepeek.users.util.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import sixgaezzang.sidepeek.users.dto.response.UserSummary;
+import sixgaezzang.sidepeek.users.util.component.PrincipalCache.Principal;
+
+@SpringBootTest
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class PrincipalCacheTest {
+
+    static final Long USER_ID = -1L;    // DB에 존재할 수 없는 식별자
+
+    @Autowired
+    PrincipalCache principalCache;
+
+    Principal principal;
+    AtomicInteger loadCount;
+
+    @BeforeEach
+    void setup() {
+        principal = new Principal(USER_ID, "사이드픽", null, true);
+        loadCount = new AtomicInteger();
+    }
+
+    @AfterEach
+    void cleanup() {
+        principalCache.evict(USER_ID);
+    }
+
+    private Supplier<Optional<Principal>> loader() {
+        return () -> {
+            loadCount.incrementAndGet();
+            return Optional.of(principal);
+        };
+    }
+
+    @Nested
+    class 식별_정보_캐싱_테스트 {
+
+        @Test
+        void 캐싱된_식별_정보는_다시_조회하지_않는다() {
+            // given
+            principalCache.getOrLoad(USER_ID, loader());
+
+            // when
+            Optional<Principal> cached = principalCache.getOrLoad(USER_ID, loader());
+
+            // then
+            assertThat(cached).contains(principal);
+            assertThat(loadCount).hasValue(1);
+        }
+
+        @Test
+        void 무효화된_식별_정보는_다시_조회한다() {
+            // given
+            principalCache.put(principal);
+
+            // when
+            principalCache.evict(USER_ID);
+            principalCache.getOrLoad(USER_ID, loader());
+
+            // then
+            assertThat(loadCount).hasValue(1);
+        }
+
+        @Test
+        void 조회하는_동안_무효화되면_조회한_식별_정보를_캐싱하지_않는다() {
+            // given
+            principalCache.getOrLoad(USER_ID, () -> {
+                loadCount.incrementAndGet();
+                principalCache.evict(USER_ID);    // 변경 전의 식별 정보를 읽은 뒤 다른 요청이 무효화
+                return Optional.of(principal);
+            });
+
+            // when
+            principalCache.getOrLoad(USER_ID, loader());
+
+            // then
+            assertThat(loadCount).hasValue(2);
+        }
+
+        @Test
+        void 존재하지_않는_회원은_캐싱하지_않는다() {
+            // given
+            principalCache.getOrLoad(USER_ID, () -> {
+                loadCount.incrementAndGet();
+                return Optional.empty();
+            });
+
+            // when
+            principalCache.getOrLoad(USER_ID, loader());
+
+            // then
+            assertThat(loadCount).hasValue(2);
+        }
+
+        @Test
+        void 식별_정보로_회원_요약_정보를_만든다() {
+            // given, when
+            UserSummary summary = principal.toUserSummary();
+
+            // then
+            assertThat(summary).extracting("id", "isSocialLogin", "nickname")
+                .containsExactly(USER_ID, true, "사이드픽");
+        }
+
+    }
+
+}
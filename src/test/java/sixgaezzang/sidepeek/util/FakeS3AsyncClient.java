@@ -0,0 +1,185 @@
+package sixgaezzang.sidepeek.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3ServiceClientConfiguration;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+/**
+ * 업로드된 객체를 메모리에 보관하는 프로세스 내 S3 대역. PutObject와 멀티파트 업로드 API만 지원한다.
+ */
+public class FakeS3AsyncClient implements S3AsyncClient {
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, Map<Integer, byte[]>> multipartUploads = new ConcurrentHashMap<>();
+    private final Set<String> abortedUploadIds = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger putObjectCount = new AtomicInteger();
+    private final AtomicInteger partsUploadedAfterAbort = new AtomicInteger();
+    private volatile int failingPartNumber = -1;
+    private volatile Executor partExecutor = CompletableFuture.delayedExecutor(0, TimeUnit.MILLISECONDS);
+
+    public Optional<byte[]> getObject(String key) {
+        return Optional.ofNullable(objects.get(key));
+    }
+
+    public int getPutObjectCount() {
+        return putObjectCount.get();
+    }
+
+    public Set<String> getAbortedUploadIds() {
+        return abortedUploadIds;
+    }
+
+    public int getInProgressUploadCount() {
+        return multipartUploads.size();
+    }
+
+    public int getPartsUploadedAfterAbort() {
+        return partsUploadedAfterAbort.get();
+    }
+
+    public void failOnPart(int partNumber) {
+        this.failingPartNumber = partNumber;
+    }
+
+    public void delayParts(Duration delay) {
+        this.partExecutor = CompletableFuture.delayedExecutor(delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public CompletableFuture<PutObjectResponse> putObject(PutObjectRequest request, AsyncRequestBody requestBody) {
+        putObjectCount.incrementAndGet();
+        return readAll(requestBody).thenApply(bytes -> {
+            objects.put(request.key(), bytes);
+            return PutObjectResponse.builder().build();
+        });
+    }
+
+    @Override
+    public CompletableFuture<CreateMultipartUploadResponse> createMultipartUpload(
+        CreateMultipartUploadRequest request) {
+        String uploadId = UUID.randomUUID().toString();
+        multipartUploads.put(uploadId, new ConcurrentSkipListMap<>());
+
+        return CompletableFuture.completedFuture(CreateMultipartUploadResponse.builder()
+            .bucket(request.bucket())
+            .key(request.key())
+            .uploadId(uploadId)
+            .build());
+    }
+
+    @Override
+    public CompletableFuture<UploadPartResponse> uploadPart(UploadPartRequest request, AsyncRequestBody requestBody) {
+        if (request.partNumber() == failingPartNumber) {
+            return CompletableFuture.failedFuture(S3Exception.builder().message("파트 업로드 실패").build());
+        }
+
+        return readAll(requestBody).thenApplyAsync(bytes -> {
+            Map<Integer, byte[]> parts = multipartUploads.get(request.uploadId());
+            if (parts == null) {    // 취소된 업로드에 파트가 도착함
+                partsUploadedAfterAbort.incrementAndGet();
+            } else {
+                parts.put(request.partNumber(), bytes);
+            }
+            return UploadPartResponse.builder()
+                .eTag("etag-" + request.partNumber())
+                .build();
+        }, partExecutor);
+    }
+
+    @Override
+    public CompletableFuture<CompleteMultipartUploadResponse> completeMultipartUpload(
+        CompleteMultipartUploadRequest request) {
+        Map<Integer, byte[]> parts = multipartUploads.remove(request.uploadId());
+        ByteArrayOutputStream object = new ByteArrayOutputStream();
+        for (CompletedPart part : request.multipartUpload().parts()) {
+            object.writeBytes(parts.get(part.partNumber()));
+        }
+        objects.put(request.key(), object.toByteArray());
+
+        return CompletableFuture.completedFuture(CompleteMultipartUploadResponse.builder()
+            .key(request.key())
+            .build());
+    }
+
+    @Override
+    public CompletableFuture<AbortMultipartUploadResponse> abortMultipartUpload(
+        AbortMultipartUploadRequest request) {
+        multipartUploads.remove(request.uploadId());
+        abortedUploadIds.add(request.uploadId());
+
+        return CompletableFuture.completedFuture(AbortMultipartUploadResponse.builder().build());
+    }
+
+    @Override
+    public S3ServiceClientConfiguration serviceClientConfiguration() {
+        return S3ServiceClientConfiguration.builder().build();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private CompletableFuture<byte[]> readAll(AsyncRequestBody requestBody) {
+        CompletableFuture<byte[]> result = new CompletableFuture<>();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        requestBody.subscribe(new Subscriber<>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer buffer) {
+                byte[] chunk = new byte[buffer.remaining()];
+                buffer.get(chunk);
+                bytes.writeBytes(chunk);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                result.completeExceptionally(error);
+            }
+
+            @Override
+            public void onComplete() {
+                result.complete(bytes.toByteArray());
+            }
+        });
+
+        return result;
+    }
+
+}
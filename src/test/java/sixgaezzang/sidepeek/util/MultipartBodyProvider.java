@@ -0,0 +1,38 @@
+package sixgaezzang.sidepeek.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.http.converter.FormHttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+/**
+ * 파일 업로드 요청 테스트에서 사용할 multipart/form-data 본문을 만드는 클래스. 서블릿 컨테이너가 받는 것과 같은 원본 본문을 만들기
+ * 위해 파트 경계까지 직접 인코딩한다.
+ */
+public class MultipartBodyProvider {
+
+    public static MultipartBodyBuilder createFilePart(String partName, String fileName, String contentType,
+        byte[] content) {
+        MultipartBodyBuilder builder = new MultipartBodyBuilder();
+        builder.part(partName, content)
+            .filename(fileName)
+            .contentType(MediaType.parseMediaType(contentType));
+        return builder;
+    }
+
+    /**
+     * @return Content-Type 헤더(파트 경계 포함)와 본문을 담은 메시지
+     */
+    public static MockHttpOutputMessage createMultipartBody(MultipartBodyBuilder builder) {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        try {
+            new FormHttpMessageConverter().write(builder.build(), MediaType.MULTIPART_FORM_DATA, message);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return message;
+    }
+
+}
@@ -0,0 +1,35 @@
+package sixgaezzang.sidepeek.util;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import java.sql.SQLException;
+import java.util.Objects;
+
+/**
+ * p6spy를 통해 실행되는 SQL 문을 현재 스레드 기준으로 세는 리스너.
+ * {@code META-INF/services}에 등록되어 있으며, {@link #start()} 이후 실행된 쿼리만 센다.
+ */
+public class QueryCounter extends SimpleJdbcEventListener {
+
+    private static final ThreadLocal<Long> COUNT = new ThreadLocal<>();
+
+    public static void start() {
+        COUNT.set(0L);
+    }
+
+    public static long stop() {
+        Long count = COUNT.get();
+        COUNT.remove();
+        return Objects.isNull(count) ? 0L : count;
+    }
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos,
+        SQLException e) {
+        Long count = COUNT.get();
+        if (Objects.nonNull(count)) {
+            COUNT.set(count + 1);
+        }
+    }
+
+}